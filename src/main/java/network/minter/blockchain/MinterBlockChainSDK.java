@@ -26,14 +26,18 @@
 
 package network.minter.blockchain;
 
+import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 
 import org.jetbrains.annotations.NotNull;
 
 import java.io.IOException;
 import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 import io.reactivex.schedulers.Schedulers;
 import network.minter.blockchain.repo.NodeAddressRepository;
@@ -70,8 +74,18 @@ import retrofit2.adapter.rxjava2.RxJava2CallAdapterFactory;
  */
 public class MinterBlockChainSDK {
     private final static String BASE_NODE_URL = BuildConfig.BASE_NODE_URL + BuildConfig.BASE_NODE_VERSION + "/";
+    // converters don't have state, so all builders share them
+    private final static MinterAddressJsonConverter ADDRESS_CONVERTER = new MinterAddressJsonConverter();
+    private final static MinterHashJsonConverter HASH_CONVERTER = new MinterHashJsonConverter();
+    private final static BigIntegerJsonConverter BIG_INTEGER_CONVERTER = new BigIntegerJsonConverter();
+    private final static BytesDataJsonConverter BYTES_DATA_CONVERTER = new BytesDataJsonConverter();
+    private final static MinterPublicKeyJsonConverter PUBLIC_KEY_CONVERTER = new MinterPublicKeyJsonConverter();
     private static MinterBlockChainSDK INSTANCE;
     private final ApiService.Builder mApiService;
+    private final SharedHttpClient mHttpClient;
+    private final NodePool mNodePool;
+    private boolean mDebug = false;
+    private volatile Gson mGson;
     private NodeAddressRepository mAccountRepository;
     private NodeCoinRepository mCoinRepository;
     private NodeTransactionRepository mTransactionRepository;
@@ -85,11 +99,31 @@ public class MinterBlockChainSDK {
     }
 
     private MinterBlockChainSDK(@Nonnull String baseNodeApiUrl) {
+        this(baseNodeApiUrl, null);
+    }
+
+    private MinterBlockChainSDK(@Nonnull String baseNodeApiUrl, @Nullable SharedHttpClient httpClient) {
+        this(baseNodeApiUrl, httpClient, null);
+    }
+
+    private MinterBlockChainSDK(@Nonnull NodePool nodePool) {
+        this(nodePool.getBaseUrl(), nodePool.getHttpClient(), nodePool);
+    }
+
+    private MinterBlockChainSDK(@Nonnull String baseNodeApiUrl, @Nullable SharedHttpClient httpClient, @Nullable NodePool nodePool) {
+        mHttpClient = httpClient;
+        mNodePool = nodePool;
         mApiService = new ApiService.Builder(baseNodeApiUrl, getGsonBuilder());
         mApiService.setRetrofitClientConfig(new Acceptor<Retrofit.Builder>() {
             @Override
             public void accept(Retrofit.Builder builder) {
-                builder.addCallAdapterFactory(RxJava2CallAdapterFactory.createWithScheduler(Schedulers.io()));
+                if (mHttpClient == null) {
+                    builder.addCallAdapterFactory(RxJava2CallAdapterFactory.createWithScheduler(Schedulers.io()));
+                    return;
+                }
+                // requests are executed by shared dispatcher, to apply its limits and reuse its threads
+                builder.addCallAdapterFactory(RxJava2CallAdapterFactory.createAsync());
+                builder.client(mHttpClient.newClient(createHttpInterceptors()));
             }
         });
         mApiService.addHeader("Content-Type", "application/json");
@@ -110,19 +144,60 @@ public class MinterBlockChainSDK {
      * @return
      */
     public static MinterBlockChainSDK createInstance(String baseNodeApiUrl, boolean debug, Mint.Leaf logger) {
+        return createInstance(baseNodeApiUrl, debug, logger, null);
+    }
+
+    /**
+     * Same as {@link #createInstance(String, boolean, Mint.Leaf)}, but instance uses shared connection pool and
+     * dispatcher instead of creating its own. Pass the same client to all instances.
+     * @param baseNodeApiUrl
+     * @param debug
+     * @param logger
+     * @param httpClient shared http client, or null to create client for this instance
+     * @return
+     * @see SharedHttpClient
+     */
+    public static MinterBlockChainSDK createInstance(String baseNodeApiUrl, boolean debug, Mint.Leaf logger, @Nullable SharedHttpClient httpClient) {
         if (debug) {
             Mint.brew(logger);
         }
-        MinterBlockChainSDK api = new MinterBlockChainSDK(baseNodeApiUrl);
-        api.mApiService.setDebug(debug);
+        MinterBlockChainSDK api = new MinterBlockChainSDK(baseNodeApiUrl, httpClient);
+        api.setDebug(debug);
+
+        return api;
+    }
+
+    /**
+     * Create instance which sends each request to the healthiest node of pool. Pool health checks are started.
+     * @param nodePool nodes
+     * @param debug
+     * @param logger
+     * @return
+     * @see NodePool
+     */
+    public static MinterBlockChainSDK createInstance(@Nonnull NodePool nodePool, boolean debug, Mint.Leaf logger) {
         if (debug) {
-            api.mApiService.setDebugRequestLevel(HttpLoggingInterceptor.Level.BODY);
+            Mint.brew(logger);
         }
+        MinterBlockChainSDK api = new MinterBlockChainSDK(nodePool);
+        api.setDebug(debug);
+        nodePool.start();
 
         return api;
     }
 
     public static void initialize(String baseNodeApiUrl, boolean debug, Mint.Leaf logger) {
+        initialize(baseNodeApiUrl, debug, logger, null);
+    }
+
+    /**
+     * Same as {@link #createInstance(NodePool, boolean, Mint.Leaf)}, but for singleton
+     * @param nodePool nodes
+     * @param debug
+     * @param logger
+     * @see NodePool
+     */
+    public static void initialize(@Nonnull NodePool nodePool, boolean debug, Mint.Leaf logger) {
         if (INSTANCE != null) {
             return;
         }
@@ -130,11 +205,29 @@ public class MinterBlockChainSDK {
         if (debug) {
             Mint.brew(logger);
         }
-        INSTANCE = new MinterBlockChainSDK(baseNodeApiUrl);
-        INSTANCE.mApiService.setDebug(debug);
+        INSTANCE = new MinterBlockChainSDK(nodePool);
+        INSTANCE.setDebug(debug);
+        nodePool.start();
+    }
+
+    /**
+     * Same as {@link #initialize(String, boolean, Mint.Leaf)}, but singleton uses shared connection pool and dispatcher
+     * @param baseNodeApiUrl
+     * @param debug
+     * @param logger
+     * @param httpClient shared http client, or null to create client for this instance
+     * @see SharedHttpClient
+     */
+    public static void initialize(String baseNodeApiUrl, boolean debug, Mint.Leaf logger, @Nullable SharedHttpClient httpClient) {
+        if (INSTANCE != null) {
+            return;
+        }
+
         if (debug) {
-            INSTANCE.mApiService.setDebugRequestLevel(HttpLoggingInterceptor.Level.BODY);
+            Mint.brew(logger);
         }
+        INSTANCE = new MinterBlockChainSDK(baseNodeApiUrl, httpClient);
+        INSTANCE.setDebug(debug);
     }
 
     public static void initialize(boolean debug) {
@@ -160,20 +253,56 @@ public class MinterBlockChainSDK {
         return mApiService;
     }
 
+    /**
+     * @return node pool, or null if instance works with one node
+     */
+    @Nullable
+    public NodePool getNodePool() {
+        return mNodePool;
+    }
+
+    /**
+     * @return shared http client, or null if instance uses its own client
+     */
+    @Nullable
+    public SharedHttpClient getHttpClient() {
+        return mHttpClient;
+    }
+
+    /**
+     * New builder with sdk converters, to configure your own Gson. To parse models, use shared {@link #getGson()}
+     * @return new builder
+     */
     public GsonBuilder getGsonBuilder() {
         GsonBuilder out = new GsonBuilder();
-        out.registerTypeAdapter(MinterAddress.class, new MinterAddressJsonConverter());
-        out.registerTypeAdapter(MinterHash.class, new MinterHashJsonConverter());
-        out.registerTypeAdapter(BigInteger.class, new BigIntegerJsonConverter());
-        out.registerTypeAdapter(BytesData.class, new BytesDataJsonConverter());
-        out.registerTypeAdapter(MinterPublicKey.class, new MinterPublicKeyJsonConverter());
+        out.registerTypeAdapter(MinterAddress.class, ADDRESS_CONVERTER);
+        out.registerTypeAdapter(MinterHash.class, HASH_CONVERTER);
+        out.registerTypeAdapter(BigInteger.class, BIG_INTEGER_CONVERTER);
+        out.registerTypeAdapter(BytesData.class, BYTES_DATA_CONVERTER);
+        out.registerTypeAdapter(MinterPublicKey.class, PUBLIC_KEY_CONVERTER);
 
         return out;
     }
 
+    /**
+     * Gson with sdk converters, created once per sdk instance. Gson is thread-safe, so it's shared by
+     * all repositories and deserializers
+     * @return shared Gson
+     */
+    public Gson getGson() {
+        if (mGson == null) {
+            synchronized (this) {
+                if (mGson == null) {
+                    mGson = getGsonBuilder().create();
+                }
+            }
+        }
+        return mGson;
+    }
+
     public NodeEventRepository event() {
         if (mEventRepository == null) {
-            mEventRepository = new NodeEventRepository(mApiService);
+            mEventRepository = new NodeEventRepository(mApiService, getGson());
         }
 
         return mEventRepository;
@@ -197,7 +326,7 @@ public class MinterBlockChainSDK {
 
     public NodeBlockRepository block() {
         if (mBlockRepository == null) {
-            mBlockRepository = new NodeBlockRepository(mApiService);
+            mBlockRepository = new NodeBlockRepository(mApiService, getGson());
         }
 
         return mBlockRepository;
@@ -213,7 +342,7 @@ public class MinterBlockChainSDK {
 
     public NodeTransactionRepository transactions() {
         if (mTransactionRepository == null) {
-            mTransactionRepository = new NodeTransactionRepository(mApiService);
+            mTransactionRepository = new NodeTransactionRepository(mApiService, getGson());
         }
 
         return mTransactionRepository;
@@ -227,6 +356,49 @@ public class MinterBlockChainSDK {
         return mCoinRepository;
     }
 
+    private void setDebug(boolean debug) {
+        mDebug = debug;
+        mApiService.setDebug(debug);
+        if (debug) {
+            mApiService.setDebugRequestLevel(HttpLoggingInterceptor.Level.BODY);
+        }
+    }
+
+    /**
+     * Interceptors for client derived from shared one, it doesn't get headers and interceptors of api builder
+     */
+    private List<Interceptor> createHttpInterceptors() {
+        final List<Interceptor> out = new ArrayList<>(4);
+        // outside of node pool: it must see real http codes of json errors to repeat failed request on another node
+        out.add(new ResponseErrorToResultInterceptor());
+        if (mNodePool != null) {
+            // before other interceptors, to repeat request with all of them on another node
+            out.add(mNodePool.getInterceptor());
+        }
+        out.add(new Interceptor() {
+            @NotNull
+            @Override
+            public Response intercept(@NotNull Chain chain) throws IOException {
+                return chain.proceed(chain.request().newBuilder()
+                        .header("Content-Type", "application/json")
+                        .header("X-Minter-Client-Name", "MinterAndroid")
+                        .header("X-Minter-Client-Version", BuildConfig.VERSION_NAME)
+                        .build());
+            }
+        });
+        if (mDebug) {
+            final HttpLoggingInterceptor logging = new HttpLoggingInterceptor(new HttpLoggingInterceptor.Logger() {
+                @Override
+                public void log(@NotNull String message) {
+                    Mint.d("%s", message);
+                }
+            });
+            logging.setLevel(HttpLoggingInterceptor.Level.BODY);
+            out.add(logging);
+        }
+        return out;
+    }
+
     /**
      * This class convert any HTTP error that contains valid json response to successful NodeResult response.
      * It was made to help handle error messages from service and avoid manual exception extraction error body and un-json it
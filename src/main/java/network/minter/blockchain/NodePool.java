@@ -0,0 +1,633 @@
+/*
+ * Copyright (C) by MinterTeam. 2021
+ * @link <a href="https://github.com/MinterTeam">Org Github</a>
+ * @link <a href="https://github.com/edwardstock">Maintainer Github</a>
+ *
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package network.minter.blockchain;
+
+import com.google.gson.stream.JsonReader;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.NoRouteToHostException;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.HttpUrl;
+import okhttp3.Interceptor;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+import static network.minter.core.internal.common.Preconditions.checkArgument;
+import static network.minter.core.internal.common.Preconditions.checkNotNull;
+
+/**
+ * Set of nodes serving one sdk instance: each request goes to the healthiest synced node, and on network error or
+ * server failure (http 5xx) it's repeated on another node.
+ * <p>
+ * Pool tracks latency and error rate of each node by its requests, and block height and sync state by periodic
+ * {@code status} requests. Node is healthy if it's not catching up, lags behind the highest node no more than
+ * {@link Builder#setMaxHeightLag(long)} blocks, its error rate is below {@link Builder#setMaxErrorRate(double)} and
+ * it didn't fail during last {@link Builder#setFailureCooldown(long, TimeUnit)}. If there is no healthy node,
+ * any node is used.
+ * <pre>
+ * NodePool pool = new NodePool.Builder()
+ *         .addNode("https://node1.local/v2/")
+ *         .addNode("https://node2.local/v2/")
+ *         .setStrategy(NodePool.Strategy.PowerOfTwoChoices)
+ *         .build();
+ * MinterBlockChainSDK sdk = MinterBlockChainSDK.createInstance(pool, false, logger);
+ * </pre>
+ * <p>
+ * minter-android-blockchain. 2021
+ *
+ * @author Eduard Maximovich (edward.vstock@gmail.com)
+ */
+public final class NodePool implements Closeable {
+    private final static double LATENCY_WEIGHT = 0.3;
+    private final static double ERROR_WEIGHT = 0.1;
+    // used if http client has no timeouts at all
+    private final static long DEFAULT_HEALTH_CHECK_TIMEOUT_MS = 30_000;
+    // GET endpoints that change state, they must not be sent twice
+    private final static String[] NON_REPEATABLE_PATHS = new String[]{"send_transaction"};
+    private final List<Node> mNodes;
+    private final SharedHttpClient mHttpClient;
+    private final Strategy mStrategy;
+    private final long mMaxHeightLag;
+    private final double mMaxErrorRate;
+    private final long mFailureCooldownNanos;
+    private final long mHealthCheckIntervalMillis;
+    private final int mMaxAttempts;
+    private final Random mRandom = new Random();
+    private final NodeInterceptor mInterceptor = new NodeInterceptor();
+    private ScheduledExecutorService mScheduler = null;
+
+    private NodePool(Builder builder) {
+        final List<Node> nodes = new ArrayList<>(builder.mUrls.size());
+        for (HttpUrl url : builder.mUrls) {
+            nodes.add(new Node(url));
+        }
+        mNodes = Collections.unmodifiableList(nodes);
+        mHttpClient = builder.mHttpClient != null ? builder.mHttpClient : SharedHttpClient.getDefault();
+        mStrategy = builder.mStrategy;
+        mMaxHeightLag = builder.mMaxHeightLag;
+        mMaxErrorRate = builder.mMaxErrorRate;
+        mFailureCooldownNanos = builder.mFailureCooldownNanos;
+        mHealthCheckIntervalMillis = builder.mHealthCheckIntervalMillis;
+        mMaxAttempts = Math.min(builder.mMaxAttempts, nodes.size());
+    }
+
+    public List<Node> getNodes() {
+        return mNodes;
+    }
+
+    public SharedHttpClient getHttpClient() {
+        return mHttpClient;
+    }
+
+    /**
+     * @return healthiest node for next request
+     */
+    @Nonnull
+    public Node getBestNode() {
+        //noinspection ConstantConditions
+        return select(Collections.<Node>emptyList());
+    }
+
+    /**
+     * Start periodic health checks on background thread. Does nothing if already started
+     */
+    public synchronized void start() {
+        if (mScheduler != null) {
+            return;
+        }
+        mScheduler = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+            @Override
+            public Thread newThread(@NotNull Runnable r) {
+                final Thread thread = new Thread(r, "minter-node-pool");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        mScheduler.scheduleWithFixedDelay(new Runnable() {
+            @Override
+            public void run() {
+                checkHealth();
+            }
+        }, 0, mHealthCheckIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stop health checks
+     */
+    @Override
+    public synchronized void close() {
+        if (mScheduler != null) {
+            mScheduler.shutdownNow();
+            mScheduler = null;
+        }
+    }
+
+    /**
+     * Request status of all nodes at once and wait for results, but not longer than call timeout of http client
+     * (or sum of its connect, write and read timeouts if call timeout isn't set). Nodes which didn't answer in time
+     * are marked as failed.
+     * <p>
+     * Blocks calling thread: don't call it on android main thread or on OkHttp threads (from callbacks or
+     * interceptors), use {@link #start()} to check nodes periodically on background thread
+     */
+    public void checkHealth() {
+        final CountDownLatch latch = new CountDownLatch(mNodes.size());
+        final List<Call> calls = new ArrayList<>(mNodes.size());
+        for (final Node node : mNodes) {
+            final long start = System.nanoTime();
+            final Request request = new Request.Builder()
+                    .url(node.mUrl.resolve("status"))
+                    .build();
+            final Call call = mHttpClient.getClient().newCall(request);
+            calls.add(call);
+            call.enqueue(new Callback() {
+                @Override
+                public void onFailure(@NotNull Call call, @NotNull IOException e) {
+                    node.onFailure(System.nanoTime() - start, mFailureCooldownNanos);
+                    latch.countDown();
+                }
+
+                @Override
+                public void onResponse(@NotNull Call call, @NotNull Response response) {
+                    try {
+                        readStatus(node, response, System.nanoTime() - start);
+                    } catch (IOException | IllegalStateException e) {
+                        node.onFailure(System.nanoTime() - start, mFailureCooldownNanos);
+                    } finally {
+                        response.close();
+                        latch.countDown();
+                    }
+                }
+            });
+        }
+
+        try {
+            if (!latch.await(getHealthCheckTimeoutMillis(), TimeUnit.MILLISECONDS)) {
+                // canceled calls fail and mark their nodes as failed
+                for (Call call : calls) {
+                    call.cancel();
+                }
+            }
+        } catch (InterruptedException e) {
+            for (Call call : calls) {
+                call.cancel();
+            }
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Base url of sdk instance, requests to it are sent to selected node
+     */
+    String getBaseUrl() {
+        return mNodes.get(0).getUrl();
+    }
+
+    Interceptor getInterceptor() {
+        return mInterceptor;
+    }
+
+    long getHealthCheckTimeoutMillis() {
+        final OkHttpClient client = mHttpClient.getClient();
+        if (client.callTimeoutMillis() > 0) {
+            return client.callTimeoutMillis();
+        }
+        final long timeout = (long) client.connectTimeoutMillis() + client.writeTimeoutMillis() + client.readTimeoutMillis();
+        return timeout > 0 ? timeout : DEFAULT_HEALTH_CHECK_TIMEOUT_MS;
+    }
+
+    @Nullable
+    Node select(List<Node> tried) {
+        final long now = System.nanoTime();
+        long maxHeight = 0;
+        for (Node node : mNodes) {
+            if (!node.mCatchingUp) {
+                maxHeight = Math.max(maxHeight, node.mHeight);
+            }
+        }
+
+        final List<Node> candidates = new ArrayList<>(mNodes.size());
+        for (Node node : mNodes) {
+            if (!tried.contains(node) && isHealthy(node, now, maxHeight)) {
+                candidates.add(node);
+            }
+        }
+        if (candidates.isEmpty()) {
+            for (Node node : mNodes) {
+                if (!tried.contains(node)) {
+                    candidates.add(node);
+                }
+            }
+        }
+        if (candidates.isEmpty()) {
+            return null;
+        }
+
+        if (mStrategy == Strategy.PowerOfTwoChoices && candidates.size() > 2) {
+            final int a = mRandom.nextInt(candidates.size());
+            int b = mRandom.nextInt(candidates.size() - 1);
+            if (b >= a) {
+                b++;
+            }
+            final Node first = candidates.get(a);
+            final Node second = candidates.get(b);
+            return first.score() <= second.score() ? first : second;
+        }
+
+        Node best = candidates.get(0);
+        for (int i = 1; i < candidates.size(); i++) {
+            if (candidates.get(i).score() < best.score()) {
+                best = candidates.get(i);
+            }
+        }
+        return best;
+    }
+
+    private boolean isHealthy(Node node, long now, long maxHeight) {
+        if (node.mCatchingUp || node.mErrorRate > mMaxErrorRate) {
+            return false;
+        }
+        if (node.mHeight != 0 && maxHeight - node.mHeight > mMaxHeightLag) {
+            return false;
+        }
+        return now - node.mAvailableAt >= 0;
+    }
+
+    private static void readStatus(Node node, Response response, long latencyNanos) throws IOException {
+        final ResponseBody body = response.body();
+        if (!response.isSuccessful() || body == null) {
+            throw new IOException(String.format("Node status http code %d", response.code()));
+        }
+
+        long height = 0;
+        boolean catchingUp = false;
+        final JsonReader reader = new JsonReader(body.charStream());
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "latest_block_height":
+                    height = reader.nextLong();
+                    break;
+                case "catching_up":
+                    catchingUp = reader.nextBoolean();
+                    break;
+                case "error":
+                    throw new IOException("Node returned error status");
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        reader.endObject();
+        node.onStatus(height, catchingUp, latencyNanos);
+    }
+
+    public enum Strategy {
+        /**
+         * Healthy node with least latency (multiplied by count of its requests in progress)
+         */
+        LeastLatency,
+        /**
+         * Better of two random healthy nodes: spreads load more evenly than {@link #LeastLatency}
+         */
+        PowerOfTwoChoices,
+    }
+
+    /**
+     * Node state, updated by requests and health checks
+     */
+    public static final class Node {
+        private final HttpUrl mUrl;
+        private final AtomicInteger mInFlight = new AtomicInteger(0);
+        private volatile double mLatencyNanos = 0;
+        private volatile double mErrorRate = 0;
+        private volatile long mAvailableAt = System.nanoTime();
+        private volatile long mHeight = 0;
+        private volatile boolean mCatchingUp = false;
+
+        Node(HttpUrl url) {
+            mUrl = url;
+        }
+
+        public String getUrl() {
+            return mUrl.toString();
+        }
+
+        /**
+         * @return latest block height from last health check, 0 if unknown
+         */
+        public long getHeight() {
+            return mHeight;
+        }
+
+        public boolean isCatchingUp() {
+            return mCatchingUp;
+        }
+
+        /**
+         * @return moving average of response time, 0 if there were no requests
+         */
+        public double getLatencyMillis() {
+            return mLatencyNanos / 1_000_000d;
+        }
+
+        /**
+         * @return moving average of failures, from 0 to 1
+         */
+        public double getErrorRate() {
+            return mErrorRate;
+        }
+
+        public int getRequestsInProgress() {
+            return mInFlight.get();
+        }
+
+        @Nonnull
+        @Override
+        public String toString() {
+            return String.format("Node{url=%s, height=%d, catchingUp=%s, latency=%.1fms, errorRate=%.2f}",
+                    mUrl, mHeight, mCatchingUp, getLatencyMillis(), mErrorRate);
+        }
+
+        synchronized void onSuccess(long latencyNanos) {
+            addLatency(latencyNanos);
+            mErrorRate = mErrorRate * (1 - ERROR_WEIGHT);
+            mAvailableAt = System.nanoTime();
+        }
+
+        synchronized void onFailure(long latencyNanos, long cooldownNanos) {
+            addLatency(latencyNanos);
+            mErrorRate = mErrorRate * (1 - ERROR_WEIGHT) + ERROR_WEIGHT;
+            mAvailableAt = System.nanoTime() + cooldownNanos;
+        }
+
+        synchronized void onStatus(long height, boolean catchingUp, long latencyNanos) {
+            mHeight = height;
+            mCatchingUp = catchingUp;
+            onSuccess(latencyNanos);
+        }
+
+        double score() {
+            return mLatencyNanos * (mInFlight.get() + 1);
+        }
+
+        HttpUrl resolve(String relativePath, HttpUrl requestUrl) {
+            final HttpUrl.Builder builder = mUrl.newBuilder();
+            if (!relativePath.isEmpty()) {
+                builder.addEncodedPathSegments(relativePath);
+            }
+            return builder.encodedQuery(requestUrl.encodedQuery()).build();
+        }
+
+        private void addLatency(long latencyNanos) {
+            mLatencyNanos = mLatencyNanos == 0 ? latencyNanos : mLatencyNanos * (1 - LATENCY_WEIGHT) + latencyNanos * LATENCY_WEIGHT;
+        }
+    }
+
+    public static final class Builder {
+        private final List<HttpUrl> mUrls = new ArrayList<>();
+        private SharedHttpClient mHttpClient = null;
+        private Strategy mStrategy = Strategy.LeastLatency;
+        private long mMaxHeightLag = 2;
+        private double mMaxErrorRate = 0.5;
+        private long mFailureCooldownNanos = TimeUnit.SECONDS.toNanos(5);
+        private long mHealthCheckIntervalMillis = TimeUnit.SECONDS.toMillis(10);
+        private int mMaxAttempts = 3;
+
+        /**
+         * @param baseNodeApiUrl node api url, the same as for {@link MinterBlockChainSDK#createInstance(String, boolean, network.minter.core.internal.log.Mint.Leaf)}
+         * @return self
+         */
+        public Builder addNode(@Nonnull String baseNodeApiUrl) {
+            checkNotNull(baseNodeApiUrl, "Node url can't be null");
+            final HttpUrl url = HttpUrl.parse(baseNodeApiUrl.endsWith("/") ? baseNodeApiUrl : baseNodeApiUrl + "/");
+            checkArgument(url != null, "Invalid node url: " + baseNodeApiUrl);
+            mUrls.add(url);
+            return this;
+        }
+
+        /**
+         * @param httpClient client for requests and health checks. Default: {@link SharedHttpClient#getDefault()}
+         * @return self
+         */
+        public Builder setHttpClient(@Nonnull SharedHttpClient httpClient) {
+            mHttpClient = checkNotNull(httpClient, "Http client can't be null");
+            return this;
+        }
+
+        /**
+         * @param strategy how to choose node among healthy ones. Default: {@link Strategy#LeastLatency}
+         * @return self
+         */
+        public Builder setStrategy(@Nonnull Strategy strategy) {
+            mStrategy = checkNotNull(strategy, "Strategy can't be null");
+            return this;
+        }
+
+        /**
+         * @param blocks how many blocks node can lag behind the highest node to serve requests. Default: 2
+         * @return self
+         */
+        public Builder setMaxHeightLag(long blocks) {
+            checkArgument(blocks >= 0, "Height lag can't be negative");
+            mMaxHeightLag = blocks;
+            return this;
+        }
+
+        /**
+         * @param errorRate moving average of failures (from 0 to 1) when node is excluded until it recovers. Default: 0.5
+         * @return self
+         */
+        public Builder setMaxErrorRate(double errorRate) {
+            checkArgument(errorRate > 0 && errorRate <= 1, "Error rate must be in range (0, 1]");
+            mMaxErrorRate = errorRate;
+            return this;
+        }
+
+        /**
+         * @param duration how long failed node isn't used, if there are healthy nodes. Default: 5 seconds
+         * @param unit duration unit
+         * @return self
+         */
+        public Builder setFailureCooldown(long duration, @Nonnull TimeUnit unit) {
+            checkArgument(duration >= 0, "Cooldown can't be negative");
+            mFailureCooldownNanos = checkNotNull(unit, "Unit can't be null").toNanos(duration);
+            return this;
+        }
+
+        /**
+         * @param duration delay between health checks, see {@link NodePool#start()}. Default: 10 seconds
+         * @param unit duration unit
+         * @return self
+         */
+        public Builder setHealthCheckInterval(long duration, @Nonnull TimeUnit unit) {
+            checkArgument(duration > 0, "Interval must be positive");
+            mHealthCheckIntervalMillis = checkNotNull(unit, "Unit can't be null").toMillis(duration);
+            return this;
+        }
+
+        /**
+         * @param attempts max nodes to try for one request, limited by nodes count. Default: 3
+         * @return self
+         */
+        public Builder setMaxAttempts(int attempts) {
+            checkArgument(attempts > 0, "Attempts count must be positive");
+            mMaxAttempts = attempts;
+            return this;
+        }
+
+        public NodePool build() {
+            checkArgument(!mUrls.isEmpty(), "At least one node required");
+            return new NodePool(this);
+        }
+    }
+
+    /**
+     * Sends request to selected node instead of base url. Must be added before other application interceptors, to repeat
+     * whole request on another node, but after interceptors which change response codes
+     * (like {@link MinterBlockChainSDK.ResponseErrorToResultInterceptor}), to see real failures.
+     * Requests that change state (not GET/HEAD, and {@code send_transaction} which is GET) are repeated only if
+     * connection to node wasn't established, so node couldn't receive them. Otherwise transaction could be
+     * submitted twice: error or http 5xx doesn't mean node hasn't accepted it
+     */
+    private final class NodeInterceptor implements Interceptor {
+        @NotNull
+        @Override
+        public Response intercept(@NotNull Chain chain) throws IOException {
+            final Request request = chain.request();
+            final String relativePath = relativePath(request.url());
+            if (relativePath == null) {
+                return chain.proceed(request);
+            }
+
+            final boolean repeatable = isRepeatable(request.method(), relativePath);
+            final List<Node> tried = new ArrayList<>(mMaxAttempts);
+            IOException lastError = null;
+            Response lastResponse = null;
+            for (int attempt = 0; attempt < mMaxAttempts; attempt++) {
+                final Node node = select(tried);
+                if (node == null) {
+                    break;
+                }
+                tried.add(node);
+                if (lastResponse != null) {
+                    lastResponse.close();
+                    lastResponse = null;
+                }
+
+                node.mInFlight.incrementAndGet();
+                final long start = System.nanoTime();
+                try {
+                    final Response response = chain.proceed(request.newBuilder()
+                            .url(node.resolve(relativePath, request.url()))
+                            .build());
+                    if (response.code() >= 500) {
+                        node.onFailure(System.nanoTime() - start, mFailureCooldownNanos);
+                        if (!repeatable) {
+                            return response;
+                        }
+                        lastResponse = response;
+                        continue;
+                    }
+                    node.onSuccess(System.nanoTime() - start);
+                    return response;
+                } catch (IOException e) {
+                    node.onFailure(System.nanoTime() - start, mFailureCooldownNanos);
+                    if (!repeatable && !isNotConnected(e)) {
+                        throw e;
+                    }
+                    lastError = e;
+                } finally {
+                    node.mInFlight.decrementAndGet();
+                }
+            }
+
+            if (lastResponse != null) {
+                return lastResponse;
+            }
+            throw lastError != null ? lastError : new IOException("No nodes available");
+        }
+
+        private boolean isRepeatable(String method, String relativePath) {
+            if (!"GET".equals(method) && !"HEAD".equals(method)) {
+                return false;
+            }
+            for (String path : NON_REPEATABLE_PATHS) {
+                if (relativePath.startsWith(path)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * @return true if request failed before connection was established, so it wasn't sent
+         */
+        private boolean isNotConnected(IOException e) {
+            return e instanceof ConnectException || e instanceof UnknownHostException || e instanceof NoRouteToHostException;
+        }
+
+        /**
+         * @return path relative to base url, or null if request isn't sent to base url
+         */
+        @Nullable
+        private String relativePath(HttpUrl url) {
+            final HttpUrl base = mNodes.get(0).mUrl;
+            if (!base.scheme().equals(url.scheme()) || !base.host().equals(url.host()) || base.port() != url.port()) {
+                return null;
+            }
+            final String basePath = base.encodedPath();
+            final String path = url.encodedPath();
+            if (!path.startsWith(basePath)) {
+                return null;
+            }
+            return path.substring(basePath.length());
+        }
+    }
+}
@@ -0,0 +1,233 @@
+/*
+ * Copyright (C) by MinterTeam. 2021
+ * @link <a href="https://github.com/MinterTeam">Org Github</a>
+ * @link <a href="https://github.com/edwardstock">Maintainer Github</a>
+ *
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package network.minter.blockchain;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nonnull;
+
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.Interceptor;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+
+import static network.minter.core.internal.common.Preconditions.checkArgument;
+import static network.minter.core.internal.common.Preconditions.checkNotNull;
+
+/**
+ * OkHttp connection pool and dispatcher shared by many {@link MinterBlockChainSDK} instances, for example when
+ * one application talks to many nodes. Each sdk instance gets its own lightweight client created by
+ * {@link OkHttpClient#newBuilder()}, so sockets, dispatcher threads and concurrency limits are common for all of them.
+ * <p>
+ * Requests of sdk instances with shared client are executed by {@link Dispatcher}, so
+ * {@link Builder#setMaxRequests(int)} and {@link Builder#setMaxRequestsPerHost(int)} limit all of them together.
+ * <pre>
+ * SharedHttpClient http = new SharedHttpClient.Builder()
+ *         .setMaxRequestsPerHost(16)
+ *         .setKeepAlive(5, TimeUnit.MINUTES)
+ *         .build();
+ * MinterBlockChainSDK node1 = MinterBlockChainSDK.createInstance("https://node1/v2/", false, logger, http);
+ * MinterBlockChainSDK node2 = MinterBlockChainSDK.createInstance("https://node2/v2/", false, logger, http);
+ * </pre>
+ * <p>
+ * minter-android-blockchain. 2021
+ *
+ * @author Eduard Maximovich (edward.vstock@gmail.com)
+ */
+public final class SharedHttpClient {
+    private static SharedHttpClient sDefault;
+    private final OkHttpClient mClient;
+
+    /**
+     * Use existing client, its connection pool, dispatcher and settings are shared
+     * @param client base client
+     */
+    public SharedHttpClient(@Nonnull OkHttpClient client) {
+        mClient = checkNotNull(client, "Client can't be null");
+    }
+
+    /**
+     * Shared client with default settings, see {@link Builder}
+     * @return client instance, created once
+     */
+    public static synchronized SharedHttpClient getDefault() {
+        if (sDefault == null) {
+            sDefault = new Builder().build();
+        }
+        return sDefault;
+    }
+
+    /**
+     * @return base client, all clients of sdk instances are derived from it
+     */
+    public OkHttpClient getClient() {
+        return mClient;
+    }
+
+    public ConnectionPool getConnectionPool() {
+        return mClient.connectionPool();
+    }
+
+    public Dispatcher getDispatcher() {
+        return mClient.dispatcher();
+    }
+
+    /**
+     * Create client for one sdk instance. It shares connection pool and dispatcher with base client.
+     * @param interceptors instance interceptors, added after interceptors of base client
+     * @return new client
+     */
+    OkHttpClient newClient(@Nonnull List<Interceptor> interceptors) {
+        final OkHttpClient.Builder builder = mClient.newBuilder();
+        for (Interceptor interceptor : interceptors) {
+            builder.addInterceptor(interceptor);
+        }
+        return builder.build();
+    }
+
+    public static final class Builder {
+        private OkHttpClient mBaseClient = null;
+        private ConnectionPool mConnectionPool = null;
+        private Dispatcher mDispatcher = null;
+        private int mMaxRequests = 64;
+        private int mMaxRequestsPerHost = 16;
+        private int mMaxIdleConnections = 16;
+        private long mKeepAliveMillis = TimeUnit.MINUTES.toMillis(5);
+        private boolean mHttp2 = true;
+
+        /**
+         * Start from existing client settings (timeouts, interceptors, ssl etc.). Its connection pool and dispatcher
+         * are replaced with configured by this builder, to share them as is use {@link SharedHttpClient#SharedHttpClient(OkHttpClient)}
+         * @param client base client
+         * @return self
+         */
+        public Builder setBaseClient(@Nonnull OkHttpClient client) {
+            mBaseClient = checkNotNull(client, "Client can't be null");
+            return this;
+        }
+
+        /**
+         * Use existing connection pool, keep-alive and idle connections settings are ignored then
+         * @param pool connection pool
+         * @return self
+         */
+        public Builder setConnectionPool(@Nonnull ConnectionPool pool) {
+            mConnectionPool = checkNotNull(pool, "Connection pool can't be null");
+            return this;
+        }
+
+        /**
+         * Use existing dispatcher, max requests settings are ignored then
+         * @param dispatcher dispatcher
+         * @return self
+         */
+        public Builder setDispatcher(@Nonnull Dispatcher dispatcher) {
+            mDispatcher = checkNotNull(dispatcher, "Dispatcher can't be null");
+            return this;
+        }
+
+        /**
+         * @param maxRequests max requests executed at the same time for all hosts. Default: 64
+         * @return self
+         */
+        public Builder setMaxRequests(int maxRequests) {
+            checkArgument(maxRequests > 0, "Max requests must be positive");
+            mMaxRequests = maxRequests;
+            return this;
+        }
+
+        /**
+         * @param maxRequestsPerHost max requests executed at the same time for one host (node). Default: 16
+         * @return self
+         */
+        public Builder setMaxRequestsPerHost(int maxRequestsPerHost) {
+            checkArgument(maxRequestsPerHost > 0, "Max requests per host must be positive");
+            mMaxRequestsPerHost = maxRequestsPerHost;
+            return this;
+        }
+
+        /**
+         * @param maxIdleConnections max idle connections kept in pool for all hosts. Default: 16
+         * @return self
+         */
+        public Builder setMaxIdleConnections(int maxIdleConnections) {
+            checkArgument(maxIdleConnections >= 0, "Max idle connections can't be negative");
+            mMaxIdleConnections = maxIdleConnections;
+            return this;
+        }
+
+        /**
+         * @param duration how long idle connection is kept in pool. Default: 5 minutes
+         * @param unit duration unit
+         * @return self
+         */
+        public Builder setKeepAlive(long duration, @Nonnull TimeUnit unit) {
+            checkArgument(duration > 0, "Keep-alive duration must be positive");
+            mKeepAliveMillis = checkNotNull(unit, "Unit can't be null").toMillis(duration);
+            return this;
+        }
+
+        /**
+         * @param enabled if true, HTTP/2 is negotiated with servers supporting it, otherwise only HTTP/1.1 is used. Default: true
+         * @return self
+         */
+        public Builder setHttp2Enabled(boolean enabled) {
+            mHttp2 = enabled;
+            return this;
+        }
+
+        public SharedHttpClient build() {
+            final OkHttpClient.Builder builder = mBaseClient != null ? mBaseClient.newBuilder() : new OkHttpClient.Builder();
+
+            Dispatcher dispatcher = mDispatcher;
+            if (dispatcher == null) {
+                dispatcher = new Dispatcher();
+                dispatcher.setMaxRequests(mMaxRequests);
+                dispatcher.setMaxRequestsPerHost(mMaxRequestsPerHost);
+            }
+            builder.dispatcher(dispatcher);
+
+            if (mConnectionPool != null) {
+                builder.connectionPool(mConnectionPool);
+            } else {
+                builder.connectionPool(new ConnectionPool(mMaxIdleConnections, mKeepAliveMillis, TimeUnit.MILLISECONDS));
+            }
+
+            if (mHttp2) {
+                builder.protocols(Arrays.asList(Protocol.HTTP_2, Protocol.HTTP_1_1));
+            } else {
+                builder.protocols(Collections.singletonList(Protocol.HTTP_1_1));
+            }
+
+            return new SharedHttpClient(builder.build());
+        }
+    }
+}
@@ -28,8 +28,11 @@ package network.minter.blockchain.api;
 
 import io.reactivex.Observable;
 import network.minter.blockchain.models.BlockInfo;
+import okhttp3.ResponseBody;
+import retrofit2.Response;
 import retrofit2.http.GET;
 import retrofit2.http.Path;
+import retrofit2.http.Streaming;
 
 /**
  * minter-android-blockchain. 2019
@@ -39,4 +42,13 @@ public interface NodeBlockEndpoint {
 
     @GET("block/{height}")
     Observable<BlockInfo> getByHeight(@Path("height") String blockNumber);
+
+    /**
+     * Same as {@link #getByHeight(String)}, but returns unparsed body to read it with projection
+     * @param blockNumber block height
+     * @return raw response, body must be closed
+     */
+    @Streaming
+    @GET("block/{height}")
+    Observable<Response<ResponseBody>> getByHeightRaw(@Path("height") String blockNumber);
 }
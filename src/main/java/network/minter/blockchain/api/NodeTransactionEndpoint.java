@@ -34,9 +34,12 @@ import network.minter.blockchain.models.TransactionCommissionValue;
 import network.minter.blockchain.models.TransactionSendResult;
 import network.minter.blockchain.models.UnconfirmedTransactions;
 import network.minter.blockchain.repo.NodeTransactionRepository;
+import okhttp3.ResponseBody;
+import retrofit2.Response;
 import retrofit2.http.GET;
 import retrofit2.http.Path;
 import retrofit2.http.Query;
+import retrofit2.http.Streaming;
 
 /**
  * minter-android-blockchain. 2018
@@ -53,6 +56,15 @@ public interface NodeTransactionEndpoint {
     @GET("transactions")
     Observable<HistoryTransactionList> getTransactions(@Query("query") String urlEncodedQuery);
 
+    /**
+     * Same as {@link #getTransactions(String)}, but returns unparsed body to read it with projection
+     * @param urlEncodedQuery
+     * @return raw response, body must be closed
+     */
+    @Streaming
+    @GET("transactions")
+    Observable<Response<ResponseBody>> getTransactionsRaw(@Query("query") String urlEncodedQuery);
+
     /**
      * Get full information about transaction
      * @param txHash Transaction hash (hex bytes with prefix: Mt)
@@ -62,6 +74,15 @@ public interface NodeTransactionEndpoint {
     @GET("transaction/{hash}")
     Observable<HistoryTransaction> getTransaction(@Path("hash") String txHash);
 
+    /**
+     * Same as {@link #getTransaction(String)}, but returns unparsed body to read it with projection
+     * @param txHash Transaction hash (hex bytes with prefix: Mt)
+     * @return raw response, body must be closed
+     */
+    @Streaming
+    @GET("transaction/{hash}")
+    Observable<Response<ResponseBody>> getTransactionRaw(@Path("hash") String txHash);
+
     /**
      * Calculates signed transaction commission
      * @param signedTx Valid transaction, signed with private key
@@ -33,6 +33,8 @@ import java.math.BigInteger;
 import java.util.Collections;
 import java.util.List;
 
+import network.minter.blockchain.models.operational.PipAmount;
+
 import static network.minter.blockchain.models.operational.Transaction.humanizeValue;
 
 /**
@@ -52,6 +54,10 @@ public class AddressInfo extends NodeResult {
         return humanizeValue(bipValue);
     }
 
+    public PipAmount getPipBipValue() {
+        return PipAmount.ofPips(bipValue);
+    }
+
     public static class CoinBalance {
         // This object will contains only ID and SYMBOL values, as "/address" result does not results nothing else
         public Coin coin;
@@ -66,6 +72,14 @@ public class AddressInfo extends NodeResult {
         public BigDecimal getBipValue() {
             return humanizeValue(bipValue);
         }
+
+        public PipAmount getPipValue() {
+            return PipAmount.ofPips(value);
+        }
+
+        public PipAmount getPipBipValue() {
+            return PipAmount.ofPips(bipValue);
+        }
     }
 
 
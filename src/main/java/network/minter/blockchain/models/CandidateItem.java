@@ -32,6 +32,7 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.List;
 
+import network.minter.blockchain.models.operational.PipAmount;
 import network.minter.blockchain.models.operational.Transaction;
 import network.minter.core.crypto.MinterAddress;
 import network.minter.core.crypto.MinterPublicKey;
@@ -86,6 +87,10 @@ public class CandidateItem extends NodeResult {
         return Transaction.humanizeValue(totalStake);
     }
 
+    public PipAmount getPipTotalStake() {
+        return PipAmount.ofPips(totalStake);
+    }
+
     public static class StakeCoin {
         public BigInteger id;
         public String symbol;
@@ -104,5 +109,13 @@ public class CandidateItem extends NodeResult {
         public BigDecimal getBipValueDecimal() {
             return Transaction.humanizeValue(bipValue);
         }
+
+        public PipAmount getPipValue() {
+            return PipAmount.ofPips(value);
+        }
+
+        public PipAmount getPipBipValue() {
+            return PipAmount.ofPips(bipValue);
+        }
     }
 }
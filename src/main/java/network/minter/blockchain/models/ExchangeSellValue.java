@@ -32,6 +32,7 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 
 import network.minter.blockchain.api.EstimateSwapFrom;
+import network.minter.blockchain.models.operational.PipAmount;
 import network.minter.blockchain.models.operational.Transaction;
 
 /**
@@ -59,4 +60,16 @@ public class ExchangeSellValue extends NodeResult {
     public BigDecimal getAmountWithCommission() {
         return getAmount().add(getCommission());
     }
+
+    public PipAmount getPipAmount() {
+        return PipAmount.ofPips(willGet);
+    }
+
+    public PipAmount getPipCommission() {
+        return PipAmount.ofPips(commission);
+    }
+
+    public PipAmount getPipAmountWithCommission() {
+        return getPipAmount().add(getPipCommission());
+    }
 }
@@ -28,9 +28,13 @@ package network.minter.blockchain.models;
 
 import com.google.gson.annotations.SerializedName;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
+import network.minter.blockchain.models.operational.TransactionBatchDecoder;
+import network.minter.core.crypto.BytesData;
+
 /**
  * minter-android-blockchain. 2019
  * @author Eduard Maximovich [edward.vstock@gmail.com]
@@ -45,4 +49,16 @@ public class UnconfirmedTransactions extends NodeResult {
     public Long totalBytes;
     @SerializedName("transactions")
     public List<HistoryTransaction> items = Collections.emptyList();
+
+    /**
+     * Raw transactions to decode them all at once with {@link TransactionBatchDecoder#decodeData(List)}
+     * @return raw transactions in the same order as {@link #items}
+     */
+    public List<BytesData> getRawTransactions() {
+        final List<BytesData> raw = new ArrayList<>(items.size());
+        for (HistoryTransaction item : items) {
+            raw.add(item.rawTx);
+        }
+        return raw;
+    }
 }
@@ -0,0 +1,167 @@
+/*
+ * Copyright (C) by MinterTeam. 2021
+ * @link <a href="https://github.com/MinterTeam">Org Github</a>
+ * @link <a href="https://github.com/edwardstock">Maintainer Github</a>
+ *
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package network.minter.blockchain.models.operational;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.Nonnull;
+
+import static network.minter.core.internal.common.Preconditions.checkNotNull;
+
+/**
+ * Splits list of items into chunks and processes them on executor, keeping results in input order.
+ * <p>
+ * Default executor is a fixed pool of daemon threads sized to available processors.
+ * ForkJoinPool is not used directly as it's not available on old android versions,
+ * but it can be passed as {@link ExecutorService} where it's supported.
+ * <p>
+ * minter-android-blockchain. 2021
+ *
+ * @author Eduard Maximovich (edward.vstock@gmail.com)
+ */
+final class BatchExecutor {
+    private final static int CHUNKS_PER_THREAD = 4;
+    private static ExecutorService sDefault;
+
+    private BatchExecutor() {
+    }
+
+    interface Task<In, Out> {
+        Out apply(int index, In item) throws Exception;
+    }
+
+    static synchronized ExecutorService getDefault() {
+        if (sDefault == null) {
+            sDefault = Executors.newFixedThreadPool(getParallelism(), new ThreadFactory() {
+                private final AtomicInteger mCounter = new AtomicInteger(0);
+
+                @Override
+                public Thread newThread(@Nonnull Runnable r) {
+                    final Thread t = new Thread(r, "minter-batch-" + mCounter.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                }
+            });
+        }
+        return sDefault;
+    }
+
+    static int getParallelism() {
+        return Math.max(1, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Apply task to each item in parallel
+     * @param executor executor to run chunks on
+     * @param items input items
+     * @param task task to apply
+     * @return results in the same order as items
+     * @throws RuntimeException first failure thrown by task (checked exceptions are wrapped into {@link IllegalStateException})
+     */
+    static <In, Out> List<Out> map(@Nonnull ExecutorService executor, @Nonnull final List<In> items, @Nonnull final Task<In, Out> task) {
+        checkNotNull(executor, "Executor can't be null");
+        checkNotNull(items, "Items can't be null");
+        checkNotNull(task, "Task can't be null");
+
+        final Object[] results = new Object[items.size()];
+        if (items.isEmpty()) {
+            return new ArrayList<>(0);
+        }
+
+        final int chunks = Math.min(items.size(), getParallelism() * CHUNKS_PER_THREAD);
+        final int chunkSize = (items.size() + chunks - 1) / chunks;
+
+        if (chunks == 1) {
+            try {
+                runChunk(items, task, results, 0, items.size());
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new IllegalStateException("Batch processing failed", e);
+            }
+            return toList(results);
+        }
+
+        final List<Future<?>> futures = new ArrayList<>(chunks);
+        for (int start = 0; start < items.size(); start += chunkSize) {
+            final int from = start;
+            final int to = Math.min(items.size(), start + chunkSize);
+            futures.add(executor.submit(new Callable<Void>() {
+                @Override
+                public Void call() throws Exception {
+                    runChunk(items, task, results, from, to);
+                    return null;
+                }
+            }));
+        }
+
+        try {
+            for (Future<?> f : futures) {
+                f.get();
+            }
+        } catch (InterruptedException e) {
+            cancelAll(futures);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Batch processing was interrupted", e);
+        } catch (ExecutionException e) {
+            cancelAll(futures);
+            final Throwable cause = e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException("Batch processing failed", cause);
+        }
+
+        return toList(results);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <Out> List<Out> toList(Object[] results) {
+        return new ArrayList<>((List<Out>) Arrays.asList(results));
+    }
+
+    private static <In, Out> void runChunk(List<In> items, Task<In, Out> task, Object[] results, int from, int to) throws Exception {
+        for (int i = from; i < to; i++) {
+            results[i] = task.apply(i, items.get(i));
+        }
+    }
+
+    private static void cancelAll(List<Future<?>> futures) {
+        for (Future<?> f : futures) {
+            f.cancel(true);
+        }
+    }
+}
@@ -32,6 +32,7 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 import network.minter.blockchain.BuildConfig;
 import network.minter.core.MinterSDK;
@@ -40,19 +41,15 @@ import network.minter.core.crypto.HashUtil;
 import network.minter.core.crypto.MinterAddress;
 import network.minter.core.crypto.MinterCheck;
 import network.minter.core.crypto.PrivateKey;
-import network.minter.core.util.DecodeResult;
-import network.minter.core.util.RLPBoxed;
 
 import static network.minter.core.internal.common.Preconditions.checkArgument;
 import static network.minter.core.internal.common.Preconditions.checkNotNull;
-import static network.minter.core.internal.helpers.BytesHelper.fixBigintSignedByte;
 
 /**
  * minter-android-blockchain. 2018
  * @author Eduard Maximovich [edward.vstock@gmail.com]
  */
 public class CheckTransaction {
-    private final static Object sNativeLock = new Object();
     private String mPassphrase;
     private BytesData mNonce;
     private BlockchainID mChainId;
@@ -92,16 +89,7 @@ public class CheckTransaction {
         final BytesData hash = hashBytes.sha3Data();
         final BytesData pk = new BytesData(passphrase).sha256Mutable();
 
-        final NativeSecp256k1.RecoverableSignature lockSig;
-
-        synchronized (sNativeLock) {
-            long ctx = NativeSecp256k1.contextCreate();
-            try {
-                lockSig = NativeSecp256k1.signRecoverableSerialized(ctx, hash.getBytes(), pk.getBytes());
-            } finally {
-                NativeSecp256k1.contextCleanup(ctx);
-            }
-        }
+        final NativeSecp256k1.RecoverableSignature lockSig = Secp256k1ContextPool.getDefault().signRecoverable(hash.getBytes(), pk.getBytes());
 
         lockSig.v[0] = lockSig.v[0] == 27 ? 0x0 : (byte) 0x01;
         final BytesData lock = new BytesData(lockSig.r, lockSig.s, lockSig.v);
@@ -129,18 +117,9 @@ public class CheckTransaction {
      */
     public static BytesData makeProof(MinterAddress address, byte[] passphrase) {
         BytesData key = new BytesData(HashUtil.sha256(passphrase));
-        BytesData encodedAddress = new BytesData(RLPBoxed.encode(new Object[]{address.getData()})).sha3Mutable();
-
-        NativeSecp256k1.RecoverableSignature signature;
+        BytesData encodedAddress = new BytesData(new RLPWriter(32).startList().writeBytesData(address).endList().toByteArray()).sha3Mutable();
 
-        synchronized (sNativeLock) {
-            long ctx = NativeSecp256k1.contextCreate();
-            try {
-                signature = NativeSecp256k1.signRecoverableSerialized(ctx, encodedAddress.getBytes(), key.getBytes());
-            } finally {
-                NativeSecp256k1.contextCleanup(ctx);
-            }
-        }
+        NativeSecp256k1.RecoverableSignature signature = Secp256k1ContextPool.getDefault().signRecoverable(encodedAddress.getBytes(), key.getBytes());
 
         signature.v[0] = signature.v[0] == 27 ? 0x0 : (byte) 0x01;
 
@@ -155,15 +134,15 @@ public class CheckTransaction {
         checkNotNull(hexEncoded, "hexEncoded data can't be null");
         checkArgument(hexEncoded.length() > 0, "Encoded transaction is empty");
         final BytesData bd = new BytesData(new MinterCheck(hexEncoded));
-        final DecodeResult rlp = RLPBoxed.decode(bd.getData(), 0);
-        final Object[] decoded = (Object[]) rlp.getDecoded();
+        final RLPReader rlp = RLPReader.fromList(bd.getBytes());
+        final int count = rlp.remaining();
 
-        if (decoded.length != 10) {
-            throw new InvalidEncodedTransactionException("Encoded transaction has invalid data length: expected 10, given %d", decoded.length);
+        if (count != 10) {
+            throw new InvalidEncodedTransactionException("Encoded transaction has invalid data length: expected 10, given %d", count);
         }
 
         CheckTransaction transaction = new CheckTransaction();
-        transaction.decodeRLP(decoded);
+        transaction.decodeRLP(rlp);
 
         return transaction;
     }
@@ -238,31 +217,14 @@ public class CheckTransaction {
         BytesData hash = hashBytes.sha3Data();
         BytesData pk = new BytesData(mPassphrase.getBytes()).sha256Mutable();
 
-        NativeSecp256k1.RecoverableSignature lockSig;
-
-        synchronized (sNativeLock) {
-            long ctx = NativeSecp256k1.contextCreate();
-            try {
-                lockSig = NativeSecp256k1.signRecoverableSerialized(ctx, hash.getBytes(), pk.getBytes());
-            } finally {
-                NativeSecp256k1.contextCleanup(ctx);
-            }
-        }
+        NativeSecp256k1.RecoverableSignature lockSig = Secp256k1ContextPool.getDefault().signRecoverable(hash.getBytes(), pk.getBytes());
 
         lockSig.v[0] = lockSig.v[0] == 27 ? 0x0 : (byte) 0x01;
         mLock = new BytesData(lockSig.r, lockSig.s, lockSig.v);
 
-        BytesData withLock = new BytesData(encode(false)).sha3Mutable();
+        BytesData withLock = new BytesData(encodeWithLock()).sha3Mutable();
 
-        NativeSecp256k1.RecoverableSignature rsv;
-        synchronized (sNativeLock) {
-            long ctx = NativeSecp256k1.contextCreate();
-            try {
-                rsv = NativeSecp256k1.signRecoverableSerialized(ctx, withLock.getBytes(), privateKey.getBytes());
-            } finally {
-                NativeSecp256k1.contextCleanup(ctx);
-            }
-        }
+        NativeSecp256k1.RecoverableSignature rsv = Secp256k1ContextPool.getDefault().signRecoverable(withLock.getBytes(), privateKey.getBytes());
 
         mSignature = new SignatureSingleData();
         mSignature.setSign(rsv);
@@ -272,6 +234,30 @@ public class CheckTransaction {
         return new MinterCheck(signedCheck);
     }
 
+    /**
+     * Recover check issuer address from signature without any network request
+     * @return issuer address or null if check is not signed or signature is invalid
+     */
+    @Nullable
+    public MinterAddress recoverIssuer() {
+        if (mSignature == null || mLock == null) {
+            return null;
+        }
+        final byte[] hash = new BytesData(encodeWithLock()).sha3Data().getBytes();
+        return Secp256k1Recovery.recoverAddress(hash, mSignature);
+    }
+
+    /**
+     * Verify check signature offline
+     * @param issuer expected check issuer
+     * @return true if signature is valid and belongs to given issuer
+     */
+    public boolean verify(@Nonnull MinterAddress issuer) {
+        checkNotNull(issuer, "Issuer address required");
+        final MinterAddress recovered = recoverIssuer();
+        return recovered != null && recovered.equals(issuer);
+    }
+
     public BytesData getLock() {
         return mLock;
     }
@@ -280,69 +266,59 @@ public class CheckTransaction {
         return mGasCoinId;
     }
 
-    char[] fromRawRlp(int idx, Object[] raw) {
-        if (raw[idx] instanceof String) {
-            return ((String) raw[idx]).toCharArray();
-        }
-        return (char[]) raw[idx];
-    }
-
-    @SuppressWarnings("UnusedAssignment")
-    private void decodeRLP(Object[] raw) {
-        int idx = 0;
-        mNonce = new BytesData((char[]) raw[idx++]);
-        mChainId = BlockchainID.valueOf(fixBigintSignedByte(fromRawRlp(idx++, raw)));
-        mDueBlock = fixBigintSignedByte(raw[idx++]);
-        mCoinId = fixBigintSignedByte(raw[idx++]);
-        mValue = fixBigintSignedByte(raw[idx++]);
-        mGasCoinId = fixBigintSignedByte(raw[idx++]);
-        mLock = new BytesData((char[]) raw[idx++]);
+    private void decodeRLP(RLPReader raw) {
+        mNonce = raw.readBytesData();
+        mChainId = BlockchainID.valueOf(raw.readBigInt());
+        mDueBlock = raw.readBigInt();
+        mCoinId = raw.readBigInt();
+        mValue = raw.readBigInt();
+        mGasCoinId = raw.readBigInt();
+        mLock = raw.readBytesData();
         mSignature = new SignatureSingleData();
 
         char[][] vrs = new char[3][];
-        vrs[0] = (char[]) raw[idx++];
-        vrs[1] = (char[]) raw[idx++];
-        vrs[2] = (char[]) raw[idx++];
+        vrs[0] = raw.readChars();
+        vrs[1] = raw.readChars();
+        vrs[2] = raw.readChars();
         mSignature.decodeRaw(vrs);
     }
 
-    private char[] encode(boolean forSigning) {
-        if (forSigning) {
-            return RLPBoxed.encode(new Object[]{
-                    mNonce,
-                    BigInteger.valueOf(mChainId.getId()),
-                    mDueBlock,
-                    mCoinId,
-                    mValue,
-                    mGasCoinId,
-            });
-        }
+    private byte[] encode(boolean forSigning) {
+        return encode(forSigning, true);
+    }
+
+    // issuer signs this data
+    private byte[] encodeWithLock() {
+        return encode(false, false);
+    }
 
-        final char[] lock = mLock.getData();
-        if (mSignature != null && mSignature.getV() != null && mSignature.getR() != null && mSignature.getS() != null) {
-            return RLPBoxed.encode(new Object[]{
-                    mNonce,
-                    BigInteger.valueOf(mChainId.getId()),
-                    mDueBlock,
-                    mCoinId,
-                    mValue,
-                    mGasCoinId,
-                    lock,
-                    mSignature.getV().getData(),
-                    mSignature.getR().getData(),
-                    mSignature.getS().getData(),
-            });
+    private byte[] encode(boolean forSigning, boolean withSignature) {
+        final RLPWriter writer = RLPWriter.obtain();
+        try {
+            writeFields(writer.startList());
+            if (forSigning) {
+                return writer.endList().toByteArray();
+            }
+
+            writer.writeBytesData(mLock);
+            if (withSignature && mSignature != null && mSignature.getV() != null && mSignature.getR() != null && mSignature.getS() != null) {
+                writer.writeBytesData(mSignature.getV())
+                        .writeBytesData(mSignature.getR())
+                        .writeBytesData(mSignature.getS());
+            }
+            return writer.endList().toByteArray();
+        } finally {
+            writer.recycle();
         }
+    }
 
-        return RLPBoxed.encode(new Object[]{
-                mNonce,
-                BigInteger.valueOf(mChainId.getId()),
-                mDueBlock,
-                mCoinId,
-                mValue,
-                mGasCoinId,
-                lock
-        });
+    private void writeFields(RLPWriter writer) {
+        writer.writeBytesData(mNonce)
+                .writeLong(mChainId.getId())
+                .writeBigInt(mDueBlock)
+                .writeBigInt(mCoinId)
+                .writeBigInt(mValue)
+                .writeBigInt(mGasCoinId);
     }
 
     public static final class Builder {
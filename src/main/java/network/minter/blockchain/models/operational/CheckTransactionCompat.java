@@ -97,13 +97,7 @@ public class CheckTransactionCompat {
         BytesData key = new BytesData(HashUtil.sha256(passphrase));
         BytesData encodedAddress = new BytesData(RLPBoxed.encode(new Object[]{address.getData()})).sha3Mutable();
 
-        NativeSecp256k1.RecoverableSignature signature;
-        long ctx = NativeSecp256k1.contextCreate();
-        try {
-            signature = NativeSecp256k1.signRecoverableSerialized(ctx, encodedAddress.getBytes(), key.getBytes());
-        } finally {
-            NativeSecp256k1.contextCleanup(ctx);
-        }
+        NativeSecp256k1.RecoverableSignature signature = Secp256k1ContextPool.getDefault().signRecoverable(encodedAddress.getBytes(), key.getBytes());
 
         signature.v[0] = signature.v[0] == 27 ? 0x0 : (byte) 0x01;
 
@@ -201,14 +195,7 @@ public class CheckTransactionCompat {
         BytesData hash = hashBytes.sha3Data();
         BytesData pk = new BytesData(mPassphrase.getBytes()).sha256Mutable();
 
-        NativeSecp256k1.RecoverableSignature lockSig;
-
-        long ctx = NativeSecp256k1.contextCreate();
-        try {
-            lockSig = NativeSecp256k1.signRecoverableSerialized(ctx, hash.getBytes(), pk.getBytes());
-        } finally {
-            NativeSecp256k1.contextCleanup(ctx);
-        }
+        NativeSecp256k1.RecoverableSignature lockSig = Secp256k1ContextPool.getDefault().signRecoverable(hash.getBytes(), pk.getBytes());
 
         lockSig.v[0] = lockSig.v[0] == 27 ? 0x0 : (byte) 0x01;
 
@@ -216,20 +203,12 @@ public class CheckTransactionCompat {
 
         BytesData withLock = new BytesData(encode(false)).sha3Mutable();
 
-        NativeSecp256k1.RecoverableSignature rsv;
-        long ctx2 = NativeSecp256k1.contextCreate();
-        try {
-            rsv = NativeSecp256k1.signRecoverableSerialized(ctx2, withLock.getBytes(), privateKey.getBytes());
-        } finally {
-            NativeSecp256k1.contextCleanup(ctx2);
-        }
+        NativeSecp256k1.RecoverableSignature rsv = Secp256k1ContextPool.getDefault().signRecoverable(withLock.getBytes(), privateKey.getBytes());
 
         mSignature = new SignatureSingleData();
         mSignature.setSign(rsv);
 
-        String signedCheck = new BytesData(encode(false)).toHexString(MinterSDK.PREFIX_CHECK);
-
-        return new TransactionSign(signedCheck);
+        return new TransactionSign(MinterSDK.PREFIX_CHECK, new BytesData(encode(false)).getBytes());
     }
 
     public BytesData getLock() {
@@ -33,14 +33,10 @@ import javax.annotation.Nonnull;
 
 import network.minter.core.MinterSDK;
 import network.minter.core.crypto.BytesData;
-import network.minter.core.util.DecodeResult;
-import network.minter.core.util.RLPBoxed;
 
 import static network.minter.core.internal.common.Preconditions.checkArgument;
 import static network.minter.core.internal.common.Preconditions.checkNotNull;
 import static network.minter.core.internal.common.Preconditions.firstNonNull;
-import static network.minter.core.internal.helpers.BytesHelper.charsToBytes;
-import static network.minter.core.internal.helpers.BytesHelper.fixBigintSignedByte;
 
 /**
  * minter-android-blockchain. 2019
@@ -62,7 +58,7 @@ public class ExternalTransaction {
         mGasPrice = transaction.mGasPrice;
         mGasCoinId = transaction.mGasCoinId;
         mType = transaction.mType;
-        mOperationData = transaction.mOperationData;
+        mOperationData = transaction.operationData();
         mPayload = transaction.mPayload;
     }
 
@@ -78,23 +74,15 @@ public class ExternalTransaction {
     public static ExternalTransaction fromEncoded(@Nonnull String hexEncoded) {
         checkNotNull(hexEncoded, "hexEncoded data can't be null");
         checkArgument(hexEncoded.length() > 0, "Encoded transaction is empty");
-        final BytesData bd = new BytesData(hexEncoded);
-        final DecodeResult rlp = RLPBoxed.decode(bd.getData(), 0);
-        final Object[] decoded = (Object[]) rlp.getDecoded();
+        final RLPReader rlp = RLPReader.fromList(new BytesData(hexEncoded).getBytes());
+        final int count = rlp.remaining();
 
-        if (decoded.length < 6) {
-            throw new InvalidEncodedTransactionException("Encoded transaction has invalid data length: expected 6, given %d", decoded.length);
+        if (count < 6) {
+            throw new InvalidEncodedTransactionException("Encoded transaction has invalid data length: expected 6, given %d", count);
         }
 
         ExternalTransaction transaction = new ExternalTransaction();
-        transaction.decodeRLP(decoded);
-
-        try {
-            transaction.mOperationData = transaction.mType.getOpClass().getDeclaredConstructor().newInstance();
-            transaction.mOperationData.decodeRLP(transaction.fromRawRlp(1, decoded));
-        } catch (Throwable e) {
-            throw new InvalidEncodedTransactionException("Unable to decode transaction data field", e);
-        }
+        transaction.decodeRLP(rlp);
 
         return transaction;
     }
@@ -113,24 +101,86 @@ public class ExternalTransaction {
      * @return char[] container. Use BytesData#toHexString() to get hex string
      */
     public BytesData encode() {
-        Object[] empty = new Object[0];
-        Object[] toEncode = new Object[6];
-        toEncode[0] = mOperationData.getType().getValue();
-        toEncode[1] = mOperationData.encodeRLP();
-        toEncode[2] = mPayload.getData();
-        if (mNonce == null) {
-            toEncode[3] = empty;
-        } else {
-            toEncode[3] = mNonce;
+        final RLPWriter writer = RLPWriter.obtain();
+        try {
+            encode(writer);
+            return new BytesData(writer.toByteArray());
+        } finally {
+            writer.recycle();
+        }
+    }
+
+    /**
+     * Size of {@link #encode()} result, to allocate exact buffer for {@link #encodeTo(byte[], int)}.
+     * Transaction is encoded to count bytes, so {@code encodedSize()} followed by {@code encodeTo()} encodes it twice.
+     * To encode once, pass buffer with enough space to {@code encodeTo()} and use returned length
+     * @return bytes count
+     */
+    public int encodedSize() {
+        final RLPWriter writer = RLPWriter.obtain();
+        try {
+            encode(writer);
+            return writer.size();
+        } finally {
+            writer.recycle();
+        }
+    }
+
+    /**
+     * Write encoded transaction into array: it's encoded into thread-local writer buffer and copied to destination once.
+     * Nothing is written if it doesn't fit
+     * @param dest target array, must have at least {@link #encodedSize()} bytes after offset
+     * @param offset target offset
+     * @return number of written bytes
+     */
+    public int encodeTo(@Nonnull byte[] dest, int offset) {
+        checkNotNull(dest, "Destination array can't be null");
+        final RLPWriter writer = RLPWriter.obtain();
+        try {
+            encode(writer);
+            return writer.writeTo(dest, offset);
+        } finally {
+            writer.recycle();
         }
-        toEncode[4] = firstNonNull(mGasPrice, new BigInteger("1"));
-        if (mGasCoinId == null) {
-            toEncode[5] = empty;
+    }
+
+    /**
+     * Write encoded transaction into buffer at its position: it's encoded into thread-local writer buffer and copied
+     * to destination once. Nothing is written if it doesn't fit
+     * @param dest target buffer, must have at least {@link #encodedSize()} remaining bytes
+     * @return number of written bytes
+     */
+    public int encodeTo(@Nonnull ByteBuffer dest) {
+        checkNotNull(dest, "Destination buffer can't be null");
+        final RLPWriter writer = RLPWriter.obtain();
+        try {
+            encode(writer);
+            return writer.writeTo(dest);
+        } finally {
+            writer.recycle();
+        }
+    }
+
+    private void encode(RLPWriter writer) {
+        writer.startList()
+                .writeBigInt(mOperationData.getType().getValue())
+                .startEmbedded();
+        mOperationData.encodeRLP(writer);
+        writer.endEmbedded()
+                .writeBytesData(mPayload);
+        writeOptional(writer, mNonce);
+        writer.writeBigInt(firstNonNull(mGasPrice, new BigInteger("1")));
+        writeOptional(writer, mGasCoinId);
+        writer.endList();
+    }
+
+    // not set value is encoded as empty list
+    private static void writeOptional(RLPWriter writer, BigInteger value) {
+        if (value == null) {
+            writer.startList().endList();
         } else {
-            toEncode[5] = mGasCoinId;
+            writer.writeBigInt(value);
         }
-        char[] res = RLPBoxed.encode(toEncode);
-        return new BytesData(res);
     }
 
     /**
@@ -216,27 +266,20 @@ public class ExternalTransaction {
         }
     }
 
-    char[] fromRawRlp(int idx, Object[] raw) {
-        if (raw[idx] instanceof String) {
-            return ((String) raw[idx]).toCharArray();
-        }
-        return (char[]) raw[idx];
-    }
+    void decodeRLP(RLPReader raw) {
+        mType = OperationType.findByValue(raw.readBigInt());
+        final RLPReader data = raw.readEmbeddedList();
+        mPayload = raw.readBytesData();
+        mNonce = raw.skipIfEmptyList() ? null : raw.readBigInt();
+        mGasPrice = raw.readBigInt();
+        mGasCoinId = raw.skipIfEmptyList() ? null : raw.readBigInt();
 
-    boolean isEmptyRlpElement(int idx, Object[] raw) {
-        if (raw[idx] instanceof char[]) {
-            char[] tmp = (char[]) raw[idx];
-            return tmp.length == 0;
+        try {
+            mOperationData = mType.newOperation(null);
+            mOperationData.readRLP(data);
+        } catch (Throwable e) {
+            throw new InvalidEncodedTransactionException("Unable to decode transaction data field", e);
         }
-        return false;
-    }
-
-    void decodeRLP(Object[] raw) {
-        mType = OperationType.findByValue(new BigInteger(charsToBytes(fromRawRlp(0, raw))));
-        mPayload = new BytesData(fromRawRlp(2, raw));
-        mNonce = isEmptyRlpElement(3, raw) ? null : fixBigintSignedByte(raw[3]);
-        mGasPrice = fixBigintSignedByte(raw[4]);
-        mGasCoinId = isEmptyRlpElement(5, raw) ? null : fixBigintSignedByte((raw[5]));
     }
 
     public static class Builder {
@@ -0,0 +1,348 @@
+/*
+ * Copyright (C) by MinterTeam. 2021
+ * @link <a href="https://github.com/MinterTeam">Org Github</a>
+ * @link <a href="https://github.com/edwardstock">Maintainer Github</a>
+ *
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package network.minter.blockchain.models.operational;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import network.minter.blockchain.models.operational.Transaction.SignatureType;
+import network.minter.core.crypto.BytesData;
+import network.minter.core.crypto.HashUtil;
+import network.minter.core.crypto.MinterAddress;
+import network.minter.core.crypto.PrivateKey;
+
+import static network.minter.blockchain.models.operational.Transaction.SignatureType.Multi;
+import static network.minter.blockchain.models.operational.Transaction.SignatureType.Single;
+import static network.minter.core.internal.common.Preconditions.checkArgument;
+import static network.minter.core.internal.common.Preconditions.checkNotNull;
+
+/**
+ * Immutable transaction without signature. Fields are encoded once, when transaction is frozen, and
+ * unsigned hashes and signed forms are derived from these bytes without changing the object.
+ * <p>
+ * Unlike {@link Transaction}, one instance can be hashed and signed concurrently by many threads
+ * with different keys, without copying:
+ * <pre>
+ * FrozenTransaction tx = new Transaction.Builder(nonce)
+ *     .setBlockchainId(BlockchainID.MainNet)
+ *     .sendCoin()
+ *     .setCoinId(DEFAULT_COIN_ID)
+ *     .setTo(address)
+ *     .setValue("1")
+ *     .buildFrozen();
+ *
+ * // on each signer
+ * SignatureSingleData signature = tx.signOnlyMulti(privateKey);
+ * // when all signatures are collected
+ * TransactionSign sign = tx.signMultiExternal(multisigAddress, signatures);
+ * </pre>
+ * Use {@link #toTransaction()} to get mutable copy.
+ * <p>
+ * minter-android-blockchain. 2021
+ *
+ * @author Eduard Maximovich (edward.vstock@gmail.com)
+ */
+public final class FrozenTransaction {
+    private final BigInteger mNonce;
+    private final BlockchainID mChainId;
+    private final BigInteger mGasPrice;
+    private final BigInteger mGasCoinId;
+    private final OperationType mType;
+    private final char[] mPayload;
+    private final char[] mServiceData;
+    // operation data rlp list
+    private final byte[] mData;
+    // encoded fields from nonce to service data, see Transaction#writeBody()
+    private final byte[] mBody;
+    private final byte[] mHashSingle;
+    private final byte[] mHashMulti;
+
+    /**
+     * @param transaction built transaction to take fields from. Later changes of transaction don't affect frozen one
+     */
+    FrozenTransaction(@Nonnull Transaction transaction) {
+        checkNotNull(transaction, "Transaction can't be null");
+        final Operation data = transaction.operationData();
+        checkArgument(data != null, "Transaction data must be set");
+        checkArgument(transaction.mNonce != null, "Transaction nonce must be set");
+        checkArgument(transaction.mChainId != null, "Transaction blockchain ID must be set");
+
+        mNonce = transaction.mNonce;
+        mChainId = transaction.mChainId;
+        mGasPrice = transaction.mGasPrice;
+        mGasCoinId = transaction.mGasCoinId;
+        mType = data.getType();
+        mPayload = copyOf(transaction.mPayload);
+        mServiceData = copyOf(transaction.mServiceData);
+
+        final RLPWriter writer = RLPWriter.obtain();
+        try {
+            data.encodeRLP(writer);
+            mData = writer.toByteArray();
+
+            mBody = Transaction.writeBody(writer.reset(), mNonce, mChainId, mGasPrice, mGasCoinId, mType, mData, mPayload, mServiceData)
+                    .toByteArray();
+        } finally {
+            writer.recycle();
+        }
+
+        mHashSingle = hash(Single);
+        mHashMulti = hash(Multi);
+    }
+
+    public BigInteger getNonce() {
+        return mNonce;
+    }
+
+    public BlockchainID getBlockchainId() {
+        return mChainId;
+    }
+
+    public BigInteger getGasPrice() {
+        return mGasPrice;
+    }
+
+    public BigInteger getGasCoinId() {
+        return mGasCoinId;
+    }
+
+    public OperationType getType() {
+        return mType;
+    }
+
+    /**
+     * @return copy of payload
+     */
+    public BytesData getPayload() {
+        return new BytesData(mPayload, true);
+    }
+
+    /**
+     * @return copy of service data
+     */
+    public BytesData getServiceData() {
+        return new BytesData(mServiceData, true);
+    }
+
+    /**
+     * Decode operation data. Each call returns new object, so changing it doesn't affect this transaction
+     * @param <OpType> operation type
+     * @return new operation data object
+     */
+    @SuppressWarnings("unchecked")
+    public <OpType extends Operation> OpType getData() {
+        final Operation operation = mType.newOperation(null);
+        operation.readRLP(RLPReader.fromList(mData));
+        return (OpType) operation;
+    }
+
+    /**
+     * @return 32 byte hash to sign with single signature
+     */
+    public BytesData getUnsignedTxHash() {
+        return getUnsignedTxHash(Single);
+    }
+
+    /**
+     * @param signatureType single or multi signature
+     * @return 32 byte hash to sign
+     */
+    public BytesData getUnsignedTxHash(@Nonnull SignatureType signatureType) {
+        return new BytesData(unsignedHash(signatureType).clone());
+    }
+
+    /**
+     * Encoded transaction without signature
+     * @param signatureType single or multi signature
+     * @return rlp bytes, caller can modify them
+     */
+    public byte[] getUnsignedBytes(@Nonnull SignatureType signatureType) {
+        checkNotNull(signatureType, "Signature type can't be null");
+        return Transaction.encodeUnsigned(mBody, signatureType);
+    }
+
+    /**
+     * Sign transaction with single private key
+     * @param privateKey private key data
+     * @return signed transaction or null if it can't be signed with given key
+     */
+    @Nullable
+    public TransactionSign signSingle(@Nonnull PrivateKey privateKey) {
+        checkNotNull(privateKey, "Private key can't be null");
+        final RLPWriter writer = RLPWriter.obtain();
+        try {
+            return Transaction.signEncodedSingle(writer, Transaction.encodeUnsigned(mBody, Single), privateKey);
+        } finally {
+            writer.recycle();
+        }
+    }
+
+    /**
+     * Create single signature without building signed transaction
+     * @param privateKey private key
+     * @return valid signature or null if data is invalid
+     */
+    @Nullable
+    public SignatureSingleData signOnlySingle(@Nonnull PrivateKey privateKey) {
+        checkNotNull(privateKey, "Private key can't be null");
+        return Transaction.signOnly(mHashSingle, privateKey);
+    }
+
+    /**
+     * Create one of multisig signatures. Can be called concurrently by each signer
+     * @param privateKey private key
+     * @return valid signature or null if data is invalid
+     */
+    @Nullable
+    public SignatureSingleData signOnlyMulti(@Nonnull PrivateKey privateKey) {
+        checkNotNull(privateKey, "Private key can't be null");
+        return Transaction.signOnly(mHashMulti, privateKey);
+    }
+
+    public TransactionSign signMulti(MinterAddress signatureAddress, PrivateKey... privateKeys) {
+        return signMulti(signatureAddress, Arrays.asList(privateKeys));
+    }
+
+    /**
+     * Sign multi signature transaction data with private keys
+     * @param signatureAddress multisig address
+     * @param privateKeys private key list to sign with
+     * @return signed transaction
+     */
+    public TransactionSign signMulti(MinterAddress signatureAddress, @Nonnull List<PrivateKey> privateKeys) {
+        return signMulti(signatureAddress, privateKeys, BatchExecutor.getDefault());
+    }
+
+    /**
+     * Sign multi signature transaction data with private keys. If there are many keys, signatures are computed
+     * in parallel on given executor
+     * @param signatureAddress multisig address
+     * @param privateKeys private key list to sign with
+     * @param executor executor to compute signatures on
+     * @return signed transaction
+     */
+    public TransactionSign signMulti(MinterAddress signatureAddress, @Nonnull List<PrivateKey> privateKeys, @Nonnull ExecutorService executor) {
+        checkArgument(privateKeys.size() > 0, "Private keys can't be empty");
+        final List<SignatureSingleData> signatures = Transaction.signHash(mHashMulti, privateKeys, executor);
+        return signMultiExternal(new SignatureMultiData(signatureAddress, signatures));
+    }
+
+    /**
+     * Build signed transaction with signature created outside
+     * @param signature single signature
+     * @return valid transaction ready to send
+     */
+    public TransactionSign signExternal(@Nonnull SignatureSingleData signature) {
+        checkNotNull(signature, "Signature can't be null");
+        return encodeSigned(Single, signature);
+    }
+
+    /**
+     * Build signed transaction with multisig signatures created outside
+     * @param signatureAddress multisig address
+     * @param signatures multisig signatures
+     * @return valid transaction ready to send
+     */
+    public TransactionSign signMultiExternal(@Nonnull MinterAddress signatureAddress, @Nonnull List<SignatureSingleData> signatures) {
+        return signMultiExternal(new SignatureMultiData(signatureAddress, signatures));
+    }
+
+    /**
+     * Build signed transaction with merged multisig signatures, see {@link SignatureMultiData#merge(MinterAddress, java.util.Collection)}
+     * @param signatureData multisig address and signatures
+     * @return valid transaction ready to send
+     */
+    public TransactionSign signMultiExternal(@Nonnull SignatureMultiData signatureData) {
+        checkNotNull(signatureData, "Signature data can't be null");
+        return encodeSigned(Multi, signatureData);
+    }
+
+    /**
+     * Mutable copy of this transaction, without signature
+     * @return new transaction
+     */
+    public Transaction toTransaction() {
+        final Transaction transaction = new Transaction(mNonce);
+        transaction.mChainId = mChainId;
+        transaction.mGasPrice = mGasPrice;
+        transaction.mGasCoinId = mGasCoinId;
+        transaction.mPayload = getPayload();
+        transaction.mServiceData = getServiceData();
+        final Operation operation = mType.newOperation(transaction);
+        operation.readRLP(RLPReader.fromList(mData));
+        transaction.setData(operation);
+        return transaction;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof FrozenTransaction)) {
+            return false;
+        }
+        return Arrays.equals(mBody, ((FrozenTransaction) o).mBody);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(mBody);
+    }
+
+    private byte[] unsignedHash(SignatureType signatureType) {
+        checkNotNull(signatureType, "Signature type can't be null");
+        return signatureType == Multi ? mHashMulti : mHashSingle;
+    }
+
+    private byte[] hash(SignatureType signatureType) {
+        return HashUtil.sha3(Transaction.encodeUnsigned(mBody, signatureType));
+    }
+
+    private TransactionSign encodeSigned(SignatureType signatureType, SignatureData signatureData) {
+        final RLPWriter writer = RLPWriter.obtain();
+        try {
+            Transaction.encode(writer, mBody, signatureType, signatureData);
+            return new TransactionSign(writer.toByteArray());
+        } finally {
+            writer.recycle();
+        }
+    }
+
+    private static char[] copyOf(BytesData data) {
+        if (data == null) {
+            return new char[0];
+        }
+        final char[] chars = data.getData();
+        return Arrays.copyOf(chars, chars.length);
+    }
+}
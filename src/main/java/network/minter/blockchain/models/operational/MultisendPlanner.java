@@ -0,0 +1,310 @@
+/*
+ * Copyright (C) by MinterTeam. 2021
+ * @link <a href="https://github.com/MinterTeam">Org Github</a>
+ * @link <a href="https://github.com/edwardstock">Maintainer Github</a>
+ *
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package network.minter.blockchain.models.operational;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+
+import javax.annotation.Nonnull;
+
+import network.minter.core.MinterSDK;
+import network.minter.core.crypto.BytesData;
+import network.minter.core.crypto.MinterAddress;
+import network.minter.core.crypto.PrivateKey;
+
+import static network.minter.core.internal.common.Preconditions.checkArgument;
+import static network.minter.core.internal.common.Preconditions.checkNotNull;
+
+/**
+ * Plans mass payouts with {@link TxMultisend} transactions.
+ * <p>
+ * Payments to the same recipient in the same coin are summed up, then recipients are split into
+ * the smallest possible number of multisend transactions (up to {@link #MAX_ITEMS} items each, sizes differ at most by one item).
+ * Multisend commission is 10+(n-1)*5 units, so each extra transaction costs 5 units: fewer transactions means lower total fee.
+ * Transactions get consecutive nonces and can be signed in parallel.
+ * <pre>
+ * MultisendPlanner planner = new MultisendPlanner()
+ *     .setBlockchainId(BlockchainID.MainNet);
+ * for (Row row : rows) {
+ *     planner.add(row.coinId, row.address, row.amount);
+ * }
+ * TransactionBatchSigner.Result result = planner.sign(nonce, privateKey);
+ * </pre>
+ * Planner is not thread-safe.
+ * <p>
+ * minter-android-blockchain. 2021
+ *
+ * @author Eduard Maximovich (edward.vstock@gmail.com)
+ */
+public final class MultisendPlanner {
+    /**
+     * Max recipients count in one multisend transaction allowed by blockchain
+     */
+    public final static int MAX_ITEMS = 100;
+    private final static int FEE_FIRST_ITEM_UNITS = 10;
+    private final static int FEE_NEXT_ITEM_UNITS = 5;
+
+    private final ExecutorService mExecutor;
+    // insertion ordered, so plan is reproducible for the same input
+    private final Map<Recipient, Recipient> mRecipients = new LinkedHashMap<>();
+    private int mMaxItems = MAX_ITEMS;
+    private BlockchainID mChainId;
+    private BigInteger mGasCoinId = MinterSDK.DEFAULT_COIN_ID;
+    private BigInteger mGasPrice = BigInteger.ONE;
+    private BytesData mPayload;
+
+    /**
+     * Create planner that signs transactions on shared executor with threads count equals to available processors
+     */
+    public MultisendPlanner() {
+        this(BatchExecutor.getDefault());
+    }
+
+    /**
+     * @param executor custom executor for signing
+     */
+    public MultisendPlanner(@Nonnull ExecutorService executor) {
+        mExecutor = checkNotNull(executor, "Executor can't be null");
+    }
+
+    /**
+     * Multisend commission in base coin units (without gas price multiplier)
+     * @param itemsCount recipients count in transaction
+     * @return commission
+     */
+    public static BigDecimal getFee(int itemsCount) {
+        checkArgument(itemsCount > 0, "Items count must be positive");
+        final long units = FEE_FIRST_ITEM_UNITS + (long) (itemsCount - 1) * FEE_NEXT_ITEM_UNITS;
+        return OperationType.FEE_BASE.multiply(new BigDecimal(units));
+    }
+
+    /**
+     * Limit recipients count per transaction, for example to keep transactions small
+     * @param maxItems from 1 to {@link #MAX_ITEMS}
+     * @return self
+     */
+    public MultisendPlanner setMaxItems(int maxItems) {
+        checkArgument(maxItems > 0 && maxItems <= MAX_ITEMS, "Max items must be in range [1, %d]", MAX_ITEMS);
+        mMaxItems = maxItems;
+        return this;
+    }
+
+    public MultisendPlanner setBlockchainId(BlockchainID id) {
+        mChainId = id;
+        return this;
+    }
+
+    public MultisendPlanner setGasCoinId(@Nonnull BigInteger coinId) {
+        mGasCoinId = checkNotNull(coinId, "Gas coin can't be null");
+        return this;
+    }
+
+    public MultisendPlanner setGasPrice(@Nonnull BigInteger gasPrice) {
+        mGasPrice = checkNotNull(gasPrice, "Gas price can't be null");
+        return this;
+    }
+
+    /**
+     * Payload for every planned transaction
+     * @param payload max size: 10000 bytes
+     * @return self
+     */
+    public MultisendPlanner setPayload(byte[] payload) {
+        mPayload = payload == null ? null : new BytesData(payload, true);
+        return this;
+    }
+
+    /**
+     * Add payment. Payments with the same coin and recipient are summed up
+     * @param coinId coin to send
+     * @param recipient recipient address
+     * @param value positive amount in pips (value * 10^18)
+     * @return self
+     */
+    public MultisendPlanner add(@Nonnull BigInteger coinId, @Nonnull MinterAddress recipient, @Nonnull BigInteger value) {
+        checkNotNull(coinId, "Coin id can't be null");
+        checkNotNull(recipient, "Recipient can't be null");
+        checkNotNull(value, "Value can't be null");
+        checkArgument(value.signum() > 0, "Value must be positive");
+
+        final Recipient key = new Recipient(coinId, recipient);
+        final Recipient existing = mRecipients.get(key);
+        if (existing == null) {
+            key.value = value;
+            mRecipients.put(key, key);
+        } else {
+            existing.value = existing.value.add(value);
+        }
+        return this;
+    }
+
+    /**
+     * Add payment. Payments with the same coin and recipient are summed up
+     * @param coinId coin to send
+     * @param recipient recipient address
+     * @param value positive amount with scale up to 18
+     * @return self
+     */
+    public MultisendPlanner add(@Nonnull BigInteger coinId, @Nonnull MinterAddress recipient, @Nonnull BigDecimal value) {
+        checkNotNull(value, "Value can't be null");
+        return add(coinId, recipient, Transaction.normalizeValue(value));
+    }
+
+    /**
+     * Add payment. Payments with the same coin and recipient are summed up
+     * @param coinId coin to send
+     * @param recipient recipient address
+     * @param value positive amount
+     * @return self
+     */
+    public MultisendPlanner add(@Nonnull BigInteger coinId, @Nonnull MinterAddress recipient, @Nonnull PipAmount value) {
+        checkNotNull(value, "Value can't be null");
+        return add(coinId, recipient, value.toPips());
+    }
+
+    /**
+     * @return unique (coin, recipient) pairs count
+     */
+    public int getItemsCount() {
+        return mRecipients.size();
+    }
+
+    /**
+     * @return number of transactions in plan
+     */
+    public int getTransactionsCount() {
+        return (mRecipients.size() + mMaxItems - 1) / mMaxItems;
+    }
+
+    /**
+     * Total commission of all planned transactions in gas coin units (multiplied by gas price)
+     * @return total commission, zero if nothing is added
+     */
+    public BigDecimal getTotalFee() {
+        final int txCount = getTransactionsCount();
+        if (txCount == 0) {
+            return BigDecimal.ZERO;
+        }
+        // each transaction: 5 units overhead + 5 units per item
+        final long units = (long) FEE_NEXT_ITEM_UNITS * (mRecipients.size() + txCount);
+        return OperationType.FEE_BASE.multiply(new BigDecimal(units)).multiply(new BigDecimal(mGasPrice));
+    }
+
+    /**
+     * Remove all added payments
+     */
+    public void clear() {
+        mRecipients.clear();
+    }
+
+    /**
+     * Build planned transactions
+     * @param firstNonce nonce of the first transaction, next transactions get nonce + 1, nonce + 2, ...
+     * @return unsigned transactions
+     * @throws OperationInvalidDataException if transaction data is invalid
+     */
+    public List<Transaction> build(@Nonnull BigInteger firstNonce) throws OperationInvalidDataException {
+        checkNotNull(firstNonce, "Nonce can't be null");
+        final int txCount = getTransactionsCount();
+        final List<Transaction> out = new ArrayList<>(txCount);
+        if (txCount == 0) {
+            return out;
+        }
+
+        // spread items evenly: first (size % txCount) transactions get one extra item
+        final int base = mRecipients.size() / txCount;
+        final int extra = mRecipients.size() % txCount;
+        final Iterator<Recipient> it = mRecipients.keySet().iterator();
+        BigInteger nonce = firstNonce;
+        for (int i = 0; i < txCount; i++) {
+            final Transaction.Builder builder = new Transaction.Builder(nonce)
+                    .setGasCoinId(mGasCoinId)
+                    .setGasPrice(mGasPrice)
+                    .setPayload(mPayload);
+            if (mChainId != null) {
+                builder.setBlockchainId(mChainId);
+            }
+
+            final TxMultisend multisend = builder.multiSend();
+            final int size = base + (i < extra ? 1 : 0);
+            for (int j = 0; j < size; j++) {
+                final Recipient r = it.next();
+                multisend.addItem(r.coinId, r.address, r.value);
+            }
+            out.add(multisend.build());
+            nonce = nonce.add(BigInteger.ONE);
+        }
+        return out;
+    }
+
+    /**
+     * Build planned transactions and sign them in parallel
+     * @param firstNonce nonce of the first transaction
+     * @param privateKey sender private key
+     * @return signed transactions in nonce order
+     * @throws OperationInvalidDataException if transaction data is invalid
+     */
+    public TransactionBatchSigner.Result sign(@Nonnull BigInteger firstNonce, @Nonnull PrivateKey privateKey) throws OperationInvalidDataException {
+        checkNotNull(privateKey, "Private key can't be null");
+        return new TransactionBatchSigner(mExecutor).signSingle(build(firstNonce), privateKey);
+    }
+
+    private static final class Recipient {
+        final BigInteger coinId;
+        final MinterAddress address;
+        final char[] addressData;
+        final int hash;
+        BigInteger value;
+
+        Recipient(BigInteger coinId, MinterAddress address) {
+            this.coinId = coinId;
+            this.address = address;
+            addressData = address.getData();
+            hash = 31 * coinId.hashCode() + Arrays.hashCode(addressData);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Recipient)) return false;
+            final Recipient other = (Recipient) o;
+            return hash == other.hash && coinId.equals(other.coinId) && Arrays.equals(addressData, other.addressData);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -77,8 +77,26 @@ public abstract class Operation extends RLPSerializable {
         return tx;
     }
 
+    /**
+     * Same as {@link #build()}, but returns immutable transaction
+     * @return frozen transaction, see {@link Transaction#freeze()}
+     * @throws OperationInvalidDataException if operation or transaction data is invalid
+     */
+    public FrozenTransaction buildFrozen() throws OperationInvalidDataException {
+        return build().freeze();
+    }
+
     public abstract OperationType getType();
 
+    /**
+     * Clear fields to reuse this object with the same pooled transaction
+     * @return true if object is cleared and can be reused, false if it doesn't support reuse
+     * @see TransactionPool
+     */
+    boolean reset() {
+        return false;
+    }
+
     @Nullable
     protected abstract FieldsValidationResult validate();
 
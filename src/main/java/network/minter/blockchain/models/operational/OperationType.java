@@ -30,6 +30,8 @@ import com.google.gson.annotations.SerializedName;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.HashMap;
+import java.util.Map;
 
 import javax.annotation.Nullable;
 
@@ -40,111 +42,152 @@ import javax.annotation.Nullable;
 public enum OperationType {
 
     @SerializedName("1")
-    SendCoin((byte) 0x01, TxSendCoin.class, 10d),
+    SendCoin((byte) 0x01, TxSendCoin.class, TxSendCoin::new, 10d),
     @SerializedName("2")
-    SellCoin((byte) 0x02, TxCoinSell.class, 100d),
+    SellCoin((byte) 0x02, TxCoinSell.class, TxCoinSell::new, 100d),
     @SerializedName("3")
-    SellAllCoins((byte) 0x03, TxCoinSellAll.class, 100d),
+    SellAllCoins((byte) 0x03, TxCoinSellAll.class, TxCoinSellAll::new, 100d),
     @SerializedName("4")
-    BuyCoin((byte) 0x04, TxCoinBuy.class, 100d),
+    BuyCoin((byte) 0x04, TxCoinBuy.class, TxCoinBuy::new, 100d),
     @SerializedName("5")
-    CreateCoin((byte) 0x05, TxCoinCreate.class, 0d),
+    CreateCoin((byte) 0x05, TxCoinCreate.class, TxCoinCreate::new, 0d),
     @SerializedName("6")
-    DeclareCandidacy((byte) 0x06, TxDeclareCandidacy.class, 10_000d),
+    DeclareCandidacy((byte) 0x06, TxDeclareCandidacy.class, TxDeclareCandidacy::new, 10_000d),
     @SerializedName("7")
-    Delegate((byte) 0x07, TxDelegate.class, 200d),
+    Delegate((byte) 0x07, TxDelegate.class, TxDelegate::new, 200d),
     @SerializedName("8")
-    Unbound((byte) 0x08, TxUnbound.class, 200d),
+    Unbound((byte) 0x08, TxUnbound.class, TxUnbound::new, 200d),
     @SerializedName("9")
-    RedeemCheck((byte) 0x09, TxRedeemCheck.class, 30d),
+    RedeemCheck((byte) 0x09, TxRedeemCheck.class, TxRedeemCheck::new, 30d),
     @SerializedName("10")
-    SetCandidateOnline((byte) 0x0A, TxSetCandidateOnline.class, 100d),
+    SetCandidateOnline((byte) 0x0A, TxSetCandidateOnline.class, TxSetCandidateOnline::new, 100d),
     @SerializedName("11")
-    SetCandidateOffline((byte) 0x0B, TxSetCandidateOffline.class, 100d),
+    SetCandidateOffline((byte) 0x0B, TxSetCandidateOffline.class, TxSetCandidateOffline::new, 100d),
     @SerializedName("12")
-    CreateMultisigAddress((byte) 0x0C, TxCreateMultisigAddress.class, 100d),
+    CreateMultisigAddress((byte) 0x0C, TxCreateMultisigAddress.class, TxCreateMultisigAddress::new, 100d),
     @SerializedName("13")
-    Multisend((byte) 0x0D, TxMultisend.class, /*commission: 10+(n-1)*5 units*/ 0d),
+    Multisend((byte) 0x0D, TxMultisend.class, TxMultisend::new, /*commission: 10+(n-1)*5 units*/ 0d),
     @SerializedName("14")
-    EditCandidate((byte) 0x0E, TxEditCandidate.class, 10_000d),
+    EditCandidate((byte) 0x0E, TxEditCandidate.class, TxEditCandidate::new, 10_000d),
 
     // @since minter 1.2
     @SerializedName("15")
-    SetHaltBlock((byte) 0x0F, TxSetHaltBlock.class, 1_000d),
+    SetHaltBlock((byte) 0x0F, TxSetHaltBlock.class, TxSetHaltBlock::new, 1_000d),
     @SerializedName("16")
-    RecreateCoin((byte) 0x10, TxCoinRecreate.class, 10_000_000d),
+    RecreateCoin((byte) 0x10, TxCoinRecreate.class, TxCoinRecreate::new, 10_000_000d),
     @SerializedName("17")
-    EditCoinOwner((byte) 0x11, TxEditCoinOwner.class, 10_000_000d),
+    EditCoinOwner((byte) 0x11, TxEditCoinOwner.class, TxEditCoinOwner::new, 10_000_000d),
     @SerializedName("18")
-    EditMultisig((byte) 0x12, TxEditMultisig.class, 1000d),
+    EditMultisig((byte) 0x12, TxEditMultisig.class, TxEditMultisig::new, 1000d),
     @SerializedName("19")
-    PriceVote((byte) 0x13, TxPriceVote.class, 10d),
+    PriceVote((byte) 0x13, TxPriceVote.class, TxPriceVote::new, 10d),
     @SerializedName("20")
-    EditCandidatePublicKey((byte) 0x14, TxEditCandidatePublicKey.class, 100_000_000d),
+    EditCandidatePublicKey((byte) 0x14, TxEditCandidatePublicKey.class, TxEditCandidatePublicKey::new, 100_000_000d),
 
 
     // @since minter 2.0
     @SerializedName("21")
-    AddLiquidity((byte) 0x15, TxAddLiquidity.class, 100d),
+    AddLiquidity((byte) 0x15, TxAddLiquidity.class, TxAddLiquidity::new, 100d),
     @SerializedName("22")
-    RemoveLiquidity((byte) 0x16, TxRemoveLiquidity.class, 100d),
+    RemoveLiquidity((byte) 0x16, TxRemoveLiquidity.class, TxRemoveLiquidity::new, 100d),
     @SerializedName("23")
-    SellSwapPool((byte) 0x17, TxSwapPoolSell.class, 100d),
+    SellSwapPool((byte) 0x17, TxSwapPoolSell.class, TxSwapPoolSell::new, 100d),
     @SerializedName("24")
-    BuySwapPool((byte) 0x18, TxSwapPoolBuy.class, 100d),
+    BuySwapPool((byte) 0x18, TxSwapPoolBuy.class, TxSwapPoolBuy::new, 100d),
     @SerializedName("25")
-    SellAllSwapPool((byte) 0x19, TxSwapPoolSellAll.class, 100d),
+    SellAllSwapPool((byte) 0x19, TxSwapPoolSellAll.class, TxSwapPoolSellAll::new, 100d),
     @SerializedName("26")
-    EditCandidateCommission((byte) 0x1A, TxEditCandidateCommission.class, 10_000d),
+    EditCandidateCommission((byte) 0x1A, TxEditCandidateCommission.class, TxEditCandidateCommission::new, 10_000d),
     @SerializedName("27")
-    MoveStake((byte) 0x1B, TxMoveStake.class, 200d),
+    MoveStake((byte) 0x1B, TxMoveStake.class, TxMoveStake::new, 200d),
     @SerializedName("28")
-    MintToken((byte) 0x1C, TxTokenMint.class, 100d),
+    MintToken((byte) 0x1C, TxTokenMint.class, TxTokenMint::new, 100d),
     @SerializedName("29")
-    BurnToken((byte) 0x1D, TxTokenBurn.class, 100d),
+    BurnToken((byte) 0x1D, TxTokenBurn.class, TxTokenBurn::new, 100d),
     @SerializedName("30")
-    CreateToken((byte) 0x1E, TxTokenCreate.class, 0),
+    CreateToken((byte) 0x1E, TxTokenCreate.class, TxTokenCreate::new, 0),
     @SerializedName("31")
-    RecreateToken((byte) 0x1F, TxTokenRecreate.class, 10_000_000d),
+    RecreateToken((byte) 0x1F, TxTokenRecreate.class, TxTokenRecreate::new, 10_000_000d),
     @SerializedName("32")
-    VoteCommission((byte) 0x20, TxVoteCommission.class, 1_000d),
+    VoteCommission((byte) 0x20, TxVoteCommission.class, TxVoteCommission::new, 1_000d),
     @SerializedName("33")
-    VoteUpdate((byte) 0x21, TxVoteUpdate.class, 1_000d),
+    VoteUpdate((byte) 0x21, TxVoteUpdate.class, TxVoteUpdate::new, 1_000d),
     @SerializedName("34")
-    CreateSwapPool((byte) 0x22, TxSwapPoolCreate.class, 1_000d);
+    CreateSwapPool((byte) 0x22, TxSwapPoolCreate.class, TxSwapPoolCreate::new, 1_000d);
 
     private final static String FEE_BASE_STRING = "0.100";
     public final static BigDecimal FEE_BASE = new BigDecimal(FEE_BASE_STRING);
 
+    // type byte -> type, filled once on class init
+    private final static OperationType[] sByValue;
+    private final static Map<Class<? extends Operation>, OperationType> sByClass;
+
+    static {
+        int max = 0;
+        for (OperationType t : values()) {
+            max = Math.max(max, t.mValueInt);
+        }
+        sByValue = new OperationType[max + 1];
+        sByClass = new HashMap<>(values().length * 2);
+        for (OperationType t : values()) {
+            sByValue[t.mValueInt] = t;
+            sByClass.put(t.mOpClass, t);
+        }
+    }
+
     final BigInteger mValue;
+    final int mValueInt;
     Class<? extends Operation> mOpClass;
     BigDecimal mFee;
+    private final Factory mFactory;
+
+    /**
+     * Creates operation instance without reflection
+     */
+    interface Factory {
+        /**
+         * @param rawTx transaction to build operation with, or null for detached operation (same as no-args constructor)
+         * @return new empty operation
+         */
+        Operation create(@Nullable Transaction rawTx);
+    }
 
-    OperationType(byte value, Class<? extends Operation> opClass, double feePips) {
+    OperationType(byte value, Class<? extends Operation> opClass, Factory factory, double feePips) {
         mValue = new BigInteger(String.valueOf(value));
+        mValueInt = value;
         mOpClass = opClass;
+        mFactory = factory;
         mFee = getFeeBase().multiply(new BigDecimal(String.valueOf(feePips)));
     }
 
     @Nullable
     public static OperationType findByValue(BigInteger type) {
-        for (OperationType t : values()) {
-            if (t.mValue.equals(type)) {
-                return t;
-            }
+        if (type == null || type.signum() < 0 || type.bitLength() > 31) {
+            return null;
         }
-        return null;
+        return findByValue(type.intValue());
     }
 
     @Nullable
-    public static OperationType findByOpClass(Class<? extends Operation> opClass) {
-        for (OperationType t : values()) {
-            if (t.getOpClass().equals(opClass)) {
-                return t;
-            }
+    public static OperationType findByValue(int type) {
+        if (type < 0 || type >= sByValue.length) {
+            return null;
         }
+        return sByValue[type];
+    }
+
+    @Nullable
+    public static OperationType findByOpClass(Class<? extends Operation> opClass) {
+        return sByClass.get(opClass);
+    }
 
-        return null;
+    /**
+     * Create empty operation of this type
+     * @param rawTx transaction to build operation with, or null for detached operation
+     * @return new operation instance
+     */
+    Operation newOperation(@Nullable Transaction rawTx) {
+        return mFactory.create(rawTx);
     }
 
     public BigDecimal getFeeBase() {
@@ -164,6 +207,6 @@ public enum OperationType {
     }
 
     public int getValueInt() {
-        return mValue.intValue();
+        return mValueInt;
     }
 }
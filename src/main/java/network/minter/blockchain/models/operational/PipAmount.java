@@ -0,0 +1,344 @@
+/*
+ * Copyright (C) by MinterTeam. 2021
+ * @link <a href="https://github.com/MinterTeam">Org Github</a>
+ * @link <a href="https://github.com/edwardstock">Maintainer Github</a>
+ *
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package network.minter.blockchain.models.operational;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import javax.annotation.Nonnull;
+
+import static network.minter.core.internal.common.Preconditions.checkNotNull;
+
+/**
+ * Exact fixed-point amount with 18 decimals (1 coin = 10^18 pips), for code that parses, sums and formats
+ * many amounts and don't want to allocate {@link BigDecimal} for each operation.
+ * <p>
+ * Value is kept in two longs: whole coins and fraction in pips (0 &lt;= fraction &lt; 10^18), so it holds
+ * any amount up to ~9.2*10^18 coins. Parsing, formatting, comparison, addition and subtraction work on longs only,
+ * {@link BigInteger} is created only by {@link #toPips()} for amounts bigger than 8 coins.
+ * Operations that overflow throw {@link ArithmeticException}.
+ * <pre>
+ * PipAmount total = PipAmount.ZERO;
+ * for (String value : values) {
+ *     total = total.add(PipAmount.parse(value));
+ * }
+ * tx.sendCoin().setValue(total);
+ * </pre>
+ * Instances are immutable.
+ * <p>
+ * minter-android-blockchain. 2021
+ *
+ * @author Eduard Maximovich (edward.vstock@gmail.com)
+ */
+public final class PipAmount implements Comparable<PipAmount> {
+    public final static int DECIMALS = 18;
+    public final static PipAmount ZERO = new PipAmount(0, 0);
+    public final static PipAmount ONE = new PipAmount(1, 0);
+    private final static long PIPS_IN_COIN = 1000000000000000000L;
+    private final static BigInteger PIPS_IN_COIN_BIG = BigInteger.valueOf(PIPS_IN_COIN);
+    private final static long HALF_COIN_DIGITS = 1000000000L;
+    private final static long[] POW10 = new long[DECIMALS + 1];
+
+    static {
+        POW10[0] = 1;
+        for (int i = 1; i < POW10.length; i++) {
+            POW10[i] = POW10[i - 1] * 10;
+        }
+    }
+
+    // value = mWhole + mFrac / 10^18
+    private final long mWhole;
+    private final long mFrac;
+
+    private PipAmount(long whole, long frac) {
+        mWhole = whole;
+        mFrac = frac;
+    }
+
+    /**
+     * @param coins whole coins
+     * @return amount
+     */
+    public static PipAmount ofCoins(long coins) {
+        return coins == 0 ? ZERO : new PipAmount(coins, 0);
+    }
+
+    /**
+     * @param pips value in pips (10^-18 of coin)
+     * @return amount
+     */
+    public static PipAmount ofPips(long pips) {
+        long whole = pips / PIPS_IN_COIN;
+        long frac = pips % PIPS_IN_COIN;
+        if (frac < 0) {
+            frac += PIPS_IN_COIN;
+            whole--;
+        }
+        return new PipAmount(whole, frac);
+    }
+
+    /**
+     * @param pips value in pips (10^-18 of coin), as in transactions and api responses
+     * @return amount
+     * @throws ArithmeticException if value is too big
+     */
+    public static PipAmount ofPips(@Nonnull BigInteger pips) {
+        checkNotNull(pips, "Value can't be null");
+        if (pips.bitLength() < 64) {
+            return ofPips(pips.longValue());
+        }
+        final BigInteger[] parts = pips.divideAndRemainder(PIPS_IN_COIN_BIG);
+        BigInteger whole = parts[0];
+        long frac = parts[1].longValue();
+        if (frac < 0) {
+            frac += PIPS_IN_COIN;
+            whole = whole.subtract(BigInteger.ONE);
+        }
+        if (whole.bitLength() >= 64) {
+            throw new ArithmeticException("Amount is out of range: " + pips);
+        }
+        return new PipAmount(whole.longValue(), frac);
+    }
+
+    /**
+     * Convert decimal coins value. Digits after 18th decimal are dropped, as {@link Transaction#normalizeValue(BigDecimal)} does
+     * @param coins decimal value
+     * @return amount
+     * @throws ArithmeticException if value is too big
+     */
+    public static PipAmount of(@Nonnull BigDecimal coins) {
+        checkNotNull(coins, "Value can't be null");
+        return ofPips(coins.movePointRight(DECIMALS).toBigInteger());
+    }
+
+    /**
+     * Parse plain decimal string, like "-12.345". Digits after 18th decimal are dropped.
+     * @param value decimal string without exponent
+     * @return amount
+     * @throws NumberFormatException if string is not a plain decimal number or it's too big
+     */
+    public static PipAmount parse(@Nonnull CharSequence value) {
+        checkNotNull(value, "Value can't be null");
+        final int length = value.length();
+        int i = 0;
+        boolean negative = false;
+        if (length > 0 && (value.charAt(0) == '-' || value.charAt(0) == '+')) {
+            negative = value.charAt(0) == '-';
+            i++;
+        }
+
+        boolean hasDigits = false;
+        long whole = 0;
+        for (; i < length && value.charAt(i) != '.'; i++) {
+            final int digit = digit(value, i);
+            if (whole > (Long.MAX_VALUE - digit) / 10) {
+                throw new NumberFormatException("Amount is out of range: " + value);
+            }
+            whole = whole * 10 + digit;
+            hasDigits = true;
+        }
+
+        long frac = 0;
+        int fracDigits = 0;
+        // skip dot
+        for (i++; i < length; i++) {
+            final int digit = digit(value, i);
+            if (fracDigits < DECIMALS) {
+                frac = frac * 10 + digit;
+                fracDigits++;
+            }
+            hasDigits = true;
+        }
+
+        if (!hasDigits) {
+            throw new NumberFormatException("Invalid amount: \"" + value + "\"");
+        }
+
+        final PipAmount amount = new PipAmount(whole, frac * POW10[DECIMALS - fracDigits]);
+        return negative ? amount.negate() : amount;
+    }
+
+    private static int digit(CharSequence value, int index) {
+        final int digit = value.charAt(index) - '0';
+        if (digit < 0 || digit > 9) {
+            throw new NumberFormatException("Invalid amount: \"" + value + "\"");
+        }
+        return digit;
+    }
+
+    public PipAmount add(@Nonnull PipAmount other) {
+        long frac = mFrac + other.mFrac;
+        long carry = 0;
+        if (frac >= PIPS_IN_COIN) {
+            frac -= PIPS_IN_COIN;
+            carry = 1;
+        }
+        return new PipAmount(addExact(addExact(mWhole, other.mWhole), carry), frac);
+    }
+
+    public PipAmount subtract(@Nonnull PipAmount other) {
+        long frac = mFrac - other.mFrac;
+        long borrow = 0;
+        if (frac < 0) {
+            frac += PIPS_IN_COIN;
+            borrow = 1;
+        }
+        return new PipAmount(subtractExact(subtractExact(mWhole, other.mWhole), borrow), frac);
+    }
+
+    public PipAmount negate() {
+        if (mFrac == 0) {
+            if (mWhole == Long.MIN_VALUE) {
+                throw new ArithmeticException("Amount overflow");
+            }
+            return new PipAmount(-mWhole, 0);
+        }
+        // -(w + f) = (-w - 1) + (1 - f)
+        return new PipAmount(-mWhole - 1, PIPS_IN_COIN - mFrac);
+    }
+
+    /**
+     * Multiply by integer, for example price by count
+     * @param factor multiplier
+     * @return exact product
+     */
+    public PipAmount multiply(long factor) {
+        if (factor < 0 && factor != Long.MIN_VALUE) {
+            return multiply(-factor).negate();
+        }
+        if (factor >= 0 && factor <= Integer.MAX_VALUE && mWhole >= Integer.MIN_VALUE && mWhole <= Integer.MAX_VALUE) {
+            // fraction is split into two 9-digit halves, so each product fits into long
+            final long fracLow = (mFrac % HALF_COIN_DIGITS) * factor;
+            final long fracHigh = (mFrac / HALF_COIN_DIGITS) * factor + fracLow / HALF_COIN_DIGITS;
+            final long frac = (fracHigh % HALF_COIN_DIGITS) * HALF_COIN_DIGITS + fracLow % HALF_COIN_DIGITS;
+            return new PipAmount(mWhole * factor + fracHigh / HALF_COIN_DIGITS, frac);
+        }
+        return ofPips(toPips().multiply(BigInteger.valueOf(factor)));
+    }
+
+    public int signum() {
+        if (mWhole < 0) {
+            return -1;
+        }
+        return mWhole == 0 && mFrac == 0 ? 0 : 1;
+    }
+
+    public boolean isZero() {
+        return mWhole == 0 && mFrac == 0;
+    }
+
+    /**
+     * @return value in pips, as used in transactions
+     */
+    public BigInteger toPips() {
+        if (mWhole >= -9 && mWhole <= 8) {
+            return BigInteger.valueOf(mWhole * PIPS_IN_COIN + mFrac);
+        }
+        return BigInteger.valueOf(mWhole).multiply(PIPS_IN_COIN_BIG).add(BigInteger.valueOf(mFrac));
+    }
+
+    /**
+     * @return same value as {@link Transaction#humanizeValue(BigInteger)} returns for {@link #toPips()}
+     */
+    public BigDecimal toBigDecimal() {
+        if (mFrac == 0) {
+            return BigDecimal.valueOf(mWhole);
+        }
+        return new BigDecimal(toPips(), DECIMALS).stripTrailingZeros();
+    }
+
+    @Override
+    public int compareTo(@Nonnull PipAmount other) {
+        if (mWhole != other.mWhole) {
+            return mWhole < other.mWhole ? -1 : 1;
+        }
+        return mFrac == other.mFrac ? 0 : (mFrac < other.mFrac ? -1 : 1);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PipAmount)) {
+            return false;
+        }
+        final PipAmount other = (PipAmount) o;
+        return mWhole == other.mWhole && mFrac == other.mFrac;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (int) (mWhole ^ (mWhole >>> 32)) + (int) (mFrac ^ (mFrac >>> 32));
+    }
+
+    /**
+     * @return plain decimal string without trailing zeroes, like "-12.345"
+     */
+    @Override
+    public String toString() {
+        if (mFrac == 0) {
+            return Long.toString(mWhole);
+        }
+
+        final StringBuilder sb = new StringBuilder(40);
+        long frac = mFrac;
+        if (mWhole < 0) {
+            sb.append('-').append(-(mWhole + 1));
+            frac = PIPS_IN_COIN - frac;
+        } else {
+            sb.append(mWhole);
+        }
+
+        int digits = DECIMALS;
+        while (frac % 10 == 0) {
+            frac /= 10;
+            digits--;
+        }
+        sb.append('.');
+        for (int i = digits - 1; i >= 0; i--) {
+            sb.append((char) ('0' + frac / POW10[i] % 10));
+        }
+        return sb.toString();
+    }
+
+    private static long addExact(long a, long b) {
+        final long result = a + b;
+        if (((a ^ result) & (b ^ result)) < 0) {
+            throw new ArithmeticException("Amount overflow");
+        }
+        return result;
+    }
+
+    private static long subtractExact(long a, long b) {
+        final long result = a - b;
+        if (((a ^ b) & (a ^ result)) < 0) {
+            throw new ArithmeticException("Amount overflow");
+        }
+        return result;
+    }
+}
@@ -0,0 +1,334 @@
+/*
+ * Copyright (C) by MinterTeam. 2021
+ * @link <a href="https://github.com/MinterTeam">Org Github</a>
+ * @link <a href="https://github.com/edwardstock">Maintainer Github</a>
+ *
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package network.minter.blockchain.models.operational;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.annotation.Nonnull;
+
+import network.minter.core.crypto.BytesData;
+import network.minter.core.crypto.MinterAddress;
+import network.minter.core.crypto.MinterPublicKey;
+
+import static network.minter.blockchain.models.operational.RLPWriter.OFFSET_LONG_LIST;
+import static network.minter.blockchain.models.operational.RLPWriter.OFFSET_LONG_STRING;
+import static network.minter.blockchain.models.operational.RLPWriter.OFFSET_SHORT_LIST;
+import static network.minter.blockchain.models.operational.RLPWriter.OFFSET_SHORT_STRING;
+import static network.minter.blockchain.models.operational.RLPWriter.UTF_8;
+
+/**
+ * Byte-oriented sequential RLP reader. Reads items of a list one by one directly from source array by offsets,
+ * nested lists are read with child readers over the same array, so nothing is copied until value is requested.
+ * <p>
+ * All read methods throw {@link InvalidEncodedTransactionException} on malformed data.
+ * <p>
+ * minter-android-blockchain. 2021
+ *
+ * @author Eduard Maximovich (edward.vstock@gmail.com)
+ */
+public final class RLPReader {
+    private final byte[] mData;
+    private final int mEnd;
+    private int mPos;
+    // current item, filled by readHeader()
+    private int mItemOffset;
+    private int mItemLength;
+    private boolean mItemIsList;
+
+    private RLPReader(byte[] data, int offset, int end) {
+        mData = data;
+        mPos = offset;
+        mEnd = end;
+    }
+
+    /**
+     * Create reader over items of encoded list
+     * @param data data with rlp-encoded list
+     * @return reader of list items
+     */
+    public static RLPReader fromList(@Nonnull byte[] data) {
+        return fromList(data, 0, data.length);
+    }
+
+    /**
+     * Create reader over items of encoded list
+     * @param data source array
+     * @param offset offset of encoded list in array
+     * @param length length of encoded list, bytes after the list are not allowed
+     * @return reader of list items
+     */
+    public static RLPReader fromList(@Nonnull byte[] data, int offset, int length) {
+        if (offset < 0 || length < 0 || length > data.length - offset) {
+            throw new InvalidEncodedTransactionException("Invalid rlp bounds: offset %d, length %d, size %d", offset, length, data.length);
+        }
+        return new RLPReader(data, offset, offset + length).readSingleList();
+    }
+
+    /**
+     * @return true if list has unread items
+     */
+    public boolean hasNext() {
+        return mPos < mEnd;
+    }
+
+    /**
+     * Count unread items without reading them
+     * @return items count
+     */
+    public int remaining() {
+        final int pos = mPos;
+        int count = 0;
+        while (hasNext()) {
+            skip();
+            count++;
+        }
+        mPos = pos;
+        return count;
+    }
+
+    public void skip() {
+        readHeader();
+        mPos = mItemOffset + mItemLength;
+    }
+
+    /**
+     * Read nested list
+     * @return reader over nested list items
+     */
+    public RLPReader readList() {
+        readHeader();
+        if (!mItemIsList) {
+            throw new InvalidEncodedTransactionException("Expected rlp list at offset %d", mItemOffset);
+        }
+        mPos = mItemOffset + mItemLength;
+        return new RLPReader(mData, mItemOffset, mItemOffset + mItemLength);
+    }
+
+    /**
+     * Read byte string that contains rlp-encoded list (like transaction data field)
+     * @return reader over embedded list items
+     */
+    public RLPReader readEmbeddedList() {
+        readStringHeader();
+        return new RLPReader(mData, mItemOffset, mItemOffset + mItemLength).readSingleList();
+    }
+
+    /**
+     * Check next item is an empty list, and skip it if so
+     * @return true if empty list has been skipped
+     */
+    public boolean skipIfEmptyList() {
+        final int pos = mPos;
+        readHeader();
+        if (mItemIsList && mItemLength == 0) {
+            mPos = mItemOffset;
+            return true;
+        }
+        mPos = pos;
+        return false;
+    }
+
+    public byte[] readBytes() {
+        readStringHeader();
+        return Arrays.copyOfRange(mData, mItemOffset, mItemOffset + mItemLength);
+    }
+
+    /**
+     * Read byte string into fixed size array region, without allocating. Shorter value is padded with leading zeroes
+     * @param dest target array
+     * @param offset target offset
+     * @param length region size
+     */
+    public void readBytesTo(@Nonnull byte[] dest, int offset, int length) {
+        readStringHeader();
+        if (mItemLength > length) {
+            throw new InvalidEncodedTransactionException("Value at offset %d is longer than %d bytes", mItemOffset, length);
+        }
+        final int pad = length - mItemLength;
+        Arrays.fill(dest, offset, offset + pad, (byte) 0);
+        System.arraycopy(mData, mItemOffset, dest, offset + pad, mItemLength);
+    }
+
+    /**
+     * Read bytes as chars (as core library keeps data)
+     * @return bytes in chars
+     */
+    public char[] readChars() {
+        readStringHeader();
+        final char[] out = new char[mItemLength];
+        for (int i = 0; i < mItemLength; i++) {
+            out[i] = (char) (mData[mItemOffset + i] & 0xFF);
+        }
+        return out;
+    }
+
+    public BytesData readBytesData() {
+        return new BytesData(readChars());
+    }
+
+    public MinterAddress readAddress() {
+        return new MinterAddress(readChars());
+    }
+
+    public MinterPublicKey readPublicKey() {
+        return new MinterPublicKey(readChars());
+    }
+
+    public String readString() {
+        readStringHeader();
+        return new String(mData, mItemOffset, mItemLength, UTF_8);
+    }
+
+    /**
+     * Read unsigned integer. Empty value means zero
+     * @return non-negative value
+     */
+    public BigInteger readBigInt() {
+        readStringHeader();
+        if (mItemLength == 0) {
+            return BigInteger.ZERO;
+        }
+        if (mItemLength < 8) {
+            return BigInteger.valueOf(readLongValue());
+        }
+        return new BigInteger(1, Arrays.copyOfRange(mData, mItemOffset, mItemOffset + mItemLength));
+    }
+
+    /**
+     * Read unsigned integer that fits into long
+     * @return non-negative value
+     */
+    public long readLong() {
+        readStringHeader();
+        if (mItemLength > 8 || (mItemLength == 8 && mData[mItemOffset] < 0)) {
+            throw new InvalidEncodedTransactionException("Value at offset %d is too big for long", mItemOffset);
+        }
+        return readLongValue();
+    }
+
+    public int readInt() {
+        final long value = readLong();
+        if (value > Integer.MAX_VALUE) {
+            throw new InvalidEncodedTransactionException("Value %d is too big for int", value);
+        }
+        return (int) value;
+    }
+
+    public boolean readBool() {
+        return readLong() == 1;
+    }
+
+    public List<BigInteger> readBigIntList() {
+        final RLPReader list = readList();
+        final List<BigInteger> out = new ArrayList<>();
+        while (list.hasNext()) {
+            out.add(list.readBigInt());
+        }
+        return out;
+    }
+
+    // raw encoded unread items, used by legacy RLPSerializable bridges
+    byte[] readRemaining() {
+        final byte[] out = Arrays.copyOfRange(mData, mPos, mEnd);
+        mPos = mEnd;
+        return out;
+    }
+
+    // read list which must take the whole reader range
+    private RLPReader readSingleList() {
+        final RLPReader list = readList();
+        if (hasNext()) {
+            throw new InvalidEncodedTransactionException("Unexpected %d bytes after rlp list at offset %d", mEnd - mPos, mPos);
+        }
+        return list;
+    }
+
+    private long readLongValue() {
+        long value = 0;
+        for (int i = 0; i < mItemLength; i++) {
+            value = (value << 8) | (mData[mItemOffset + i] & 0xFF);
+        }
+        return value;
+    }
+
+    private void readStringHeader() {
+        readHeader();
+        if (mItemIsList) {
+            throw new InvalidEncodedTransactionException("Expected rlp byte string, but list found at offset %d", mItemOffset);
+        }
+        mPos = mItemOffset + mItemLength;
+    }
+
+    private void readHeader() {
+        if (mPos >= mEnd) {
+            throw new InvalidEncodedTransactionException("Unexpected end of rlp data at offset %d", mPos);
+        }
+        final int prefix = mData[mPos] & 0xFF;
+        if (prefix < OFFSET_SHORT_STRING) {
+            mItemOffset = mPos;
+            mItemLength = 1;
+            mItemIsList = false;
+        } else if (prefix <= OFFSET_LONG_STRING) {
+            mItemOffset = mPos + 1;
+            mItemLength = prefix - OFFSET_SHORT_STRING;
+            mItemIsList = false;
+        } else if (prefix < OFFSET_SHORT_LIST) {
+            readLongLength(prefix - OFFSET_LONG_STRING);
+            mItemIsList = false;
+        } else if (prefix <= OFFSET_LONG_LIST) {
+            mItemOffset = mPos + 1;
+            mItemLength = prefix - OFFSET_SHORT_LIST;
+            mItemIsList = true;
+        } else {
+            readLongLength(prefix - OFFSET_LONG_LIST);
+            mItemIsList = true;
+        }
+
+        // compare lengths, as offset + length can overflow int for huge declared length
+        if (mItemLength > mEnd - mItemOffset) {
+            throw new InvalidEncodedTransactionException("Rlp item at offset %d exceeds data bounds", mPos);
+        }
+    }
+
+    private void readLongLength(int lengthOfLength) {
+        if (lengthOfLength > 4 || mPos + 1 + lengthOfLength > mEnd) {
+            throw new InvalidEncodedTransactionException("Invalid rlp length prefix at offset %d", mPos);
+        }
+        long length = 0;
+        for (int i = 1; i <= lengthOfLength; i++) {
+            length = (length << 8) | (mData[mPos + i] & 0xFF);
+        }
+        if (length > Integer.MAX_VALUE) {
+            throw new InvalidEncodedTransactionException("Invalid rlp length at offset %d", mPos);
+        }
+        mItemOffset = mPos + 1 + lengthOfLength;
+        mItemLength = (int) length;
+    }
+}
@@ -27,6 +27,7 @@
 package network.minter.blockchain.models.operational;
 
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -38,28 +39,168 @@ import network.minter.core.crypto.MinterPublicKey;
 import network.minter.core.util.DecodeResult;
 import network.minter.core.util.RLPBoxed;
 
+import static network.minter.core.internal.helpers.BytesHelper.charsToBytes;
 import static network.minter.core.internal.helpers.BytesHelper.fixBigintSignedByte;
 import static network.minter.core.internal.helpers.StringHelper.charsToString;
 
 /**
  * minter-android-blockchain. 2018
  *
+ * Subclasses must override {@link #readRLP(RLPReader)} and {@link #writeRLP(RLPWriter)}.
+ * Subclasses written for older versions, which override only {@link #decodeRLP(char[])} and {@link #encodeRLP()},
+ * keep working: default implementations of new methods delegate to them. Subclass which overrides neither pair
+ * fails with {@link IllegalStateException} on first encoding or decoding.
+ *
  * @author Eduard Maximovich [edward.vstock@gmail.com]
  */
 public abstract class RLPSerializable {
+    // set while default readRLP/writeRLP call legacy methods: if they aren't overridden either,
+    // their defaults would call readRLP/writeRLP again and loop forever
+    private boolean mLegacyRead = false;
+    private boolean mLegacyWrite = false;
+
+    /**
+     * Read all fields from rlp list.
+     * Default implementation delegates to deprecated {@link #decodeRLP(char[])} with whole encoded list
+     * @param reader reader over list items
+     */
+    protected void readRLP(@Nonnull RLPReader reader) {
+        final RLPWriter writer = RLPWriter.obtain();
+        try {
+            writer.startList().writeEncoded(reader.readRemaining()).endList();
+            mLegacyRead = true;
+            decodeRLP(writer.toCharArray());
+        } finally {
+            mLegacyRead = false;
+            writer.recycle();
+        }
+    }
+
+    /**
+     * Write all fields. Caller wraps them into list.
+     * Default implementation delegates to deprecated {@link #encodeRLP()} and writes items of returned list
+     * @param writer rlp writer
+     * @see #encodeRLP(RLPWriter)
+     */
+    protected void writeRLP(@Nonnull RLPWriter writer) {
+        final char[] encoded;
+        mLegacyWrite = true;
+        try {
+            encoded = encodeRLP();
+        } finally {
+            mLegacyWrite = false;
+        }
+        writer.writeEncoded(RLPReader.fromList(charsToBytes(encoded)).readRemaining());
+    }
+
+    /**
+     * Decode data from encoded RLP
+     * @param rlpEncodedData raw rlp
+     * @deprecated override {@link #readRLP(RLPReader)} instead
+     */
+    @Deprecated
+    protected void decodeRLP(@Nonnull char[] rlpEncodedData) {
+        if (mLegacyRead) {
+            throw notOverridden();
+        }
+        decodeRLP(charsToBytes(rlpEncodedData));
+    }
+
     /**
      * Decode data from encoded RLP
      * @param rlpEncodedData raw rlp
      */
-    protected abstract void decodeRLP(@Nonnull char[] rlpEncodedData);
+    protected void decodeRLP(@Nonnull byte[] rlpEncodedData) {
+        readRLP(RLPReader.fromList(rlpEncodedData));
+    }
+
     /**
-     * Encodes all create fields via RLP
+     * Encodes all fields via RLP
      * @return encoded byte[]
-     * @see RLPBoxed
+     * @deprecated override {@link #writeRLP(RLPWriter)} instead
      */
+    @Deprecated
     @Nonnull
-    protected abstract char[] encodeRLP();
+    protected char[] encodeRLP() {
+        if (mLegacyWrite) {
+            throw notOverridden();
+        }
+        final RLPWriter writer = RLPWriter.obtain();
+        try {
+            encodeRLP(writer);
+            return writer.toCharArray();
+        } finally {
+            writer.recycle();
+        }
+    }
 
+    /**
+     * Size of rlp list produced by {@link #encodeRLP()}. Fields are encoded to count bytes, so {@code encodedSize()}
+     * followed by {@code encodeTo()} encodes them twice. To encode once, pass buffer with enough space to
+     * {@code encodeTo()} and use returned length
+     * @return bytes count
+     */
+    public int encodedSize() {
+        final RLPWriter writer = RLPWriter.obtain();
+        try {
+            encodeRLP(writer);
+            return writer.size();
+        } finally {
+            writer.recycle();
+        }
+    }
+
+    /**
+     * Encodes all fields as rlp list into thread-local writer buffer and copies it to array once.
+     * Nothing is written if it doesn't fit
+     * @param dest target array, must have at least {@link #encodedSize()} bytes after offset
+     * @param offset target offset
+     * @return number of written bytes
+     */
+    public int encodeTo(@Nonnull byte[] dest, int offset) {
+        final RLPWriter writer = RLPWriter.obtain();
+        try {
+            encodeRLP(writer);
+            return writer.writeTo(dest, offset);
+        } finally {
+            writer.recycle();
+        }
+    }
+
+    /**
+     * Encodes all fields as rlp list into thread-local writer buffer and copies it to buffer at its position once.
+     * Nothing is written if it doesn't fit
+     * @param dest target buffer, must have at least {@link #encodedSize()} remaining bytes
+     * @return number of written bytes
+     */
+    public int encodeTo(@Nonnull ByteBuffer dest) {
+        final RLPWriter writer = RLPWriter.obtain();
+        try {
+            encodeRLP(writer);
+            return writer.writeTo(dest);
+        } finally {
+            writer.recycle();
+        }
+    }
+
+    /**
+     * Encodes all fields as rlp list
+     * @param writer rlp writer
+     */
+    protected void encodeRLP(@Nonnull RLPWriter writer) {
+        writer.startList();
+        writeRLP(writer);
+        writer.endList();
+    }
+
+    private IllegalStateException notOverridden() {
+        return new IllegalStateException(String.format("%s must override readRLP(RLPReader) and writeRLP(RLPWriter)", getClass().getName()));
+    }
+
+    /**
+     * @deprecated use {@link RLPReader}
+     */
+    @Deprecated
     protected char[][] objArrToByteArrArr(Object[] input) {
         char[][] out = new char[input.length][];
         for (int i = 0; i < input.length; i++) {
@@ -74,6 +215,10 @@ public abstract class RLPSerializable {
         return out;
     }
 
+    /**
+     * @deprecated use {@link RLPReader}
+     */
+    @Deprecated
     protected char[] fromRawRlp(int idx, Object[] raw) {
         if (raw[idx] instanceof String) {
             return ((String) raw[idx]).toCharArray();
@@ -81,14 +226,26 @@ public abstract class RLPSerializable {
         return (char[]) raw[idx];
     }
 
+    /**
+     * @deprecated use {@link RLPReader}
+     */
+    @Deprecated
     protected char[] fromRawRlp(int idx, char[][] raw) {
         return raw[idx];
     }
 
+    /**
+     * @deprecated use {@link RLPReader}
+     */
+    @Deprecated
     protected RLPValues decodeValues(char[] rlpEncodedData) {
         return new RLPValues(rlpEncodedData);
     }
 
+    /**
+     * @deprecated use {@link RLPReader}
+     */
+    @Deprecated
     class RLPValues {
         private final Object[] decoded;
         protected RLPValues(char[] rlpEncodedData) {
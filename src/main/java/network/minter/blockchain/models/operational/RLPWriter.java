@@ -0,0 +1,401 @@
+/*
+ * Copyright (C) by MinterTeam. 2021
+ * @link <a href="https://github.com/MinterTeam">Org Github</a>
+ * @link <a href="https://github.com/edwardstock">Maintainer Github</a>
+ *
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package network.minter.blockchain.models.operational;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import network.minter.core.crypto.BytesData;
+
+/**
+ * Byte-oriented RLP writer. Writes items directly into a growable buffer, without boxing values into Object[] trees.
+ * <p>
+ * Lists and embedded rlp (rlp data stored as byte string, like transaction data field) are written between
+ * start and end calls, prefix is inserted when the length is known:
+ * <pre>
+ * writer.startList()
+ *     .writeBigInt(coinId)
+ *     .writeBytesData(address)
+ *     .writeBigInt(value)
+ *     .endList();
+ * </pre>
+ * Writer is not thread-safe, but it can be reused after {@link #reset()}.
+ * <p>
+ * minter-android-blockchain. 2021
+ *
+ * @author Eduard Maximovich (edward.vstock@gmail.com)
+ */
+public final class RLPWriter {
+    final static int OFFSET_SHORT_STRING = 0x80;
+    final static int OFFSET_LONG_STRING = 0xB7;
+    final static int OFFSET_SHORT_LIST = 0xC0;
+    final static int OFFSET_LONG_LIST = 0xF7;
+    final static Charset UTF_8 = Charset.forName("UTF-8");
+    private final static int DEFAULT_CAPACITY = 256;
+    // don't keep huge buffers in thread locals after encoding big batches
+    private final static int MAX_RETAINED_CAPACITY = 64 * 1024;
+    private final static ThreadLocal<RLPWriter> sLocal = new ThreadLocal<RLPWriter>() {
+        @Override
+        protected RLPWriter initialValue() {
+            return new RLPWriter();
+        }
+    };
+
+    private byte[] mBuf;
+    private int mSize = 0;
+    // start positions and prefix offsets of unfinished lists and embedded items
+    private int[] mStarts = new int[8];
+    private int[] mOffsets = new int[8];
+    private int mDepth = 0;
+    private boolean mInUse = false;
+
+    public RLPWriter() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public RLPWriter(int capacity) {
+        mBuf = new byte[Math.max(capacity, 16)];
+    }
+
+    /**
+     * Get writer bound to current thread. If it's already used by caller up the stack, new writer is returned.
+     * Call {@link #recycle()} when done
+     * @return empty writer
+     */
+    static RLPWriter obtain() {
+        final RLPWriter writer = sLocal.get();
+        if (writer.mInUse) {
+            return new RLPWriter();
+        }
+        writer.reset();
+        writer.mInUse = true;
+        return writer;
+    }
+
+    void recycle() {
+        mInUse = false;
+        if (mBuf.length > MAX_RETAINED_CAPACITY) {
+            mBuf = new byte[DEFAULT_CAPACITY];
+        }
+    }
+
+    /**
+     * Clear written data, buffer is kept
+     * @return this
+     */
+    public RLPWriter reset() {
+        mSize = 0;
+        mDepth = 0;
+        return this;
+    }
+
+    /**
+     * @return number of written bytes
+     */
+    public int size() {
+        return mSize;
+    }
+
+    /**
+     * Start list. All items written before {@link #endList()} will be its elements
+     * @return this
+     */
+    public RLPWriter startList() {
+        return start(OFFSET_SHORT_LIST);
+    }
+
+    public RLPWriter endList() {
+        return end(OFFSET_SHORT_LIST);
+    }
+
+    /**
+     * Start byte string that contains rlp-encoded data (for example transaction data or signature data).
+     * @return this
+     */
+    public RLPWriter startEmbedded() {
+        return start(OFFSET_SHORT_STRING);
+    }
+
+    public RLPWriter endEmbedded() {
+        return end(OFFSET_SHORT_STRING);
+    }
+
+    public RLPWriter writeBytes(@Nullable byte[] data) {
+        if (data == null) {
+            return writeBytes(data, 0, 0);
+        }
+        return writeBytes(data, 0, data.length);
+    }
+
+    public RLPWriter writeBytes(@Nullable byte[] data, int offset, int length) {
+        if (length == 1 && (data[offset] & 0xFF) < OFFSET_SHORT_STRING) {
+            ensure(1);
+            mBuf[mSize++] = data[offset];
+            return this;
+        }
+        writePrefix(length, OFFSET_SHORT_STRING);
+        if (length > 0) {
+            ensure(length);
+            System.arraycopy(data, offset, mBuf, mSize, length);
+            mSize += length;
+        }
+        return this;
+    }
+
+    /**
+     * Write bytes stored as chars (as core library keeps data)
+     * @param data bytes in chars
+     * @return this
+     */
+    public RLPWriter writeChars(@Nullable char[] data) {
+        final int length = data == null ? 0 : data.length;
+        if (length == 1 && (data[0] & 0xFF) < OFFSET_SHORT_STRING) {
+            ensure(1);
+            mBuf[mSize++] = (byte) data[0];
+            return this;
+        }
+        writePrefix(length, OFFSET_SHORT_STRING);
+        ensure(length);
+        for (int i = 0; i < length; i++) {
+            mBuf[mSize++] = (byte) data[i];
+        }
+        return this;
+    }
+
+    public RLPWriter writeBytesData(@Nullable BytesData data) {
+        return writeChars(data == null ? null : data.getData());
+    }
+
+    public RLPWriter writeString(@Nullable String value) {
+        return writeBytes(value == null ? null : value.getBytes(UTF_8));
+    }
+
+    /**
+     * Write unsigned integer without leading zeroes. Zero and null are written as empty byte string
+     * @param value non-negative value
+     * @return this
+     */
+    public RLPWriter writeBigInt(@Nullable BigInteger value) {
+        if (value == null || value.signum() == 0) {
+            return writeBytes(null, 0, 0);
+        }
+        if (value.bitLength() < 64) {
+            return writeLong(value.longValue());
+        }
+        final byte[] data = value.toByteArray();
+        // skip sign byte
+        final int offset = data[0] == 0 ? 1 : 0;
+        return writeBytes(data, offset, data.length - offset);
+    }
+
+    /**
+     * Write unsigned integer without leading zeroes. Zero is written as empty byte string
+     * @param value non-negative value
+     * @return this
+     */
+    public RLPWriter writeLong(long value) {
+        if (value == 0) {
+            return writeBytes(null, 0, 0);
+        }
+        if (value > 0 && value < OFFSET_SHORT_STRING) {
+            ensure(1);
+            mBuf[mSize++] = (byte) value;
+            return this;
+        }
+        final int len = bytesLength(value);
+        ensure(len + 1);
+        mBuf[mSize++] = (byte) (OFFSET_SHORT_STRING + len);
+        writeBigEndian(value, len);
+        return this;
+    }
+
+    public RLPWriter writeInt(@Nullable Integer value) {
+        return writeLong(value == null ? 0 : value);
+    }
+
+    public RLPWriter writeBool(@Nullable Boolean value) {
+        return writeLong(value != null && value ? 1 : 0);
+    }
+
+    /**
+     * Write list of unsigned integers
+     * @param values list items
+     * @return this
+     */
+    public RLPWriter writeBigIntList(@Nullable List<BigInteger> values) {
+        startList();
+        if (values != null) {
+            for (BigInteger value : values) {
+                writeBigInt(value);
+            }
+        }
+        return endList();
+    }
+
+    /**
+     * Write already encoded rlp data as is
+     * @param encoded rlp items
+     * @return this
+     */
+    public RLPWriter writeEncoded(@Nonnull byte[] encoded) {
+        return writeEncoded(encoded, 0, encoded.length);
+    }
+
+    /**
+     * Write part of already encoded rlp data as is
+     * @param encoded source array
+     * @param offset offset of rlp items in array
+     * @param length length of rlp items
+     * @return this
+     */
+    public RLPWriter writeEncoded(@Nonnull byte[] encoded, int offset, int length) {
+        ensure(length);
+        System.arraycopy(encoded, offset, mBuf, mSize, length);
+        mSize += length;
+        return this;
+    }
+
+    public byte[] toByteArray() {
+        checkFinished();
+        return Arrays.copyOf(mBuf, mSize);
+    }
+
+    /**
+     * Copy written data into array
+     * @param dest target array
+     * @param offset target offset
+     * @return number of copied bytes
+     * @throws IndexOutOfBoundsException if data doesn't fit into array
+     */
+    public int writeTo(@Nonnull byte[] dest, int offset) {
+        checkFinished();
+        if (offset < 0 || offset > dest.length - mSize) {
+            throw new IndexOutOfBoundsException(String.format("Can't write %d bytes at offset %d, array length is %d", mSize, offset, dest.length));
+        }
+        System.arraycopy(mBuf, 0, dest, offset, mSize);
+        return mSize;
+    }
+
+    /**
+     * Copy written data into buffer at its position, position is moved by written bytes count
+     * @param dest target buffer
+     * @return number of copied bytes
+     * @throws java.nio.BufferOverflowException if data doesn't fit into buffer remaining space
+     */
+    public int writeTo(@Nonnull ByteBuffer dest) {
+        checkFinished();
+        dest.put(mBuf, 0, mSize);
+        return mSize;
+    }
+
+    public char[] toCharArray() {
+        checkFinished();
+        final char[] out = new char[mSize];
+        for (int i = 0; i < mSize; i++) {
+            out[i] = (char) (mBuf[i] & 0xFF);
+        }
+        return out;
+    }
+
+    private void checkFinished() {
+        if (mDepth != 0) {
+            throw new IllegalStateException("Not all lists are finished: " + mDepth);
+        }
+    }
+
+    private RLPWriter start(int offset) {
+        if (mDepth == mStarts.length) {
+            mStarts = Arrays.copyOf(mStarts, mDepth * 2);
+            mOffsets = Arrays.copyOf(mOffsets, mDepth * 2);
+        }
+        mStarts[mDepth] = mSize;
+        mOffsets[mDepth] = offset;
+        mDepth++;
+        return this;
+    }
+
+    private RLPWriter end(int offset) {
+        if (mDepth == 0 || mOffsets[mDepth - 1] != offset) {
+            throw new IllegalStateException("Unbalanced end of " + (offset == OFFSET_SHORT_LIST ? "list" : "embedded data"));
+        }
+        mDepth--;
+        final int start = mStarts[mDepth];
+        final int length = mSize - start;
+        final int prefixLen = length < 56 ? 1 : 1 + bytesLength(length);
+
+        // move content right to free space for prefix
+        ensure(prefixLen);
+        System.arraycopy(mBuf, start, mBuf, start + prefixLen, length);
+        final int end = mSize + prefixLen;
+        mSize = start;
+        writePrefix(length, offset);
+        mSize = end;
+        return this;
+    }
+
+    private void writePrefix(int length, int offset) {
+        if (length < 56) {
+            ensure(1);
+            mBuf[mSize++] = (byte) (offset + length);
+            return;
+        }
+        final int len = bytesLength(length);
+        ensure(len + 1);
+        mBuf[mSize++] = (byte) (offset + 55 + len);
+        writeBigEndian(length, len);
+    }
+
+    private void writeBigEndian(long value, int len) {
+        for (int i = len - 1; i >= 0; i--) {
+            mBuf[mSize + i] = (byte) (value & 0xFF);
+            value >>>= 8;
+        }
+        mSize += len;
+    }
+
+    private static int bytesLength(long value) {
+        int len = 0;
+        while (value != 0) {
+            len++;
+            value >>>= 8;
+        }
+        return len;
+    }
+
+    private void ensure(int extra) {
+        final int required = mSize + extra;
+        if (required > mBuf.length) {
+            mBuf = Arrays.copyOf(mBuf, Math.max(required, mBuf.length * 2));
+        }
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright (C) by MinterTeam. 2021
+ * @link <a href="https://github.com/MinterTeam">Org Github</a>
+ * @link <a href="https://github.com/edwardstock">Maintainer Github</a>
+ *
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package network.minter.blockchain.models.operational;
+
+import com.edwardstock.secp256k1.NativeSecp256k1;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import static network.minter.core.internal.common.Preconditions.checkArgument;
+import static network.minter.core.internal.common.Preconditions.checkNotNull;
+
+/**
+ * Bounded pool of long-lived secp256k1 contexts, shared by {@link Transaction} and {@link CheckTransaction}.
+ * <p>
+ * Context creation is the most expensive part of signing, so contexts are created lazily (up to pool size)
+ * and reused until pool is closed. Every context is used by a single thread at a time, so
+ * signing scales with available cores instead of waiting for one global lock.
+ * <p>
+ * minter-android-blockchain. 2021
+ *
+ * @author Eduard Maximovich (edward.vstock@gmail.com)
+ */
+public final class Secp256k1ContextPool {
+    private final static long WAIT_INTERVAL_MS = 100;
+    private static Secp256k1ContextPool sDefault;
+    private final int mMaxSize;
+    private final BlockingQueue<Long> mIdle;
+    private final AtomicInteger mCreated = new AtomicInteger(0);
+    private volatile boolean mClosed = false;
+
+    /**
+     * @param maxSize max number of native contexts living at the same time
+     */
+    public Secp256k1ContextPool(int maxSize) {
+        checkArgument(maxSize > 0, "Pool size must be greater than zero");
+        mMaxSize = maxSize;
+        mIdle = new ArrayBlockingQueue<>(maxSize);
+    }
+
+    /**
+     * Pool used by all signing methods. By default, it's size equals number of available processors
+     * @return shared pool
+     */
+    public static synchronized Secp256k1ContextPool getDefault() {
+        if (sDefault == null) {
+            sDefault = new Secp256k1ContextPool(Runtime.getRuntime().availableProcessors());
+        }
+        return sDefault;
+    }
+
+    /**
+     * Replace shared pool, for example to limit number of contexts. Previous pool is not closed, as it may still be
+     * used by signing calls in progress or by code which holds it. Caller must close it when it's not used anymore:
+     * <pre>
+     * Secp256k1ContextPool prev = Secp256k1ContextPool.setDefault(new Secp256k1ContextPool(2));
+     * // after signing on other threads has finished
+     * prev.close();
+     * </pre>
+     * @param pool new shared pool
+     * @return previous shared pool or null if it wasn't created yet
+     */
+    @Nullable
+    public static synchronized Secp256k1ContextPool setDefault(@Nonnull Secp256k1ContextPool pool) {
+        checkNotNull(pool, "Pool can't be null");
+        final Secp256k1ContextPool prev = sDefault;
+        sDefault = pool;
+        return prev == pool ? null : prev;
+    }
+
+    /**
+     * Sign 32 bytes hash with recoverable signature
+     * @param hash 32 bytes hash
+     * @param privateKey private key bytes
+     * @return signature or null if data is invalid
+     */
+    @Nullable
+    public NativeSecp256k1.RecoverableSignature signRecoverable(byte[] hash, byte[] privateKey) {
+        final long ctx = acquire();
+        try {
+            return NativeSecp256k1.signRecoverableSerialized(ctx, hash, privateKey);
+        } finally {
+            release(ctx);
+        }
+    }
+
+    public int getMaxSize() {
+        return mMaxSize;
+    }
+
+    /**
+     * @return number of currently living native contexts
+     */
+    public int getCreatedCount() {
+        return mCreated.get();
+    }
+
+    public boolean isClosed() {
+        return mClosed;
+    }
+
+    /**
+     * Destroy idle contexts. Contexts that are in use at this moment, will be destroyed right after signing.
+     * Closed pool can't be used anymore.
+     */
+    public void close() {
+        mClosed = true;
+        destroyIdle();
+    }
+
+    long acquire() {
+        while (true) {
+            if (mClosed) {
+                throw new IllegalStateException("Secp256k1 context pool is closed");
+            }
+
+            Long ctx = mIdle.poll();
+            if (ctx != null) {
+                return ctx;
+            }
+
+            final int created = mCreated.get();
+            if (created < mMaxSize) {
+                if (mCreated.compareAndSet(created, created + 1)) {
+                    try {
+                        return NativeSecp256k1.contextCreate();
+                    } catch (RuntimeException | Error e) {
+                        // give slot back, otherwise failed creations would exhaust pool and block acquire() forever
+                        mCreated.decrementAndGet();
+                        throw e;
+                    }
+                }
+                continue;
+            }
+
+            try {
+                ctx = mIdle.poll(WAIT_INTERVAL_MS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for secp256k1 context", e);
+            }
+            if (ctx != null) {
+                return ctx;
+            }
+        }
+    }
+
+    void release(long ctx) {
+        if (mClosed || !mIdle.offer(ctx)) {
+            destroy(ctx);
+            return;
+        }
+        // pool could be closed while we were returning context
+        if (mClosed) {
+            destroyIdle();
+        }
+    }
+
+    private void destroyIdle() {
+        Long ctx;
+        while ((ctx = mIdle.poll()) != null) {
+            destroy(ctx);
+        }
+    }
+
+    private void destroy(long ctx) {
+        // DON'T forget cleanup to avoid leaks
+        NativeSecp256k1.contextCleanup(ctx);
+        mCreated.decrementAndGet();
+    }
+}
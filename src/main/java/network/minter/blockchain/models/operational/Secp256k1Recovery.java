@@ -0,0 +1,228 @@
+/*
+ * Copyright (C) by MinterTeam. 2021
+ * @link <a href="https://github.com/MinterTeam">Org Github</a>
+ * @link <a href="https://github.com/edwardstock">Maintainer Github</a>
+ *
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package network.minter.blockchain.models.operational;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+import javax.annotation.Nullable;
+
+import network.minter.core.crypto.BytesData;
+import network.minter.core.crypto.MinterAddress;
+
+/**
+ * Pure java secp256k1 public key recovery, used to verify signatures offline.
+ * Native library does only signing, so recovery math is done here with jacobian coordinates
+ * and simultaneous (Shamir's) multiplication.
+ * <p>
+ * minter-android-blockchain. 2021
+ *
+ * @author Eduard Maximovich (edward.vstock@gmail.com)
+ */
+final class Secp256k1Recovery {
+    final static BigInteger P = new BigInteger("FFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFEFFFFFC2F", 16);
+    final static BigInteger N = new BigInteger("FFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFEBAAEDCE6AF48A03BBFD25E8CD0364141", 16);
+    final static BigInteger HALF_N = N.shiftRight(1);
+    private final static BigInteger GX = new BigInteger("79BE667EF9DCBBAC55A06295CE870B07029BFCDB2DCE28D959F2815B16F81798", 16);
+    private final static BigInteger GY = new BigInteger("483ADA7726A3C4655DA4FBFC0E1108A8FD17B448A68554199C47D08FFB10D4B8", 16);
+    private final static BigInteger B = BigInteger.valueOf(7);
+    private final static BigInteger SQRT_EXP = P.add(BigInteger.ONE).shiftRight(2);
+    private final static BigInteger TWO = BigInteger.valueOf(2);
+    private final static BigInteger THREE = BigInteger.valueOf(3);
+    private final static BigInteger EIGHT = BigInteger.valueOf(8);
+    private final static int V_OFFSET = 27;
+
+    private Secp256k1Recovery() {
+    }
+
+    /**
+     * Recover minter address of signer
+     * @param hash 32 bytes signed hash
+     * @param signature signature with V in 27-28 range
+     * @return address or null if signature is invalid
+     */
+    @Nullable
+    static MinterAddress recoverAddress(byte[] hash, @Nullable SignatureSingleData signature) {
+        if (signature == null || signature.getR() == null || signature.getS() == null || signature.getV() == null) {
+            return null;
+        }
+        if (signature.getV().size() != 1) {
+            return null;
+        }
+
+        final int recId = (signature.getV().getData()[0] & 0xFF) - V_OFFSET;
+        final BigInteger r = new BigInteger(1, signature.getR().getBytes());
+        final BigInteger s = new BigInteger(1, signature.getS().getBytes());
+
+        final byte[] publicKey = recoverPublicKey(hash, r, s, recId);
+        if (publicKey == null) {
+            return null;
+        }
+
+        final byte[] pubHash = new BytesData(publicKey).sha3Data().getBytes();
+        return new MinterAddress(new BytesData(Arrays.copyOfRange(pubHash, 12, 32)).getData());
+    }
+
+    /**
+     * Recover public key from signature
+     * @param hash 32 bytes signed hash
+     * @param r R-component
+     * @param s S-component, must be in lower half of curve order (as blockchain accepts only such signatures)
+     * @param recId recovery id 0-3
+     * @return 64 bytes uncompressed public key without 0x04 prefix, or null if signature is invalid
+     */
+    @Nullable
+    static byte[] recoverPublicKey(byte[] hash, BigInteger r, BigInteger s, int recId) {
+        if (hash == null || hash.length != 32 || recId < 0 || recId > 3) {
+            return null;
+        }
+        if (r.signum() <= 0 || r.compareTo(N) >= 0 || s.signum() <= 0 || s.compareTo(HALF_N) > 0) {
+            return null;
+        }
+
+        final BigInteger x = (recId & 2) == 0 ? r : r.add(N);
+        if (x.compareTo(P) >= 0) {
+            return null;
+        }
+
+        final BigInteger ySquare = x.pow(3).add(B).mod(P);
+        BigInteger y = ySquare.modPow(SQRT_EXP, P);
+        if (!y.multiply(y).mod(P).equals(ySquare)) {
+            return null;
+        }
+        if (y.testBit(0) != ((recId & 1) == 1)) {
+            y = P.subtract(y);
+        }
+
+        // Q = r^-1 * (s*R - e*G) = u1*G + u2*R
+        final BigInteger e = new BigInteger(1, hash).mod(N);
+        final BigInteger rInv = r.modInverse(N);
+        final BigInteger u1 = e.negate().multiply(rInv).mod(N);
+        final BigInteger u2 = s.multiply(rInv).mod(N);
+
+        final BigInteger[] q = toAffine(multiplyTwice(u1, new BigInteger[]{GX, GY, BigInteger.ONE}, u2, new BigInteger[]{x, y, BigInteger.ONE}));
+        if (q == null) {
+            return null;
+        }
+
+        final byte[] out = new byte[64];
+        writeUnsigned32(q[0], out, 0);
+        writeUnsigned32(q[1], out, 32);
+        return out;
+    }
+
+    private static void writeUnsigned32(BigInteger value, byte[] out, int offset) {
+        final byte[] bytes = value.toByteArray();
+        final int len = Math.min(bytes.length, 32);
+        System.arraycopy(bytes, bytes.length - len, out, offset + 32 - len, len);
+    }
+
+    private static boolean isInfinity(BigInteger[] p) {
+        return p[2].signum() == 0;
+    }
+
+    // k1*P1 + k2*P2
+    private static BigInteger[] multiplyTwice(BigInteger k1, BigInteger[] p1, BigInteger k2, BigInteger[] p2) {
+        final BigInteger[] sum = add(p1, p2);
+        BigInteger[] res = new BigInteger[]{BigInteger.ONE, BigInteger.ONE, BigInteger.ZERO};
+        for (int i = Math.max(k1.bitLength(), k2.bitLength()) - 1; i >= 0; i--) {
+            res = doublePoint(res);
+            final boolean b1 = k1.testBit(i);
+            final boolean b2 = k2.testBit(i);
+            if (b1 && b2) {
+                res = add(res, sum);
+            } else if (b1) {
+                res = add(res, p1);
+            } else if (b2) {
+                res = add(res, p2);
+            }
+        }
+        return res;
+    }
+
+    private static BigInteger[] doublePoint(BigInteger[] p) {
+        if (isInfinity(p) || p[1].signum() == 0) {
+            return new BigInteger[]{BigInteger.ONE, BigInteger.ONE, BigInteger.ZERO};
+        }
+        final BigInteger a = p[0].multiply(p[0]).mod(P);
+        final BigInteger b = p[1].multiply(p[1]).mod(P);
+        final BigInteger c = b.multiply(b).mod(P);
+        final BigInteger xb = p[0].add(b);
+        final BigInteger d = xb.multiply(xb).subtract(a).subtract(c).multiply(TWO).mod(P);
+        final BigInteger e = a.multiply(THREE).mod(P);
+        final BigInteger f = e.multiply(e).mod(P);
+        final BigInteger x3 = f.subtract(d.multiply(TWO)).mod(P);
+        final BigInteger y3 = e.multiply(d.subtract(x3)).subtract(c.multiply(EIGHT)).mod(P);
+        final BigInteger z3 = p[1].multiply(p[2]).multiply(TWO).mod(P);
+        return new BigInteger[]{x3, y3, z3};
+    }
+
+    private static BigInteger[] add(BigInteger[] p, BigInteger[] q) {
+        if (isInfinity(p)) {
+            return q;
+        }
+        if (isInfinity(q)) {
+            return p;
+        }
+        final BigInteger z1z1 = p[2].multiply(p[2]).mod(P);
+        final BigInteger z2z2 = q[2].multiply(q[2]).mod(P);
+        final BigInteger u1 = p[0].multiply(z2z2).mod(P);
+        final BigInteger u2 = q[0].multiply(z1z1).mod(P);
+        final BigInteger s1 = p[1].multiply(q[2]).multiply(z2z2).mod(P);
+        final BigInteger s2 = q[1].multiply(p[2]).multiply(z1z1).mod(P);
+
+        if (u1.equals(u2)) {
+            if (!s1.equals(s2)) {
+                return new BigInteger[]{BigInteger.ONE, BigInteger.ONE, BigInteger.ZERO};
+            }
+            return doublePoint(p);
+        }
+
+        final BigInteger h = u2.subtract(u1).mod(P);
+        final BigInteger r = s2.subtract(s1).mod(P);
+        final BigInteger h2 = h.multiply(h).mod(P);
+        final BigInteger h3 = h.multiply(h2).mod(P);
+        final BigInteger u1h2 = u1.multiply(h2).mod(P);
+        final BigInteger x3 = r.multiply(r).subtract(h3).subtract(u1h2.multiply(TWO)).mod(P);
+        final BigInteger y3 = r.multiply(u1h2.subtract(x3)).subtract(s1.multiply(h3)).mod(P);
+        final BigInteger z3 = h.multiply(p[2]).multiply(q[2]).mod(P);
+        return new BigInteger[]{x3, y3, z3};
+    }
+
+    @Nullable
+    private static BigInteger[] toAffine(BigInteger[] p) {
+        if (isInfinity(p)) {
+            return null;
+        }
+        final BigInteger zInv = p[2].modInverse(P);
+        final BigInteger zInv2 = zInv.multiply(zInv).mod(P);
+        return new BigInteger[]{
+                p[0].multiply(zInv2).mod(P),
+                p[1].multiply(zInv2).multiply(zInv).mod(P)
+        };
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (C) by MinterTeam. 2021
+ * @link <a href="https://github.com/MinterTeam">Org Github</a>
+ * @link <a href="https://github.com/edwardstock">Maintainer Github</a>
+ *
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package network.minter.blockchain.models.operational;
+
+import java.math.BigInteger;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import network.minter.core.MinterSDK;
+import network.minter.core.crypto.MinterAddress;
+import network.minter.core.crypto.PrivateKey;
+
+import static network.minter.blockchain.models.operational.Transaction.MAX_PAYLOAD_LENGTH;
+import static network.minter.core.internal.helpers.BytesHelper.bytesToChars;
+import static network.minter.core.internal.common.Preconditions.checkArgument;
+import static network.minter.core.internal.common.Preconditions.checkNotNull;
+
+/**
+ * Fast path for plain coin transfers: writes "send coin" transaction fields directly into rlp and signs it,
+ * without building {@link Transaction} and {@link TxSendCoin} objects. Result is byte-identical to
+ * <pre>
+ * new Transaction.Builder(nonce)
+ *     .setBlockchainId(chainId)
+ *     .setGasCoinId(gasCoinId)
+ *     .setGasPrice(gasPrice)
+ *     .setPayload(payload)
+ *     .sendCoin()
+ *     .setCoinId(coinId)
+ *     .setTo(to)
+ *     .setValue(value)
+ *     .build()
+ *     .signSingle(privateKey);
+ * </pre>
+ * Signer is immutable and thread-safe, one instance can be shared between threads.
+ * <p>
+ * minter-android-blockchain. 2021
+ *
+ * @author Eduard Maximovich (edward.vstock@gmail.com)
+ */
+public final class SendCoinSigner {
+    private final static int SIGNATURE_TYPE_SINGLE = 0x01;
+    private final BlockchainID mChainId;
+    private final BigInteger mGasCoinId;
+    private final BigInteger mGasPrice;
+
+    /**
+     * Signer with default gas coin and gas price 1
+     * @param chainId network identifier
+     */
+    public SendCoinSigner(@Nonnull BlockchainID chainId) {
+        this(chainId, MinterSDK.DEFAULT_COIN_ID, BigInteger.ONE);
+    }
+
+    /**
+     * @param chainId network identifier
+     * @param gasCoinId fee coin
+     * @param gasPrice commission multiplier
+     */
+    public SendCoinSigner(@Nonnull BlockchainID chainId, @Nonnull BigInteger gasCoinId, @Nonnull BigInteger gasPrice) {
+        mChainId = checkNotNull(chainId, "Blockchain ID can't be null");
+        mGasCoinId = checkNotNull(gasCoinId, "Gas coin can't be null");
+        mGasPrice = checkNotNull(gasPrice, "Gas price can't be null");
+    }
+
+    /**
+     * Sign transfer
+     * @param nonce address transaction count + 1
+     * @param coinId coin to send
+     * @param to recipient
+     * @param value amount multiplied by {@link Transaction#VALUE_MUL} (pips)
+     * @param payload optional payload, max 10000 bytes
+     * @param privateKey sender private key
+     * @return signed transaction or null if it can't be signed with given key
+     */
+    @Nullable
+    public TransactionSign sign(long nonce, @Nonnull BigInteger coinId, @Nonnull MinterAddress to, @Nonnull BigInteger value, @Nullable byte[] payload, @Nonnull PrivateKey privateKey) {
+        checkArgument(nonce >= 0, "Nonce can't be negative");
+        checkNotNull(coinId, "Coin ID can't be null");
+        checkNotNull(to, "Recipient can't be null");
+        checkNotNull(value, "Value can't be null");
+        checkArgument(value.signum() >= 0, "Value can't be negative");
+        checkArgument(payload == null || payload.length <= MAX_PAYLOAD_LENGTH, "Payload maximum size: 10000 bytes");
+        checkNotNull(privateKey, "Private key can't be null");
+
+        final RLPWriter writer = RLPWriter.obtain();
+        try {
+            writer.startList();
+            writeBody(writer, nonce, coinId, to, value, payload);
+            writer.writeLong(SIGNATURE_TYPE_SINGLE)
+                    .endList();
+            return Transaction.signEncodedSingle(writer, writer.toByteArray(), privateKey);
+        } finally {
+            writer.recycle();
+        }
+    }
+
+    /**
+     * Same as {@link #sign(long, BigInteger, MinterAddress, BigInteger, byte[], PrivateKey)}, but with {@link BigInteger} nonce
+     */
+    @Nullable
+    public TransactionSign sign(@Nonnull BigInteger nonce, @Nonnull BigInteger coinId, @Nonnull MinterAddress to, @Nonnull BigInteger value, @Nullable byte[] payload, @Nonnull PrivateKey privateKey) {
+        checkNotNull(nonce, "Nonce can't be null");
+        checkArgument(nonce.bitLength() < 64, "Nonce is too big");
+        return sign(nonce.longValue(), coinId, to, value, payload, privateKey);
+    }
+
+    // Transaction#writeBody() with TxSendCoin data written in place, without encoding it separately
+    private void writeBody(RLPWriter writer, long nonce, BigInteger coinId, MinterAddress to, BigInteger value, byte[] payload) {
+        writer.writeLong(nonce);
+        Transaction.writeHead(writer, mChainId, mGasPrice, mGasCoinId, OperationType.SendCoin)
+                .startEmbedded()
+                .startList()
+                .writeBigInt(coinId)
+                .writeChars(to.getData())
+                .writeBigInt(value)
+                .endList()
+                .endEmbedded();
+        Transaction.writeTail(writer, payload == null ? null : bytesToChars(payload), null);
+    }
+}
@@ -34,4 +34,9 @@ package network.minter.blockchain.models.operational;
  */
 public abstract class SignatureData extends RLPSerializable {
 
+    /**
+     * Overwrite signature bytes with zeroes, called when pooled transaction is released
+     */
+    void wipe() {
+    }
 }
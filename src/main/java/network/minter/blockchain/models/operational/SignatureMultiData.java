@@ -26,16 +26,19 @@
 
 package network.minter.blockchain.models.operational;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 import javax.annotation.Nonnull;
 
 import network.minter.core.crypto.MinterAddress;
 import network.minter.core.internal.helpers.BytesHelper;
-import network.minter.core.util.DecodeResult;
-import network.minter.core.util.RLPBoxed;
 
+import static network.minter.core.internal.common.Preconditions.checkArgument;
+import static network.minter.core.internal.common.Preconditions.checkNotNull;
 import static network.minter.core.internal.helpers.BytesHelper.addLeadingZeroes;
 
 /**
@@ -49,6 +52,53 @@ public final class SignatureMultiData extends SignatureData {
     public SignatureMultiData() {
     }
 
+    public SignatureMultiData(@Nonnull MinterAddress signatureAddress, @Nonnull List<SignatureSingleData> signatures) {
+        checkNotNull(signatureAddress, "Signature address can't be null");
+        checkNotNull(signatures, "Signatures can't be null");
+        setSigns(signatureAddress, signatures);
+    }
+
+    /**
+     * Merge partial signature sets (for example, collected from different machines) into one multisig data.
+     * Duplicate signatures are skipped, order of first occurrence is kept.
+     * @param signatureAddress multisig address
+     * @param parts partial signature sets
+     * @return merged multisig data
+     */
+    public static SignatureMultiData merge(@Nonnull MinterAddress signatureAddress, @Nonnull Collection<? extends Collection<SignatureSingleData>> parts) {
+        checkNotNull(signatureAddress, "Signature address can't be null");
+        checkNotNull(parts, "Signatures can't be null");
+
+        int total = 0;
+        for (Collection<SignatureSingleData> part : parts) {
+            total += part.size();
+        }
+
+        final Set<SignatureSingleData> unique = new LinkedHashSet<>(total);
+        for (Collection<SignatureSingleData> part : parts) {
+            for (SignatureSingleData sign : part) {
+                unique.add(checkNotNull(sign, "Signature can't be null"));
+            }
+        }
+
+        return new SignatureMultiData(signatureAddress, new ArrayList<>(unique));
+    }
+
+    /**
+     * Merge signatures of this and other multisig data into new one
+     * @param other multisig data with the same signature address
+     * @return merged multisig data
+     */
+    public SignatureMultiData merge(@Nonnull SignatureMultiData other) {
+        checkNotNull(other, "Other signature data can't be null");
+        checkArgument(mSignatureAddress != null && mSignatureAddress.equals(other.mSignatureAddress), "Can't merge signatures of different multisig addresses");
+
+        final List<List<SignatureSingleData>> parts = new ArrayList<>(2);
+        parts.add(mSignatures);
+        parts.add(other.mSignatures);
+        return merge(mSignatureAddress, parts);
+    }
+
     public MinterAddress getSignatureAddress() {
         return mSignatureAddress;
     }
@@ -65,7 +115,7 @@ public final class SignatureMultiData extends SignatureData {
 
         SignatureMultiData md = ((SignatureMultiData) obj);
 
-        if (md.mSignatureAddress != mSignatureAddress) {
+        if (mSignatureAddress == null ? md.mSignatureAddress != null : !mSignatureAddress.equals(md.mSignatureAddress)) {
             return false;
         }
 
@@ -74,44 +124,41 @@ public final class SignatureMultiData extends SignatureData {
         return mSignatures.equals(md.mSignatures);
     }
 
+    @Override
+    void wipe() {
+        if (mSignatures != null) {
+            for (SignatureSingleData signature : mSignatures) {
+                signature.wipe();
+            }
+        }
+    }
+
     protected void setSigns(MinterAddress signatureAddress, List<SignatureSingleData> signatures) {
         mSignatureAddress = signatureAddress;
         mSignatures = signatures;
     }
 
     @Override
-    protected void decodeRLP(@Nonnull char[] rlpEncodedData) {
-        final DecodeResult rlp = RLPBoxed.decode(rlpEncodedData, 0);
-        final Object[] decoded = (Object[]) rlp.getDecoded();
+    protected void readRLP(@Nonnull RLPReader reader) {
+        mSignatureAddress = new MinterAddress(addLeadingZeroes(reader.readChars(), 20));
 
-        char[] addressData = fromRawRlp(0, decoded);
-        mSignatureAddress = new MinterAddress(addLeadingZeroes(addressData, 20));
-
-        Object[] signs = (Object[]) decoded[1];
-        mSignatures = new LinkedList<>();
-        for (int i = 0; i < signs.length; i++) {
+        final RLPReader signs = reader.readList();
+        mSignatures = new ArrayList<>();
+        while (signs.hasNext()) {
+            final RLPReader vrs = signs.readList();
             final SignatureSingleData data = new SignatureSingleData();
-            // object array of object array contains 3 byte array (V R S)
-            data.decodeRaw(objArrToByteArrArr((Object[]) signs[i]));
-            mSignatures.add(i, data);
+            data.decodeRaw(new char[][]{vrs.readChars(), vrs.readChars(), vrs.readChars()});
+            mSignatures.add(data);
         }
     }
 
-    @Nonnull
     @Override
-    protected char[] encodeRLP() {
-        final Object[][] signatures = new Object[mSignatures.size()][];
-        for (int i = 0; i < mSignatures.size(); i++) {
-            signatures[i] = new Object[]{
-                    mSignatures.get(i).getV().getData(),
-                    BytesHelper.dropLeadingZeroes(mSignatures.get(i).getR().getData()),
-                    BytesHelper.dropLeadingZeroes(mSignatures.get(i).getS().getData()),
-            };
+    protected void writeRLP(@Nonnull RLPWriter writer) {
+        writer.writeBytesData(mSignatureAddress);
+        writer.startList();
+        for (SignatureSingleData signature : mSignatures) {
+            signature.encodeRLP(writer);
         }
-
-        return RLPBoxed.encode(new Object[]{
-                mSignatureAddress,
-                signatures
-        });
+        writer.endList();
     }
 }
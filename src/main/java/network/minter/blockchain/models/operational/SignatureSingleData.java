@@ -28,12 +28,12 @@ package network.minter.blockchain.models.operational;
 
 import com.edwardstock.secp256k1.NativeSecp256k1;
 
+import java.util.Arrays;
+
 import javax.annotation.Nonnull;
 
 import network.minter.core.crypto.BytesData;
 import network.minter.core.internal.helpers.BytesHelper;
-import network.minter.core.util.DecodeResult;
-import network.minter.core.util.RLPBoxed;
 
 import static network.minter.core.internal.common.Preconditions.checkArgument;
 
@@ -108,6 +108,27 @@ public final class SignatureSingleData extends SignatureData {
         return mV.equals(sd.getV()) && mR.equals(sd.getR()) && mS.equals(sd.getS());
     }
 
+    @Override
+    public int hashCode() {
+        int result = mV == null ? 0 : Arrays.hashCode(mV.getData());
+        result = 31 * result + (mR == null ? 0 : Arrays.hashCode(mR.getData()));
+        result = 31 * result + (mS == null ? 0 : Arrays.hashCode(mS.getData()));
+        return result;
+    }
+
+    @Override
+    void wipe() {
+        wipe(mV);
+        wipe(mR);
+        wipe(mS);
+    }
+
+    private static void wipe(BytesData data) {
+        if (data != null) {
+            Arrays.fill(data.getData(), (char) 0);
+        }
+    }
+
     protected void setSign(NativeSecp256k1.RecoverableSignature signature) {
         mV = new BytesData(signature.v, true);
         mR = new BytesData(signature.r, true);
@@ -139,27 +160,17 @@ public final class SignatureSingleData extends SignatureData {
         mS = new BytesData(BytesHelper.addLeadingZeroes(vrs[2], 32));
     }
 
-    @Nonnull
     @Override
-    protected char[] encodeRLP() {
-        char[] v = mV.getData();
-        char[] r = BytesHelper.dropLeadingZeroes(mR.getData());
-        char[] s = BytesHelper.dropLeadingZeroes(mS.getData());
-
-        return RLPBoxed.encode(new Object[]{v, r, s});
+    protected void writeRLP(@Nonnull RLPWriter writer) {
+        writer.writeBytesData(mV);
+        writer.writeChars(BytesHelper.dropLeadingZeroes(mR.getData()));
+        writer.writeChars(BytesHelper.dropLeadingZeroes(mS.getData()));
     }
 
-    /**
-     * Unused method cause can't decode with base argument type byte[], needs byte[][]
-     * @param rlpEncodedData
-     * @see #decodeRaw(byte[][])
-     */
     @Override
-    protected void decodeRLP(@Nonnull char[] rlpEncodedData) {
-        final DecodeResult rlp = RLPBoxed.decode(rlpEncodedData, 0);
-        final Object[] decoded = (Object[]) rlp.getDecoded();
-        mV = new BytesData(fromRawRlp(0, decoded));
-        mR = new BytesData(fromRawRlp(1, decoded));
-        mS = new BytesData(fromRawRlp(2, decoded));
+    protected void readRLP(@Nonnull RLPReader reader) {
+        mV = reader.readBytesData();
+        mR = reader.readBytesData();
+        mS = reader.readBytesData();
     }
 }
@@ -34,7 +34,14 @@ import java.math.BigInteger;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -42,18 +49,15 @@ import javax.annotation.Nullable;
 import network.minter.blockchain.BuildConfig;
 import network.minter.core.MinterSDK;
 import network.minter.core.crypto.BytesData;
+import network.minter.core.crypto.HashUtil;
 import network.minter.core.crypto.MinterAddress;
+import network.minter.core.crypto.MinterHash;
 import network.minter.core.crypto.PrivateKey;
-import network.minter.core.util.DecodeResult;
-import network.minter.core.util.RLPBoxed;
 
 import static network.minter.blockchain.models.operational.Transaction.SignatureType.Multi;
 import static network.minter.blockchain.models.operational.Transaction.SignatureType.Single;
 import static network.minter.core.internal.common.Preconditions.checkArgument;
 import static network.minter.core.internal.common.Preconditions.checkNotNull;
-import static network.minter.core.internal.common.Preconditions.firstNonNull;
-import static network.minter.core.internal.helpers.BytesHelper.charsToBytes;
-import static network.minter.core.internal.helpers.BytesHelper.fixBigintSignedByte;
 
 /**
  * minter-android-blockchain. 2018
@@ -64,7 +68,8 @@ public class Transaction {
     public final static BigInteger VALUE_MUL = new BigInteger("1000000000000000000", 10);
     public final static BigDecimal VALUE_MUL_DEC = new BigDecimal("1000000000000000000");
     public final static int MAX_PAYLOAD_LENGTH = 10000;
-    private final static Object sNativeLock = new Object();
+    // for less keys, signing on caller's thread is faster than passing work to executor
+    private final static int MIN_PARALLEL_SIGNATURES = 4;
     BigInteger mNonce;
     BlockchainID mChainId;
     BigInteger mGasPrice = BigInteger.ONE;
@@ -76,27 +81,53 @@ public class Transaction {
     BytesData mServiceData = new BytesData(new char[0]);
     SignatureType mSignatureType = Single;
     SignatureData mSignatureData;
+    // signature data given by caller (signExternal, signMultiExternal), it's not wiped on recycle
+    private boolean mExternalSignature;
+    // not yet decoded data and signature of lazy transaction, see fromEncodedLazy()
+    private RLPReader mPendingData;
+    private RLPReader mPendingSignature;
+    private SignatureType mPendingSignatureType;
+    // set for transactions created by TransactionPool
+    TransactionPool mPool;
+    Builder mPooledBuilder;
+    final AtomicBoolean mReleased = new AtomicBoolean(false);
+    // cleared operation of released pooled transaction, reused by builder
+    private Operation mRecycledData;
 
     public enum SignatureType {
-        Single((byte) 0x01, SignatureSingleData.class),
-        Multi((byte) 0x02, SignatureMultiData.class);
+        Single((byte) 0x01, SignatureSingleData.class, SignatureSingleData::new),
+        Multi((byte) 0x02, SignatureMultiData.class, SignatureMultiData::new);
 
         BigInteger mVal;
         Class<? extends SignatureData> mTypeClass;
+        private final Factory mFactory;
 
-        SignatureType(byte val, Class<? extends SignatureData> cls) {
+        interface Factory {
+            SignatureData create();
+        }
+
+        SignatureType(byte val, Class<? extends SignatureData> cls, Factory factory) {
             mVal = new BigInteger(String.valueOf(val));
             mTypeClass = cls;
+            mFactory = factory;
         }
 
         public static SignatureType findByValue(BigInteger val) {
-            for (SignatureType t : SignatureType.values()) {
-                if (t.getValue().equals(val)) {
-                    return t;
-                }
+            if (val == null || val.bitLength() > 2) {
+                return null;
+            }
+            switch (val.intValue()) {
+                case 0x01:
+                    return Single;
+                case 0x02:
+                    return Multi;
+                default:
+                    return null;
             }
+        }
 
-            return null;
+        SignatureData newSignatureData() {
+            return mFactory.create();
         }
 
         public BigInteger getValue() {
@@ -136,34 +167,108 @@ public class Transaction {
     public static Transaction fromEncoded(@Nonnull String hexEncoded) {
         checkNotNull(hexEncoded, "hexEncoded data can't be null");
         checkArgument(hexEncoded.length() > 0, "Encoded transaction is empty");
-        final BytesData bd = new BytesData(hexEncoded);
-        final DecodeResult rlp = RLPBoxed.decode(bd.getData(), 0);
-        final Object[] decoded = (Object[]) rlp.getDecoded();
+        return fromEncoded(new BytesData(hexEncoded).getBytes());
+    }
 
-        if (decoded.length < 10) {
-            throw new InvalidEncodedTransactionException("Encoded transaction has invalid data length: expected 10, given %d", decoded.length);
+    /**
+     * Decodes raw transaction bytes
+     * @param encoded transaction bytes
+     * @return Valid transaction with operation data
+     */
+    public static Transaction fromEncoded(@Nonnull byte[] encoded) {
+        checkNotNull(encoded, "Encoded data can't be null");
+        return fromEncoded(encoded, 0, encoded.length);
+    }
+
+    /**
+     * Decodes raw transaction directly from array region, without copying it
+     * @param encoded source array
+     * @param offset transaction offset in array
+     * @param length transaction length
+     * @return Valid transaction with operation data
+     */
+    public static Transaction fromEncoded(@Nonnull byte[] encoded, int offset, int length) {
+        checkNotNull(encoded, "Encoded data can't be null");
+        checkArgument(length > 0, "Encoded transaction is empty");
+        final RLPReader rlp = RLPReader.fromList(encoded, offset, length);
+        final int count = rlp.remaining();
+
+        if (count < 10) {
+            throw new InvalidEncodedTransactionException("Encoded transaction has invalid data length: expected 10, given %d", count);
         }
 
         Transaction transaction = new Transaction();
-        transaction.decodeRLP(decoded);
+        transaction.decodeRLP(rlp, false);
 
-        try {
-            transaction.mOperationData = transaction.mType.getOpClass().getDeclaredConstructor(Transaction.class).newInstance(transaction);
-            transaction.mOperationData.decodeRLP(transaction.fromRawRlp(5, decoded));
-        } catch (Throwable e) {
-            throw new InvalidEncodedTransactionException("Unable to decode transaction data field", e);
-        }
+        return transaction;
+    }
 
-        try {
-            transaction.mSignatureData = transaction.mSignatureType.getSignClass().newInstance();
-            transaction.mSignatureData.decodeRLP(transaction.fromRawRlp(9, decoded));
-        } catch (Throwable e) {
-            throw new InvalidEncodedTransactionException("Unable to decode transaction signature data field", e);
+    /**
+     * Decodes only transaction envelope: nonce, chain id, gas, type, payload and signature type.
+     * Operation data and signature are decoded on first {@link #getData()} or {@link #getSignatureData()} call,
+     * so errors in these fields are thrown from that calls, not from here.
+     * Useful to scan many transactions where only envelope fields are needed
+     * @param hexEncoded transaction in hex string
+     * @return transaction with lazy operation and signature data
+     */
+    public static Transaction fromEncodedLazy(@Nonnull String hexEncoded) {
+        checkNotNull(hexEncoded, "hexEncoded data can't be null");
+        checkArgument(hexEncoded.length() > 0, "Encoded transaction is empty");
+        final byte[] encoded = new BytesData(hexEncoded).getBytes();
+        return fromEncodedLazy(encoded, 0, encoded.length);
+    }
+
+    /**
+     * Same as {@link #fromEncodedLazy(String)}, but reads raw bytes
+     * @param encoded transaction bytes
+     * @return transaction with lazy operation and signature data
+     */
+    public static Transaction fromEncodedLazy(@Nonnull byte[] encoded) {
+        checkNotNull(encoded, "Encoded data can't be null");
+        return fromEncodedLazy(encoded, 0, encoded.length);
+    }
+
+    /**
+     * Same as {@link #fromEncodedLazy(String)}, but reads array region in place.
+     * Transaction keeps reference to source array, so it must not be modified until data and signature are decoded
+     * @param encoded source array
+     * @param offset transaction offset in array
+     * @param length transaction length
+     * @return transaction with lazy operation and signature data
+     */
+    public static Transaction fromEncodedLazy(@Nonnull byte[] encoded, int offset, int length) {
+        checkNotNull(encoded, "Encoded data can't be null");
+        checkArgument(length > 0, "Encoded transaction is empty");
+        final RLPReader rlp = RLPReader.fromList(encoded, offset, length);
+        final int count = rlp.remaining();
+
+        if (count < 10) {
+            throw new InvalidEncodedTransactionException("Encoded transaction has invalid data length: expected 10, given %d", count);
         }
 
+        Transaction transaction = new Transaction();
+        transaction.decodeRLP(rlp, true);
+
         return transaction;
     }
 
+    /**
+     * Decodes raw transaction from buffer remaining bytes. Heap buffers are read in place,
+     * direct buffers are copied once. Buffer position is not changed.
+     * @param encoded buffer with transaction bytes between position and limit
+     * @return Valid transaction with operation data
+     */
+    public static Transaction fromEncoded(@Nonnull ByteBuffer encoded) {
+        checkNotNull(encoded, "Encoded data can't be null");
+        if (encoded.hasArray()) {
+            return fromEncoded(encoded.array(), encoded.arrayOffset() + encoded.position(), encoded.remaining());
+        }
+
+        final byte[] data = new byte[encoded.remaining()];
+        encoded.duplicate().get(data);
+        return fromEncoded(data, 0, data.length);
+    }
+
     /**
      * Use this to decrease object lifetime (especially if you need to create final instance of this object)
      */
@@ -178,6 +283,75 @@ public class Transaction {
         mServiceData = null;
         mSignatureType = null;
         mSignatureData = null;
+        mExternalSignature = false;
+        mPendingData = null;
+        mPendingSignature = null;
+        mPendingSignatureType = null;
+    }
+
+    /**
+     * Return pooled transaction to its pool. Payload, service data and signature are overwritten
+     * with zeroes, so they don't stay in memory. Signature data passed to {@link #signExternal(SignatureSingleData)}
+     * or {@code signMultiExternal()} belongs to caller and is not zeroed. Transaction and its operation can't be used after this call.
+     * For transaction created without pool, only clears fields like {@link #cleanup()}, but also with zeroing.
+     * @see TransactionPool
+     */
+    public void recycle() {
+        if (mPool != null) {
+            mPool.release(this);
+        } else {
+            wipe();
+        }
+    }
+
+    /**
+     * Overwrite sensitive buffers with zeroes and clear fields. Operation is kept for reuse, if it supports it
+     */
+    void wipe() {
+        wipe(mPayload);
+        wipe(mServiceData);
+        if (mSignatureData != null && !mExternalSignature) {
+            mSignatureData.wipe();
+        }
+
+        final Operation data = mOperationData;
+        cleanup();
+        if (mPool != null && data != null && data.reset()) {
+            mRecycledData = data;
+        }
+    }
+
+    private static void wipe(BytesData data) {
+        if (data != null) {
+            Arrays.fill(data.getData(), (char) 0);
+        }
+    }
+
+    /**
+     * Set default fields, as new builder does
+     */
+    void reset(BigInteger nonce) {
+        mNonce = nonce;
+        mChainId = BuildConfig.BLOCKCHAIN_ID;
+        mGasPrice = BigInteger.ONE;
+        mGasCoinId = MinterSDK.DEFAULT_COIN_ID;
+        mPayload = new BytesData(new char[0]);
+        mServiceData = new BytesData(new char[0]);
+        mSignatureType = Single;
+    }
+
+    /**
+     * Take operation left from previous use of pooled transaction
+     * @return cleared operation or null if there is no operation of this class
+     */
+    @Nullable
+    <Op extends Operation> Op takeRecycledData(Class<Op> cls) {
+        if (!cls.isInstance(mRecycledData)) {
+            return null;
+        }
+        final Op data = cls.cast(mRecycledData);
+        mRecycledData = null;
+        return data;
     }
 
     /**
@@ -197,7 +371,7 @@ public class Transaction {
      * @return object extends {@link SignatureData}
      */
     public <SignData extends SignatureData> SignData getSignatureData(Class<SignData> cls) {
-        return cls.cast(mSignatureData);
+        return cls.cast(signatureData());
     }
 
     /**
@@ -207,7 +381,7 @@ public class Transaction {
      */
     @SuppressWarnings("unchecked")
     public <SignData extends SignatureData> SignData getSignatureData() {
-        return (SignData) mSignatureData;
+        return (SignData) signatureData();
     }
 
     public BigInteger getNonce() {
@@ -236,7 +410,23 @@ public class Transaction {
         mSignatureType = Multi;
         mSignatureData = new SignatureMultiData();
         ((SignatureMultiData) mSignatureData).setSigns(signatureAddress, signatureData);
-        return new TransactionSign(new BytesData(encode(false)).toHexString());
+        mExternalSignature = true;
+        return new TransactionSign(encode(false));
+    }
+
+    /**
+     * Does no signs transactions, only sets merged multisig data to the transaction.
+     * Use {@link SignatureMultiData#merge(MinterAddress, Collection)} to combine partial signature sets from different signers,
+     * transaction will be encoded only once.
+     * @param signatureData multisig address and signatures
+     * @return valid transaction ready to send
+     */
+    public TransactionSign signMultiExternal(@Nonnull SignatureMultiData signatureData) {
+        checkNotNull(signatureData, "Signature data can't be null");
+        mSignatureType = Multi;
+        mSignatureData = signatureData;
+        mExternalSignature = true;
+        return new TransactionSign(encode(false));
     }
 
     /**
@@ -246,44 +436,48 @@ public class Transaction {
      * @since 0.3.0
      */
     public TransactionSign signMulti(MinterAddress signatureAddress, @Nonnull final List<PrivateKey> privateKeys) {
-        mSignatureType = Multi;
-        checkArgument(privateKeys.size() > 0, "Private keys can't be empty");
+        return signMulti(signatureAddress, privateKeys, BatchExecutor.getDefault());
+    }
 
-        final BytesData rawTxData = new BytesData(encode(true));
-        final BytesData hash = rawTxData.sha3Data();
+    /**
+     * Sign multi signature transaction data with private keys. If there are many keys, signatures are computed
+     * in parallel on given executor
+     * @param signatureAddress multisig address
+     * @param privateKeys private key list to sign with
+     * @param executor executor to compute signatures on
+     * @return {@link TransactionSign} Raw transaction sign
+     */
+    public TransactionSign signMulti(MinterAddress signatureAddress, @Nonnull final List<PrivateKey> privateKeys, @Nonnull ExecutorService executor) {
+        checkArgument(privateKeys.size() > 0, "Private keys can't be empty");
 
-        final List<SignatureSingleData> signaturesData = new ArrayList<>(privateKeys.size());
-
-        synchronized (sNativeLock) {
-            long ctx = NativeSecp256k1.contextCreate();
-            try {
-                for (final PrivateKey pk : privateKeys) {
-                    final NativeSecp256k1.RecoverableSignature signature = NativeSecp256k1.signRecoverableSerialized(ctx, charsToBytes(hash.getData()), pk.getBytes());
-                    final SignatureSingleData signatureData = new SignatureSingleData();
-                    signatureData.setSign(signature);
-                    signaturesData.add(signatureData);
-                }
-            } finally {
-                // DON'T forget cleanup to avoid leaks
-                NativeSecp256k1.contextCleanup(ctx);
-            }
-        }
+        final byte[] body = encodeBody();
+        final List<SignatureSingleData> signaturesData = signHash(unsignedHash(body, Multi), privateKeys, executor);
 
+        mSignatureType = Multi;
         mSignatureData = new SignatureMultiData();
         ((SignatureMultiData) mSignatureData).setSigns(signatureAddress, signaturesData);
+        mExternalSignature = false;
 
-        return new TransactionSign(new BytesData(encode(false)).toHexString());
+        return new TransactionSign(encode(body, false));
     }
 
     /**
-     * After you set all tx data, you can get transaction hash ready to sign with secp256k1
-     * @return 32 byte hash
+     * After you set all tx data, you can get transaction hash ready to sign with secp256k1.
+     * Doesn't change transaction, so it's safe to call from many threads
+     * @return 32 byte hash for single signature
      */
     public BytesData getUnsignedTxHash() {
-        mSignatureType = Single;
-        char[] encoded = encode(true);
-        final BytesData rawTxData = new BytesData(encoded);
-        return rawTxData.sha3Data();
+        return getUnsignedTxHash(Single);
+    }
+
+    /**
+     * Transaction hash ready to sign with secp256k1, for given signature type. Doesn't change transaction
+     * @param signatureType single or multi signature
+     * @return 32 byte hash
+     */
+    public BytesData getUnsignedTxHash(@Nonnull SignatureType signatureType) {
+        checkNotNull(signatureType, "Signature type can't be null");
+        return new BytesData(unsignedHash(signatureType));
     }
 
     /**
@@ -292,8 +486,10 @@ public class Transaction {
      * @return valid transaction ready to send
      */
     public TransactionSign signExternal(SignatureSingleData signature) {
+        mSignatureType = Single;
         mSignatureData = signature;
-        return new TransactionSign(new BytesData(encode(false)).toHexString());
+        mExternalSignature = true;
+        return new TransactionSign(encode(false));
     }
 
     /**
@@ -304,8 +500,10 @@ public class Transaction {
      * @return valid transaction ready to send
      */
     public TransactionSign signExternal(char[] r, char[] s, char[] v) {
+        mSignatureType = Single;
         mSignatureData = new SignatureSingleData(r, s, v);
-        return new TransactionSign(new BytesData(encode(false)).toHexString());
+        mExternalSignature = true;
+        return new TransactionSign(encode(false));
     }
 
     /**
@@ -316,31 +514,20 @@ public class Transaction {
      */
     @Nullable
     public TransactionSign signSingle(@Nonnull final PrivateKey privateKey) {
-        mSignatureType = Single;
-        char[] encoded = encode(true);
-        final BytesData rawTxData = new BytesData(encoded);
-        final BytesData hash = rawTxData.sha3Data();
-
-        NativeSecp256k1.RecoverableSignature signature;
-
-        synchronized (sNativeLock) {
-            long ctx = NativeSecp256k1.contextCreate();
-            try {
-                signature = NativeSecp256k1.signRecoverableSerialized(ctx, charsToBytes(hash.getData()), privateKey.getBytes());
-            } finally {
-                // DON'T forget cleanup to avoid leaks
-                NativeSecp256k1.contextCleanup(ctx);
-            }
-        }
+        final byte[] body = encodeBody();
+        final NativeSecp256k1.RecoverableSignature signature = Secp256k1ContextPool.getDefault()
+                .signRecoverable(unsignedHash(body, Single), privateKey.getBytes());
 
         if (signature == null) {
             return null;
         }
 
+        mSignatureType = Single;
         mSignatureData = new SignatureSingleData();
         ((SignatureSingleData) mSignatureData).setSign(signature);
+        mExternalSignature = false;
 
-        return new TransactionSign(new BytesData(encode(false)).toHexString());
+        return new TransactionSign(encode(body, false));
     }
 
     /**
@@ -350,59 +537,137 @@ public class Transaction {
      */
     @Nullable
     public SignatureSingleData signOnlyMulti(PrivateKey privateKey) {
-        mSignatureType = Multi;
-        char[] encoded = encode(true);
-        final BytesData rawTxData = new BytesData(encoded);
-        final BytesData hash = rawTxData.sha3Data();
-
-        NativeSecp256k1.RecoverableSignature signature;
+        return signOnly(unsignedHash(Multi), privateKey);
+    }
 
-        synchronized (sNativeLock) {
-            long ctx = NativeSecp256k1.contextCreate();
-            try {
-                signature = NativeSecp256k1.signRecoverableSerialized(ctx, charsToBytes(hash.getData()), privateKey.getBytes());
-            } finally {
-                // DON'T forget cleanup to avoid leaks
-                NativeSecp256k1.contextCleanup(ctx);
-            }
-        }
+    /**
+     * Just sign transaction with private key and get raw signature
+     * @param privateKey your private key
+     * @return valid signature or null if data is invalid
+     */
+    @Nullable
+    public SignatureSingleData signOnlySingle(PrivateKey privateKey) {
+        return signOnly(unsignedHash(Single), privateKey);
+    }
 
-        if (signature == null) {
+    /**
+     * Recover sender address from signature without any network request. Works with signed transactions
+     * and with transactions decoded using {@link #fromEncoded(String)}.
+     * Multisig address can't be recovered from signatures, transaction only names it, so for multisig transaction
+     * returns null: use {@link #recoverSigners()} or {@link #verify(MinterAddress, Map, int)}
+     * @return sender address or null if transaction is not signed, is multisig or signature is invalid
+     */
+    @Nullable
+    public MinterAddress recoverSender() {
+        final SignatureData signatureData = signatureData();
+        if (signatureData == null || operationData() == null || mSignatureType == Multi) {
             return null;
         }
 
-        return new SignatureSingleData(signature);
+        return Secp256k1Recovery.recoverAddress(unsignedHash(), (SignatureSingleData) signatureData);
     }
 
     /**
-     * Just sign transaction with private key and get raw signature
-     * @param privateKey your private key
-     * @return valid signature or null if data is invalid
+     * Recover addresses of all signers. For single signature transaction list contains one address
+     * @return signers address list in signature order or null if transaction is not signed or any signature is invalid
      */
     @Nullable
-    public SignatureSingleData signOnlySingle(PrivateKey privateKey) {
-        mSignatureType = Single;
-        char[] encoded = encode(true);
-        final BytesData rawTxData = new BytesData(encoded);
-        final BytesData hash = rawTxData.sha3Data();
+    public List<MinterAddress> recoverSigners() {
+        final SignatureData signatureData = signatureData();
+        if (signatureData == null || operationData() == null) {
+            return null;
+        }
 
-        NativeSecp256k1.RecoverableSignature signature;
+        final byte[] hash = unsignedHash();
+        if (mSignatureType == Single) {
+            final MinterAddress signer = Secp256k1Recovery.recoverAddress(hash, (SignatureSingleData) signatureData);
+            return signer == null ? null : Collections.singletonList(signer);
+        }
 
-        synchronized (sNativeLock) {
-            long ctx = NativeSecp256k1.contextCreate();
-            try {
-                signature = NativeSecp256k1.signRecoverableSerialized(ctx, charsToBytes(hash.getData()), privateKey.getBytes());
-            } finally {
-                // DON'T forget cleanup to avoid leaks
-                NativeSecp256k1.contextCleanup(ctx);
+        final List<SignatureSingleData> signatures = ((SignatureMultiData) signatureData).getSignatures();
+        if (signatures == null || signatures.isEmpty()) {
+            return null;
+        }
+        final List<MinterAddress> out = new ArrayList<>(signatures.size());
+        for (SignatureSingleData sig : signatures) {
+            final MinterAddress signer = Secp256k1Recovery.recoverAddress(hash, sig);
+            if (signer == null) {
+                return null;
             }
+            out.add(signer);
         }
+        return out;
+    }
 
-        if (signature == null) {
-            return null;
+    /**
+     * Verify single signature transaction offline
+     * @param sender expected sender address
+     * @return true if signature is valid and belongs to given sender. Always false for multisig transaction,
+     * use {@link #verify(MinterAddress, Map, int)} for it
+     */
+    public boolean verify(@Nonnull MinterAddress sender) {
+        checkNotNull(sender, "Sender address required");
+        final MinterAddress recovered = recoverSender();
+        return recovered != null && recovered.equals(sender);
+    }
+
+    /**
+     * Verify multisig transaction offline against multisig settings (take them from node by multisig address).
+     * Transaction must name given multisig address, every signature must belong to one of its owners
+     * and sum of owners weights must reach threshold. Each owner is counted once
+     * @param multisig expected multisig address
+     * @param weights owner address to its weight
+     * @param threshold multisig threshold
+     * @return true if transaction is signed by enough owners of given multisig address
+     */
+    public boolean verify(@Nonnull MinterAddress multisig, @Nonnull Map<MinterAddress, Integer> weights, int threshold) {
+        checkNotNull(multisig, "Multisig address required");
+        checkNotNull(weights, "Weights required");
+        if (mSignatureType != Multi) {
+            return false;
+        }
+        final SignatureData signatureData = signatureData();
+        if (signatureData == null || !multisig.equals(((SignatureMultiData) signatureData).getSignatureAddress())) {
+            return false;
+        }
+        final List<MinterAddress> signers = recoverSigners();
+        if (signers == null) {
+            return false;
+        }
+
+        final Set<MinterAddress> counted = new HashSet<>(signers.size());
+        long weight = 0;
+        for (MinterAddress signer : signers) {
+            final Integer signerWeight = weights.get(signer);
+            if (signerWeight == null) {
+                return false;
+            }
+            if (counted.add(signer)) {
+                weight += signerWeight;
+            }
         }
+        return weight >= threshold;
+    }
 
-        return new SignatureSingleData(signature);
+    // hash for current signature type
+    private byte[] unsignedHash() {
+        return unsignedHash(mSignatureType);
+    }
+
+    private byte[] unsignedHash(SignatureType signatureType) {
+        final RLPWriter writer = RLPWriter.obtain();
+        try {
+            writer.startList();
+            writeBody(writer);
+            writeSignature(writer, signatureType, null);
+            return HashUtil.sha3(writer.endList().toByteArray());
+        } finally {
+            writer.recycle();
+        }
+    }
+
+    private static byte[] unsignedHash(byte[] body, SignatureType signatureType) {
+        return HashUtil.sha3(encodeUnsigned(body, signatureType));
     }
 
     /**
@@ -412,7 +677,7 @@ public class Transaction {
      * @return object extends {@link Operation}
      */
     public <OpType extends Operation> OpType getData(Class<OpType> cls) {
-        return cls.cast(mOperationData);
+        return cls.cast(operationData());
     }
 
     /**
@@ -422,11 +687,12 @@ public class Transaction {
      */
     @SuppressWarnings("unchecked")
     public <OpType extends Operation> OpType getData() {
-        return (OpType) mOperationData;
+        return (OpType) operationData();
     }
 
     <Op extends Operation> Transaction setData(Op operationData) {
         mOperationData = operationData;
+        mPendingData = null;
         mType = operationData.getType();
         return this;
     }
@@ -463,51 +729,389 @@ public class Transaction {
         return new String(getPayload().getData());
     }
 
-    char[] fromRawRlp(int idx, Object[] raw) {
-        if (raw[idx] instanceof String) {
-            return ((String) raw[idx]).toCharArray();
+    /**
+     * Sign encoded unsigned transaction (with single signature type) and build signed form
+     * without decoding it. Used by fast paths that write transaction fields directly
+     * @param writer writer to build signed form, it's reset
+     * @param unsigned encoded unsigned transaction list
+     * @param privateKey private key
+     * @return signed transaction or null if it can't be signed with given key
+     */
+    @Nullable
+    static TransactionSign signEncodedSingle(RLPWriter writer, byte[] unsigned, PrivateKey privateKey) {
+        final NativeSecp256k1.RecoverableSignature signature = Secp256k1ContextPool.getDefault()
+                .signRecoverable(HashUtil.sha3(unsigned), privateKey.getBytes());
+        if (signature == null) {
+            return null;
         }
-        return (char[]) raw[idx];
+
+        // signed form has the same fields as unsigned one, plus signature data
+        final int prefix = unsigned[0] & 0xFF;
+        final int prefixLength = prefix <= RLPWriter.OFFSET_LONG_LIST ? 1 : 1 + (prefix - RLPWriter.OFFSET_LONG_LIST);
+        writer.reset()
+                .startList()
+                .writeEncoded(unsigned, prefixLength, unsigned.length - prefixLength)
+                .startEmbedded()
+                .startList()
+                .writeBytes(signature.v);
+        // r and s are written without leading zeroes, as SignatureSingleData does
+        writeWithoutLeadingZeroes(writer, signature.r);
+        writeWithoutLeadingZeroes(writer, signature.s);
+        writer.endList()
+                .endEmbedded()
+                .endList();
+
+        return new TransactionSign(writer.toByteArray());
+    }
+
+    private static void writeWithoutLeadingZeroes(RLPWriter writer, byte[] value) {
+        int offset = 0;
+        while (offset < value.length - 1 && value[offset] == 0) {
+            offset++;
+        }
+        writer.writeBytes(value, offset, value.length - offset);
     }
 
     /**
-     * Object[] contains exact 10 elements
-     * @param raw rlp encoded bytes array
+     * Sign hash with each key. If there are many keys, signatures are computed in parallel on given executor
      */
-    void decodeRLP(Object[] raw) {
-        mNonce = fixBigintSignedByte(raw[0]);
-        mChainId = BlockchainID.valueOf(fixBigintSignedByte(fromRawRlp(1, raw)));
-        mGasPrice = fixBigintSignedByte((raw[2]));
-        mGasCoinId = fixBigintSignedByte((raw[3]));
-        mType = OperationType.findByValue(new BigInteger(charsToBytes(fromRawRlp(4, raw))));
-        mPayload = new BytesData(fromRawRlp(6, raw));
-        mServiceData = new BytesData(fromRawRlp(7, raw));
-        mSignatureType = SignatureType.findByValue(new BigInteger(charsToBytes(fromRawRlp(8, raw))));
+    static List<SignatureSingleData> signHash(final byte[] hash, List<PrivateKey> privateKeys, ExecutorService executor) {
+        if (privateKeys.size() < MIN_PARALLEL_SIGNATURES) {
+            final List<SignatureSingleData> signaturesData = new ArrayList<>(privateKeys.size());
+            for (final PrivateKey pk : privateKeys) {
+                signaturesData.add(signHash(hash, pk));
+            }
+            return signaturesData;
+        }
+
+        return BatchExecutor.map(executor, privateKeys, new BatchExecutor.Task<PrivateKey, SignatureSingleData>() {
+            @Override
+            public SignatureSingleData apply(int index, PrivateKey pk) {
+                return signHash(hash, pk);
+            }
+        });
     }
 
-    char[] encode(boolean excludeSignature) {
-        final char[] data = mOperationData.encodeRLP();
+    @Nullable
+    static SignatureSingleData signOnly(byte[] hash, PrivateKey privateKey) {
+        final NativeSecp256k1.RecoverableSignature signature = Secp256k1ContextPool.getDefault()
+                .signRecoverable(hash, privateKey.getBytes());
 
-        if (excludeSignature) {
-            return RLPBoxed.encode(new Object[]{
-                    mNonce, BigInteger.valueOf(mChainId.getId()), mGasPrice, mGasCoinId, mOperationData.getType().getValue(),
-                    data,
-                    mPayload.getData(),
-                    mServiceData.getData(),
-                    mSignatureType.getValue()
-            });
+        if (signature == null) {
+            return null;
         }
 
-        final char[] signData = mSignatureData.encodeRLP();
+        return new SignatureSingleData(signature);
+    }
 
-        return RLPBoxed.encode(new Object[]{
-                mNonce.toByteArray(), BigInteger.valueOf(mChainId.getId()), mGasPrice, mGasCoinId, mOperationData.getType().getValue(),
-                data,
-                mPayload.getData(),
-                mServiceData.getData(),
-                mSignatureType.getValue(),
-                signData
-        });
+    private static SignatureSingleData signHash(byte[] hash, PrivateKey privateKey) {
+        final NativeSecp256k1.RecoverableSignature signature = Secp256k1ContextPool.getDefault().signRecoverable(hash, privateKey.getBytes());
+        final SignatureSingleData signatureData = new SignatureSingleData();
+        signatureData.setSign(signature);
+        return signatureData;
+    }
+
+    /**
+     * Reader contains exact 10 elements
+     * @param raw rlp list reader
+     * @param lazy if true, operation and signature fields are kept undecoded until first access
+     */
+    void decodeRLP(RLPReader raw, boolean lazy) {
+        mNonce = raw.readBigInt();
+        mChainId = BlockchainID.valueOf(raw.readBigInt());
+        mGasPrice = raw.readBigInt();
+        mGasCoinId = raw.readBigInt();
+        mType = OperationType.findByValue(raw.readBigInt());
+        final RLPReader data = raw.readEmbeddedList();
+        mPayload = raw.readBytesData();
+        mServiceData = raw.readBytesData();
+        mSignatureType = SignatureType.findByValue(raw.readBigInt());
+        final RLPReader signature = raw.readEmbeddedList();
+
+        if (lazy) {
+            mPendingData = data;
+            mPendingSignature = signature;
+            // signing methods may change signature type before pending signature is decoded
+            mPendingSignatureType = mSignatureType;
+            return;
+        }
+
+        mOperationData = decodeData(data);
+        mSignatureData = decodeSignature(mSignatureType, signature);
+    }
+
+    /**
+     * Operation data, decodes pending data of lazy transaction on first call
+     */
+    Operation operationData() {
+        if (mPendingData != null) {
+            mOperationData = decodeData(mPendingData);
+            mPendingData = null;
+        }
+        return mOperationData;
+    }
+
+    /**
+     * Signature data, decodes pending signature of lazy transaction on first call,
+     * if transaction wasn't signed again before
+     */
+    private SignatureData signatureData() {
+        if (mPendingSignature != null) {
+            if (mSignatureData == null) {
+                mSignatureData = decodeSignature(mPendingSignatureType, mPendingSignature);
+            }
+            mPendingSignature = null;
+            mPendingSignatureType = null;
+        }
+        return mSignatureData;
+    }
+
+    private Operation decodeData(RLPReader data) {
+        try {
+            final Operation operation = mType.newOperation(this);
+            operation.readRLP(data);
+            return operation;
+        } catch (Throwable e) {
+            throw new InvalidEncodedTransactionException("Unable to decode transaction data field", e);
+        }
+    }
+
+    private static SignatureData decodeSignature(SignatureType type, RLPReader signature) {
+        try {
+            final SignatureData signatureData = type.newSignatureData();
+            signatureData.readRLP(signature);
+            return signatureData;
+        } catch (Throwable e) {
+            throw new InvalidEncodedTransactionException("Unable to decode transaction signature data field", e);
+        }
+    }
+
+    /**
+     * Size of signed transaction encoding, to allocate exact buffer for {@link #encodeTo(byte[], int)}.
+     * Size is not calculated separately: whole transaction is encoded to count bytes, so {@code encodedSize()} followed by
+     * {@code encodeTo()} encodes it twice. To encode once, pass buffer with enough space to {@code encodeTo()} and use
+     * returned length
+     * @return bytes count
+     * @throws IllegalStateException if transaction is not signed yet
+     */
+    public int encodedSize() {
+        checkSigned();
+        final RLPWriter writer = RLPWriter.obtain();
+        try {
+            encode(writer, false);
+            return writer.size();
+        } finally {
+            writer.recycle();
+        }
+    }
+
+    /**
+     * Write signed transaction bytes (same as {@link TransactionSign}) into array. Transaction is encoded into
+     * thread-local writer buffer, without intermediate arrays, then copied to destination once. Nothing is written
+     * if it doesn't fit
+     * @param dest target array, must have at least {@link #encodedSize()} bytes after offset
+     * @param offset target offset
+     * @return number of written bytes
+     * @throws IllegalStateException if transaction is not signed yet
+     */
+    public int encodeTo(@Nonnull byte[] dest, int offset) {
+        checkNotNull(dest, "Destination array can't be null");
+        checkSigned();
+        final RLPWriter writer = RLPWriter.obtain();
+        try {
+            encode(writer, false);
+            return writer.writeTo(dest, offset);
+        } finally {
+            writer.recycle();
+        }
+    }
+
+    /**
+     * Write signed transaction bytes (same as {@link TransactionSign}) into buffer at its position. Transaction is
+     * encoded into thread-local writer buffer, without intermediate arrays, then copied to destination once. Nothing is
+     * written if it doesn't fit
+     * @param dest target buffer (heap or direct), must have at least {@link #encodedSize()} remaining bytes
+     * @return number of written bytes
+     * @throws IllegalStateException if transaction is not signed yet
+     */
+    public int encodeTo(@Nonnull ByteBuffer dest) {
+        checkNotNull(dest, "Destination buffer can't be null");
+        checkSigned();
+        final RLPWriter writer = RLPWriter.obtain();
+        try {
+            encode(writer, false);
+            return writer.writeTo(dest);
+        } finally {
+            writer.recycle();
+        }
+    }
+
+    /**
+     * Create template to sign transactions of the same shape with different nonce or operation data
+     * @return template with this transaction fields
+     * @see TransactionTemplate
+     */
+    public TransactionTemplate toTemplate() {
+        return new TransactionTemplate(this);
+    }
+
+    /**
+     * Create immutable copy of this transaction, that can be hashed and signed from many threads at once
+     * @return frozen transaction without signature
+     * @see FrozenTransaction
+     */
+    public FrozenTransaction freeze() {
+        return new FrozenTransaction(this);
+    }
+
+    /**
+     * Compute hash of signed transaction locally, without sending it. Node returns the same hash after sending.
+     * @return transaction hash
+     * @throws IllegalStateException if transaction is not signed yet
+     */
+    public MinterHash getHash() {
+        checkSigned();
+        return new MinterHash(HashUtil.sha256(encode(false)));
+    }
+
+    private void checkSigned() {
+        if (signatureData() == null) {
+            throw new IllegalStateException("Transaction is not signed");
+        }
+    }
+
+    byte[] encode(boolean excludeSignature) {
+        final RLPWriter writer = RLPWriter.obtain();
+        try {
+            encode(writer, excludeSignature);
+            return writer.toByteArray();
+        } finally {
+            writer.recycle();
+        }
+    }
+
+    private byte[] encode(byte[] body, boolean excludeSignature) {
+        final RLPWriter writer = RLPWriter.obtain();
+        try {
+            encode(writer, body, mSignatureType, excludeSignature ? null : signatureData());
+            return writer.toByteArray();
+        } finally {
+            writer.recycle();
+        }
+    }
+
+    // writes body in place, without encoding operation data and body into separate arrays
+    private void encode(RLPWriter writer, boolean excludeSignature) {
+        writer.startList();
+        writeBody(writer);
+        writeSignature(writer, mSignatureType, excludeSignature ? null : signatureData());
+        writer.endList();
+    }
+
+    /**
+     * Encode transaction list from encoded body (see {@link #encodeBody()}) and signature
+     * @param signatureData signature or null to encode unsigned form
+     */
+    static void encode(RLPWriter writer, byte[] body, SignatureType signatureType, @Nullable SignatureData signatureData) {
+        writer.startList()
+                .writeEncoded(body);
+        writeSignature(writer, signatureType, signatureData);
+        writer.endList();
+    }
+
+    private static void writeSignature(RLPWriter writer, SignatureType signatureType, @Nullable SignatureData signatureData) {
+        writer.writeBigInt(signatureType.getValue());
+        if (signatureData != null) {
+            // signature data is encoded as a byte string item, not as a nested list
+            writer.startEmbedded();
+            signatureData.encodeRLP(writer);
+            writer.endEmbedded();
+        }
+    }
+
+    static byte[] encodeUnsigned(byte[] body, SignatureType signatureType) {
+        final RLPWriter writer = RLPWriter.obtain();
+        try {
+            encode(writer, body, signatureType, null);
+            return writer.toByteArray();
+        } finally {
+            writer.recycle();
+        }
+    }
+
+    /**
+     * Encoded fields from nonce to service data, without list prefix. Same for signed and unsigned forms,
+     * so sign methods encode it once and use for both hash and signed form. It's not kept between calls,
+     * as builder and operation setters change transaction at any time
+     */
+    private byte[] encodeBody() {
+        final RLPWriter writer = RLPWriter.obtain();
+        try {
+            writeBody(writer);
+            return writer.toByteArray();
+        } finally {
+            writer.recycle();
+        }
+    }
+
+    // operation data is encoded right into its place in body
+    private void writeBody(RLPWriter writer) {
+        final Operation data = operationData();
+        startBody(writer, mNonce, mChainId, mGasPrice, mGasCoinId, data.getType());
+        data.encodeRLP(writer);
+        endBody(writer, mPayload == null ? null : mPayload.getData(), mServiceData == null ? null : mServiceData.getData());
+    }
+
+    /**
+     * Write transaction fields from nonce to service data, without list prefix. Body format is defined only here:
+     * nonce, {@link #writeHead head}, operation data as embedded rlp list and {@link #writeTail tail}.
+     * {@link FrozenTransaction} encodes its body with this method, {@link TransactionTemplate} and {@link SendCoinSigner}
+     * use the same segment writers
+     * @param data encoded operation data list
+     * @return writer
+     */
+    static RLPWriter writeBody(RLPWriter writer, BigInteger nonce, BlockchainID chainId, BigInteger gasPrice, BigInteger gasCoinId,
+                               OperationType type, byte[] data, @Nullable char[] payload, @Nullable char[] serviceData) {
+        startBody(writer, nonce, chainId, gasPrice, gasCoinId, type).writeEncoded(data);
+        return endBody(writer, payload, serviceData);
+    }
+
+    /**
+     * Write nonce, {@link #writeHead head} and open embedded item for operation data, which caller writes next
+     * @return writer
+     */
+    static RLPWriter startBody(RLPWriter writer, BigInteger nonce, BlockchainID chainId, BigInteger gasPrice, BigInteger gasCoinId, OperationType type) {
+        writer.writeBigInt(nonce);
+        return writeHead(writer, chainId, gasPrice, gasCoinId, type)
+                .startEmbedded();
+    }
+
+    /**
+     * Close operation data item opened by {@link #startBody} and write {@link #writeTail tail}
+     * @return writer
+     */
+    static RLPWriter endBody(RLPWriter writer, @Nullable char[] payload, @Nullable char[] serviceData) {
+        return writeTail(writer.endEmbedded(), payload, serviceData);
+    }
+
+    /**
+     * Write body fields between nonce and operation data: chain id, gas price, gas coin id and type
+     * @return writer
+     */
+    static RLPWriter writeHead(RLPWriter writer, BlockchainID chainId, BigInteger gasPrice, BigInteger gasCoinId, OperationType type) {
+        return writer.writeLong(chainId.getId())
+                .writeBigInt(gasPrice)
+                .writeBigInt(gasCoinId)
+                .writeBigInt(type.getValue());
+    }
+
+    /**
+     * Write body fields after operation data: payload and service data
+     * @return writer
+     */
+    static RLPWriter writeTail(RLPWriter writer, @Nullable char[] payload, @Nullable char[] serviceData) {
+        return writer.writeChars(payload)
+                .writeChars(serviceData);
     }
 
     FieldsValidationResult validate() {
@@ -515,7 +1119,7 @@ public class Transaction {
                 .addResult("nonce", mNonce != null, "Nonce must be set")
                 .addResult("gasCoinId", mGasCoinId != null, "Gas coin ID must be set")
                 .addResult("gasPrice", mGasPrice != null, "Gas price must be set")
-                .addResult("operationData", mOperationData !=
+                .addResult("operationData", operationData() !=
                         null, "Transaction data does not set! Check your operation model.");
     }
 
@@ -534,7 +1138,8 @@ public class Transaction {
             checkArgument(externalTransaction.mOperationData != null, "Transaction data must be set");
             mTx.mType = externalTransaction.getType();
             mTx.mOperationData = externalTransaction.mOperationData;
-            mTx.mPayload = firstNonNull(externalTransaction.getPayload(), new BytesData(new char[0]));
+            // copy, so recycle() doesn't zero payload of external transaction
+            mTx.mPayload = externalTransaction.getPayload() == null ? new BytesData(new char[0]) : new BytesData(externalTransaction.getPayload().getData(), true);
             if (externalTransaction.getGasCoinId() == null) {
                 mTx.mGasCoinId = MinterSDK.DEFAULT_COIN_ID;
             } else {
@@ -560,6 +1165,13 @@ public class Transaction {
             mTx.mChainId = BuildConfig.BLOCKCHAIN_ID;
         }
 
+        /**
+         * Builder of pooled transaction, see {@link TransactionPool}
+         */
+        Builder(Transaction pooled) {
+            mTx = pooled;
+        }
+
         /**
          * Build {@link Transaction} via {@link ExternalTransaction} passed to special constructor. This means, all data from ExternalTransaction will be copied to normal transaction
          * @return valid {@link Transaction} with data from {@link ExternalTransaction}
@@ -691,6 +1303,10 @@ public class Transaction {
          * @return
          */
         public <Op extends Operation> Op create(Class<Op> operationClass) {
+            final OperationType type = OperationType.findByOpClass(operationClass);
+            if (type != null) {
+                return operationClass.cast(type.newOperation(mTx));
+            }
             try {
                 return operationClass.getDeclaredConstructor(Transaction.class).newInstance(mTx);
             } catch (InstantiationException e) {
@@ -781,7 +1397,8 @@ public class Transaction {
          * @return {@link TxSendCoin}
          */
         public TxSendCoin sendCoin() {
-            return new TxSendCoin(mTx);
+            final TxSendCoin recycled = mTx.takeRecycledData(TxSendCoin.class);
+            return recycled != null ? recycled : new TxSendCoin(mTx);
         }
 
         /**
@@ -805,7 +1422,8 @@ public class Transaction {
          * @return {@link TxMultisend}
          */
         public TxMultisend multiSend() {
-            return new TxMultisend(mTx);
+            final TxMultisend recycled = mTx.takeRecycledData(TxMultisend.class);
+            return recycled != null ? recycled : new TxMultisend(mTx);
         }
 
         /**
@@ -0,0 +1,200 @@
+/*
+ * Copyright (C) by MinterTeam. 2021
+ * @link <a href="https://github.com/MinterTeam">Org Github</a>
+ * @link <a href="https://github.com/edwardstock">Maintainer Github</a>
+ *
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package network.minter.blockchain.models.operational;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import network.minter.core.crypto.BytesData;
+
+import static network.minter.core.internal.common.Preconditions.checkNotNull;
+
+/**
+ * Decodes many raw transactions in parallel, for example all transactions of block or mempool
+ * ({@code HistoryTransaction#rawTx}, {@code UnconfirmedTransactions#getRawTransactions()}).
+ * <p>
+ * Items are split into chunks and decoded on executor (by default, shared pool with threads count equals
+ * to available processors). Invalid item doesn't break the batch: its {@link Result} contains error instead of transaction.
+ * <pre>
+ * List&lt;TransactionBatchDecoder.Result&gt; results = new TransactionBatchDecoder().decode(rawTransactions);
+ * for (TransactionBatchDecoder.Result result : results) {
+ *     if (result.isSuccess()) {
+ *         index(result.getTransaction());
+ *     } else {
+ *         log(result.getIndex(), result.getError());
+ *     }
+ * }
+ * </pre>
+ * <p>
+ * minter-android-blockchain. 2021
+ *
+ * @author Eduard Maximovich (edward.vstock@gmail.com)
+ */
+public final class TransactionBatchDecoder {
+    private final ExecutorService mExecutor;
+    private final boolean mLazy;
+
+    /**
+     * Create decoder that fully decodes transactions on shared executor
+     */
+    public TransactionBatchDecoder() {
+        this(BatchExecutor.getDefault(), false);
+    }
+
+    /**
+     * @param executor custom executor
+     * @param lazy if true, transactions are decoded with {@link Transaction#fromEncodedLazy(byte[])}: only envelope fields
+     *             are checked, errors in operation data or signature are thrown later, on first access
+     */
+    public TransactionBatchDecoder(@Nonnull ExecutorService executor, boolean lazy) {
+        mExecutor = checkNotNull(executor, "Executor can't be null");
+        mLazy = lazy;
+    }
+
+    /**
+     * Decode hex-encoded transactions
+     * @param hexEncoded raw transactions in hex (with or without 0x prefix)
+     * @return results in the same order
+     */
+    public List<Result> decode(@Nonnull List<String> hexEncoded) {
+        checkNotNull(hexEncoded, "Encoded transactions can't be null");
+        return BatchExecutor.map(mExecutor, hexEncoded, new BatchExecutor.Task<String, Result>() {
+            @Override
+            public Result apply(int index, String raw) {
+                return decodeItem(index, raw);
+            }
+        });
+    }
+
+    /**
+     * Decode raw transactions
+     * @param encoded raw transactions bytes
+     * @return results in the same order
+     */
+    public List<Result> decodeBytes(@Nonnull List<byte[]> encoded) {
+        checkNotNull(encoded, "Encoded transactions can't be null");
+        return BatchExecutor.map(mExecutor, encoded, new BatchExecutor.Task<byte[], Result>() {
+            @Override
+            public Result apply(int index, byte[] raw) {
+                return decodeItem(index, raw);
+            }
+        });
+    }
+
+    /**
+     * Decode raw transactions as they come from node api, like {@code HistoryTransaction#rawTx}
+     * @param encoded raw transactions
+     * @return results in the same order
+     */
+    public List<Result> decodeData(@Nonnull List<BytesData> encoded) {
+        checkNotNull(encoded, "Encoded transactions can't be null");
+        return BatchExecutor.map(mExecutor, encoded, new BatchExecutor.Task<BytesData, Result>() {
+            @Override
+            public Result apply(int index, BytesData raw) {
+                return decodeItem(index, raw == null ? null : raw.getBytes());
+            }
+        });
+    }
+
+    private Result decodeItem(int index, String raw) {
+        if (raw == null) {
+            return Result.failure(index, new InvalidEncodedTransactionException("Transaction is null"));
+        }
+        try {
+            return Result.success(index, mLazy ? Transaction.fromEncodedLazy(raw) : Transaction.fromEncoded(raw));
+        } catch (RuntimeException e) {
+            return Result.failure(index, e);
+        }
+    }
+
+    private Result decodeItem(int index, byte[] raw) {
+        if (raw == null) {
+            return Result.failure(index, new InvalidEncodedTransactionException("Transaction is null"));
+        }
+        try {
+            return Result.success(index, mLazy ? Transaction.fromEncodedLazy(raw) : Transaction.fromEncoded(raw));
+        } catch (RuntimeException e) {
+            return Result.failure(index, e);
+        }
+    }
+
+    /**
+     * Decoded transaction or decoding error
+     */
+    public static final class Result {
+        private final int mIndex;
+        private final Transaction mTransaction;
+        private final InvalidEncodedTransactionException mError;
+
+        private Result(int index, Transaction transaction, InvalidEncodedTransactionException error) {
+            mIndex = index;
+            mTransaction = transaction;
+            mError = error;
+        }
+
+        static Result success(int index, Transaction transaction) {
+            return new Result(index, transaction, null);
+        }
+
+        static Result failure(int index, RuntimeException error) {
+            if (error instanceof InvalidEncodedTransactionException) {
+                return new Result(index, null, (InvalidEncodedTransactionException) error);
+            }
+            return new Result(index, null, new InvalidEncodedTransactionException("Unable to decode transaction", error));
+        }
+
+        /**
+         * @return index of item in input list
+         */
+        public int getIndex() {
+            return mIndex;
+        }
+
+        public boolean isSuccess() {
+            return mError == null;
+        }
+
+        /**
+         * @return decoded transaction or null if decoding failed
+         */
+        @Nullable
+        public Transaction getTransaction() {
+            return mTransaction;
+        }
+
+        /**
+         * @return decoding error or null if transaction is decoded
+         */
+        @Nullable
+        public InvalidEncodedTransactionException getError() {
+            return mError;
+        }
+    }
+}
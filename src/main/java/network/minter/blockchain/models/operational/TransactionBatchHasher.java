@@ -0,0 +1,115 @@
+/*
+ * Copyright (C) by MinterTeam. 2021
+ * @link <a href="https://github.com/MinterTeam">Org Github</a>
+ * @link <a href="https://github.com/edwardstock">Maintainer Github</a>
+ *
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package network.minter.blockchain.models.operational;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+import javax.annotation.Nonnull;
+
+import network.minter.core.crypto.MinterHash;
+
+import static network.minter.core.internal.common.Preconditions.checkNotNull;
+
+/**
+ * Computes hashes of many signed transactions at once, using all available cores. Doesn't make any network request,
+ * so sent transactions can be matched with transactions from node (for example {@link network.minter.blockchain.models.HistoryTransaction#hash})
+ * <pre>
+ * List&lt;MinterHash&gt; hashes = new TransactionBatchHasher().hash(signs);
+ * </pre>
+ * <p>
+ * minter-android-blockchain. 2021
+ *
+ * @author Eduard Maximovich (edward.vstock@gmail.com)
+ */
+public final class TransactionBatchHasher {
+    private final ExecutorService mExecutor;
+
+    /**
+     * Create hasher that uses shared executor with threads count equals to available processors
+     */
+    public TransactionBatchHasher() {
+        this(BatchExecutor.getDefault());
+    }
+
+    /**
+     * @param executor custom executor
+     */
+    public TransactionBatchHasher(@Nonnull ExecutorService executor) {
+        mExecutor = checkNotNull(executor, "Executor can't be null");
+    }
+
+    /**
+     * Hash signed transactions
+     * @param signs signed transactions
+     * @return hashes in the same order. Item is null if sign is null, cleared or isn't hex
+     * @see TransactionSign#getHash()
+     */
+    public List<MinterHash> hash(@Nonnull List<TransactionSign> signs) {
+        checkNotNull(signs, "Signs can't be null");
+        return BatchExecutor.map(mExecutor, signs, new BatchExecutor.Task<TransactionSign, MinterHash>() {
+            @Override
+            public MinterHash apply(int index, TransactionSign sign) {
+                return sign == null ? null : sign.getHash();
+            }
+        });
+    }
+
+    /**
+     * Hash signed transactions
+     * @param transactions signed or decoded transactions
+     * @return hashes in the same order. Item is null if transaction is null or not signed
+     * @see Transaction#getHash()
+     */
+    public List<MinterHash> hashTransactions(@Nonnull List<Transaction> transactions) {
+        checkNotNull(transactions, "Transactions can't be null");
+        return BatchExecutor.map(mExecutor, transactions, new BatchExecutor.Task<Transaction, MinterHash>() {
+            @Override
+            public MinterHash apply(int index, Transaction tx) {
+                if (tx == null || tx.getSignatureData() == null) {
+                    return null;
+                }
+                return tx.getHash();
+            }
+        });
+    }
+
+    /**
+     * Hash raw transactions, without decoding them
+     * @param hexEncoded raw signed transactions in hex (with or without 0x prefix)
+     * @return hashes in the same order. Item is null if it's null or not a hex string
+     */
+    public List<MinterHash> hashEncoded(@Nonnull List<String> hexEncoded) {
+        checkNotNull(hexEncoded, "Encoded transactions can't be null");
+        return BatchExecutor.map(mExecutor, hexEncoded, new BatchExecutor.Task<String, MinterHash>() {
+            @Override
+            public MinterHash apply(int index, String raw) {
+                return raw == null ? null : new TransactionSign(raw).getHash();
+            }
+        });
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright (C) by MinterTeam. 2021
+ * @link <a href="https://github.com/MinterTeam">Org Github</a>
+ * @link <a href="https://github.com/edwardstock">Maintainer Github</a>
+ *
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package network.minter.blockchain.models.operational;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+
+import javax.annotation.Nonnull;
+
+import network.minter.core.crypto.PrivateKey;
+
+import static network.minter.core.internal.common.Preconditions.checkArgument;
+import static network.minter.core.internal.common.Preconditions.checkNotNull;
+
+/**
+ * Signs many built transactions at once, using all available cores.
+ * <p>
+ * Each transaction is encoded, hashed and signed on executor's threads, results are returned in input order.
+ * Every transaction in list must be a separate instance, as signing sets signature data to the transaction.
+ * <pre>
+ * TransactionBatchSigner.Result result = new TransactionBatchSigner().signSingle(transactions, privateKey);
+ * for (TransactionSign sign : result.getSigns()) {
+ *     repo.sendTransaction(sign);
+ * }
+ * </pre>
+ * <p>
+ * minter-android-blockchain. 2021
+ *
+ * @author Eduard Maximovich (edward.vstock@gmail.com)
+ */
+public final class TransactionBatchSigner {
+    private final ExecutorService mExecutor;
+
+    /**
+     * Create signer that uses shared executor with threads count equals to available processors
+     */
+    public TransactionBatchSigner() {
+        this(BatchExecutor.getDefault());
+    }
+
+    /**
+     * @param executor custom executor (for example, ForkJoinPool on platforms where it's available)
+     */
+    public TransactionBatchSigner(@Nonnull ExecutorService executor) {
+        mExecutor = checkNotNull(executor, "Executor can't be null");
+    }
+
+    /**
+     * Sign all transactions with one private key
+     * @param transactions built transactions
+     * @param privateKey private key
+     * @return signed transactions in the same order
+     */
+    public Result signSingle(@Nonnull List<Transaction> transactions, @Nonnull final PrivateKey privateKey) {
+        checkNotNull(privateKey, "Private key can't be null");
+        return signSingle(transactions, Collections.nCopies(transactions.size(), privateKey));
+    }
+
+    /**
+     * Sign each transaction with it's own private key
+     * @param transactions built transactions
+     * @param privateKeys private keys, one per transaction
+     * @return signed transactions in the same order
+     */
+    public Result signSingle(@Nonnull List<Transaction> transactions, @Nonnull final List<PrivateKey> privateKeys) {
+        checkNotNull(transactions, "Transactions can't be null");
+        checkNotNull(privateKeys, "Private keys can't be null");
+        checkArgument(transactions.size() == privateKeys.size(), "Transactions and private keys count must be equal");
+
+        final long startedAt = System.nanoTime();
+        final List<TransactionSign> signs = BatchExecutor.map(mExecutor, transactions, new BatchExecutor.Task<Transaction, TransactionSign>() {
+            @Override
+            public TransactionSign apply(int index, Transaction tx) {
+                checkNotNull(tx, "Transaction can't be null");
+                return tx.signSingle(privateKeys.get(index));
+            }
+        });
+
+        return new Result(signs, System.nanoTime() - startedAt);
+    }
+
+    public static final class Result {
+        private final List<TransactionSign> mSigns;
+        private final long mElapsedNanos;
+        private final int mFailedCount;
+
+        Result(List<TransactionSign> signs, long elapsedNanos) {
+            mSigns = Collections.unmodifiableList(signs);
+            mElapsedNanos = elapsedNanos;
+            int failed = 0;
+            for (TransactionSign sign : signs) {
+                if (sign == null) {
+                    failed++;
+                }
+            }
+            mFailedCount = failed;
+        }
+
+        /**
+         * Signed transactions in the same order as input. Item is null if transaction can't be signed with given key.
+         * @return list of signs
+         */
+        public List<TransactionSign> getSigns() {
+            return mSigns;
+        }
+
+        public int getCount() {
+            return mSigns.size();
+        }
+
+        /**
+         * @return number of transactions that can't be signed
+         */
+        public int getFailedCount() {
+            return mFailedCount;
+        }
+
+        public long getElapsedNanos() {
+            return mElapsedNanos;
+        }
+
+        public long getElapsedMillis() {
+            return mElapsedNanos / 1_000_000L;
+        }
+
+        /**
+         * @return signed transactions per second
+         */
+        public double getThroughput() {
+            if (mElapsedNanos <= 0) {
+                return 0d;
+            }
+            return mSigns.size() / (mElapsedNanos / 1_000_000_000d);
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.US, "TransactionBatchSigner.Result{count=%d, failed=%d, elapsed=%dms, throughput=%.2f tx/s}",
+                    getCount(), mFailedCount, getElapsedMillis(), getThroughput());
+        }
+    }
+}
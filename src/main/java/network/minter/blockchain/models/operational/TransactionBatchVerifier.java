@@ -0,0 +1,121 @@
+/*
+ * Copyright (C) by MinterTeam. 2021
+ * @link <a href="https://github.com/MinterTeam">Org Github</a>
+ * @link <a href="https://github.com/edwardstock">Maintainer Github</a>
+ *
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package network.minter.blockchain.models.operational;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+import javax.annotation.Nonnull;
+
+import network.minter.core.crypto.MinterAddress;
+
+import static network.minter.core.internal.common.Preconditions.checkArgument;
+import static network.minter.core.internal.common.Preconditions.checkNotNull;
+
+/**
+ * Recovers senders of many transactions at once, using all available cores. Doesn't make any network request.
+ * <pre>
+ * List&lt;MinterAddress&gt; senders = new TransactionBatchVerifier().recoverSendersEncoded(rawTransactions);
+ * </pre>
+ * <p>
+ * minter-android-blockchain. 2021
+ *
+ * @author Eduard Maximovich (edward.vstock@gmail.com)
+ */
+public final class TransactionBatchVerifier {
+    private final ExecutorService mExecutor;
+
+    /**
+     * Create verifier that uses shared executor with threads count equals to available processors
+     */
+    public TransactionBatchVerifier() {
+        this(BatchExecutor.getDefault());
+    }
+
+    /**
+     * @param executor custom executor
+     */
+    public TransactionBatchVerifier(@Nonnull ExecutorService executor) {
+        mExecutor = checkNotNull(executor, "Executor can't be null");
+    }
+
+    /**
+     * Recover senders of signed transactions
+     * @param transactions signed or decoded transactions
+     * @return sender addresses in the same order. Item is null if transaction is not signed, is multisig or signature is invalid
+     * @see Transaction#recoverSender()
+     */
+    public List<MinterAddress> recoverSenders(@Nonnull List<Transaction> transactions) {
+        checkNotNull(transactions, "Transactions can't be null");
+        return BatchExecutor.map(mExecutor, transactions, new BatchExecutor.Task<Transaction, MinterAddress>() {
+            @Override
+            public MinterAddress apply(int index, Transaction tx) {
+                checkNotNull(tx, "Transaction can't be null");
+                return tx.recoverSender();
+            }
+        });
+    }
+
+    /**
+     * Decode raw transactions and recover their senders
+     * @param hexEncoded raw transactions in hex
+     * @return sender addresses in the same order. Item is null if transaction can't be decoded, is multisig or signature is invalid
+     */
+    public List<MinterAddress> recoverSendersEncoded(@Nonnull List<String> hexEncoded) {
+        checkNotNull(hexEncoded, "Encoded transactions can't be null");
+        return BatchExecutor.map(mExecutor, hexEncoded, new BatchExecutor.Task<String, MinterAddress>() {
+            @Override
+            public MinterAddress apply(int index, String raw) {
+                final Transaction tx;
+                try {
+                    tx = Transaction.fromEncoded(raw);
+                } catch (RuntimeException e) {
+                    return null;
+                }
+                return tx.recoverSender();
+            }
+        });
+    }
+
+    /**
+     * Verify each transaction belongs to expected sender. Multisig transactions are never verified,
+     * check them with {@link Transaction#verify(MinterAddress, java.util.Map, int)}
+     * @param transactions signed or decoded transactions
+     * @param senders expected senders, one per transaction
+     * @return verification results in the same order
+     */
+    public boolean[] verify(@Nonnull List<Transaction> transactions, @Nonnull List<MinterAddress> senders) {
+        checkNotNull(senders, "Senders can't be null");
+        checkArgument(transactions.size() == senders.size(), "Transactions and senders count must be equal");
+
+        final List<MinterAddress> recovered = recoverSenders(transactions);
+        final boolean[] out = new boolean[recovered.size()];
+        for (int i = 0; i < out.length; i++) {
+            out[i] = recovered.get(i) != null && recovered.get(i).equals(senders.get(i));
+        }
+        return out;
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright (C) by MinterTeam. 2021
+ * @link <a href="https://github.com/MinterTeam">Org Github</a>
+ * @link <a href="https://github.com/edwardstock">Maintainer Github</a>
+ *
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package network.minter.blockchain.models.operational;
+
+import java.math.BigInteger;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.Nonnull;
+
+import static network.minter.core.internal.common.Preconditions.checkArgument;
+import static network.minter.core.internal.common.Preconditions.checkNotNull;
+
+/**
+ * Opt-in pool of {@link Transaction} objects for services that build and sign transactions all the time.
+ * <p>
+ * {@link #obtain(BigInteger)} returns builder of idle transaction (or new one if pool is empty),
+ * {@link #release(Transaction)} (or {@link Transaction#recycle()}) returns it back. On release, payload, service data
+ * and signature are overwritten with zeroes, and {@link TxSendCoin} and {@link TxMultisend}
+ * operations are cleared and kept to be reused by next {@link Transaction.Builder#sendCoin()} or
+ * {@link Transaction.Builder#multiSend()}.
+ * <pre>
+ * Transaction tx = pool.obtain(nonce)
+ *     .setBlockchainId(BlockchainID.MainNet)
+ *     .sendCoin()
+ *     .setCoinId(DEFAULT_COIN_ID)
+ *     .setTo(address)
+ *     .setValue("1")
+ *     .build();
+ * try {
+ *     send(tx.signSingle(privateKey));
+ * } finally {
+ *     tx.recycle();
+ * }
+ * </pre>
+ * Released transaction, its builder and operation must not be used anymore, as they will be given to other caller.
+ * {@link TransactionSign} objects are not affected by release, use {@link TransactionSign#clear()} to zero them.
+ * Pool is thread-safe: transaction can be obtained on one thread and released on another.
+ * <p>
+ * minter-android-blockchain. 2021
+ *
+ * @author Eduard Maximovich (edward.vstock@gmail.com)
+ */
+public final class TransactionPool {
+    private final static int DEFAULT_SIZE = 64;
+    private static TransactionPool sDefault;
+    private final int mMaxSize;
+    private final BlockingQueue<Transaction> mIdle;
+    private final AtomicLong mCreated = new AtomicLong(0);
+    private final AtomicLong mReused = new AtomicLong(0);
+
+    /**
+     * @param maxSize max number of idle transactions kept by pool. Transactions released to full pool are dropped
+     */
+    public TransactionPool(int maxSize) {
+        checkArgument(maxSize > 0, "Pool size must be greater than zero");
+        mMaxSize = maxSize;
+        mIdle = new ArrayBlockingQueue<>(maxSize);
+    }
+
+    /**
+     * Shared pool, keeps up to 64 idle transactions
+     * @return shared pool
+     */
+    public static synchronized TransactionPool getDefault() {
+        if (sDefault == null) {
+            sDefault = new TransactionPool(DEFAULT_SIZE);
+        }
+        return sDefault;
+    }
+
+    /**
+     * Take transaction from pool. Its fields have default values, like after {@code new Transaction.Builder(nonce)}
+     * @param nonce address transaction count + 1
+     * @return builder of pooled transaction
+     */
+    public Transaction.Builder obtain(@Nonnull BigInteger nonce) {
+        checkArgument(nonce != null, "Nonce must be set");
+        Transaction tx = mIdle.poll();
+        if (tx == null) {
+            tx = new Transaction();
+            tx.mPool = this;
+            tx.mPooledBuilder = new Transaction.Builder(tx);
+            mCreated.incrementAndGet();
+        } else {
+            mReused.incrementAndGet();
+        }
+        tx.mReleased.set(false);
+        tx.reset(nonce);
+        return tx.mPooledBuilder;
+    }
+
+    /**
+     * Zero sensitive data of transaction and return it to pool
+     * @param transaction transaction obtained from this pool
+     * @throws IllegalArgumentException if transaction was not created by this pool
+     * @throws IllegalStateException if transaction is already released
+     */
+    public void release(@Nonnull Transaction transaction) {
+        checkNotNull(transaction, "Transaction can't be null");
+        checkArgument(transaction.mPool == this, "Transaction doesn't belong to this pool");
+        // released flag is switched atomically, so concurrent double release can't put transaction to pool twice
+        if (!transaction.mReleased.compareAndSet(false, true)) {
+            throw new IllegalStateException("Transaction is already released");
+        }
+        transaction.wipe();
+        mIdle.offer(transaction);
+    }
+
+    public int getMaxSize() {
+        return mMaxSize;
+    }
+
+    /**
+     * @return number of transactions waiting in pool
+     */
+    public int getIdleCount() {
+        return mIdle.size();
+    }
+
+    /**
+     * @return number of transactions created by pool
+     */
+    public long getCreatedCount() {
+        return mCreated.get();
+    }
+
+    /**
+     * @return number of times idle transaction was reused instead of creating new one
+     */
+    public long getReusedCount() {
+        return mReused.get();
+    }
+
+    /**
+     * Drop all idle transactions
+     */
+    public void clear() {
+        mIdle.clear();
+    }
+}
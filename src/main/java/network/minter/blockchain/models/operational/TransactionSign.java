@@ -23,48 +23,217 @@
  * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
  * THE SOFTWARE.
  */
-
 package network.minter.blockchain.models.operational;
 
+import java.util.Arrays;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import network.minter.core.MinterSDK;
 import network.minter.core.crypto.BytesData;
+import network.minter.core.crypto.HashUtil;
+import network.minter.core.crypto.MinterHash;
 
 /**
+ * Signed transaction, ready to send. Keeps raw bytes, hex string is rendered only when it's requested,
+ * so queue of signed transactions takes about a quarter of memory comparing to hex strings.
+ *
  * minter-android-blockchain. 2018
  *
  * @author Eduard Maximovich <edward.vstock@gmail.com>
  */
 public final class TransactionSign {
-    String mSign;
+    private final static char[] HEX = "0123456789abcdef".toCharArray();
+    // hex value -> nibble, -1 for non-hex (and uppercase, to keep string round trip exact)
+    private final static byte[] NIBBLES = new byte[128];
+
+    static {
+        Arrays.fill(NIBBLES, (byte) -1);
+        for (int i = 0; i < HEX.length; i++) {
+            NIBBLES[HEX[i]] = (byte) i;
+        }
+    }
+
+    // raw signed data, null if sign was created from non-hex string
+    private byte[] mData;
+    // prefix of string form, like "0x" or "Mc" for checks
+    private String mPrefix = "";
+    // string form, if it can't be kept as bytes
+    private String mSign;
 
     public TransactionSign(String sign) {
-        mSign = sign;
+        if (sign == null) {
+            return;
+        }
+        int offset = 0;
+        if (sign.length() >= 2 && (!isHex(sign.charAt(0)) || !isHex(sign.charAt(1)))) {
+            offset = 2;
+        }
+        mData = hexToBytes(sign, offset);
+        if (mData == null) {
+            mSign = sign;
+        } else {
+            mPrefix = sign.substring(0, offset);
+        }
+    }
+
+    /**
+     * @param prefix string form prefix
+     * @param data raw bytes, not copied
+     */
+    TransactionSign(@Nonnull String prefix, @Nonnull byte[] data) {
+        mPrefix = prefix;
+        mData = data;
+    }
+
+    /**
+     * @param data raw bytes, not copied
+     */
+    TransactionSign(@Nonnull byte[] data) {
+        this("", data);
     }
 
     TransactionSign() {
     }
 
+    /**
+     * Hex string of signed transaction. It's rendered on each call, don't keep it if you don't need it
+     * @return hex string (with prefix, if sign has it)
+     */
     public String getTxSign() {
-        return mSign;
+        if (mData == null) {
+            return mSign;
+        }
+        return toHex(mPrefix);
+    }
+
+    /**
+     * Hex string of signed transaction with given prefix instead of own, for example "0x" to send it to node
+     * @param prefix string prefix
+     * @return prefixed hex string
+     */
+    public String getTxSign(@Nonnull String prefix) {
+        if (mData == null) {
+            if (mSign == null || mSign.startsWith(prefix)) {
+                return mSign;
+            }
+            return prefix + mSign;
+        }
+        return toHex(prefix);
+    }
+
+    /**
+     * @return copy of raw signed data or null if sign is cleared or isn't hex
+     */
+    @Nullable
+    public byte[] getBytes() {
+        return mData == null ? null : Arrays.copyOf(mData, mData.length);
+    }
+
+    /**
+     * @return raw signed data length
+     */
+    public int size() {
+        return mData == null ? 0 : mData.length;
+    }
+
+    /**
+     * Transaction hash, computed locally as sha256 of signed data, same as node computes it
+     * @return hash with prefix {@link MinterSDK#PREFIX_TX} or null if sign is cleared or isn't hex
+     */
+    @Nullable
+    public String getTxHash() {
+        if (mData == null) {
+            return null;
+        }
+        return new BytesData(HashUtil.sha256(mData)).toHexString(MinterSDK.PREFIX_TX);
+    }
+
+    /**
+     * Same as {@link #getTxHash()}, but as hash object. Can be compared with hash of transaction from node,
+     * like {@link network.minter.blockchain.models.HistoryTransaction#hash}
+     * @return transaction hash or null if sign is cleared or isn't hex
+     */
+    @Nullable
+    public MinterHash getHash() {
+        if (mData == null) {
+            return null;
+        }
+        return new MinterHash(HashUtil.sha256(mData));
     }
 
     public final void clear() {
+        if (mData != null) {
+            Arrays.fill(mData, (byte) 0);
+        }
+        mData = null;
         mSign = null;
     }
 
     @Override
     public String toString() {
-        return mSign;
+        return getTxSign();
     }
 
     @Override
     public boolean equals(Object obj) {
         if (obj instanceof TransactionSign) {
-            return mSign.equals(((TransactionSign) obj).mSign);
+            final TransactionSign other = (TransactionSign) obj;
+            if (mData != null && other.mData != null) {
+                return mPrefix.equals(other.mPrefix) && Arrays.equals(mData, other.mData);
+            }
+            return getTxSign().equals(other.getTxSign());
         } else if (obj instanceof String) {
-            return mSign.equals(obj);
+            return getTxSign().equals(obj);
         } else if (obj instanceof BytesData) {
-            return mSign.equals(((BytesData) obj).toHexString());
+            if (mData != null && mPrefix.isEmpty()) {
+                return Arrays.equals(mData, ((BytesData) obj).getBytes());
+            }
+            return getTxSign().equals(((BytesData) obj).toHexString());
         }
         return super.equals(obj);
     }
+
+    @Override
+    public int hashCode() {
+        if (mData == null) {
+            return mSign == null ? 0 : mSign.hashCode();
+        }
+        return 31 * mPrefix.hashCode() + Arrays.hashCode(mData);
+    }
+
+    private String toHex(String prefix) {
+        final int prefixLen = prefix.length();
+        final char[] out = new char[prefixLen + mData.length * 2];
+        prefix.getChars(0, prefixLen, out, 0);
+        int pos = prefixLen;
+        for (byte b : mData) {
+            out[pos++] = HEX[(b >> 4) & 0x0F];
+            out[pos++] = HEX[b & 0x0F];
+        }
+        return new String(out);
+    }
+
+    private static boolean isHex(char c) {
+        return c < 128 && NIBBLES[c] >= 0;
+    }
+
+    @Nullable
+    private static byte[] hexToBytes(String hex, int offset) {
+        final int len = hex.length() - offset;
+        if (len % 2 != 0) {
+            return null;
+        }
+        final byte[] out = new byte[len / 2];
+        for (int i = 0; i < out.length; i++) {
+            final char hi = hex.charAt(offset + i * 2);
+            final char lo = hex.charAt(offset + i * 2 + 1);
+            if (!isHex(hi) || !isHex(lo)) {
+                return null;
+            }
+            out[i] = (byte) ((NIBBLES[hi] << 4) | NIBBLES[lo]);
+        }
+        return out;
+    }
 }
@@ -0,0 +1,196 @@
+/*
+ * Copyright (C) by MinterTeam. 2021
+ * @link <a href="https://github.com/MinterTeam">Org Github</a>
+ * @link <a href="https://github.com/edwardstock">Maintainer Github</a>
+ *
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package network.minter.blockchain.models.operational;
+
+import java.math.BigInteger;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import network.minter.core.crypto.PrivateKey;
+
+import static network.minter.core.internal.common.Preconditions.checkArgument;
+import static network.minter.core.internal.common.Preconditions.checkNotNull;
+import static network.minter.core.internal.common.Preconditions.firstNonNull;
+
+/**
+ * Pre-encoded transaction shape for sending the same kind of transaction many times.
+ * <p>
+ * Chain id, gas price, gas coin, type, payload and service data are encoded once, when template is created.
+ * Each sign encodes only nonce and, if passed, new operation data, then signs result with single signature.
+ * Operation object can be reused between signs: change its fields and pass it again.
+ * <pre>
+ * TransactionTemplate template = new Transaction.Builder(BigInteger.ZERO)
+ *     .setBlockchainId(BlockchainID.MainNet)
+ *     .setPayloadString("payout")
+ *     .sendCoin()
+ *     .setCoinId(DEFAULT_COIN_ID)
+ *     .setTo(address)
+ *     .setValue("1")
+ *     .build()
+ *     .toTemplate();
+ *
+ * TransactionSign first = template.sign(nonce, privateKey);
+ * TransactionSign second = template.sign(nonce + 1, sendCoin.setTo(otherAddress), privateKey);
+ * </pre>
+ * Template is immutable and thread-safe.
+ * <p>
+ * minter-android-blockchain. 2021
+ *
+ * @author Eduard Maximovich (edward.vstock@gmail.com)
+ */
+public final class TransactionTemplate {
+    private final OperationType mType;
+    // body segments, see Transaction#writeBody()
+    // chain id, gas price, gas coin id and type, see Transaction#writeHead()
+    private final byte[] mHead;
+    // operation data of prototype, as embedded rlp
+    private final byte[] mData;
+    // payload and service data, see Transaction#writeTail()
+    private final byte[] mTail;
+
+    /**
+     * @param prototype built transaction to take fields from. Later changes of prototype don't affect template
+     */
+    public TransactionTemplate(@Nonnull Transaction prototype) {
+        checkNotNull(prototype, "Prototype transaction can't be null");
+        final Operation data = prototype.operationData();
+        checkArgument(data != null, "Prototype transaction data must be set");
+        checkArgument(prototype.mChainId != null, "Prototype transaction blockchain ID must be set");
+        mType = data.getType();
+
+        final RLPWriter writer = RLPWriter.obtain();
+        try {
+            mHead = Transaction.writeHead(writer, prototype.mChainId, prototype.mGasPrice, prototype.mGasCoinId, mType)
+                    .toByteArray();
+
+            writer.reset().startEmbedded();
+            data.encodeRLP(writer);
+            mData = writer.endEmbedded().toByteArray();
+
+            mTail = Transaction.writeTail(writer.reset(),
+                    prototype.mPayload == null ? null : prototype.mPayload.getData(),
+                    prototype.mServiceData == null ? null : prototype.mServiceData.getData())
+                    .toByteArray();
+        } finally {
+            writer.recycle();
+        }
+    }
+
+    public OperationType getType() {
+        return mType;
+    }
+
+    /**
+     * Sign prototype transaction with new nonce
+     * @param nonce address transaction count + 1
+     * @param privateKey sender private key
+     * @return signed transaction or null if it can't be signed with given key
+     */
+    @Nullable
+    public TransactionSign sign(long nonce, @Nonnull PrivateKey privateKey) {
+        checkArgument(nonce >= 0, "Nonce can't be negative");
+        checkNotNull(privateKey, "Private key can't be null");
+        return encodeAndSign(nonce, null, privateKey);
+    }
+
+    /**
+     * Sign prototype transaction with new nonce
+     * @param nonce address transaction count + 1
+     * @param privateKey sender private key
+     * @return signed transaction or null if it can't be signed with given key
+     */
+    @Nullable
+    public TransactionSign sign(@Nonnull BigInteger nonce, @Nonnull PrivateKey privateKey) {
+        return sign(toLong(nonce), privateKey);
+    }
+
+    /**
+     * Sign transaction with new nonce and operation data
+     * @param nonce address transaction count + 1
+     * @param data operation data of the same type as template
+     * @param privateKey sender private key
+     * @return signed transaction or null if it can't be signed with given key
+     * @throws OperationInvalidDataException if operation data is invalid
+     */
+    @Nullable
+    public TransactionSign sign(long nonce, @Nonnull Operation data, @Nonnull PrivateKey privateKey) throws OperationInvalidDataException {
+        checkArgument(nonce >= 0, "Nonce can't be negative");
+        checkNotNull(data, "Operation data can't be null");
+        checkNotNull(privateKey, "Private key can't be null");
+        checkArgument(data.getType() == mType, "Template has type %s, but %s given", mType, data.getType());
+
+        final FieldsValidationResult validated = data.validate();
+        if (validated != null && !validated.isValid()) {
+            final String title = firstNonNull(validated.getTitle(), String.format("Invalid %s operation data", mType.name()));
+            throw new OperationInvalidDataException(
+                    String.format("%s\nInvalid fields:\n%s", title, validated.getInvalidFieldsMessages()),
+                    validated.getFieldMessageMap()
+            );
+        }
+        return encodeAndSign(nonce, data, privateKey);
+    }
+
+    /**
+     * Sign transaction with new nonce and operation data
+     * @see #sign(long, Operation, PrivateKey)
+     */
+    @Nullable
+    public TransactionSign sign(@Nonnull BigInteger nonce, @Nonnull Operation data, @Nonnull PrivateKey privateKey) throws OperationInvalidDataException {
+        return sign(toLong(nonce), data, privateKey);
+    }
+
+    private TransactionSign encodeAndSign(long nonce, @Nullable Operation data, PrivateKey privateKey) {
+        final RLPWriter writer = RLPWriter.obtain();
+        try {
+            // same order as Transaction#writeBody()
+            writer.startList()
+                    .writeLong(nonce)
+                    .writeEncoded(mHead);
+            if (data == null) {
+                writer.writeEncoded(mData);
+            } else {
+                writer.startEmbedded();
+                data.encodeRLP(writer);
+                writer.endEmbedded();
+            }
+            writer.writeEncoded(mTail)
+                    .writeBigInt(Transaction.SignatureType.Single.getValue())
+                    .endList();
+
+            return Transaction.signEncodedSingle(writer, writer.toByteArray(), privateKey);
+        } finally {
+            writer.recycle();
+        }
+    }
+
+    private static long toLong(BigInteger nonce) {
+        checkNotNull(nonce, "Nonce can't be null");
+        checkArgument(nonce.bitLength() < 64, "Nonce is too big");
+        return nonce.longValue();
+    }
+}
@@ -32,11 +32,6 @@ import java.math.BigInteger;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
-import network.minter.core.util.DecodeResult;
-import network.minter.core.util.RLPBoxed;
-
-import static network.minter.core.internal.helpers.BytesHelper.fixBigintSignedByte;
-
 /**
  * minter-android-blockchain. 2021
  *
@@ -146,24 +141,18 @@ public class TxAddLiquidity extends Operation {
     }
 
     @Override
-    protected void decodeRLP(@Nonnull char[] rlpEncodedData) {
-        final DecodeResult rlp = RLPBoxed.decode(rlpEncodedData, 0);/**/
-        final Object[] decoded = (Object[]) rlp.getDecoded();
-
-        mCoin0 = fixBigintSignedByte(fromRawRlp(0, decoded));
-        mCoin1 = fixBigintSignedByte(fromRawRlp(1, decoded));
-        mVolume0 = fixBigintSignedByte(fromRawRlp(2, decoded));
-        mMaximumVolume1 = fixBigintSignedByte(fromRawRlp(3, decoded));
+    protected void writeRLP(@Nonnull RLPWriter writer) {
+        writer.writeBigInt(mCoin0);
+        writer.writeBigInt(mCoin1);
+        writer.writeBigInt(mVolume0);
+        writer.writeBigInt(mMaximumVolume1);
     }
 
-    @Nonnull
     @Override
-    protected char[] encodeRLP() {
-        return RLPBoxed.encode(new Object[]{
-                mCoin0,
-                mCoin1,
-                mVolume0,
-                mMaximumVolume1
-        });
+    protected void readRLP(@Nonnull RLPReader reader) {
+        mCoin0 = reader.readBigInt();
+        mCoin1 = reader.readBigInt();
+        mVolume0 = reader.readBigInt();
+        mMaximumVolume1 = reader.readBigInt();
     }
 }
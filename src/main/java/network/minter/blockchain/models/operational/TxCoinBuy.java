@@ -32,11 +32,6 @@ import java.math.BigInteger;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
-import network.minter.core.util.DecodeResult;
-import network.minter.core.util.RLPBoxed;
-
-import static network.minter.core.internal.helpers.BytesHelper.fixBigintSignedByte;
-
 /**
  * minter-android-blockchain. 2018
  *
@@ -142,25 +137,19 @@ public class TxCoinBuy extends Operation {
                 .addResult("mMaxValueToSell", mMaxValueToSell != null, "Maximum value to sell must be set");
     }
 
-    @Nonnull
     @Override
-    protected char[] encodeRLP() {
-	    return RLPBoxed.encode(new Object[]{
-                mCoinIdToBuy,
-                mValueToBuy,
-                mCoinIdToSell,
-                mMaxValueToSell
-        });
+    protected void writeRLP(@Nonnull RLPWriter writer) {
+        writer.writeBigInt(mCoinIdToBuy);
+        writer.writeBigInt(mValueToBuy);
+        writer.writeBigInt(mCoinIdToSell);
+        writer.writeBigInt(mMaxValueToSell);
     }
 
     @Override
-    protected void decodeRLP(@Nonnull char[] rlpEncodedData) {
-        final DecodeResult rlp = RLPBoxed.decode(rlpEncodedData, 0);/**/
-        final Object[] decoded = (Object[]) rlp.getDecoded();
-
-        mCoinIdToBuy = fixBigintSignedByte(fromRawRlp(0, decoded));
-        mValueToBuy = fixBigintSignedByte(fromRawRlp(1, decoded));
-        mCoinIdToSell = fixBigintSignedByte(fromRawRlp(2, decoded));
-        mMaxValueToSell = fixBigintSignedByte(fromRawRlp(3, decoded));
+    protected void readRLP(@Nonnull RLPReader reader) {
+        mCoinIdToBuy = reader.readBigInt();
+        mValueToBuy = reader.readBigInt();
+        mCoinIdToSell = reader.readBigInt();
+        mMaxValueToSell = reader.readBigInt();
     }
 }
@@ -33,14 +33,10 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import network.minter.core.internal.helpers.StringHelper;
-import network.minter.core.util.DecodeResult;
-import network.minter.core.util.RLPBoxed;
 
 import static network.minter.blockchain.models.operational.Transaction.humanizeValue;
 import static network.minter.blockchain.models.operational.Transaction.normalizeValue;
 import static network.minter.core.internal.common.Preconditions.checkArgument;
-import static network.minter.core.internal.helpers.BytesHelper.fixBigintSignedByte;
-import static network.minter.core.internal.helpers.StringHelper.charsToString;
 
 /**
  * minter-android-blockchain. 2021
@@ -228,28 +224,23 @@ public class TxCoinCreate extends Operation {
                                         100, "Constant Reserve Ratio should be between 10 and 100");
     }
 
-    @Nonnull
     @Override
-    protected char[] encodeRLP() {
-        return RLPBoxed.encode(new Object[]{
-                mName,
-                mSymbol,
-                mInitialAmount,
-                mInitialReserve,
-                mConstantReserveRatio,
-                mMaxSupply
-        });
+    protected void writeRLP(@Nonnull RLPWriter writer) {
+        writer.writeString(mName);
+        writer.writeString(mSymbol);
+        writer.writeBigInt(mInitialAmount);
+        writer.writeBigInt(mInitialReserve);
+        writer.writeInt(mConstantReserveRatio);
+        writer.writeBigInt(mMaxSupply);
     }
 
     @Override
-    protected void decodeRLP(@Nonnull char[] rlpEncodedData) {
-        final DecodeResult rlp = RLPBoxed.decode(rlpEncodedData, 0);/**/
-        final Object[] decoded = (Object[]) rlp.getDecoded();
-        mName = charsToString(fromRawRlp(0, decoded));
-        mSymbol = charsToString(fromRawRlp(1, decoded));
-        mInitialAmount = fixBigintSignedByte(fromRawRlp(2, decoded));
-        mInitialReserve = fixBigintSignedByte(fromRawRlp(3, decoded));
-        mConstantReserveRatio = fixBigintSignedByte(fromRawRlp(4, decoded)).intValue();
-        mMaxSupply = fixBigintSignedByte(fromRawRlp(5, decoded));
+    protected void readRLP(@Nonnull RLPReader reader) {
+        mName = reader.readString();
+        mSymbol = reader.readString();
+        mInitialAmount = reader.readBigInt();
+        mInitialReserve = reader.readBigInt();
+        mConstantReserveRatio = reader.readInt();
+        mMaxSupply = reader.readBigInt();
     }
 }
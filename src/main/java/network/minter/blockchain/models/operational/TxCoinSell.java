@@ -32,11 +32,7 @@ import java.math.BigInteger;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
-import network.minter.core.util.DecodeResult;
-import network.minter.core.util.RLPBoxed;
-
 import static network.minter.blockchain.models.operational.Transaction.normalizeValue;
-import static network.minter.core.internal.helpers.BytesHelper.fixBigintSignedByte;
 
 /**
  * minter-android-blockchain. 2018
@@ -135,25 +131,19 @@ public class TxCoinSell extends Operation {
                 .addResult("mMinValueToBuy", mMinValueToBuy != null, "Minimum value to buy must be set");
     }
 
-    @Nonnull
     @Override
-    protected char[] encodeRLP() {
-	    return RLPBoxed.encode(new Object[]{
-                mCoinToSell,
-                mValueToSell,
-                mCoinToBuy,
-                mMinValueToBuy
-        });
+    protected void writeRLP(@Nonnull RLPWriter writer) {
+        writer.writeBigInt(mCoinToSell);
+        writer.writeBigInt(mValueToSell);
+        writer.writeBigInt(mCoinToBuy);
+        writer.writeBigInt(mMinValueToBuy);
     }
 
     @Override
-    protected void decodeRLP(@Nonnull char[] rlpEncodedData) {
-        final DecodeResult rlp = RLPBoxed.decode(rlpEncodedData, 0);/**/
-        final Object[] decoded = (Object[]) rlp.getDecoded();
-
-        mCoinToSell = fixBigintSignedByte(fromRawRlp(0, decoded));
-        mValueToSell = fixBigintSignedByte(fromRawRlp(1, decoded));
-        mCoinToBuy = fixBigintSignedByte(fromRawRlp(2, decoded));
-        mMinValueToBuy = fixBigintSignedByte(fromRawRlp(3, decoded));
+    protected void readRLP(@Nonnull RLPReader reader) {
+        mCoinToSell = reader.readBigInt();
+        mValueToSell = reader.readBigInt();
+        mCoinToBuy = reader.readBigInt();
+        mMinValueToBuy = reader.readBigInt();
     }
 }
@@ -32,12 +32,8 @@ import java.math.BigInteger;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
-import network.minter.core.util.DecodeResult;
-import network.minter.core.util.RLPBoxed;
-
 import static network.minter.blockchain.models.operational.Transaction.humanizeValue;
 import static network.minter.blockchain.models.operational.Transaction.normalizeValue;
-import static network.minter.core.internal.helpers.BytesHelper.fixBigintSignedByte;
 
 /**
  * minter-android-blockchain. 2018
@@ -117,23 +113,17 @@ public class TxCoinSellAll extends Operation {
                 .addResult("mMinValueToBuy", mMinValueToBuy != null, "Minimum value to buy must be set");
     }
 
-    @Nonnull
     @Override
-    protected char[] encodeRLP() {
-        return RLPBoxed.encode(new Object[]{
-                mCoinIdToSell,
-                mCoinIdToBuy,
-                mMinValueToBuy
-        });
+    protected void writeRLP(@Nonnull RLPWriter writer) {
+        writer.writeBigInt(mCoinIdToSell);
+        writer.writeBigInt(mCoinIdToBuy);
+        writer.writeBigInt(mMinValueToBuy);
     }
 
     @Override
-    protected void decodeRLP(@Nonnull char[] rlpEncodedData) {
-        final DecodeResult rlp = RLPBoxed.decode(rlpEncodedData, 0);/**/
-        final Object[] decoded = (Object[]) rlp.getDecoded();
-
-        mCoinIdToSell = fixBigintSignedByte(fromRawRlp(0, decoded));
-        mCoinIdToBuy = fixBigintSignedByte(fromRawRlp(1, decoded));
-        mMinValueToBuy = fixBigintSignedByte(fromRawRlp(2, decoded));
+    protected void readRLP(@Nonnull RLPReader reader) {
+        mCoinIdToSell = reader.readBigInt();
+        mCoinIdToBuy = reader.readBigInt();
+        mMinValueToBuy = reader.readBigInt();
     }
 }
@@ -35,10 +35,6 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import network.minter.core.crypto.MinterAddress;
-import network.minter.core.util.DecodeResult;
-import network.minter.core.util.RLPBoxed;
-
-import static network.minter.core.internal.helpers.BytesHelper.fixBigintSignedByte;
 
 /**
  * Transaction for creating multisignature address.
@@ -123,39 +119,25 @@ public class TxCreateMultisigAddress extends Operation {
     }
 
     @Override
-    protected void decodeRLP(@Nonnull char[] rlpEncodedData) {
-        final DecodeResult rlp = RLPBoxed.decode(rlpEncodedData, 0);
-        final Object[] decoded = (Object[]) rlp.getDecoded();
-        mThreshold = fixBigintSignedByte(fromRawRlp(0, decoded));
-
-        Object[] weights = (Object[]) decoded[1];
-        mWeights = new LinkedList<>();
-        for (Object weightsEncoded : weights) {
-            BigInteger weight = fixBigintSignedByte(weightsEncoded);
-            mWeights.add((weight));
-        }
+    protected void readRLP(@Nonnull RLPReader reader) {
+        mThreshold = reader.readBigInt();
+        mWeights = new LinkedList<>(reader.readBigIntList());
 
-        Object[] addresses = (Object[]) decoded[2];
+        final RLPReader addresses = reader.readList();
         mAddresses = new LinkedList<>();
-        for (Object address : addresses) {
-            MinterAddress add = new MinterAddress((char[]) address);
-            mAddresses.add(add);
+        while (addresses.hasNext()) {
+            mAddresses.add(addresses.readAddress());
         }
     }
 
-    @Nonnull
     @Override
-    protected char[] encodeRLP() {
-        final BigInteger[] weights = mWeights.toArray(new BigInteger[mWeights.size()]);
-        final MinterAddress[] addresses = new MinterAddress[mAddresses.size()];
-        for (int i = 0; i < mAddresses.size(); i++) {
-            addresses[i] = mAddresses.get(i);
+    protected void writeRLP(@Nonnull RLPWriter writer) {
+        writer.writeBigInt(mThreshold);
+        writer.writeBigIntList(mWeights);
+        writer.startList();
+        for (MinterAddress address : mAddresses) {
+            writer.writeBytesData(address);
         }
-
-        return RLPBoxed.encode(new Object[]{
-                mThreshold.toByteArray(),
-                weights,
-                addresses
-        });
+        writer.endList();
     }
 }
@@ -34,12 +34,9 @@ import javax.annotation.Nullable;
 
 import network.minter.core.crypto.MinterAddress;
 import network.minter.core.crypto.MinterPublicKey;
-import network.minter.core.util.DecodeResult;
-import network.minter.core.util.RLPBoxed;
 
 import static network.minter.blockchain.models.operational.Transaction.normalizeValue;
 import static network.minter.core.internal.common.Preconditions.checkArgument;
-import static network.minter.core.internal.helpers.BytesHelper.fixBigintSignedByte;
 
 /**
  * minter-android-blockchain. 2018
@@ -157,26 +154,21 @@ public final class TxDeclareCandidacy extends Operation {
                 .addResult("mStake", mStake != null && mStake.compareTo(new BigInteger("0")) > 0, "Stake must be set (more than 0)");
     }
 
-    @Nonnull
     @Override
-    protected char[] encodeRLP() {
-        return RLPBoxed.encode(new Object[]{
-                mAddress,
-                mPubKey,
-                mCommission,
-                mCoinId,
-                mStake
-        });
+    protected void writeRLP(@Nonnull RLPWriter writer) {
+        writer.writeBytesData(mAddress);
+        writer.writeBytesData(mPubKey);
+        writer.writeInt(mCommission);
+        writer.writeBigInt(mCoinId);
+        writer.writeBigInt(mStake);
     }
 
     @Override
-    protected void decodeRLP(@Nonnull char[] rlpEncodedData) {
-        final DecodeResult rlp = RLPBoxed.decode(rlpEncodedData, 0);/**/
-        final Object[] decoded = (Object[]) rlp.getDecoded();
-        mAddress = new MinterAddress(fromRawRlp(0, decoded));
-        mPubKey = new MinterPublicKey(fromRawRlp(1, decoded));
-        mCommission = fixBigintSignedByte(fromRawRlp(2, decoded)).intValue();
-        mCoinId = fixBigintSignedByte(fromRawRlp(3, decoded));
-        mStake = fixBigintSignedByte(fromRawRlp(4, decoded));
+    protected void readRLP(@Nonnull RLPReader reader) {
+        mAddress = reader.readAddress();
+        mPubKey = reader.readPublicKey();
+        mCommission = reader.readInt();
+        mCoinId = reader.readBigInt();
+        mStake = reader.readBigInt();
     }
 }
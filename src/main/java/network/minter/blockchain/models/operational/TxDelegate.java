@@ -33,11 +33,8 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import network.minter.core.crypto.MinterPublicKey;
-import network.minter.core.util.DecodeResult;
-import network.minter.core.util.RLPBoxed;
 
 import static network.minter.blockchain.models.operational.Transaction.normalizeValue;
-import static network.minter.core.internal.helpers.BytesHelper.fixBigintSignedByte;
 
 /**
  * minter-android-blockchain. 2018
@@ -123,23 +120,18 @@ public final class TxDelegate extends Operation {
                 .addResult("mStake", mStake != null && mStake.compareTo(new BigInteger("0")) > 0, "Stake must be set (more than 0)");
     }
 
-    @Nonnull
     @Override
-    protected char[] encodeRLP() {
-        return RLPBoxed.encode(new Object[]{
-                mPubKey,
-                mCoinId,
-                mStake
-        });
+    protected void writeRLP(@Nonnull RLPWriter writer) {
+        writer.writeBytesData(mPubKey);
+        writer.writeBigInt(mCoinId);
+        writer.writeBigInt(mStake);
     }
 
     @Override
-    protected void decodeRLP(@Nonnull char[] rlpEncodedData) {
-        final DecodeResult rlp = RLPBoxed.decode(rlpEncodedData, 0);/**/
-        final Object[] decoded = (Object[]) rlp.getDecoded();
-        mPubKey = new MinterPublicKey(fromRawRlp(0, decoded));
-        mCoinId = fixBigintSignedByte(fromRawRlp(1, decoded));
-        mStake = fixBigintSignedByte(fromRawRlp(2, decoded));
+    protected void readRLP(@Nonnull RLPReader reader) {
+        mPubKey = reader.readPublicKey();
+        mCoinId = reader.readBigInt();
+        mStake = reader.readBigInt();
     }
 
 
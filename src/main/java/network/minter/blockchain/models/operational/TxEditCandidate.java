@@ -31,8 +31,6 @@ import javax.annotation.Nullable;
 
 import network.minter.core.crypto.MinterAddress;
 import network.minter.core.crypto.MinterPublicKey;
-import network.minter.core.util.DecodeResult;
-import network.minter.core.util.RLPBoxed;
 
 /**
  * minter-android-blockchain. 2019
@@ -104,23 +102,18 @@ public class TxEditCandidate extends Operation {
     }
 
     @Override
-    protected void decodeRLP(@Nonnull char[] rlpEncodedData) {
-        final DecodeResult rlp = RLPBoxed.decode(rlpEncodedData, 0);/**/
-        final Object[] decoded = (Object[]) rlp.getDecoded();
-        mPublicKey = new MinterPublicKey(fromRawRlp(0, decoded));
-        mRewardAddress = new MinterAddress(fromRawRlp(1, decoded));
-        mOwnerAddress = new MinterAddress(fromRawRlp(2, decoded));
-        mControlAddress = new MinterAddress(fromRawRlp(3, decoded));
+    protected void writeRLP(@Nonnull RLPWriter writer) {
+        writer.writeBytesData(mPublicKey);
+        writer.writeBytesData(mRewardAddress);
+        writer.writeBytesData(mOwnerAddress);
+        writer.writeBytesData(mControlAddress);
     }
 
-    @Nonnull
     @Override
-    protected char[] encodeRLP() {
-        return RLPBoxed.encode(new Object[]{
-                mPublicKey,
-                mRewardAddress,
-                mOwnerAddress,
-                mControlAddress
-        });
+    protected void readRLP(@Nonnull RLPReader reader) {
+        mPublicKey = reader.readPublicKey();
+        mRewardAddress = reader.readAddress();
+        mOwnerAddress = reader.readAddress();
+        mControlAddress = reader.readAddress();
     }
 }
@@ -30,7 +30,6 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import network.minter.core.crypto.MinterPublicKey;
-import network.minter.core.util.RLPBoxed;
 
 import static network.minter.core.internal.common.Preconditions.checkArgument;
 
@@ -100,18 +99,14 @@ public class TxEditCandidateCommission extends Operation {
     }
 
     @Override
-    protected void decodeRLP(@Nonnull char[] rlpEncodedData) {
-        RLPValues rlp = decodeValues(rlpEncodedData);
-        mPubKey = rlp.asPublicKey(0);
-        mCommission = rlp.asInt(1);
+    protected void writeRLP(@Nonnull RLPWriter writer) {
+        writer.writeBytesData(mPubKey);
+        writer.writeInt(mCommission);
     }
 
-    @Nonnull
     @Override
-    protected char[] encodeRLP() {
-        return RLPBoxed.encode(new Object[]{
-                mPubKey,
-                mCommission
-        });
+    protected void readRLP(@Nonnull RLPReader reader) {
+        mPubKey = reader.readPublicKey();
+        mCommission = reader.readInt();
     }
 }
@@ -30,8 +30,6 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import network.minter.core.crypto.MinterPublicKey;
-import network.minter.core.util.DecodeResult;
-import network.minter.core.util.RLPBoxed;
 
 /**
  * minter-android-blockchain. 2020
@@ -80,19 +78,14 @@ public class TxEditCandidatePublicKey extends Operation {
     }
 
     @Override
-    protected void decodeRLP(@Nonnull char[] rlpEncodedData) {
-        final DecodeResult rlp = RLPBoxed.decode(rlpEncodedData, 0);/**/
-        final Object[] decoded = (Object[]) rlp.getDecoded();
-        mPublicKey = new MinterPublicKey(fromRawRlp(0, decoded));
-        mNewPublicKey = new MinterPublicKey(fromRawRlp(1, decoded));
+    protected void writeRLP(@Nonnull RLPWriter writer) {
+        writer.writeBytesData(mPublicKey);
+        writer.writeBytesData(mNewPublicKey);
     }
 
-    @Nonnull
     @Override
-    protected char[] encodeRLP() {
-        return RLPBoxed.encode(new Object[]{
-                mPublicKey,
-                mNewPublicKey
-        });
+    protected void readRLP(@Nonnull RLPReader reader) {
+        mPublicKey = reader.readPublicKey();
+        mNewPublicKey = reader.readPublicKey();
     }
 }
@@ -31,11 +31,8 @@ import javax.annotation.Nullable;
 
 import network.minter.core.crypto.MinterAddress;
 import network.minter.core.internal.helpers.StringHelper;
-import network.minter.core.util.DecodeResult;
-import network.minter.core.util.RLPBoxed;
 
 import static network.minter.core.internal.common.Preconditions.checkArgument;
-import static network.minter.core.internal.helpers.StringHelper.charsToString;
 
 /**
  * minter-android-blockchain. 2020
@@ -89,20 +86,14 @@ public class TxEditCoinOwner extends Operation {
     }
 
     @Override
-    protected void decodeRLP(@Nonnull char[] rlpEncodedData) {
-        final DecodeResult rlp = RLPBoxed.decode(rlpEncodedData, 0);/**/
-        final Object[] decoded = (Object[]) rlp.getDecoded();
-
-        mSymbol = charsToString(fromRawRlp(0, decoded));
-        mNewOwner = new MinterAddress(fromRawRlp(1, decoded));
+    protected void writeRLP(@Nonnull RLPWriter writer) {
+        writer.writeString(mSymbol);
+        writer.writeBytesData(mNewOwner);
     }
 
-    @Nonnull
     @Override
-    protected char[] encodeRLP() {
-        return RLPBoxed.encode(new Object[]{
-                mSymbol,
-                mNewOwner
-        });
+    protected void readRLP(@Nonnull RLPReader reader) {
+        mSymbol = reader.readString();
+        mNewOwner = reader.readAddress();
     }
 }
@@ -33,7 +33,6 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import network.minter.core.crypto.MinterPublicKey;
-import network.minter.core.util.RLPBoxed;
 
 import static network.minter.blockchain.models.operational.Transaction.normalizeValue;
 
@@ -137,24 +136,20 @@ public final class TxMoveStake extends Operation {
                 .addResult("mCoin", mCoinId != null, "Coin ID must be set");
     }
 
-    @Nonnull
     @Override
-    protected char[] encodeRLP() {
-        return RLPBoxed.encode(new Object[]{
-                mFrom,
-                mTo,
-                mCoinId,
-                mStake
-        });
+    protected void writeRLP(@Nonnull RLPWriter writer) {
+        writer.writeBytesData(mFrom);
+        writer.writeBytesData(mTo);
+        writer.writeBigInt(mCoinId);
+        writer.writeBigInt(mStake);
     }
 
     @Override
-    protected void decodeRLP(@Nonnull char[] rlpEncodedData) {
-        RLPValues rlp = decodeValues(rlpEncodedData);
-        mFrom = rlp.asPublicKey(0);
-        mTo = rlp.asPublicKey(1);
-        mCoinId = rlp.asBigInt(2);
-        mStake = rlp.asBigInt(3);
+    protected void readRLP(@Nonnull RLPReader reader) {
+        mFrom = reader.readPublicKey();
+        mTo = reader.readPublicKey();
+        mCoinId = reader.readBigInt();
+        mStake = reader.readBigInt();
     }
 
 
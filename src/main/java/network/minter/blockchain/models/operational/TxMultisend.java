@@ -28,25 +28,40 @@ package network.minter.blockchain.models.operational;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
-import java.util.ArrayList;
-import java.util.LinkedList;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
 import java.util.List;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import network.minter.core.crypto.MinterAddress;
-import network.minter.core.util.DecodeResult;
-import network.minter.core.util.RLPBoxed;
+
+import static network.minter.blockchain.models.operational.Transaction.normalizeValue;
+import static network.minter.core.internal.common.Preconditions.checkArgument;
+import static network.minter.core.internal.common.Preconditions.checkNotNull;
 
 /**
  * Transaction for sending coins to multiple addresses.
  * <p>
+ * Items are kept in parallel arrays (coin ids, recipients, values) instead of {@link TxSendCoin} objects,
+ * so decoding big multisends allocates a few arrays, and any item can be read by index in constant time.
+ * <p>
  * minter-android-blockchain. 2019
  * @author Eduard Maximovich [edward.vstock@gmail.com]
  */
 public class TxMultisend extends Operation {
-    private List<TxSendCoin> mItems = new ArrayList<>();
+    private final static int ADDRESS_LENGTH = 20;
+    private final static int DEFAULT_CAPACITY = 8;
+
+    private BigInteger[] mCoinIds = new BigInteger[DEFAULT_CAPACITY];
+    // recipients addresses one by one, 20 bytes each
+    private byte[] mRecipients = new byte[DEFAULT_CAPACITY * ADDRESS_LENGTH];
+    private BigInteger[] mValues = new BigInteger[DEFAULT_CAPACITY];
+    private int mSize = 0;
+    // changed on every insert and remove, so item views can detect that their index is stale
+    private int mVersion = 0;
 
     public TxMultisend() {
     }
@@ -55,48 +70,114 @@ public class TxMultisend extends Operation {
         super(rawTx);
     }
 
+    /**
+     * Items as list view. List supports {@code add}, {@code set} and {@code remove}, they change this multisend.
+     * {@link List#get(int)} returns {@link TxSendCoin} view of item: its setters write item back to this multisend.
+     * View is bound to item index, so after items have been added or removed its setters throw
+     * {@link ConcurrentModificationException}, get item again. Items returned by {@code set} and {@code remove}
+     * are detached copies. For big multisends prefer {@link #getCoinId(int)}, {@link #getRecipient(int)}
+     * and {@link #getValueBigInteger(int)}: each {@code get} creates new object.
+     * @return items view
+     */
     public List<TxSendCoin> getItems() {
-        return mItems;
+        return new AbstractList<TxSendCoin>() {
+            @Override
+            public TxSendCoin get(int index) {
+                checkIndex(index);
+                return createItem(index).attachTo(TxMultisend.this, index, mVersion);
+            }
+
+            @Override
+            public int size() {
+                return mSize;
+            }
+
+            @Override
+            public TxSendCoin set(int index, TxSendCoin element) {
+                checkIndex(index);
+                final TxSendCoin prev = createItem(index);
+                writeItem(index, element.getCoinId(), element.getTo(), element.getValueBigInteger());
+                return prev;
+            }
+
+            @Override
+            public void add(int index, TxSendCoin element) {
+                if (index < 0 || index > mSize) {
+                    throw new IndexOutOfBoundsException("Index: " + index + ", size: " + mSize);
+                }
+                insertItem(index, element.getCoinId(), element.getTo(), element.getValueBigInteger());
+                modCount++;
+            }
+
+            @Override
+            public TxSendCoin remove(int index) {
+                checkIndex(index);
+                final TxSendCoin prev = createItem(index);
+                removeItem(index);
+                modCount++;
+                return prev;
+            }
+        };
     }
 
+    /**
+     * @param index item index
+     * @return item view, same as {@code getItems().get(index)}, or null if index is out of bounds
+     */
     public TxSendCoin getItem(int index) {
-        return mItems.size() > index && index > -1 ? mItems.get(index) : null;
+        return mSize > index && index > -1 ? createItem(index).attachTo(this, index, mVersion) : null;
     }
 
-    public TxMultisend addItem(BigInteger coinId, MinterAddress recipient, BigDecimal value) {
-        mItems.add(new TxSendCoin(getTx())
-                .setCoinId(coinId)
-                .setTo(recipient)
-                .setValue(value));
+    public int getItemsCount() {
+        return mSize;
+    }
 
-        return this;
+    public BigInteger getCoinId(int index) {
+        checkIndex(index);
+        return mCoinIds[index];
+    }
+
+    public MinterAddress getRecipient(int index) {
+        checkIndex(index);
+        final char[] address = new char[ADDRESS_LENGTH];
+        final int offset = index * ADDRESS_LENGTH;
+        for (int i = 0; i < ADDRESS_LENGTH; i++) {
+            address[i] = (char) (mRecipients[offset + i] & 0xFF);
+        }
+        return new MinterAddress(address);
+    }
+
+    public BigInteger getValueBigInteger(int index) {
+        checkIndex(index);
+        return mValues[index];
+    }
+
+    public BigDecimal getValue(int index) {
+        return Transaction.humanizeValue(getValueBigInteger(index));
+    }
+
+    public TxMultisend addItem(BigInteger coinId, MinterAddress recipient, BigDecimal value) {
+        return addItem(coinId, recipient, normalizeValue(value));
     }
 
     public TxMultisend addItem(long coinId, MinterAddress recipient, BigDecimal value) {
-        mItems.add(new TxSendCoin(getTx())
-                .setCoinId(coinId)
-                .setTo(recipient)
-                .setValue(value));
+        return addItem(BigInteger.valueOf(coinId), recipient, normalizeValue(value));
+    }
 
-        return this;
+    public TxMultisend addItem(BigInteger coinId, MinterAddress recipient, @Nonnull PipAmount value) {
+        return addItem(coinId, recipient, value.toPips());
     }
 
-    public TxMultisend addItem(BigInteger coinId, MinterAddress recipient, CharSequence value) {
-        mItems.add(new TxSendCoin(getTx())
-                .setCoinId(coinId)
-                .setTo(recipient)
-                .setValue(value));
+    public TxMultisend addItem(long coinId, MinterAddress recipient, @Nonnull PipAmount value) {
+        return addItem(BigInteger.valueOf(coinId), recipient, value.toPips());
+    }
 
-        return this;
+    public TxMultisend addItem(BigInteger coinId, MinterAddress recipient, CharSequence value) {
+        return addItem(coinId, recipient, normalizeValue(value));
     }
 
     public TxMultisend addItem(long coinId, MinterAddress recipient, CharSequence value) {
-        mItems.add(new TxSendCoin(getTx())
-                .setCoinId(coinId)
-                .setTo(recipient)
-                .setValue(value));
-
-        return this;
+        return addItem(BigInteger.valueOf(coinId), recipient, normalizeValue(value));
     }
 
     /**
@@ -106,12 +187,7 @@ public class TxMultisend extends Operation {
      * @return
      */
     public TxMultisend addItem(BigInteger coinId, String recipient, @Nonnull final CharSequence decimalValue) {
-        mItems.add(new TxSendCoin(getTx())
-                .setCoinId(coinId)
-                .setTo(recipient)
-                .setValue(decimalValue));
-
-        return this;
+        return addItem(coinId, new MinterAddress(recipient), normalizeValue(decimalValue));
     }
 
     /**
@@ -121,16 +197,22 @@ public class TxMultisend extends Operation {
      * @return
      */
     public TxMultisend addItem(long coinId, String recipient, @Nonnull final CharSequence decimalValue) {
-        mItems.add(new TxSendCoin(getTx())
-                .setCoinId(coinId)
-                .setTo(recipient)
-                .setValue(decimalValue));
-
-        return this;
+        return addItem(BigInteger.valueOf(coinId), new MinterAddress(recipient), normalizeValue(decimalValue));
     }
 
     public TxMultisend addItem(TxSendCoin txSendCoin) {
-        mItems.add(txSendCoin);
+        return addItem(txSendCoin.getCoinId(), txSendCoin.getTo(), txSendCoin.getValueBigInteger());
+    }
+
+    /**
+     * Add item with normalized value
+     * @param coinId coin to send
+     * @param recipient recipient address
+     * @param value value multiplied by {@link Transaction#VALUE_MUL}
+     * @return self
+     */
+    public TxMultisend addItem(BigInteger coinId, @Nonnull MinterAddress recipient, BigInteger value) {
+        insertItem(mSize, coinId, recipient, value);
         return this;
     }
 
@@ -139,37 +221,131 @@ public class TxMultisend extends Operation {
         return OperationType.Multisend;
     }
 
+    /**
+     * Keeps arrays to reuse them with next multisend
+     */
+    @Override
+    boolean reset() {
+        Arrays.fill(mCoinIds, 0, mSize, null);
+        Arrays.fill(mValues, 0, mSize, null);
+        Arrays.fill(mRecipients, 0, mSize * ADDRESS_LENGTH, (byte) 0);
+        mSize = 0;
+        mVersion++;
+        return true;
+    }
+
     @Nullable
     @Override
     protected FieldsValidationResult validate() {
         return new FieldsValidationResult()
-                .addResult("mItems", mItems.size() > 0, "You should add at least one send transaction data");
+                .addResult("mItems", mSize > 0, "You should add at least one send transaction data");
     }
 
     @Override
-    protected void decodeRLP(@Nonnull char[] rlpEncodedData) {
-        final DecodeResult rlp = RLPBoxed.decode(rlpEncodedData, 0);
-        final Object[] decoded = (Object[]) rlp.getDecoded();
-
-        Object[] items = (Object[]) decoded[0];
-        mItems = new LinkedList<>();
-        for (int i = 0; i < items.length; i++) {
-            final TxSendCoin data = new TxSendCoin(getTx());
-            // object array of object array contains 3 byte array (Coin/To/Value)
-            data.decodeRaw(objArrToByteArrArr((Object[]) items[i]));
-            mItems.add(i, data);
+    protected void readRLP(@Nonnull RLPReader reader) {
+        final RLPReader items = reader.readList();
+        mSize = 0;
+        mVersion++;
+        while (items.hasNext()) {
+            ensureCapacity(mSize + 1);
+            // each item is a list of 3 values (Coin/To/Value)
+            final RLPReader item = items.readList();
+            mCoinIds[mSize] = item.readBigInt();
+            item.readBytesTo(mRecipients, mSize * ADDRESS_LENGTH, ADDRESS_LENGTH);
+            mValues[mSize] = item.readBigInt();
+            mSize++;
         }
     }
 
-    @Nonnull
     @Override
-    protected char[] encodeRLP() {
-        final Object[][] items = new Object[mItems.size()][3];
-        for (int i = 0; i < mItems.size(); i++) {
-            items[i] = new Object[]{mItems.get(i).getCoinId(), mItems.get(i).getTo(), mItems.get(i).getValueBigInteger()};
+    protected void writeRLP(@Nonnull RLPWriter writer) {
+        writer.startList();
+        for (int i = 0; i < mSize; i++) {
+            writer.startList()
+                    .writeBigInt(mCoinIds[i])
+                    .writeBytes(mRecipients, i * ADDRESS_LENGTH, ADDRESS_LENGTH)
+                    .writeBigInt(mValues[i])
+                    .endList();
+        }
+        writer.endList();
+    }
+
+    private TxSendCoin createItem(int index) {
+        return new TxSendCoin(getTx())
+                .setCoinId(mCoinIds[index])
+                .setTo(getRecipient(index))
+                .setValue(mValues[index]);
+    }
+
+    // write back item changed through its TxSendCoin view
+    void updateItem(int index, int version, BigInteger coinId, MinterAddress recipient, BigInteger value) {
+        if (version != mVersion) {
+            throw new ConcurrentModificationException("Multisend items have been added or removed, get item again");
+        }
+        writeItem(index, coinId, recipient, value);
+    }
+
+    // shift items after index to the right and write new one at its place
+    private void insertItem(int index, BigInteger coinId, MinterAddress recipient, BigInteger value) {
+        checkRecipient(recipient);
+        ensureCapacity(mSize + 1);
+        final int tail = mSize - index;
+        if (tail > 0) {
+            System.arraycopy(mCoinIds, index, mCoinIds, index + 1, tail);
+            System.arraycopy(mValues, index, mValues, index + 1, tail);
+            System.arraycopy(mRecipients, index * ADDRESS_LENGTH, mRecipients, (index + 1) * ADDRESS_LENGTH, tail * ADDRESS_LENGTH);
+        }
+        mSize++;
+        mVersion++;
+        writeItem(index, coinId, recipient, value);
+    }
+
+    private void writeItem(int index, BigInteger coinId, MinterAddress recipient, BigInteger value) {
+        checkRecipient(recipient);
+        final char[] address = recipient.getData();
+        final int offset = index * ADDRESS_LENGTH;
+        final int pad = ADDRESS_LENGTH - address.length;
+        Arrays.fill(mRecipients, offset, offset + pad, (byte) 0);
+        for (int i = 0; i < address.length; i++) {
+            mRecipients[offset + pad + i] = (byte) address[i];
+        }
+        mCoinIds[index] = coinId;
+        mValues[index] = value;
+    }
+
+    // shift items after index to the left and clear the last slot
+    private void removeItem(int index) {
+        final int tail = mSize - index - 1;
+        if (tail > 0) {
+            System.arraycopy(mCoinIds, index + 1, mCoinIds, index, tail);
+            System.arraycopy(mValues, index + 1, mValues, index, tail);
+            System.arraycopy(mRecipients, (index + 1) * ADDRESS_LENGTH, mRecipients, index * ADDRESS_LENGTH, tail * ADDRESS_LENGTH);
         }
+        mSize--;
+        mVersion++;
+        mCoinIds[mSize] = null;
+        mValues[mSize] = null;
+        Arrays.fill(mRecipients, mSize * ADDRESS_LENGTH, (mSize + 1) * ADDRESS_LENGTH, (byte) 0);
+    }
+
+    private static void checkRecipient(MinterAddress recipient) {
+        checkNotNull(recipient, "Recipient can't be null");
+        checkArgument(recipient.getData().length <= ADDRESS_LENGTH, "Invalid recipient address length: %d", recipient.getData().length);
+    }
 
-        return RLPBoxed.encode(new Object[]{items});
+    private void checkIndex(int index) {
+        if (index < 0 || index >= mSize) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + mSize);
+        }
+    }
 
+    private void ensureCapacity(int capacity) {
+        if (capacity <= mCoinIds.length) {
+            return;
+        }
+        final int newCapacity = Math.max(capacity, mCoinIds.length * 2);
+        mCoinIds = Arrays.copyOf(mCoinIds, newCapacity);
+        mValues = Arrays.copyOf(mValues, newCapacity);
+        mRecipients = Arrays.copyOf(mRecipients, newCapacity * ADDRESS_LENGTH);
     }
 }
@@ -31,11 +31,6 @@ import java.math.BigInteger;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
-import network.minter.core.util.DecodeResult;
-import network.minter.core.util.RLPBoxed;
-
-import static network.minter.core.internal.helpers.BytesHelper.fixBigintSignedByte;
-
 /**
  * minter-android-blockchain. 2020
  * @author Eduard Maximovich (edward.vstock@gmail.com)
@@ -76,18 +71,12 @@ public class TxPriceVote extends Operation {
     }
 
     @Override
-    protected void decodeRLP(@Nonnull char[] rlpEncodedData) {
-        final DecodeResult rlp = RLPBoxed.decode(rlpEncodedData, 0);/**/
-        final Object[] decoded = (Object[]) rlp.getDecoded();
-
-        mPrice = fixBigintSignedByte(fromRawRlp(0, decoded));
+    protected void writeRLP(@Nonnull RLPWriter writer) {
+        writer.writeBigInt(mPrice);
     }
 
-    @Nonnull
     @Override
-    protected char[] encodeRLP() {
-        return RLPBoxed.encode(new Object[]{
-                mPrice
-        });
+    protected void readRLP(@Nonnull RLPReader reader) {
+        mPrice = reader.readBigInt();
     }
 }
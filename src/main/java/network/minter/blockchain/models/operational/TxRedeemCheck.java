@@ -33,8 +33,6 @@ import javax.annotation.Nullable;
 
 import network.minter.core.crypto.BytesData;
 import network.minter.core.crypto.MinterCheck;
-import network.minter.core.util.DecodeResult;
-import network.minter.core.util.RLPBoxed;
 
 import static java.lang.String.format;
 import static network.minter.core.internal.common.Preconditions.checkArgument;
@@ -123,21 +121,16 @@ public final class TxRedeemCheck extends Operation {
                         PROOF_LENGTH, format(Locale.getDefault(), "Proof data must be set (%d bytes)", PROOF_LENGTH));
     }
 
-    @Nonnull
     @Override
-    protected char[] encodeRLP() {
-        return RLPBoxed.encode(new Object[]{
-                mRawCheck.getData(),
-                mProof.getData()
-        });
+    protected void writeRLP(@Nonnull RLPWriter writer) {
+        writer.writeChars(mRawCheck.getData());
+        writer.writeBytesData(mProof);
     }
 
     @Override
-    protected void decodeRLP(@Nonnull char[] rlpEncodedData) {
-        final DecodeResult rlp = RLPBoxed.decode(rlpEncodedData, 0);/**/
-        final Object[] decoded = (Object[]) rlp.getDecoded();
-        mRawCheck = new MinterCheck(fromRawRlp(0, decoded));
-        mProof = new BytesData(fromRawRlp(1, decoded));
+    protected void readRLP(@Nonnull RLPReader reader) {
+        mRawCheck = new MinterCheck(reader.readChars());
+        mProof = reader.readBytesData();
     }
 
 
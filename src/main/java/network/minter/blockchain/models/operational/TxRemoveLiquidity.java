@@ -32,11 +32,6 @@ import java.math.BigInteger;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
-import network.minter.core.util.DecodeResult;
-import network.minter.core.util.RLPBoxed;
-
-import static network.minter.core.internal.helpers.BytesHelper.fixBigintSignedByte;
-
 /**
  * minter-android-blockchain. 2021
  *
@@ -163,26 +158,20 @@ public class TxRemoveLiquidity extends Operation {
     }
 
     @Override
-    protected void decodeRLP(@Nonnull char[] rlpEncodedData) {
-        final DecodeResult rlp = RLPBoxed.decode(rlpEncodedData, 0);/**/
-        final Object[] decoded = (Object[]) rlp.getDecoded();
-
-        mCoin0 = fixBigintSignedByte(fromRawRlp(0, decoded));
-        mCoin1 = fixBigintSignedByte(fromRawRlp(1, decoded));
-        mLiquidity = fixBigintSignedByte(fromRawRlp(2, decoded));
-        mMinimumVolume0 = fixBigintSignedByte(fromRawRlp(3, decoded));
-        mMinimumVolume1 = fixBigintSignedByte(fromRawRlp(4, decoded));
+    protected void writeRLP(@Nonnull RLPWriter writer) {
+        writer.writeBigInt(mCoin0);
+        writer.writeBigInt(mCoin1);
+        writer.writeBigInt(mLiquidity);
+        writer.writeBigInt(mMinimumVolume0);
+        writer.writeBigInt(mMinimumVolume1);
     }
 
-    @Nonnull
     @Override
-    protected char[] encodeRLP() {
-        return RLPBoxed.encode(new Object[]{
-                mCoin0,
-                mCoin1,
-                mLiquidity,
-                mMinimumVolume0,
-                mMinimumVolume1
-        });
+    protected void readRLP(@Nonnull RLPReader reader) {
+        mCoin0 = reader.readBigInt();
+        mCoin1 = reader.readBigInt();
+        mLiquidity = reader.readBigInt();
+        mMinimumVolume0 = reader.readBigInt();
+        mMinimumVolume1 = reader.readBigInt();
     }
 }
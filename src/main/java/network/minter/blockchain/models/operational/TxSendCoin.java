@@ -34,8 +34,6 @@ import javax.annotation.Nullable;
 
 import network.minter.core.MinterSDK;
 import network.minter.core.crypto.MinterAddress;
-import network.minter.core.util.DecodeResult;
-import network.minter.core.util.RLPBoxed;
 
 import static network.minter.blockchain.models.operational.Transaction.normalizeValue;
 import static network.minter.core.internal.common.Preconditions.checkNotNull;
@@ -49,6 +47,10 @@ public final class TxSendCoin extends Operation {
     private BigInteger mCoinId = MinterSDK.DEFAULT_COIN_ID;
     private MinterAddress mTo;
     private BigInteger mValue;
+    // multisend item this operation is a view of, see TxMultisend#getItems()
+    private TxMultisend mOwner;
+    private int mOwnerIndex;
+    private int mOwnerVersion;
 
     public TxSendCoin() {
     }
@@ -83,12 +85,23 @@ public final class TxSendCoin extends Operation {
      */
     public TxSendCoin setValue(BigDecimal value) {
         mValue = normalizeValue(value);
-        return this;
+        return writeBack();
+    }
+
+    /**
+     * Set fixed-point value
+     * @param value amount
+     * @return self
+     */
+    public TxSendCoin setValue(@Nonnull PipAmount value) {
+        checkNotNull(value, "Value can't be null");
+        mValue = value.toPips();
+        return writeBack();
     }
 
-    private TxSendCoin setValue(BigInteger valueNormalized) {
+    TxSendCoin setValue(BigInteger valueNormalized) {
         mValue = valueNormalized;
-        return this;
+        return writeBack();
     }
 
     public BigInteger getValueBigInteger() {
@@ -105,7 +118,7 @@ public final class TxSendCoin extends Operation {
 
     public TxSendCoin setTo(MinterAddress address) {
         mTo = address;
-        return this;
+        return writeBack();
     }
 
     public TxSendCoin setTo(String address) {
@@ -118,7 +131,7 @@ public final class TxSendCoin extends Operation {
 
     public TxSendCoin setCoinId(final BigInteger coinId) {
         mCoinId = coinId;
-        return this;
+        return writeBack();
     }
 
     public TxSendCoin setCoinId(long coinId) {
@@ -126,11 +139,34 @@ public final class TxSendCoin extends Operation {
     }
 
 
+    /**
+     * Make this operation a view of multisend item: each setter writes item back to multisend
+     * @param owner multisend
+     * @param index item index
+     * @param version multisend structure version, see {@link TxMultisend#updateItem}
+     * @return self
+     */
+    TxSendCoin attachTo(TxMultisend owner, int index, int version) {
+        mOwner = owner;
+        mOwnerIndex = index;
+        mOwnerVersion = version;
+        return this;
+    }
+
     @Override
     public OperationType getType() {
         return OperationType.SendCoin;
     }
 
+    @Override
+    boolean reset() {
+        mCoinId = MinterSDK.DEFAULT_COIN_ID;
+        mTo = null;
+        mValue = null;
+        mOwner = null;
+        return true;
+    }
+
     @Nullable
     @Override
     protected FieldsValidationResult validate() {
@@ -140,20 +176,25 @@ public final class TxSendCoin extends Operation {
                 .addResult("mValue", mValue != null, "Value must be set");
     }
 
-    @Nonnull
     @Override
-    protected char[] encodeRLP() {
-        return RLPBoxed.encode(new Object[]{mCoinId, mTo, mValue});
+    protected void writeRLP(@Nonnull RLPWriter writer) {
+        writer.writeBigInt(mCoinId);
+        writer.writeBytesData(mTo);
+        writer.writeBigInt(mValue);
     }
 
     @Override
-    protected void decodeRLP(@Nonnull char[] rlpEncodedData) {
-        final DecodeResult rlp = RLPBoxed.decode(rlpEncodedData, 0);/**/
-        final Object[] decoded = (Object[]) rlp.getDecoded();
+    protected void readRLP(@Nonnull RLPReader reader) {
+        mCoinId = reader.readBigInt();
+        mTo = reader.readAddress();
+        mValue = reader.readBigInt();
+    }
 
-        mCoinId = fixBigintSignedByte(fromRawRlp(0, decoded));
-        mTo = new MinterAddress(fromRawRlp(1, decoded));
-        mValue = fixBigintSignedByte(fromRawRlp(2, decoded));
+    private TxSendCoin writeBack() {
+        if (mOwner != null) {
+            mOwner.updateItem(mOwnerIndex, mOwnerVersion, mCoinId, mTo, mValue);
+        }
+        return this;
     }
 
     protected void decodeRaw(char[][] data) {
@@ -30,8 +30,6 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import network.minter.core.crypto.MinterPublicKey;
-import network.minter.core.util.DecodeResult;
-import network.minter.core.util.RLPBoxed;
 
 /**
  * minter-android-blockchain. 2018
@@ -71,10 +69,14 @@ public final class TxSetCandidateOffline extends Operation {
         return OperationType.SetCandidateOffline;
     }
 
-    @Nonnull
     @Override
-    protected char[] encodeRLP() {
-        return RLPBoxed.encode(new Object[]{mPubKey});
+    protected void writeRLP(@Nonnull RLPWriter writer) {
+        writer.writeBytesData(mPubKey);
+    }
+
+    @Override
+    protected void readRLP(@Nonnull RLPReader reader) {
+        mPubKey = reader.readPublicKey();
     }
 
     @Nullable
@@ -84,13 +86,6 @@ public final class TxSetCandidateOffline extends Operation {
                 .addResult("mPubKey", mPubKey != null, "Node public key must be set");
     }
 
-    @Override
-    protected void decodeRLP(@Nonnull char[] rlpEncodedData) {
-        final DecodeResult rlp = RLPBoxed.decode(rlpEncodedData, 0);/**/
-        final Object[] decoded = (Object[]) rlp.getDecoded();
-        mPubKey = new MinterPublicKey(fromRawRlp(0, decoded));
-    }
-
 
 }
 
@@ -32,10 +32,6 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import network.minter.core.crypto.MinterPublicKey;
-import network.minter.core.util.DecodeResult;
-import network.minter.core.util.RLPBoxed;
-
-import static network.minter.core.internal.helpers.BytesHelper.fixBigintSignedByte;
 
 /**
  * minter-android-blockchain. 2020
@@ -97,21 +93,15 @@ public class TxSetHaltBlock extends Operation {
                 .addResult("mHeight", mHeight != null, "Block number must be set");
     }
 
-    @Nonnull
     @Override
-    protected char[] encodeRLP() {
-        return RLPBoxed.encode(new Object[]{
-                mPublicKey,
-                mHeight
-        });
+    protected void writeRLP(@Nonnull RLPWriter writer) {
+        writer.writeBytesData(mPublicKey);
+        writer.writeBigInt(mHeight);
     }
 
     @Override
-    protected void decodeRLP(@Nonnull char[] rlpEncodedData) {
-        final DecodeResult rlp = RLPBoxed.decode(rlpEncodedData, 0);/**/
-        final Object[] decoded = (Object[]) rlp.getDecoded();
-
-        mPublicKey = new MinterPublicKey(fromRawRlp(0, decoded));
-        mHeight = fixBigintSignedByte(fromRawRlp(1, decoded));
+    protected void readRLP(@Nonnull RLPReader reader) {
+        mPublicKey = reader.readPublicKey();
+        mHeight = reader.readBigInt();
     }
 }
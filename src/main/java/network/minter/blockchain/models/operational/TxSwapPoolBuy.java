@@ -34,8 +34,6 @@ import java.util.List;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
-import network.minter.core.util.RLPBoxed;
-
 /**
  * minter-android-blockchain. 2021
  *
@@ -135,20 +133,16 @@ public class TxSwapPoolBuy extends Operation {
     }
 
     @Override
-    protected void decodeRLP(@Nonnull char[] rlpEncodedData) {
-        RLPValues rlp = decodeValues(rlpEncodedData);
-        mCoins = rlp.asBigIntList(0);
-        mValueToBuy = rlp.asBigInt(1);
-        mMaxValueToSell = rlp.asBigInt(2);
+    protected void writeRLP(@Nonnull RLPWriter writer) {
+        writer.writeBigIntList(mCoins);
+        writer.writeBigInt(mValueToBuy);
+        writer.writeBigInt(mMaxValueToSell);
     }
 
-    @Nonnull
     @Override
-    protected char[] encodeRLP() {
-        return RLPBoxed.encode(new Object[]{
-                mCoins.toArray(),
-                mValueToBuy,
-                mMaxValueToSell
-        });
+    protected void readRLP(@Nonnull RLPReader reader) {
+        mCoins = reader.readBigIntList();
+        mValueToBuy = reader.readBigInt();
+        mMaxValueToSell = reader.readBigInt();
     }
 }
@@ -32,11 +32,6 @@ import java.math.BigInteger;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
-import network.minter.core.util.DecodeResult;
-import network.minter.core.util.RLPBoxed;
-
-import static network.minter.core.internal.helpers.BytesHelper.fixBigintSignedByte;
-
 /**
  * minter-android-blockchain. 2021
  *
@@ -123,24 +118,18 @@ public class TxSwapPoolCreate extends Operation {
     }
 
     @Override
-    protected void decodeRLP(@Nonnull char[] rlpEncodedData) {
-        final DecodeResult rlp = RLPBoxed.decode(rlpEncodedData, 0);/**/
-        final Object[] decoded = (Object[]) rlp.getDecoded();
-
-        mCoin0 = fixBigintSignedByte(fromRawRlp(0, decoded));
-        mCoin1 = fixBigintSignedByte(fromRawRlp(1, decoded));
-        mVolume0 = fixBigintSignedByte(fromRawRlp(2, decoded));
-        mVolume1 = fixBigintSignedByte(fromRawRlp(3, decoded));
+    protected void writeRLP(@Nonnull RLPWriter writer) {
+        writer.writeBigInt(mCoin0);
+        writer.writeBigInt(mCoin1);
+        writer.writeBigInt(mVolume0);
+        writer.writeBigInt(mVolume1);
     }
 
-    @Nonnull
     @Override
-    protected char[] encodeRLP() {
-        return RLPBoxed.encode(new Object[]{
-                mCoin0,
-                mCoin1,
-                mVolume0,
-                mVolume1
-        });
+    protected void readRLP(@Nonnull RLPReader reader) {
+        mCoin0 = reader.readBigInt();
+        mCoin1 = reader.readBigInt();
+        mVolume0 = reader.readBigInt();
+        mVolume1 = reader.readBigInt();
     }
 }
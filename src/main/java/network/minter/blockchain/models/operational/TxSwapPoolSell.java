@@ -34,8 +34,6 @@ import java.util.List;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
-import network.minter.core.util.RLPBoxed;
-
 /**
  * minter-android-blockchain. 2021
  *
@@ -136,20 +134,16 @@ public class TxSwapPoolSell extends Operation {
     }
 
     @Override
-    protected void decodeRLP(@Nonnull char[] rlpEncodedData) {
-        RLPValues rlp = decodeValues(rlpEncodedData);
-        mCoins = rlp.asBigIntList(0);
-        mValueToSell = rlp.asBigInt(1);
-        mMinValueToBuy = rlp.asBigInt(2);
+    protected void writeRLP(@Nonnull RLPWriter writer) {
+        writer.writeBigIntList(mCoins);
+        writer.writeBigInt(mValueToSell);
+        writer.writeBigInt(mMinValueToBuy);
     }
 
-    @Nonnull
     @Override
-    protected char[] encodeRLP() {
-        return RLPBoxed.encode(new Object[]{
-                mCoins.toArray(),
-                mValueToSell,
-                mMinValueToBuy
-        });
+    protected void readRLP(@Nonnull RLPReader reader) {
+        mCoins = reader.readBigIntList();
+        mValueToSell = reader.readBigInt();
+        mMinValueToBuy = reader.readBigInt();
     }
 }
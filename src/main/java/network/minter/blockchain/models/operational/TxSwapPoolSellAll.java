@@ -34,8 +34,6 @@ import java.util.List;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
-import network.minter.core.util.RLPBoxed;
-
 /**
  * minter-android-blockchain. 2021
  *
@@ -116,18 +114,14 @@ public class TxSwapPoolSellAll extends Operation {
     }
 
     @Override
-    protected void decodeRLP(@Nonnull char[] rlpEncodedData) {
-        RLPValues rlp = decodeValues(rlpEncodedData);
-        mCoins = rlp.asBigIntList(0);
-        mMinValueToBuy = rlp.asBigInt(1);
+    protected void writeRLP(@Nonnull RLPWriter writer) {
+        writer.writeBigIntList(mCoins);
+        writer.writeBigInt(mMinValueToBuy);
     }
 
-    @Nonnull
     @Override
-    protected char[] encodeRLP() {
-        return RLPBoxed.encode(new Object[]{
-                mCoins.toArray(),
-                mMinValueToBuy
-        });
+    protected void readRLP(@Nonnull RLPReader reader) {
+        mCoins = reader.readBigIntList();
+        mMinValueToBuy = reader.readBigInt();
     }
 }
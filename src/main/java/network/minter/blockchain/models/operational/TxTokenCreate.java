@@ -33,7 +33,6 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import network.minter.core.internal.helpers.StringHelper;
-import network.minter.core.util.RLPBoxed;
 
 import static network.minter.blockchain.models.operational.Transaction.humanizeValue;
 import static network.minter.blockchain.models.operational.Transaction.normalizeValue;
@@ -172,26 +171,22 @@ public class TxTokenCreate extends Operation {
     }
 
     @Override
-    protected void decodeRLP(@Nonnull char[] rlpEncodedData) {
-        RLPValues rlp = decodeValues(rlpEncodedData);
-        mName = rlp.asString(0);
-        mSymbol = rlp.asString(1);
-        mInitialAmount = rlp.asBigInt(2);
-        mMaxSupply = rlp.asBigInt(3);
-        mMintable = rlp.asBool(4);
-        mBurnable = rlp.asBool(5);
+    protected void writeRLP(@Nonnull RLPWriter writer) {
+        writer.writeString(mName);
+        writer.writeString(mSymbol);
+        writer.writeBigInt(mInitialAmount);
+        writer.writeBigInt(mMaxSupply);
+        writer.writeBool(mMintable);
+        writer.writeBool(mBurnable);
     }
 
-    @Nonnull
     @Override
-    protected char[] encodeRLP() {
-        return RLPBoxed.encode(new Object[]{
-                mName,
-                mSymbol,
-                mInitialAmount,
-                mMaxSupply,
-                new BigInteger(mMintable ? "1" : "0"),
-                new BigInteger(mBurnable ? "1" : "0")
-        });
+    protected void readRLP(@Nonnull RLPReader reader) {
+        mName = reader.readString();
+        mSymbol = reader.readString();
+        mInitialAmount = reader.readBigInt();
+        mMaxSupply = reader.readBigInt();
+        mMintable = reader.readBool();
+        mBurnable = reader.readBool();
     }
 }
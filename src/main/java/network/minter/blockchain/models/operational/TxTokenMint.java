@@ -32,8 +32,6 @@ import java.math.BigInteger;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
-import network.minter.core.util.RLPBoxed;
-
 /**
  * minter-android-blockchain. 2021
  *
@@ -101,18 +99,14 @@ public class TxTokenMint extends Operation {
     }
 
     @Override
-    protected void decodeRLP(@Nonnull char[] rlpEncodedData) {
-        RLPValues rlp = decodeValues(rlpEncodedData);
-        mCoinId = rlp.asBigInt(0);
-        mValue = rlp.asBigInt(1);
+    protected void writeRLP(@Nonnull RLPWriter writer) {
+        writer.writeBigInt(mCoinId);
+        writer.writeBigInt(mValue);
     }
 
-    @Nonnull
     @Override
-    protected char[] encodeRLP() {
-        return RLPBoxed.encode(new Object[]{
-                mCoinId,
-                mValue
-        });
+    protected void readRLP(@Nonnull RLPReader reader) {
+        mCoinId = reader.readBigInt();
+        mValue = reader.readBigInt();
     }
 }
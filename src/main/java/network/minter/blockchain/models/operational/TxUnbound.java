@@ -33,13 +33,10 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import network.minter.core.crypto.MinterPublicKey;
-import network.minter.core.util.DecodeResult;
-import network.minter.core.util.RLPBoxed;
 
 import static network.minter.blockchain.models.operational.Transaction.humanizeValue;
 import static network.minter.blockchain.models.operational.Transaction.normalizeValue;
 import static network.minter.core.internal.common.Preconditions.checkNotNull;
-import static network.minter.core.internal.helpers.BytesHelper.fixBigintSignedByte;
 
 /**
  * minter-android-blockchain. 2018
@@ -126,19 +123,18 @@ public final class TxUnbound extends Operation {
                 .addResult("mValue", mValue != null, "Value must be set");
     }
 
-    @Nonnull
     @Override
-    protected char[] encodeRLP() {
-        return RLPBoxed.encode(new Object[]{mPubKey, mCoinId, mValue});
+    protected void writeRLP(@Nonnull RLPWriter writer) {
+        writer.writeBytesData(mPubKey);
+        writer.writeBigInt(mCoinId);
+        writer.writeBigInt(mValue);
     }
 
     @Override
-    protected void decodeRLP(@Nonnull char[] rlpEncodedData) {
-        final DecodeResult rlp = RLPBoxed.decode(rlpEncodedData, 0);/**/
-        final Object[] decoded = (Object[]) rlp.getDecoded();
-        mPubKey = new MinterPublicKey(fromRawRlp(0, decoded));
-        mCoinId = fixBigintSignedByte(fromRawRlp(1, decoded));
-        mValue = fixBigintSignedByte(fromRawRlp(2, decoded));
+    protected void readRLP(@Nonnull RLPReader reader) {
+        mPubKey = reader.readPublicKey();
+        mCoinId = reader.readBigInt();
+        mValue = reader.readBigInt();
     }
 
 
@@ -32,7 +32,6 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import network.minter.core.crypto.MinterPublicKey;
-import network.minter.core.util.RLPBoxed;
 
 /**
  * minter-android-blockchain. 2021
@@ -576,109 +575,100 @@ public class TxVoteCommission extends Operation {
     }
 
     @Override
-    protected void decodeRLP(@Nonnull char[] rlpEncodedData) {
-        RLPValues rlp = decodeValues(rlpEncodedData);
-        int i = 0;
-        mPubKey = rlp.asPublicKey(i++);
-        mHeight = rlp.asBigInt(i++);
-        mCoinId = rlp.asBigInt(i++);
-
-        mPayloadByte = rlp.asBigInt(i++);
-        mSend = rlp.asBigInt(i++);
-        mBuyBancor = rlp.asBigInt(i++);
-        mSellBancor = rlp.asBigInt(i++);
-        mSellAllBancor = rlp.asBigInt(i++);
-        mBuyPoolBase = rlp.asBigInt(i++);
-        mBuyPoolDelta = rlp.asBigInt(i++);
-        mSellPoolBase = rlp.asBigInt(i++);
-        mSellPoolDelta = rlp.asBigInt(i++);
-        mSellAllPoolBase = rlp.asBigInt(i++);
-        mSellAllPoolDelta = rlp.asBigInt(i++);
-        mCreateTicker3 = rlp.asBigInt(i++);
-        mCreateTicker4 = rlp.asBigInt(i++);
-        mCreateTicker5 = rlp.asBigInt(i++);
-        mCreateTicker6 = rlp.asBigInt(i++);
-        mCreateTicker7to10 = rlp.asBigInt(i++);
-        mCreateCoin = rlp.asBigInt(i++);
-        mCreateToken = rlp.asBigInt(i++);
-        mRecreateCoin = rlp.asBigInt(i++);
-        mRecreateToken = rlp.asBigInt(i++);
-        mDeclareCandidacy = rlp.asBigInt(i++);
-        mDelegate = rlp.asBigInt(i++);
-        mUnbond = rlp.asBigInt(i++);
-        mRedeemCheck = rlp.asBigInt(i++);
-        mSetCandidateOn = rlp.asBigInt(i++);
-        mSetCandidateOff = rlp.asBigInt(i++);
-        mCreateMultisig = rlp.asBigInt(i++);
-        mMultisendBase = rlp.asBigInt(i++);
-        mMultisendDelta = rlp.asBigInt(i++);
-        mEditCandidate = rlp.asBigInt(i++);
-        mSetHaltBlock = rlp.asBigInt(i++);
-        mEditTickerOwner = rlp.asBigInt(i++);
-        mEditMultisig = rlp.asBigInt(i++);
-        mEditCandidatePubKey = rlp.asBigInt(i++);
-        mCreateSwapPool = rlp.asBigInt(i++);
-        mAddLiquidity = rlp.asBigInt(i++);
-        mRemoveLiquidity = rlp.asBigInt(i++);
-        mEditCandidateCommission = rlp.asBigInt(i++);
-//        mMoveStake = rlp.asBigInt(i++);
-        mMintToken = rlp.asBigInt(i++);
-        mBurnToken = rlp.asBigInt(i++);
-        mVoteCommission = rlp.asBigInt(i++);
-        mVoteUpdate = rlp.asBigInt(i++);
-    }
-
-    @Nonnull
+    protected void writeRLP(@Nonnull RLPWriter writer) {
+        writer.writeBytesData(mPubKey);
+        writer.writeBigInt(mHeight);
+        writer.writeBigInt(mCoinId);
+        writer.writeBigInt(mPayloadByte);
+        writer.writeBigInt(mSend);
+        writer.writeBigInt(mBuyBancor);
+        writer.writeBigInt(mSellBancor);
+        writer.writeBigInt(mSellAllBancor);
+        writer.writeBigInt(mBuyPoolBase);
+        writer.writeBigInt(mBuyPoolDelta);
+        writer.writeBigInt(mSellPoolBase);
+        writer.writeBigInt(mSellPoolDelta);
+        writer.writeBigInt(mSellAllPoolBase);
+        writer.writeBigInt(mSellAllPoolDelta);
+        writer.writeBigInt(mCreateTicker3);
+        writer.writeBigInt(mCreateTicker4);
+        writer.writeBigInt(mCreateTicker5);
+        writer.writeBigInt(mCreateTicker6);
+        writer.writeBigInt(mCreateTicker7to10);
+        writer.writeBigInt(mCreateCoin);
+        writer.writeBigInt(mCreateToken);
+        writer.writeBigInt(mRecreateCoin);
+        writer.writeBigInt(mRecreateToken);
+        writer.writeBigInt(mDeclareCandidacy);
+        writer.writeBigInt(mDelegate);
+        writer.writeBigInt(mUnbond);
+        writer.writeBigInt(mRedeemCheck);
+        writer.writeBigInt(mSetCandidateOn);
+        writer.writeBigInt(mSetCandidateOff);
+        writer.writeBigInt(mCreateMultisig);
+        writer.writeBigInt(mMultisendBase);
+        writer.writeBigInt(mMultisendDelta);
+        writer.writeBigInt(mEditCandidate);
+        writer.writeBigInt(mSetHaltBlock);
+        writer.writeBigInt(mEditTickerOwner);
+        writer.writeBigInt(mEditMultisig);
+        writer.writeBigInt(mEditCandidatePubKey);
+        writer.writeBigInt(mCreateSwapPool);
+        writer.writeBigInt(mAddLiquidity);
+        writer.writeBigInt(mRemoveLiquidity);
+        writer.writeBigInt(mEditCandidateCommission);
+        writer.writeBigInt(mMintToken);
+        writer.writeBigInt(mBurnToken);
+        writer.writeBigInt(mVoteCommission);
+        writer.writeBigInt(mVoteUpdate);
+    }
+
     @Override
-    protected char[] encodeRLP() {
-        return RLPBoxed.encode(new Object[]{
-                mPubKey,
-                mHeight,
-                mCoinId,
-
-                mPayloadByte,
-                mSend,
-                mBuyBancor,
-                mSellBancor,
-                mSellAllBancor,
-                mBuyPoolBase,
-                mBuyPoolDelta,
-                mSellPoolBase,
-                mSellPoolDelta,
-                mSellAllPoolBase,
-                mSellAllPoolDelta,
-                mCreateTicker3,
-                mCreateTicker4,
-                mCreateTicker5,
-                mCreateTicker6,
-                mCreateTicker7to10,
-                mCreateCoin,
-                mCreateToken,
-                mRecreateCoin,
-                mRecreateToken,
-                mDeclareCandidacy,
-                mDelegate,
-                mUnbond,
-                mRedeemCheck,
-                mSetCandidateOn,
-                mSetCandidateOff,
-                mCreateMultisig,
-                mMultisendBase,
-                mMultisendDelta,
-                mEditCandidate,
-                mSetHaltBlock,
-                mEditTickerOwner,
-                mEditMultisig,
-                mEditCandidatePubKey,
-                mCreateSwapPool,
-                mAddLiquidity,
-                mRemoveLiquidity,
-                mEditCandidateCommission,
-//                mMoveStake,
-                mMintToken,
-                mBurnToken,
-                mVoteCommission,
-                mVoteUpdate
-        });
+    protected void readRLP(@Nonnull RLPReader reader) {
+        mPubKey = reader.readPublicKey();
+        mHeight = reader.readBigInt();
+        mCoinId = reader.readBigInt();
+        mPayloadByte = reader.readBigInt();
+        mSend = reader.readBigInt();
+        mBuyBancor = reader.readBigInt();
+        mSellBancor = reader.readBigInt();
+        mSellAllBancor = reader.readBigInt();
+        mBuyPoolBase = reader.readBigInt();
+        mBuyPoolDelta = reader.readBigInt();
+        mSellPoolBase = reader.readBigInt();
+        mSellPoolDelta = reader.readBigInt();
+        mSellAllPoolBase = reader.readBigInt();
+        mSellAllPoolDelta = reader.readBigInt();
+        mCreateTicker3 = reader.readBigInt();
+        mCreateTicker4 = reader.readBigInt();
+        mCreateTicker5 = reader.readBigInt();
+        mCreateTicker6 = reader.readBigInt();
+        mCreateTicker7to10 = reader.readBigInt();
+        mCreateCoin = reader.readBigInt();
+        mCreateToken = reader.readBigInt();
+        mRecreateCoin = reader.readBigInt();
+        mRecreateToken = reader.readBigInt();
+        mDeclareCandidacy = reader.readBigInt();
+        mDelegate = reader.readBigInt();
+        mUnbond = reader.readBigInt();
+        mRedeemCheck = reader.readBigInt();
+        mSetCandidateOn = reader.readBigInt();
+        mSetCandidateOff = reader.readBigInt();
+        mCreateMultisig = reader.readBigInt();
+        mMultisendBase = reader.readBigInt();
+        mMultisendDelta = reader.readBigInt();
+        mEditCandidate = reader.readBigInt();
+        mSetHaltBlock = reader.readBigInt();
+        mEditTickerOwner = reader.readBigInt();
+        mEditMultisig = reader.readBigInt();
+        mEditCandidatePubKey = reader.readBigInt();
+        mCreateSwapPool = reader.readBigInt();
+        mAddLiquidity = reader.readBigInt();
+        mRemoveLiquidity = reader.readBigInt();
+        mEditCandidateCommission = reader.readBigInt();
+        mMintToken = reader.readBigInt();
+        mBurnToken = reader.readBigInt();
+        mVoteCommission = reader.readBigInt();
+        mVoteUpdate = reader.readBigInt();
     }
 }
@@ -26,14 +26,12 @@
 
 package network.minter.blockchain.models.operational;
 
-
 import java.math.BigInteger;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import network.minter.core.crypto.MinterPublicKey;
-import network.minter.core.util.RLPBoxed;
 
 /**
  * minter-android-blockchain. 2021
@@ -94,20 +92,16 @@ public class TxVoteUpdate extends Operation {
     }
 
     @Override
-    protected void decodeRLP(@Nonnull char[] rlpEncodedData) {
-        RLPValues rlp = decodeValues(rlpEncodedData);
-        mVersion = rlp.asString(0);
-        mPubKey = rlp.asPublicKey(1);
-        mHeight = rlp.asBigInt(2);
+    protected void writeRLP(@Nonnull RLPWriter writer) {
+        writer.writeString(mVersion);
+        writer.writeBytesData(mPubKey);
+        writer.writeBigInt(mHeight);
     }
 
-    @Nonnull
     @Override
-    protected char[] encodeRLP() {
-        return RLPBoxed.encode(new Object[]{
-                mVersion,
-                mPubKey,
-                mHeight
-        });
+    protected void readRLP(@Nonnull RLPReader reader) {
+        mVersion = reader.readString();
+        mPubKey = reader.readPublicKey();
+        mHeight = reader.readBigInt();
     }
 }
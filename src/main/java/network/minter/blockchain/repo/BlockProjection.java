@@ -0,0 +1,113 @@
+/*
+ * Copyright (C) by MinterTeam. 2021
+ * @link <a href="https://github.com/MinterTeam">Org Github</a>
+ * @link <a href="https://github.com/edwardstock">Maintainer Github</a>
+ *
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package network.minter.blockchain.repo;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import static network.minter.core.internal.common.Preconditions.checkNotNull;
+
+/**
+ * Fields of {@link network.minter.blockchain.models.BlockInfo} to read from node response. Other fields are
+ * skipped by parser without creating objects for them, and keep default values in result.
+ * {@code error} is always read. Transactions of block are read only if {@link #transactions(TransactionProjection)} is set.
+ * <pre>
+ * BlockProjection projection = new BlockProjection()
+ *         .fields(BlockProjection.Field.Hash, BlockProjection.Field.Height)
+ *         .transactions(new TransactionProjection()
+ *                 .fields(TransactionProjection.Field.Hash, TransactionProjection.Field.From)
+ *                 .data("to", "value"));
+ * </pre>
+ * Projection can be reused for many requests, but must not be changed while request is parsing.
+ * <p>
+ * minter-android-blockchain. 2021
+ *
+ * @author Eduard Maximovich (edward.vstock@gmail.com)
+ */
+public final class BlockProjection {
+    private final Set<String> mFields = new HashSet<>();
+    private TransactionProjection mTransactions = null;
+
+    public BlockProjection() {
+        mFields.add("error");
+    }
+
+    /**
+     * Add fields to read
+     * @param fields block fields
+     * @return self
+     */
+    public BlockProjection fields(@Nonnull Field... fields) {
+        for (Field field : checkNotNull(fields, "Fields can't be null")) {
+            mFields.add(field.mName);
+        }
+        return this;
+    }
+
+    /**
+     * Read block transactions
+     * @param projection fields of each transaction to read
+     * @return self
+     */
+    public BlockProjection transactions(@Nonnull TransactionProjection projection) {
+        mTransactions = checkNotNull(projection, "Transaction projection can't be null");
+        mFields.add("transactions");
+        return this;
+    }
+
+    boolean has(String jsonName) {
+        return mFields.contains(jsonName);
+    }
+
+    @Nullable
+    TransactionProjection getTransactions() {
+        return mTransactions;
+    }
+
+    public enum Field {
+        Hash("hash"),
+        Height("height"),
+        Time("time"),
+        TransactionCount("transaction_count"),
+        BlockReward("block_reward"),
+        Size("size"),
+        Proposer("proposer"),
+        Validators("validators"),
+        Evidence("evidence"),
+        Missed("missed"),
+        ;
+
+        private final String mName;
+
+        Field(String name) {
+            mName = name;
+        }
+    }
+}
@@ -26,23 +26,54 @@
 
 package network.minter.blockchain.repo;
 
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
 import java.math.BigInteger;
+import java.util.List;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 import io.reactivex.Observable;
+import network.minter.blockchain.MinterBlockChainSDK;
 import network.minter.blockchain.api.NodeBlockEndpoint;
 import network.minter.blockchain.models.BlockInfo;
+import network.minter.blockchain.models.NodeResult;
+import network.minter.core.crypto.BytesData;
+import network.minter.core.crypto.MinterPublicKey;
 import network.minter.core.internal.api.ApiService;
 import network.minter.core.internal.data.DataRepository;
 
+import static network.minter.core.internal.common.Preconditions.checkNotNull;
+
 /**
  * minter-android-blockchain. 2019
  * @author Eduard Maximovich [edward.vstock@gmail.com]
  */
 public class NodeBlockRepository extends DataRepository<NodeBlockEndpoint> {
+    private final Gson mGson;
+
+    /**
+     * Projected blocks are parsed with Gson of {@link MinterBlockChainSDK#getInstance()}
+     * @param apiBuilder api builder
+     */
     public NodeBlockRepository(@Nonnull ApiService.Builder apiBuilder) {
+        this(apiBuilder, null);
+    }
+
+    /**
+     * @param apiBuilder api builder
+     * @param gson Gson with sdk converters to parse projected blocks, see {@link MinterBlockChainSDK#getGson()}
+     */
+    public NodeBlockRepository(@Nonnull ApiService.Builder apiBuilder, @Nullable Gson gson) {
         super(apiBuilder);
+        mGson = gson;
     }
 
     /**
@@ -63,9 +94,144 @@ public class NodeBlockRepository extends DataRepository<NodeBlockEndpoint> {
         return getInstantService().getByHeight(blockNumber.toString());
     }
 
+    /**
+     * Resolve block info by its height, reading only projected fields of block and its transactions.
+     * Skipped fields are not parsed at all, so it's much cheaper for scanning many blocks
+     * @param blockNumber block number
+     * @param projection block fields to read
+     * @return
+     * @see BlockProjection
+     */
+    public Observable<BlockInfo> getByHeight(long blockNumber, @Nonnull BlockProjection projection) {
+        return getByHeight(BigInteger.valueOf(blockNumber), projection);
+    }
+
+    /**
+     * Resolve block info by its height, reading only projected fields of block and its transactions.
+     * Skipped fields are not parsed at all, so it's much cheaper for scanning many blocks
+     * @param blockNumber block number
+     * @param projection block fields to read
+     * @return
+     * @see BlockProjection
+     */
+    public Observable<BlockInfo> getByHeight(BigInteger blockNumber, @Nonnull BlockProjection projection) {
+        final Gson gson = mGson != null ? mGson : MinterBlockChainSDK.getInstance().getGson();
+        final StreamingResponseParser<BlockInfo> parser = new StreamingResponseParser<>(gson,
+                new BlockInfoTypeAdapter(gson, checkNotNull(projection, "Projection required")));
+        return getInstantService().getByHeightRaw(blockNumber.toString()).map(parser);
+    }
+
     @Nonnull
     @Override
     protected Class<NodeBlockEndpoint> getServiceClass() {
         return NodeBlockEndpoint.class;
     }
+
+    /**
+     * Parses block in one pass from json stream. With {@link BlockProjection}, fields that aren't projected are skipped
+     * without parsing, transactions are read by {@link NodeTransactionRepository.HistoryTransactionTypeAdapter}
+     * with projection of transactions
+     */
+    public static final class BlockInfoTypeAdapter extends TypeAdapter<BlockInfo> {
+        private final TypeAdapter<BlockInfo> mWriteDelegate;
+        private final TypeAdapter<BytesData> mBytesAdapter;
+        private final TypeAdapter<BigInteger> mBigIntAdapter;
+        private final TypeAdapter<String> mStringAdapter;
+        private final TypeAdapter<MinterPublicKey> mPublicKeyAdapter;
+        private final TypeAdapter<List<BlockInfo.BlockInfoValidator>> mValidatorsAdapter;
+        private final TypeAdapter<BlockInfo.BlockInfoEvidenceList> mEvidenceAdapter;
+        private final TypeAdapter<List<String>> mMissedAdapter;
+        private final TypeAdapter<NodeResult.Error> mErrorAdapter;
+        private final NodeTransactionRepository.HistoryTransactionTypeAdapter mTransactionAdapter;
+        private final BlockProjection mProjection;
+
+        /**
+         * @param gson Gson with sdk converters, see {@link MinterBlockChainSDK#getGson()}
+         * @param projection fields to read, or null to read all fields
+         */
+        public BlockInfoTypeAdapter(@Nonnull Gson gson, @Nullable BlockProjection projection) {
+            checkNotNull(gson, "Gson can't be null");
+            mProjection = projection;
+            mWriteDelegate = gson.getAdapter(BlockInfo.class);
+            mBytesAdapter = gson.getAdapter(BytesData.class);
+            mBigIntAdapter = gson.getAdapter(BigInteger.class);
+            mStringAdapter = gson.getAdapter(String.class);
+            mPublicKeyAdapter = gson.getAdapter(MinterPublicKey.class);
+            mValidatorsAdapter = gson.getAdapter(new TypeToken<List<BlockInfo.BlockInfoValidator>>() {
+            });
+            mEvidenceAdapter = gson.getAdapter(BlockInfo.BlockInfoEvidenceList.class);
+            mMissedAdapter = gson.getAdapter(new TypeToken<List<String>>() {
+            });
+            mErrorAdapter = gson.getAdapter(NodeResult.Error.class);
+            mTransactionAdapter = new NodeTransactionRepository.HistoryTransactionTypeAdapter(gson,
+                    projection != null ? projection.getTransactions() : null);
+        }
+
+        @Override
+        public void write(JsonWriter out, BlockInfo value) throws IOException {
+            mWriteDelegate.write(out, value);
+        }
+
+        @Override
+        public BlockInfo read(JsonReader in) throws IOException {
+            if (in.peek() != JsonToken.BEGIN_OBJECT) {
+                in.skipValue();
+                return null;
+            }
+
+            final BlockInfo out = new BlockInfo();
+            in.beginObject();
+            while (in.hasNext()) {
+                final String name = in.nextName();
+                if ((mProjection != null && !mProjection.has(name)) || in.peek() == JsonToken.NULL) {
+                    in.skipValue();
+                    continue;
+                }
+                switch (name) {
+                    case "hash":
+                        out.hash = mBytesAdapter.read(in);
+                        break;
+                    case "height":
+                        out.height = in.nextLong();
+                        break;
+                    case "time":
+                        out.time = mStringAdapter.read(in);
+                        break;
+                    case "transaction_count":
+                        out.transactionCount = mBigIntAdapter.read(in);
+                        break;
+                    case "transactions":
+                        out.transactions = mTransactionAdapter.readList(in);
+                        break;
+                    case "block_reward":
+                        out.blockReward = mBigIntAdapter.read(in);
+                        break;
+                    case "size":
+                        out.size = mBigIntAdapter.read(in);
+                        break;
+                    case "proposer":
+                        out.proposer = mPublicKeyAdapter.read(in);
+                        break;
+                    case "validators":
+                        out.validators = mValidatorsAdapter.read(in);
+                        break;
+                    case "evidence":
+                        out.evidence = mEvidenceAdapter.read(in);
+                        break;
+                    case "missed":
+                        out.missed = mMissedAdapter.read(in);
+                        break;
+                    case "error":
+                        out.error = mErrorAdapter.read(in);
+                        break;
+                    default:
+                        in.skipValue();
+                        break;
+                }
+            }
+            in.endObject();
+
+            return out;
+        }
+    }
 }
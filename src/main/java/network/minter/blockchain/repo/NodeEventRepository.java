@@ -27,35 +27,53 @@
 package network.minter.blockchain.repo;
 
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
-import com.google.gson.JsonArray;
-import com.google.gson.JsonDeserializationContext;
-import com.google.gson.JsonDeserializer;
 import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
-import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 
-import java.lang.reflect.Type;
+import java.io.IOException;
 import java.math.BigInteger;
 import java.util.ArrayList;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 import io.reactivex.Observable;
 import network.minter.blockchain.MinterBlockChainSDK;
 import network.minter.blockchain.api.NodeEventEndpoint;
 import network.minter.blockchain.models.EventList;
+import network.minter.blockchain.models.NodeResult;
 import network.minter.core.internal.api.ApiService;
 import network.minter.core.internal.data.DataRepository;
 import network.minter.core.internal.log.Mint;
 
+import static network.minter.core.internal.common.Preconditions.checkNotNull;
+
 /**
  * minter-android-blockchain. 2019
  * @author Eduard Maximovich [edward.vstock@gmail.com]
  */
 public class NodeEventRepository extends DataRepository<NodeEventEndpoint> implements DataRepository.Configurator {
+    private final Gson mGson;
+    private EventListTypeAdapter mAdapter;
+
+    /**
+     * Events are parsed with Gson of {@link MinterBlockChainSDK#getInstance()}
+     * @param apiBuilder api builder
+     */
     public NodeEventRepository(@Nonnull ApiService.Builder apiBuilder) {
+        this(apiBuilder, null);
+    }
+
+    /**
+     * @param apiBuilder api builder
+     * @param gson Gson with sdk converters to parse events, see {@link MinterBlockChainSDK#getGson()}
+     */
+    public NodeEventRepository(@Nonnull ApiService.Builder apiBuilder, @Nullable Gson gson) {
         super(apiBuilder);
+        mGson = gson;
     }
 
     public Observable<EventList> getEvents(long blockNumber) {
@@ -68,7 +86,10 @@ public class NodeEventRepository extends DataRepository<NodeEventEndpoint> imple
 
     @Override
     public void configure(ApiService.Builder api) {
-        api.registerTypeAdapter(EventList.class, new EventTypeDeserializer(MinterBlockChainSDK.getInstance().getGsonBuilder()));
+        if (mAdapter == null) {
+            mAdapter = new EventListTypeAdapter(mGson != null ? mGson : MinterBlockChainSDK.getInstance().getGson());
+        }
+        api.registerTypeAdapter(EventList.class, mAdapter);
     }
 
     @Nonnull
@@ -77,41 +98,94 @@ public class NodeEventRepository extends DataRepository<NodeEventEndpoint> imple
         return NodeEventEndpoint.class;
     }
 
-    public static final class EventTypeDeserializer implements JsonDeserializer<EventList> {
+    /**
+     * Parses event list in one pass from json stream. Event value is read directly into class of event type;
+     * only if value comes before type, value is buffered as json tree.
+     */
+    public static final class EventListTypeAdapter extends TypeAdapter<EventList> {
         private final Gson mGson;
+        private final TypeAdapter<EventList> mWriteDelegate;
+        private final TypeAdapter<NodeResult.Error> mErrorAdapter;
+        private final TypeAdapter<JsonElement> mTreeAdapter;
+
+        /**
+         * @param gson Gson with sdk converters, but without this adapter, see {@link MinterBlockChainSDK#getGson()}
+         */
+        public EventListTypeAdapter(@Nonnull Gson gson) {
+            mGson = checkNotNull(gson, "Gson can't be null");
+            mWriteDelegate = gson.getAdapter(EventList.class);
+            mErrorAdapter = gson.getAdapter(NodeResult.Error.class);
+            mTreeAdapter = gson.getAdapter(JsonElement.class);
+        }
 
-        EventTypeDeserializer(GsonBuilder builder) {
-            mGson = builder.create();
+        @Override
+        public void write(JsonWriter out, EventList value) throws IOException {
+            mWriteDelegate.write(out, value);
         }
 
         @Override
-        public EventList deserialize(JsonElement json, Type typeOfT, JsonDeserializationContext context) throws JsonParseException {
-            EventList eventList = new EventList();
+        public EventList read(JsonReader in) throws IOException {
+            final EventList eventList = new EventList();
             eventList.events = new ArrayList<>(0);
-            if (json.isJsonNull() || json.getAsJsonObject().isJsonNull() || !json.getAsJsonObject().has("events")) {
+            if (in.peek() != JsonToken.BEGIN_OBJECT) {
+                in.skipValue();
                 return eventList;
             }
 
-            JsonArray arr = json.getAsJsonObject().get("events").getAsJsonArray();
+            in.beginObject();
+            while (in.hasNext()) {
+                final String name = in.nextName();
+                if (name.equals("events") && in.peek() == JsonToken.BEGIN_ARRAY) {
+                    in.beginArray();
+                    while (in.hasNext()) {
+                        final EventList.EventItem event = readEvent(in);
+                        if (event != null) {
+                            eventList.events.add(event);
+                        }
+                    }
+                    in.endArray();
+                } else if (name.equals("error")) {
+                    eventList.error = mErrorAdapter.read(in);
+                } else {
+                    in.skipValue();
+                }
+            }
+            in.endObject();
 
-            for (int i = 0; i < arr.size(); i++) {
-                EventList.EventItem event = new EventList.EventItem();
-                JsonObject item = arr.get(i).getAsJsonObject();
+            return eventList;
+        }
 
-                event.type = EventList.Type.findByName(item.get("type").getAsString());
-                if (event.type == null) {
-                    Mint.e("Unknown event type: %s", item.get("type").getAsString());
-                    continue;
+        private EventList.EventItem readEvent(JsonReader in) throws IOException {
+            final EventList.EventItem event = new EventList.EventItem();
+            String typeName = null;
+            JsonElement pendingValue = null;
+
+            in.beginObject();
+            while (in.hasNext()) {
+                final String name = in.nextName();
+                if (name.equals("type") && in.peek() == JsonToken.STRING) {
+                    typeName = in.nextString();
+                    event.type = EventList.Type.findByName(typeName);
+                } else if (name.equals("value") && event.type != null) {
+                    event.value = mGson.getAdapter(event.type.getCls()).read(in);
+                } else if (name.equals("value") && typeName == null) {
+                    // type is not read yet
+                    pendingValue = mTreeAdapter.read(in);
+                } else {
+                    in.skipValue();
                 }
-                JsonObject itemValue = item.get("value").getAsJsonObject();
-                event.value = mGson.fromJson(itemValue, event.type.getCls());
-
-                eventList.events.add(event);
             }
+            in.endObject();
 
-            return eventList;
+            if (event.type == null) {
+                Mint.e("Unknown event type: %s", typeName);
+                return null;
+            }
+            if (pendingValue != null) {
+                event.value = mGson.getAdapter(event.type.getCls()).fromJsonTree(pendingValue);
+            }
+            return event;
         }
     }
 
-
 }
@@ -32,23 +32,38 @@ import com.google.gson.JsonDeserializer;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
-
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
 import java.lang.reflect.Type;
+import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 import io.reactivex.Observable;
 import network.minter.blockchain.MinterBlockChainSDK;
 import network.minter.blockchain.api.NodeTransactionEndpoint;
+import network.minter.blockchain.models.Coin;
 import network.minter.blockchain.models.HistoryTransaction;
 import network.minter.blockchain.models.HistoryTransactionList;
 import network.minter.blockchain.models.TransactionCommissionValue;
+import network.minter.blockchain.models.NodeResult;
 import network.minter.blockchain.models.TransactionSendResult;
 import network.minter.blockchain.models.UnconfirmedTransactions;
 import network.minter.blockchain.models.operational.TransactionSign;
 import network.minter.core.MinterSDK;
+import network.minter.core.crypto.BytesData;
 import network.minter.core.crypto.MinterAddress;
 import network.minter.core.crypto.MinterHash;
 import network.minter.core.crypto.PrivateKey;
@@ -63,8 +78,25 @@ import static network.minter.core.internal.common.Preconditions.checkNotNull;
  * @author Eduard Maximovich <edward.vstock@gmail.com>
  */
 public class NodeTransactionRepository extends DataRepository<NodeTransactionEndpoint> implements DataRepository.Configurator {
+    private final Gson mGson;
+    private final TransactionSignDeserializer mSignDeserializer = new TransactionSignDeserializer();
+    private HistoryTransactionTypeAdapter mHistoryAdapter;
+
+    /**
+     * Transactions are parsed with Gson of {@link MinterBlockChainSDK#getInstance()}
+     * @param apiBuilder api builder
+     */
     public NodeTransactionRepository(@Nonnull ApiService.Builder apiBuilder) {
+        this(apiBuilder, null);
+    }
+
+    /**
+     * @param apiBuilder api builder
+     * @param gson Gson with sdk converters to parse transactions, see {@link MinterBlockChainSDK#getGson()}
+     */
+    public NodeTransactionRepository(@Nonnull ApiService.Builder apiBuilder, @Nullable Gson gson) {
         super(apiBuilder);
+        mGson = gson;
     }
 
     /**
@@ -77,6 +109,20 @@ public class NodeTransactionRepository extends DataRepository<NodeTransactionEnd
         return getInstantService(this).getTransactions(checkNotNull(query, "Query required").build());
     }
 
+    /**
+     * Get transactions by query, reading only projected fields of each transaction
+     * @param query
+     * @param projection transaction fields to read
+     * @return
+     * @see TQuery
+     * @see TransactionProjection
+     */
+    public Observable<HistoryTransactionList> getTransactions(@Nonnull TQuery query, @Nonnull TransactionProjection projection) {
+        final StreamingResponseParser<HistoryTransactionList> parser = new StreamingResponseParser<>(getGson(),
+                new HistoryTransactionListTypeAdapter(getGson(), checkNotNull(projection, "Projection required")));
+        return getInstantService().getTransactionsRaw(checkNotNull(query, "Query required").build()).map(parser);
+    }
+
     /**
      * Get full transaction information
      * @param hash Valid transaction hash
@@ -94,11 +140,7 @@ public class NodeTransactionRepository extends DataRepository<NodeTransactionEnd
      * @see TransactionSendResult
      */
     public Observable<TransactionSendResult> sendTransaction(@Nonnull TransactionSign transactionSign) {
-        //TODO: move it to sign
-        String sig = transactionSign.getTxSign();
-        if (!sig.startsWith("0x")) {
-            sig = "0x" + sig;
-        }
+        final String sig = transactionSign.getTxSign("0x");
         transactionSign.clear();
         return getInstantService().sendTransaction(sig);
     }
@@ -112,10 +154,37 @@ public class NodeTransactionRepository extends DataRepository<NodeTransactionEnd
         return getInstantService(this).getTransaction(txHash);
     }
 
+    /**
+     * Get transaction information, reading only projected fields
+     * @param hash Valid transaction hash
+     * @param projection transaction fields to read
+     * @return
+     * @see TransactionProjection
+     */
+    public Observable<HistoryTransaction> getTransaction(MinterHash hash, @Nonnull TransactionProjection projection) {
+        return getTransaction(hash.toString(), projection);
+    }
+
+    /**
+     * Get transaction information, reading only projected fields
+     * @param txHash Valid transaction hash with prefix "0x"
+     * @param projection transaction fields to read
+     * @return
+     * @see TransactionProjection
+     */
+    public Observable<HistoryTransaction> getTransaction(String txHash, @Nonnull TransactionProjection projection) {
+        final StreamingResponseParser<HistoryTransaction> parser = new StreamingResponseParser<>(getGson(),
+                new HistoryTransactionTypeAdapter(getGson(), checkNotNull(projection, "Projection required")));
+        return getInstantService().getTransactionRaw(txHash).map(parser);
+    }
+
     @Override
     public void configure(ApiService.Builder api) {
-        api.registerTypeAdapter(HistoryTransaction.class, new HistoryTransactionDeserializer());
-        api.registerTypeAdapter(TransactionSign.class, new TransactionSignDeserializer());
+        if (mHistoryAdapter == null) {
+            mHistoryAdapter = new HistoryTransactionTypeAdapter(getGson());
+        }
+        api.registerTypeAdapter(HistoryTransaction.class, mHistoryAdapter);
+        api.registerTypeAdapter(TransactionSign.class, mSignDeserializer);
     }
 
     /**
@@ -166,6 +235,10 @@ public class NodeTransactionRepository extends DataRepository<NodeTransactionEnd
         return NodeTransactionEndpoint.class;
     }
 
+    private Gson getGson() {
+        return mGson != null ? mGson : MinterBlockChainSDK.getInstance().getGson();
+    }
+
     public static final class TransactionSignDeserializer implements JsonDeserializer<TransactionSign> {
 
         @Override
@@ -179,7 +252,269 @@ public class NodeTransactionRepository extends DataRepository<NodeTransactionEnd
         }
     }
 
+    /**
+     * Parses transaction in one pass from json stream. Operation data is read directly into class of transaction type;
+     * only if data comes before type, data is buffered as json tree.
+     * With {@link TransactionProjection}, fields that aren't projected are skipped without parsing,
+     * and only projected data fields are buffered and read into data class.
+     */
+    public static final class HistoryTransactionTypeAdapter extends TypeAdapter<HistoryTransaction> {
+        private final static Map<String, HistoryTransaction.Type> TYPES = new HashMap<>();
+
+        static {
+            for (HistoryTransaction.Type type : HistoryTransaction.Type.values()) {
+                try {
+                    final SerializedName name = HistoryTransaction.Type.class.getField(type.name()).getAnnotation(SerializedName.class);
+                    TYPES.put(name != null ? name.value() : type.name(), type);
+                } catch (NoSuchFieldException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        }
+
+        private final Gson mGson;
+        private final TypeAdapter<HistoryTransaction> mWriteDelegate;
+        private final TypeAdapter<BytesData> mBytesAdapter;
+        private final TypeAdapter<MinterAddress> mAddressAdapter;
+        private final TypeAdapter<BigInteger> mBigIntAdapter;
+        private final TypeAdapter<Long> mLongAdapter;
+        private final TypeAdapter<String> mStringAdapter;
+        private final TypeAdapter<Coin> mCoinAdapter;
+        private final TypeAdapter<Map<String, String>> mTagsAdapter;
+        private final TypeAdapter<NodeResult.Error> mErrorAdapter;
+        private final TypeAdapter<JsonElement> mTreeAdapter;
+        private final TransactionProjection mProjection;
+
+        /**
+         * @param gson Gson with sdk converters, but without this adapter, see {@link MinterBlockChainSDK#getGson()}
+         */
+        public HistoryTransactionTypeAdapter(@Nonnull Gson gson) {
+            this(gson, null);
+        }
+
+        /**
+         * @param gson Gson with sdk converters, but without this adapter, see {@link MinterBlockChainSDK#getGson()}
+         * @param projection fields to read, or null to read all fields
+         */
+        public HistoryTransactionTypeAdapter(@Nonnull Gson gson, @Nullable TransactionProjection projection) {
+            mGson = checkNotNull(gson, "Gson can't be null");
+            mProjection = projection;
+            mWriteDelegate = gson.getAdapter(HistoryTransaction.class);
+            mBytesAdapter = gson.getAdapter(BytesData.class);
+            mAddressAdapter = gson.getAdapter(MinterAddress.class);
+            mBigIntAdapter = gson.getAdapter(BigInteger.class);
+            mLongAdapter = gson.getAdapter(Long.class);
+            mStringAdapter = gson.getAdapter(String.class);
+            mCoinAdapter = gson.getAdapter(Coin.class);
+            mTagsAdapter = gson.getAdapter(new TypeToken<Map<String, String>>() {
+            });
+            mErrorAdapter = gson.getAdapter(NodeResult.Error.class);
+            mTreeAdapter = gson.getAdapter(JsonElement.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, HistoryTransaction value) throws IOException {
+            mWriteDelegate.write(out, value);
+        }
+
+        @Override
+        public HistoryTransaction read(JsonReader in) throws IOException {
+            if (in.peek() != JsonToken.BEGIN_OBJECT) {
+                in.skipValue();
+                return null;
+            }
+
+            final HistoryTransaction out = new HistoryTransaction();
+            String rawType = null;
+            boolean hasData = false;
+            JsonElement pendingData = null;
+
+            in.beginObject();
+            while (in.hasNext()) {
+                final String name = in.nextName();
+                if (mProjection != null && !mProjection.has(name)) {
+                    in.skipValue();
+                    continue;
+                }
+                switch (name) {
+                    case "hash":
+                        out.hash = mBytesAdapter.read(in);
+                        break;
+                    case "raw_tx":
+                        out.rawTx = mBytesAdapter.read(in);
+                        break;
+                    case "height":
+                        out.height = mLongAdapter.read(in);
+                        break;
+                    case "index":
+                        out.index = mLongAdapter.read(in);
+                        break;
+                    case "from":
+                        out.from = mAddressAdapter.read(in);
+                        break;
+                    case "nonce":
+                        out.nonce = mBigIntAdapter.read(in);
+                        break;
+                    case "gas":
+                        out.gas = mBigIntAdapter.read(in);
+                        break;
+                    case "gas_price":
+                        out.gasPrice = mBigIntAdapter.read(in);
+                        break;
+                    case "gas_coin":
+                        out.gasCoin = mCoinAdapter.read(in);
+                        break;
+                    case "type":
+                        rawType = mStringAdapter.read(in);
+                        out.type = rawType == null ? null : TYPES.get(rawType);
+                        break;
+                    case "data":
+                        hasData = true;
+                        if (mProjection != null && mProjection.getDataFields() != null) {
+                            pendingData = readDataFields(in, mProjection.getDataFields());
+                        } else if (out.type != null) {
+                            out.data = mGson.getAdapter(out.type.getOpClass()).read(in);
+                        } else {
+                            // type is unknown or not read yet
+                            pendingData = mTreeAdapter.read(in);
+                        }
+                        break;
+                    case "payload":
+                        out.payload = mStringAdapter.read(in);
+                        break;
+                    case "tags":
+                        out.tags = mTagsAdapter.read(in);
+                        break;
+                    case "error":
+                        out.error = mErrorAdapter.read(in);
+                        break;
+                    default:
+                        in.skipValue();
+                        break;
+                }
+            }
+            in.endObject();
+
+            if (hasData && out.type == null) {
+                throw new IllegalStateException(String.format("Unknown transaction type %s", rawType));
+            }
+            if (pendingData != null) {
+                out.data = mGson.getAdapter(out.type.getOpClass()).fromJsonTree(pendingData);
+            }
+
+            return out;
+        }
+
+        /**
+         * Read json array of transactions
+         * @param in json reader
+         * @return transactions or null if value isn't an array
+         * @throws IOException if json is invalid
+         */
+        List<HistoryTransaction> readList(JsonReader in) throws IOException {
+            if (in.peek() != JsonToken.BEGIN_ARRAY) {
+                in.skipValue();
+                return null;
+            }
+
+            final List<HistoryTransaction> out = new ArrayList<>();
+            in.beginArray();
+            while (in.hasNext()) {
+                out.add(read(in));
+            }
+            in.endArray();
+            return out;
+        }
+
+        private JsonElement readDataFields(JsonReader in, Set<String> dataFields) throws IOException {
+            if (in.peek() != JsonToken.BEGIN_OBJECT) {
+                return mTreeAdapter.read(in);
+            }
+
+            final JsonObject data = new JsonObject();
+            in.beginObject();
+            while (in.hasNext()) {
+                final String name = in.nextName();
+                if (dataFields.contains(name)) {
+                    data.add(name, mTreeAdapter.read(in));
+                } else {
+                    in.skipValue();
+                }
+            }
+            in.endObject();
+            return data;
+        }
+    }
+
+    /**
+     * Parses transaction list in one pass from json stream, each transaction is read by {@link HistoryTransactionTypeAdapter}
+     */
+    public static final class HistoryTransactionListTypeAdapter extends TypeAdapter<HistoryTransactionList> {
+        private final TypeAdapter<HistoryTransactionList> mWriteDelegate;
+        private final HistoryTransactionTypeAdapter mItemAdapter;
+        private final TypeAdapter<NodeResult.Error> mErrorAdapter;
+
+        /**
+         * @param gson Gson with sdk converters, see {@link MinterBlockChainSDK#getGson()}
+         * @param projection fields of each transaction to read, or null to read all fields
+         */
+        public HistoryTransactionListTypeAdapter(@Nonnull Gson gson, @Nullable TransactionProjection projection) {
+            checkNotNull(gson, "Gson can't be null");
+            mWriteDelegate = gson.getAdapter(HistoryTransactionList.class);
+            mItemAdapter = new HistoryTransactionTypeAdapter(gson, projection);
+            mErrorAdapter = gson.getAdapter(NodeResult.Error.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, HistoryTransactionList value) throws IOException {
+            mWriteDelegate.write(out, value);
+        }
+
+        @Override
+        public HistoryTransactionList read(JsonReader in) throws IOException {
+            if (in.peek() != JsonToken.BEGIN_OBJECT) {
+                in.skipValue();
+                return null;
+            }
+
+            final HistoryTransactionList out = new HistoryTransactionList();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "transactions":
+                        out.items = mItemAdapter.readList(in);
+                        break;
+                    case "error":
+                        out.error = mErrorAdapter.read(in);
+                        break;
+                    default:
+                        in.skipValue();
+                        break;
+                }
+            }
+            in.endObject();
+
+            return out;
+        }
+    }
+
+    /**
+     * @deprecated builds json tree for each transaction, {@link HistoryTransactionTypeAdapter} reads it in one pass
+     */
+    @Deprecated
     public static final class HistoryTransactionDeserializer implements JsonDeserializer<HistoryTransaction> {
+        private Gson mGson;
+
+        public HistoryTransactionDeserializer() {
+            this(null);
+        }
+
+        /**
+         * @param gson Gson with sdk converters, but without this deserializer. If null, Gson of {@link MinterBlockChainSDK#getInstance()} is used
+         */
+        public HistoryTransactionDeserializer(@Nullable Gson gson) {
+            mGson = gson;
+        }
 
         @Override
         public HistoryTransaction deserialize(JsonElement json, Type typeOfT, JsonDeserializationContext context)
@@ -188,7 +523,10 @@ public class NodeTransactionRepository extends DataRepository<NodeTransactionEnd
                 return null;
             }
 
-            final Gson gson = MinterBlockChainSDK.getInstance().getGsonBuilder().create();
+            if (mGson == null) {
+                mGson = MinterBlockChainSDK.getInstance().getGson();
+            }
+            final Gson gson = mGson;
 
             final HistoryTransaction out = gson.fromJson(json, HistoryTransaction.class);
 
@@ -0,0 +1,72 @@
+/*
+ * Copyright (C) by MinterTeam. 2021
+ * @link <a href="https://github.com/MinterTeam">Org Github</a>
+ * @link <a href="https://github.com/edwardstock">Maintainer Github</a>
+ *
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package network.minter.blockchain.repo;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+
+import io.reactivex.functions.Function;
+import okhttp3.ResponseBody;
+import retrofit2.Response;
+
+/**
+ * Reads raw response body directly from stream with given type adapter. Error response body is read too,
+ * as node returns errors in the same model ({@link network.minter.blockchain.models.NodeResult#error}).
+ * <p>
+ * minter-android-blockchain. 2021
+ *
+ * @author Eduard Maximovich (edward.vstock@gmail.com)
+ */
+final class StreamingResponseParser<T> implements Function<Response<ResponseBody>, T> {
+    private final Gson mGson;
+    private final TypeAdapter<T> mAdapter;
+
+    StreamingResponseParser(Gson gson, TypeAdapter<T> adapter) {
+        mGson = gson;
+        mAdapter = adapter;
+    }
+
+    @Override
+    public T apply(Response<ResponseBody> response) throws Exception {
+        final ResponseBody body = response.isSuccessful() ? response.body() : response.errorBody();
+        if (body == null) {
+            throw new IllegalStateException(String.format("Empty response body, http code %d", response.code()));
+        }
+
+        try {
+            final JsonReader reader = mGson.newJsonReader(body.charStream());
+            final T out = mAdapter.read(reader);
+            if (out == null) {
+                throw new IllegalStateException(String.format("Invalid response body, http code %d", response.code()));
+            }
+            return out;
+        } finally {
+            body.close();
+        }
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (C) by MinterTeam. 2021
+ * @link <a href="https://github.com/MinterTeam">Org Github</a>
+ * @link <a href="https://github.com/edwardstock">Maintainer Github</a>
+ *
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package network.minter.blockchain.repo;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import static network.minter.core.internal.common.Preconditions.checkNotNull;
+
+/**
+ * Fields of {@link network.minter.blockchain.models.HistoryTransaction} to read from node response. Other fields are
+ * skipped by parser without creating objects for them, and stay {@code null} in result.
+ * {@code error} is always read.
+ * <pre>
+ * TransactionProjection projection = new TransactionProjection()
+ *         .fields(TransactionProjection.Field.Hash, TransactionProjection.Field.From)
+ *         .data("to", "value");
+ * </pre>
+ * Projection can be reused for many requests, but must not be changed while request is parsing.
+ * <p>
+ * minter-android-blockchain. 2021
+ *
+ * @author Eduard Maximovich (edward.vstock@gmail.com)
+ */
+public final class TransactionProjection {
+    private final Set<String> mFields = new HashSet<>();
+    private Set<String> mDataFields = null;
+
+    public TransactionProjection() {
+        mFields.add("error");
+    }
+
+    /**
+     * Add fields to read
+     * @param fields transaction fields
+     * @return self
+     */
+    public TransactionProjection fields(@Nonnull Field... fields) {
+        for (Field field : checkNotNull(fields, "Fields can't be null")) {
+            mFields.add(field.mName);
+        }
+        if (mFields.contains(Field.Data.mName)) {
+            mFields.add(Field.Type.mName);
+        }
+        return this;
+    }
+
+    /**
+     * Read operation data (and transaction type, as it's required to resolve data class). If data field names are
+     * passed, only these fields are read from data object, otherwise data is read fully.
+     * @param dataFields json names of data fields, for example: "to", "value", "coin"
+     * @return self
+     */
+    public TransactionProjection data(@Nonnull String... dataFields) {
+        fields(Field.Data);
+        if (checkNotNull(dataFields, "Data fields can't be null").length == 0) {
+            mDataFields = null;
+            return this;
+        }
+        if (mDataFields == null) {
+            mDataFields = new HashSet<>();
+        }
+        Collections.addAll(mDataFields, dataFields);
+        return this;
+    }
+
+    boolean has(String jsonName) {
+        return mFields.contains(jsonName);
+    }
+
+    /**
+     * @return json names of data fields to read, or null to read all data fields
+     */
+    @Nullable
+    Set<String> getDataFields() {
+        return mDataFields;
+    }
+
+    public enum Field {
+        Hash("hash"),
+        RawTx("raw_tx"),
+        Height("height"),
+        Index("index"),
+        From("from"),
+        Nonce("nonce"),
+        Gas("gas"),
+        GasPrice("gas_price"),
+        GasCoin("gas_coin"),
+        Type("type"),
+        /**
+         * Whole operation data, see {@link #data(String...)} to read only some of data fields
+         */
+        Data("data"),
+        Payload("payload"),
+        Tags("tags"),
+        ;
+
+        private final String mName;
+
+        Field(String name) {
+            mName = name;
+        }
+    }
+}
@@ -0,0 +1,363 @@
+/*
+ * Copyright (C) by MinterTeam. 2021
+ * @link <a href="https://github.com/MinterTeam">Org Github</a>
+ * @link <a href="https://github.com/edwardstock">Maintainer Github</a>
+ *
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package network.minter.blockchain;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import network.minter.blockchain.models.MinGasValue;
+import network.minter.core.internal.log.StdLogger;
+import okhttp3.Interceptor;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * minter-android-blockchain. 2021
+ *
+ * @author Eduard Maximovich (edward.vstock@gmail.com)
+ */
+public class NodePoolTest {
+
+    @Test
+    public void testSelectSyncedNode() {
+        NodePool pool = new NodePool.Builder()
+                .addNode("https://node0.localhost/v2/")
+                .addNode("https://node1.localhost/v2")
+                .addNode("https://node2.localhost/v2/")
+                .setMaxHeightLag(2)
+                .build();
+        NodePool.Node node0 = pool.getNodes().get(0);
+        NodePool.Node node1 = pool.getNodes().get(1);
+        NodePool.Node node2 = pool.getNodes().get(2);
+        assertEquals("https://node1.localhost/v2/", node1.getUrl());
+
+        node0.onStatus(100, false, TimeUnit.MILLISECONDS.toNanos(5));
+        // faster, but catching up
+        node1.onStatus(150, true, TimeUnit.MILLISECONDS.toNanos(1));
+        // fastest, but lags behind
+        node2.onStatus(97, false, TimeUnit.MICROSECONDS.toNanos(500));
+        assertSame(node0, pool.getBestNode());
+
+        node2.onStatus(98, false, TimeUnit.MICROSECONDS.toNanos(500));
+        assertSame(node2, pool.getBestNode());
+
+        // in cooldown after failure
+        node2.onFailure(TimeUnit.MICROSECONDS.toNanos(500), TimeUnit.MINUTES.toNanos(1));
+        assertSame(node0, pool.getBestNode());
+        assertTrue(node2.getErrorRate() > 0);
+
+        // no healthy nodes: any node is better than nothing
+        node0.onFailure(TimeUnit.MILLISECONDS.toNanos(5), TimeUnit.MINUTES.toNanos(1));
+        assertSame(node2, pool.getBestNode());
+    }
+
+    @Test
+    public void testPowerOfTwoChoicesSkipsUnhealthy() {
+        NodePool pool = new NodePool.Builder()
+                .addNode("https://node0.localhost/v2/")
+                .addNode("https://node1.localhost/v2/")
+                .addNode("https://node2.localhost/v2/")
+                .addNode("https://node3.localhost/v2/")
+                .setStrategy(NodePool.Strategy.PowerOfTwoChoices)
+                .build();
+        for (int i = 0; i < 3; i++) {
+            pool.getNodes().get(i).onStatus(100, false, TimeUnit.MILLISECONDS.toNanos(i + 1));
+        }
+        NodePool.Node lagging = pool.getNodes().get(3);
+        lagging.onStatus(10, false, 1);
+
+        int[] hits = new int[4];
+        for (int i = 0; i < 1000; i++) {
+            hits[pool.getNodes().indexOf(pool.getBestNode())]++;
+        }
+        assertEquals(0, hits[3]);
+        // slowest healthy node always loses the pair
+        assertEquals(0, hits[2]);
+        assertTrue(hits[0] > hits[1]);
+        assertTrue(hits[1] > 0);
+    }
+
+    @Test
+    public void testFailoverAndHealthCheck() throws IOException {
+        final AtomicInteger brokenHits = new AtomicInteger(0);
+        final AtomicReference<String> servedUri = new AtomicReference<>();
+        HttpServer broken = startServer(new HttpHandler() {
+            @Override
+            public void handle(HttpExchange exchange) throws IOException {
+                brokenHits.incrementAndGet();
+                respond(exchange, 503, "Service Unavailable");
+            }
+        });
+        HttpServer healthy = startServer(new HttpHandler() {
+            @Override
+            public void handle(HttpExchange exchange) throws IOException {
+                if (exchange.getRequestURI().getPath().equals("/v2/status")) {
+                    respond(exchange, 200, "{\"version\":\"2.0\",\"latest_block_height\":\"12345\",\"catching_up\":false}");
+                    return;
+                }
+                servedUri.set(exchange.getRequestURI().toString());
+                respond(exchange, 200, "{\"height\":\"1\"}");
+            }
+        });
+
+        try {
+            String brokenUrl = "http://127.0.0.1:" + broken.getAddress().getPort() + "/v2/";
+            String healthyUrl = "http://127.0.0.1:" + healthy.getAddress().getPort() + "/v2/";
+            NodePool pool = new NodePool.Builder()
+                    .addNode(brokenUrl)
+                    .addNode(healthyUrl)
+                    .setFailureCooldown(1, TimeUnit.MINUTES)
+                    .build();
+            assertEquals(brokenUrl, pool.getBaseUrl());
+            OkHttpClient client = pool.getHttpClient().newClient(Collections.<Interceptor>singletonList(pool.getInterceptor()));
+
+            // broken node is tried first as it has no latency yet, then request is repeated on healthy one
+            for (int i = 0; i < 2; i++) {
+                try (Response response = client.newCall(new Request.Builder().url(brokenUrl + "block/1?fields=hash").build()).execute()) {
+                    assertEquals(200, response.code());
+                    assertEquals("/v2/block/1?fields=hash", servedUri.get());
+                }
+            }
+            // broken node is in cooldown after first failure
+            assertEquals(1, brokenHits.get());
+
+            NodePool.Node brokenNode = pool.getNodes().get(0);
+            NodePool.Node healthyNode = pool.getNodes().get(1);
+            pool.checkHealth();
+            assertEquals(12345, healthyNode.getHeight());
+            assertEquals(0, brokenNode.getHeight());
+            assertTrue(brokenNode.getErrorRate() > 0);
+            assertTrue(healthyNode.getLatencyMillis() > 0);
+            assertSame(healthyNode, pool.getBestNode());
+            assertNotSame(brokenNode, pool.getBestNode());
+        } finally {
+            broken.stop(0);
+            healthy.stop(0);
+        }
+    }
+
+    @Test
+    public void testFailoverThroughSdk() throws IOException {
+        final AtomicInteger brokenHits = new AtomicInteger(0);
+        final AtomicInteger healthyHits = new AtomicInteger(0);
+        final String status = "{\"version\":\"2.0\",\"latest_block_height\":\"12345\",\"catching_up\":false}";
+        HttpServer broken = startServer(new HttpHandler() {
+            @Override
+            public void handle(HttpExchange exchange) throws IOException {
+                if (exchange.getRequestURI().getPath().equals("/v2/status")) {
+                    respond(exchange, 200, status);
+                    return;
+                }
+                brokenHits.incrementAndGet();
+                // node answers with json body on server errors
+                respond(exchange, 503, "{\"error\":{\"code\":503,\"message\":\"Service Unavailable\"}}");
+            }
+        });
+        HttpServer healthy = startServer(new HttpHandler() {
+            @Override
+            public void handle(HttpExchange exchange) throws IOException {
+                if (exchange.getRequestURI().getPath().equals("/v2/status")) {
+                    // slower than broken node, so broken one is selected first
+                    try {
+                        Thread.sleep(100);
+                    } catch (InterruptedException ignored) {
+                    }
+                    respond(exchange, 200, status);
+                    return;
+                }
+                healthyHits.incrementAndGet();
+                respond(exchange, 200, "{\"min_gas_price\":\"7\"}");
+            }
+        });
+
+        NodePool pool = new NodePool.Builder()
+                .addNode("http://127.0.0.1:" + broken.getAddress().getPort() + "/v2/")
+                .addNode("http://127.0.0.1:" + healthy.getAddress().getPort() + "/v2/")
+                .setFailureCooldown(1, TimeUnit.MINUTES)
+                .build();
+        // broken node is faster, so it's selected first, even after health checks started by sdk
+        pool.getNodes().get(0).onStatus(12345, false, TimeUnit.MICROSECONDS.toNanos(1));
+        pool.getNodes().get(1).onStatus(12345, false, TimeUnit.MILLISECONDS.toNanos(50));
+        try {
+            MinterBlockChainSDK sdk = MinterBlockChainSDK.createInstance(pool, false, new StdLogger());
+            MinGasValue value = sdk.status().getMinGasPrice().blockingFirst();
+            assertEquals(BigInteger.valueOf(7), value.value);
+            assertEquals(1, brokenHits.get());
+            assertEquals(1, healthyHits.get());
+            assertTrue(pool.getNodes().get(0).getErrorRate() > 0);
+        } finally {
+            pool.close();
+            broken.stop(0);
+            healthy.stop(0);
+        }
+    }
+
+    @Test
+    public void testSendTransactionIsNotRepeated() throws IOException {
+        final AtomicInteger brokenHits = new AtomicInteger(0);
+        final AtomicInteger healthyHits = new AtomicInteger(0);
+        HttpServer broken = startServer(new HttpHandler() {
+            @Override
+            public void handle(HttpExchange exchange) throws IOException {
+                brokenHits.incrementAndGet();
+                respond(exchange, 504, "Gateway Timeout");
+            }
+        });
+        HttpServer healthy = startServer(new HttpHandler() {
+            @Override
+            public void handle(HttpExchange exchange) throws IOException {
+                healthyHits.incrementAndGet();
+                respond(exchange, 200, "{\"hash\":\"Mt00\"}");
+            }
+        });
+        // free port without server: connection is refused before request is sent
+        final ServerSocket socket = new ServerSocket(0, 1, InetAddress.getByName("127.0.0.1"));
+        final int refusedPort = socket.getLocalPort();
+        socket.close();
+
+        try {
+            String brokenUrl = "http://127.0.0.1:" + broken.getAddress().getPort() + "/v2/";
+            String healthyUrl = "http://127.0.0.1:" + healthy.getAddress().getPort() + "/v2/";
+            NodePool pool = new NodePool.Builder()
+                    .addNode(brokenUrl)
+                    .addNode(healthyUrl)
+                    .build();
+            OkHttpClient client = pool.getHttpClient().newClient(Collections.<Interceptor>singletonList(pool.getInterceptor()));
+
+            // node could accept transaction before failure, so it's not sent to another one
+            try (Response response = client.newCall(new Request.Builder().url(brokenUrl + "send_transaction/0xf8").build()).execute()) {
+                assertEquals(504, response.code());
+            }
+            assertEquals(1, brokenHits.get());
+            assertEquals(0, healthyHits.get());
+
+            String refusedUrl = "http://127.0.0.1:" + refusedPort + "/v2/";
+            NodePool refusedPool = new NodePool.Builder()
+                    .addNode(refusedUrl)
+                    .addNode(healthyUrl)
+                    .build();
+            OkHttpClient refusedClient = refusedPool.getHttpClient().newClient(Collections.<Interceptor>singletonList(refusedPool.getInterceptor()));
+
+            // connection wasn't established, so it's safe to send to another node
+            try (Response response = refusedClient.newCall(new Request.Builder().url(refusedUrl + "send_transaction/0xf8").build()).execute()) {
+                assertEquals(200, response.code());
+            }
+            assertEquals(1, healthyHits.get());
+        } finally {
+            broken.stop(0);
+            healthy.stop(0);
+        }
+    }
+
+    @Test
+    public void testHealthCheckTimeout() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        HttpServer hanging = startServer(new HttpHandler() {
+            @Override
+            public void handle(HttpExchange exchange) throws IOException {
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException ignored) {
+                }
+                respond(exchange, 200, "{\"latest_block_height\":\"1\",\"catching_up\":false}");
+            }
+        });
+
+        try {
+            // read timeout is infinite, so status request would hang without timeout of health check
+            OkHttpClient client = new OkHttpClient.Builder()
+                    .connectTimeout(200, TimeUnit.MILLISECONDS)
+                    .writeTimeout(200, TimeUnit.MILLISECONDS)
+                    .readTimeout(0, TimeUnit.MILLISECONDS)
+                    .build();
+            NodePool pool = new NodePool.Builder()
+                    .addNode("http://127.0.0.1:" + hanging.getAddress().getPort() + "/v2/")
+                    .setHttpClient(new SharedHttpClient(client))
+                    .build();
+            assertEquals(400, pool.getHealthCheckTimeoutMillis());
+
+            final long start = System.nanoTime();
+            pool.checkHealth();
+            assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 5000);
+
+            // canceled status request marks node as failed
+            NodePool.Node node = pool.getNodes().get(0);
+            for (int i = 0; i < 50 && node.getErrorRate() == 0; i++) {
+                Thread.sleep(20);
+            }
+            assertTrue(node.getErrorRate() > 0);
+            assertEquals(0, node.getHeight());
+
+            NodePool callTimeoutPool = new NodePool.Builder()
+                    .addNode("http://127.0.0.1:" + hanging.getAddress().getPort() + "/v2/")
+                    .setHttpClient(new SharedHttpClient(client.newBuilder().callTimeout(1, TimeUnit.SECONDS).build()))
+                    .build();
+            assertEquals(1000, callTimeoutPool.getHealthCheckTimeoutMillis());
+        } finally {
+            release.countDown();
+            hanging.stop(0);
+        }
+    }
+
+    private static HttpServer startServer(HttpHandler handler) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", handler);
+        server.start();
+        return server;
+    }
+
+    private static void respond(HttpExchange exchange, int code, String body) throws IOException {
+        byte[] data = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(code, data.length);
+        try (OutputStream os = exchange.getResponseBody()) {
+            os.write(data);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (C) by MinterTeam. 2021
+ * @link <a href="https://github.com/MinterTeam">Org Github</a>
+ * @link <a href="https://github.com/edwardstock">Maintainer Github</a>
+ *
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package network.minter.blockchain;
+
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import network.minter.core.internal.log.StdLogger;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.Interceptor;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * minter-android-blockchain. 2021
+ *
+ * @author Eduard Maximovich (edward.vstock@gmail.com)
+ */
+public class SharedHttpClientTest {
+
+    @Test
+    public void testBuilderSettings() {
+        SharedHttpClient http = new SharedHttpClient.Builder()
+                .setMaxRequests(100)
+                .setMaxRequestsPerHost(20)
+                .setKeepAlive(1, TimeUnit.MINUTES)
+                .setHttp2Enabled(false)
+                .build();
+
+        assertEquals(100, http.getDispatcher().getMaxRequests());
+        assertEquals(20, http.getDispatcher().getMaxRequestsPerHost());
+        assertEquals(Collections.singletonList(Protocol.HTTP_1_1), http.getClient().protocols());
+
+        ConnectionPool pool = new ConnectionPool();
+        Dispatcher dispatcher = new Dispatcher();
+        http = new SharedHttpClient.Builder()
+                .setBaseClient(new OkHttpClient.Builder().readTimeout(3, TimeUnit.SECONDS).build())
+                .setConnectionPool(pool)
+                .setDispatcher(dispatcher)
+                .build();
+        assertSame(pool, http.getConnectionPool());
+        assertSame(dispatcher, http.getDispatcher());
+        assertEquals(3000, http.getClient().readTimeoutMillis());
+        assertEquals(Protocol.HTTP_2, http.getClient().protocols().get(0));
+    }
+
+    @Test
+    public void testInstanceClientsSharePoolAndDispatcher() {
+        SharedHttpClient http = new SharedHttpClient.Builder().build();
+
+        OkHttpClient a = http.newClient(Collections.<Interceptor>singletonList(new MinterBlockChainSDK.ResponseErrorToResultInterceptor()));
+        OkHttpClient b = http.newClient(Collections.<Interceptor>emptyList());
+        assertNotSame(a, b);
+        assertSame(http.getConnectionPool(), a.connectionPool());
+        assertSame(http.getConnectionPool(), b.connectionPool());
+        assertSame(http.getDispatcher(), a.dispatcher());
+        assertSame(http.getDispatcher(), b.dispatcher());
+        assertEquals(1, a.interceptors().size());
+        assertEquals(0, b.interceptors().size());
+        // base client isn't changed
+        assertEquals(0, http.getClient().interceptors().size());
+
+        assertSame(SharedHttpClient.getDefault(), SharedHttpClient.getDefault());
+    }
+
+    @Test
+    public void testSdkInstances() {
+        SharedHttpClient http = SharedHttpClient.getDefault();
+        MinterBlockChainSDK node1 = MinterBlockChainSDK.createInstance("https://node1.localhost/v2/", false, new StdLogger(), http);
+        MinterBlockChainSDK node2 = MinterBlockChainSDK.createInstance("https://node2.localhost/v2/", false, new StdLogger(), http);
+        assertSame(http, node1.getHttpClient());
+        assertSame(http, node2.getHttpClient());
+        assertNull(MinterBlockChainSDK.createInstance("https://node3.localhost/v2/", false, new StdLogger()).getHttpClient());
+    }
+}
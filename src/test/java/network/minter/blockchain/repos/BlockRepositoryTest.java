@@ -28,12 +28,21 @@ package network.minter.blockchain.repos;
 
 import org.junit.Test;
 
+import java.io.IOException;
+import java.math.BigInteger;
+
 import network.minter.blockchain.MinterBlockChainSDK;
 import network.minter.blockchain.models.BlockInfo;
+import network.minter.blockchain.models.HistoryTransaction;
+import network.minter.blockchain.repo.BlockProjection;
 import network.minter.blockchain.repo.NodeBlockRepository;
+import network.minter.blockchain.repo.TransactionProjection;
+import network.minter.core.crypto.MinterAddress;
 import network.minter.core.internal.log.StdLogger;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
 /**
  * minter-android-blockchain. 2019
@@ -63,4 +72,63 @@ public class BlockRepositoryTest {
 //        assertTrue(block.evidence.items.size() == 0);
 //        assertTrue(block.missed.size() == 0);
     }
+
+    @Test
+    public void testProjectedBlockAdapter() throws IOException {
+        MinterBlockChainSDK sdk = MinterBlockChainSDK.createInstance("https://localhost/", false, new StdLogger());
+        BlockProjection projection = new BlockProjection()
+                .fields(BlockProjection.Field.Height, BlockProjection.Field.Hash)
+                .transactions(new TransactionProjection()
+                        .fields(TransactionProjection.Field.From)
+                        .data("to", "value"));
+        NodeBlockRepository.BlockInfoTypeAdapter adapter = new NodeBlockRepository.BlockInfoTypeAdapter(sdk.getGson(), projection);
+
+        String tx = "{\"hash\":\"Mt81b3b9a79437fbcf66f9e6679dbcf0825e6c1b10450c7f3769031c033389ac30\",\"raw_tx\":\"f8700102\",\"height\":\"5\"," +
+                "\"from\":\"Mx67691076548b20234461ff6fd2bc9c64393eb8fc\",\"nonce\":\"1\",\"gas_price\":1,\"type\":1," +
+                "\"data\":{\"coin\":{\"id\":\"0\",\"symbol\":\"BIP\"},\"to\":\"Mxd82558ea00eb81d35f2654953598f5d51737d31d\",\"value\":\"1000\"}," +
+                "\"payload\":\"\",\"tags\":{\"tx.type\":\"01\",\"tx.from\":\"67691076548b20234461ff6fd2bc9c64393eb8fc\"}}";
+        String json = "{\"hash\":\"58170162a7c566a467b99af3686c0e19d9044e2950016107f981acce5885cfc5\",\"height\":\"5\"," +
+                "\"time\":\"2021-01-01T00:00:00Z\",\"transaction_count\":\"2\",\"transactions\":[" + tx + "," + tx + "]," +
+                "\"block_reward\":\"333000000000000000000\",\"size\":\"277\"," +
+                "\"proposer\":\"Mp0208f8a2bd535f65ecbe4b057b3b3c5fbfef6003b0713dc37b697b1d19153fe8\"," +
+                "\"validators\":[{\"public_key\":\"Mp0208f8a2bd535f65ecbe4b057b3b3c5fbfef6003b0713dc37b697b1d19153fe8\",\"signed\":true}]," +
+                "\"evidence\":{\"evidence\":null},\"missed\":[]}";
+
+        BlockInfo block = adapter.fromJson(json);
+        assertEquals(5, block.height);
+        assertEquals("58170162a7c566a467b99af3686c0e19d9044e2950016107f981acce5885cfc5", block.hash.toHexString());
+        assertNull(block.time);
+        assertNull(block.transactionCount);
+        assertNull(block.blockReward);
+        assertNull(block.proposer);
+        assertNull(block.evidence);
+        assertTrue(block.validators.isEmpty());
+        assertEquals(2, block.transactions.size());
+        for (HistoryTransaction item : block.transactions) {
+            assertEquals(new MinterAddress("Mx67691076548b20234461ff6fd2bc9c64393eb8fc"), item.from);
+            assertNull(item.hash);
+            assertNull(item.rawTx);
+            assertNull(item.tags);
+            HistoryTransaction.TxSendCoinResult data = (HistoryTransaction.TxSendCoinResult) item.data;
+            assertEquals(new MinterAddress("Mxd82558ea00eb81d35f2654953598f5d51737d31d"), data.to);
+            assertEquals(new BigInteger("1000"), data.amount);
+            assertNull(data.coin);
+        }
+
+        // without transactions projection, transactions are skipped
+        block = new NodeBlockRepository.BlockInfoTypeAdapter(sdk.getGson(), new BlockProjection().fields(BlockProjection.Field.Height))
+                .fromJson(json);
+        assertEquals(5, block.height);
+        assertTrue(block.transactions.isEmpty());
+
+        // full block
+        block = new NodeBlockRepository.BlockInfoTypeAdapter(sdk.getGson(), null).fromJson(json);
+        assertEquals("2021-01-01T00:00:00Z", block.time);
+        assertEquals(new BigInteger("2"), block.transactionCount);
+        assertEquals(new BigInteger("333000000000000000000"), block.blockReward);
+        assertEquals(1, block.validators.size());
+        assertTrue(block.validators.get(0).signed);
+        assertEquals(2, block.transactions.size());
+        assertEquals(new BigInteger("1"), block.transactions.get(0).nonce);
+    }
 }
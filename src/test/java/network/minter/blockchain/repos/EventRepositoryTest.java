@@ -26,15 +26,20 @@
 
 package network.minter.blockchain.repos;
 
+import com.google.gson.Gson;
+
 import org.junit.Test;
 
 import java.io.IOException;
+import java.math.BigInteger;
 
 import network.minter.blockchain.MinterBlockChainSDK;
 import network.minter.blockchain.models.EventList;
 import network.minter.blockchain.repo.NodeEventRepository;
+import network.minter.core.crypto.MinterAddress;
 import network.minter.core.internal.log.StdLogger;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
@@ -79,4 +84,33 @@ public class EventRepositoryTest {
 //
 //        assertNotNull(response.body().result);
     }
+
+    @Test
+    public void testStreamingAdapter() {
+        MinterBlockChainSDK sdk = MinterBlockChainSDK.createInstance("https://localhost/", false, new StdLogger());
+        Gson gson = sdk.getGsonBuilder()
+                .registerTypeAdapter(EventList.class, new NodeEventRepository.EventListTypeAdapter(sdk.getGson()))
+                .create();
+
+        String json = "{\"events\":[" +
+                "{\"type\":\"minter/RewardEvent\",\"value\":{\"role\":\"DAO\",\"address\":\"Mx67691076548b20234461ff6fd2bc9c64393eb8fc\",\"amount\":\"100\"}}," +
+                "{\"type\":\"minter/UnknownEvent\",\"value\":{\"amount\":\"1\"}}," +
+                "{\"value\":{\"coin\":\"BIP\",\"amount\":\"5\"},\"type\":\"minter/SlashEvent\"}" +
+                "]}";
+        EventList events = gson.fromJson(json, EventList.class);
+
+        assertEquals(2, events.events.size());
+        assertEquals(EventList.Type.Reward, events.events.get(0).type);
+        EventList.RewardEvent reward = events.events.get(0).getValue();
+        assertEquals("DAO", reward.role);
+        assertEquals(new BigInteger("100"), reward.amount);
+        assertEquals(new MinterAddress("Mx67691076548b20234461ff6fd2bc9c64393eb8fc"), reward.address);
+
+        assertEquals(EventList.Type.Slash, events.events.get(1).type);
+        EventList.SlashEvent slash = events.events.get(1).getValue();
+        assertEquals("BIP", slash.coin);
+        assertEquals(new BigInteger("5"), slash.amount);
+
+        assertEquals(0, gson.fromJson("{}", EventList.class).events.size());
+    }
 }
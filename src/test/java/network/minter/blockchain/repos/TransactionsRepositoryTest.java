@@ -26,6 +26,8 @@
 
 package network.minter.blockchain.repos;
 
+import com.google.gson.Gson;
+
 import org.junit.Test;
 
 import java.io.IOException;
@@ -42,6 +44,7 @@ import network.minter.blockchain.models.operational.OperationInvalidDataExceptio
 import network.minter.blockchain.models.operational.Transaction;
 import network.minter.blockchain.models.operational.TransactionSign;
 import network.minter.blockchain.repo.NodeTransactionRepository;
+import network.minter.blockchain.repo.TransactionProjection;
 import network.minter.core.MinterSDK;
 import network.minter.core.crypto.MinterAddress;
 import network.minter.core.crypto.PrivateKey;
@@ -51,6 +54,8 @@ import network.minter.core.internal.log.StdLogger;
 import static junit.framework.Assert.assertEquals;
 import static network.minter.core.MinterSDK.DEFAULT_COIN_ID;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -150,4 +155,106 @@ public class TransactionsRepositoryTest {
         assertNotNull(response.totalBytes);
         assertNotNull(response.items);
     }
+
+    @Test
+    public void testDeserializeHistoryWithSharedGson() {
+        MinterBlockChainSDK sdk = MinterBlockChainSDK.createInstance("https://localhost/", false, new StdLogger());
+        Gson gson = sdk.getGson();
+        assertSame(gson, sdk.getGson());
+
+        Gson parser = sdk.getGsonBuilder()
+                .registerTypeAdapter(HistoryTransaction.class, new NodeTransactionRepository.HistoryTransactionDeserializer(gson))
+                .create();
+        String json = "{\"hash\":\"Mt81b3b9a79437fbcf66f9e6679dbcf0825e6c1b10450c7f3769031c033389ac30\",\"height\":10,\"nonce\":\"1\"," +
+                "\"from\":\"Mx67691076548b20234461ff6fd2bc9c64393eb8fc\",\"type\":1," +
+                "\"data\":{\"coin\":{\"id\":\"0\",\"symbol\":\"BIP\"},\"to\":\"Mxd82558ea00eb81d35f2654953598f5d51737d31d\",\"value\":\"12345000000000000\"}}";
+
+        for (int i = 0; i < 3; i++) {
+            HistoryTransaction tx = parser.fromJson(json, HistoryTransaction.class);
+            assertEquals(HistoryTransaction.Type.Send, tx.type);
+            assertEquals(new BigInteger("1"), tx.nonce);
+            HistoryTransaction.TxSendCoinResult data = (HistoryTransaction.TxSendCoinResult) tx.data;
+            assertEquals(new MinterAddress("Mxd82558ea00eb81d35f2654953598f5d51737d31d"), data.getTo());
+            assertEquals(new BigInteger("12345000000000000"), data.amount);
+        }
+    }
+
+    @Test
+    public void testStreamingHistoryAdapter() {
+        MinterBlockChainSDK sdk = MinterBlockChainSDK.createInstance("https://localhost/", false, new StdLogger());
+        Gson parser = sdk.getGsonBuilder()
+                .registerTypeAdapter(HistoryTransaction.class, new NodeTransactionRepository.HistoryTransactionTypeAdapter(sdk.getGson()))
+                .create();
+        String data = "\"data\":{\"coin\":{\"id\":\"0\",\"symbol\":\"BIP\"},\"to\":\"Mxd82558ea00eb81d35f2654953598f5d51737d31d\",\"value\":\"12345000000000000\"}";
+        String fields = "\"hash\":\"Mt81b3b9a79437fbcf66f9e6679dbcf0825e6c1b10450c7f3769031c033389ac30\",\"height\":\"10\",\"nonce\":\"1\"," +
+                "\"from\":\"Mx67691076548b20234461ff6fd2bc9c64393eb8fc\",\"gas_price\":1,\"payload\":\"\",\"tags\":{\"tx.type\":\"01\"},\"unknown\":[1,2]";
+
+        // data usually goes after type, but order isn't guaranteed
+        String[] jsons = {
+                "{" + fields + ",\"type\":1," + data + "}",
+                "{" + data + "," + fields + ",\"type\":\"1\"}",
+        };
+        for (String json : jsons) {
+            HistoryTransaction tx = parser.fromJson(json, HistoryTransaction.class);
+            assertEquals(HistoryTransaction.Type.Send, tx.type);
+            assertEquals(Long.valueOf(10), tx.height);
+            assertEquals(new BigInteger("1"), tx.nonce);
+            assertEquals(BigInteger.ONE, tx.gasPrice);
+            assertEquals(new MinterAddress("Mx67691076548b20234461ff6fd2bc9c64393eb8fc"), tx.from);
+            assertEquals("01", tx.tags.get("tx.type"));
+            HistoryTransaction.TxSendCoinResult sendData = (HistoryTransaction.TxSendCoinResult) tx.data;
+            assertEquals(new MinterAddress("Mxd82558ea00eb81d35f2654953598f5d51737d31d"), sendData.getTo());
+            assertEquals(new BigInteger("12345000000000000"), sendData.amount);
+        }
+    }
+
+    @Test
+    public void testProjectedHistoryAdapter() throws IOException {
+        MinterBlockChainSDK sdk = MinterBlockChainSDK.createInstance("https://localhost/", false, new StdLogger());
+        TransactionProjection projection = new TransactionProjection()
+                .fields(TransactionProjection.Field.Hash, TransactionProjection.Field.From)
+                .data("value");
+        Gson parser = sdk.getGsonBuilder()
+                .registerTypeAdapter(HistoryTransaction.class, new NodeTransactionRepository.HistoryTransactionTypeAdapter(sdk.getGson(), projection))
+                .create();
+        String data = "\"data\":{\"coin\":{\"id\":\"0\",\"symbol\":\"BIP\"},\"to\":\"Mxd82558ea00eb81d35f2654953598f5d51737d31d\",\"value\":\"12345000000000000\"}";
+        String fields = "\"hash\":\"Mt81b3b9a79437fbcf66f9e6679dbcf0825e6c1b10450c7f3769031c033389ac30\",\"height\":\"10\",\"nonce\":\"1\"," +
+                "\"from\":\"Mx67691076548b20234461ff6fd2bc9c64393eb8fc\",\"gas_coin\":{\"id\":\"0\",\"symbol\":\"BIP\"},\"tags\":{\"tx.type\":\"01\"}";
+
+        String[] jsons = {
+                "{" + fields + ",\"type\":1," + data + "}",
+                "{" + data + "," + fields + ",\"type\":\"1\"}",
+        };
+        for (String json : jsons) {
+            HistoryTransaction tx = parser.fromJson(json, HistoryTransaction.class);
+            assertEquals(new MinterAddress("Mx67691076548b20234461ff6fd2bc9c64393eb8fc"), tx.from);
+            assertNotNull(tx.hash);
+            // type is required to read data
+            assertEquals(HistoryTransaction.Type.Send, tx.type);
+            assertNull(tx.height);
+            assertNull(tx.nonce);
+            assertNull(tx.gasCoin);
+            assertNull(tx.tags);
+            HistoryTransaction.TxSendCoinResult sendData = (HistoryTransaction.TxSendCoinResult) tx.data;
+            assertEquals(new BigInteger("12345000000000000"), sendData.amount);
+            assertNull(sendData.to);
+            assertNull(sendData.coin);
+        }
+
+        // without data, type isn't read
+        NodeTransactionRepository.HistoryTransactionListTypeAdapter listAdapter = new NodeTransactionRepository.HistoryTransactionListTypeAdapter(
+                sdk.getGson(), new TransactionProjection().fields(TransactionProjection.Field.Height));
+        HistoryTransactionList list = listAdapter.fromJson("{\"transactions\":[" + jsons[0] + "," + jsons[1] + "]}");
+        assertEquals(2, list.items.size());
+        for (HistoryTransaction tx : list.items) {
+            assertEquals(Long.valueOf(10), tx.height);
+            assertNull(tx.type);
+            assertNull(tx.data);
+            assertNull(tx.from);
+        }
+
+        HistoryTransactionList error = listAdapter.fromJson("{\"error\":{\"code\":3,\"message\":\"invalid\"}}");
+        assertNull(error.items);
+        assertEquals(3, error.getCode());
+    }
 }
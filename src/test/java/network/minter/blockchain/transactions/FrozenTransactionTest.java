@@ -0,0 +1,167 @@
+/*
+ * Copyright (C) by MinterTeam. 2021
+ * @link <a href="https://github.com/MinterTeam">Org Github</a>
+ * @link <a href="https://github.com/edwardstock">Maintainer Github</a>
+ *
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package network.minter.blockchain.transactions;
+
+import org.junit.Test;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import network.minter.blockchain.models.operational.BlockchainID;
+import network.minter.blockchain.models.operational.FrozenTransaction;
+import network.minter.blockchain.models.operational.OperationInvalidDataException;
+import network.minter.blockchain.models.operational.SignatureSingleData;
+import network.minter.blockchain.models.operational.Transaction;
+import network.minter.blockchain.models.operational.TxSendCoin;
+import network.minter.core.crypto.MinterAddress;
+import network.minter.core.crypto.PrivateKey;
+
+import static network.minter.blockchain.models.operational.Transaction.SignatureType.Multi;
+import static network.minter.blockchain.models.operational.Transaction.SignatureType.Single;
+import static network.minter.core.MinterSDK.DEFAULT_COIN_ID;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+/**
+ * minter-android-blockchain. 2021
+ *
+ * @author Eduard Maximovich (edward.vstock@gmail.com)
+ */
+public class FrozenTransactionTest extends BaseTxTest {
+    private final static String RECIPIENT = "Mx67691076548b20234461ff6fd2bc9c64393eb8fc";
+    private final static MinterAddress MULTISIG = new MinterAddress("Mxdb4f4b6942cb927e8d7e3a1f602d0f1fb43b5bd2");
+
+    @Test
+    public void testSameAsTransaction() throws OperationInvalidDataException {
+        Transaction tx = createTx();
+        FrozenTransaction frozen = tx.freeze();
+
+        assertEquals(tx.getUnsignedTxHash(), frozen.getUnsignedTxHash());
+        assertEquals(tx.getUnsignedTxHash(Multi), frozen.getUnsignedTxHash(Multi));
+        assertNotEquals(frozen.getUnsignedTxHash(Single), frozen.getUnsignedTxHash(Multi));
+
+        assertEquals(createTx().signSingle(UNIT_KEY), frozen.signSingle(UNIT_KEY));
+        List<PrivateKey> keys = createKeys(5);
+        assertEquals(createTx().signMulti(MULTISIG, keys), frozen.signMulti(MULTISIG, keys));
+        assertEquals(createTx().signOnlyMulti(UNIT_KEY), frozen.signOnlyMulti(UNIT_KEY));
+        assertEquals(createTx().signOnlySingle(UNIT_KEY), frozen.signOnlySingle(UNIT_KEY));
+    }
+
+    @Test
+    public void testFrozenCopyIsIndependent() throws OperationInvalidDataException {
+        Transaction tx = createTx();
+        FrozenTransaction frozen = tx.freeze();
+        String expected = frozen.signSingle(UNIT_KEY).getTxSign();
+
+        tx.<TxSendCoin>getData().setValue("2");
+        tx.signMulti(MULTISIG, UNIT_KEY);
+        TxSendCoin data = frozen.getData();
+        data.setValue("3");
+
+        assertEquals(expected, frozen.signSingle(UNIT_KEY).getTxSign());
+        assertEquals(createTx().freeze(), frozen);
+
+        Transaction copy = frozen.toTransaction();
+        assertEquals(expected, copy.signSingle(UNIT_KEY).getTxSign());
+    }
+
+    @Test
+    public void testHashDoesNotChangeSignatureType() throws OperationInvalidDataException {
+        Transaction tx = createTx();
+        String single = tx.getUnsignedTxHash().toHexString();
+
+        tx.signOnlyMulti(UNIT_KEY);
+        tx.getUnsignedTxHash(Multi);
+        assertEquals(single, tx.getUnsignedTxHash().toHexString());
+        assertEquals(createTx().signSingle(UNIT_KEY), tx.signSingle(UNIT_KEY));
+    }
+
+    @Test
+    public void testConcurrentSign() throws Exception {
+        final FrozenTransaction frozen = createTx().freeze();
+        final List<PrivateKey> keys = createKeys(32);
+        final List<SignatureSingleData> expected = new ArrayList<>();
+        for (PrivateKey key : keys) {
+            expected.add(frozen.signOnlyMulti(key));
+        }
+        final String expectedSingle = frozen.signSingle(UNIT_KEY).getTxSign();
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<SignatureSingleData>> multi = new ArrayList<>();
+            List<Future<String>> single = new ArrayList<>();
+            for (final PrivateKey key : keys) {
+                multi.add(executor.submit(new Callable<SignatureSingleData>() {
+                    @Override
+                    public SignatureSingleData call() {
+                        return frozen.signOnlyMulti(key);
+                    }
+                }));
+                single.add(executor.submit(new Callable<String>() {
+                    @Override
+                    public String call() {
+                        return frozen.signSingle(UNIT_KEY).getTxSign();
+                    }
+                }));
+            }
+
+            List<SignatureSingleData> signatures = new ArrayList<>();
+            for (int i = 0; i < keys.size(); i++) {
+                signatures.add(multi.get(i).get());
+                assertEquals(expected.get(i), signatures.get(i));
+                assertEquals(expectedSingle, single.get(i).get());
+            }
+            assertEquals(frozen.signMulti(MULTISIG, keys), frozen.signMultiExternal(MULTISIG, signatures));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static List<PrivateKey> createKeys(int count) {
+        List<PrivateKey> keys = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            keys.add(new PrivateKey(String.format("%064x", BigInteger.valueOf(i).multiply(new BigInteger("1000000007")))));
+        }
+        return keys;
+    }
+
+    private static Transaction createTx() throws OperationInvalidDataException {
+        return new Transaction.Builder(BigInteger.valueOf(7))
+                .setBlockchainId(BlockchainID.TestNet)
+                .setPayloadString("frozen")
+                .sendCoin()
+                .setCoinId(DEFAULT_COIN_ID)
+                .setTo(RECIPIENT)
+                .setValue("1.5")
+                .build();
+    }
+}
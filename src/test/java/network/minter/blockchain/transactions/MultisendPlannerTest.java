@@ -0,0 +1,119 @@
+/*
+ * Copyright (C) by MinterTeam. 2021
+ * @link <a href="https://github.com/MinterTeam">Org Github</a>
+ * @link <a href="https://github.com/edwardstock">Maintainer Github</a>
+ *
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package network.minter.blockchain.transactions;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.List;
+
+import network.minter.blockchain.models.operational.BlockchainID;
+import network.minter.blockchain.models.operational.MultisendPlanner;
+import network.minter.blockchain.models.operational.OperationInvalidDataException;
+import network.minter.blockchain.models.operational.Transaction;
+import network.minter.blockchain.models.operational.TransactionBatchSigner;
+import network.minter.blockchain.models.operational.TxMultisend;
+import network.minter.blockchain.models.operational.TxSendCoin;
+import network.minter.core.crypto.MinterAddress;
+
+import static network.minter.core.MinterSDK.DEFAULT_COIN_ID;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * minter-android-blockchain. 2021
+ *
+ * @author Eduard Maximovich (edward.vstock@gmail.com)
+ */
+public class MultisendPlannerTest extends BaseTxTest {
+
+    @Test
+    public void testFee() {
+        assertEquals(0, new BigDecimal("1").compareTo(MultisendPlanner.getFee(1)));
+        assertEquals(0, new BigDecimal("1.5").compareTo(MultisendPlanner.getFee(2)));
+        assertEquals(0, new BigDecimal("50.5").compareTo(MultisendPlanner.getFee(100)));
+    }
+
+    @Test
+    public void testPlanAndSign() throws OperationInvalidDataException {
+        MultisendPlanner planner = new MultisendPlanner()
+                .setBlockchainId(BlockchainID.TestNet);
+
+        // 250 unique recipients, each paid twice
+        for (int round = 0; round < 2; round++) {
+            for (int i = 0; i < 250; i++) {
+                planner.add(DEFAULT_COIN_ID, address(i), new BigDecimal("0.5"));
+            }
+        }
+        // same address in other coin is a separate item
+        planner.add(BigInteger.ONE, address(0), BigInteger.TEN);
+
+        assertEquals(251, planner.getItemsCount());
+        assertEquals(3, planner.getTransactionsCount());
+        final BigDecimal expectedFee = MultisendPlanner.getFee(84).add(MultisendPlanner.getFee(84)).add(MultisendPlanner.getFee(83));
+        assertEquals(0, expectedFee.compareTo(planner.getTotalFee()));
+
+        List<Transaction> transactions = planner.build(BigInteger.TEN);
+        assertEquals(3, transactions.size());
+        assertEquals(84, transactions.get(0).<TxMultisend>getData().getItems().size());
+        assertEquals(84, transactions.get(1).<TxMultisend>getData().getItems().size());
+        assertEquals(83, transactions.get(2).<TxMultisend>getData().getItems().size());
+
+        TransactionBatchSigner.Result result = planner.sign(BigInteger.TEN, UNIT_KEY);
+        assertEquals(0, result.getFailedCount());
+        int items = 0;
+        for (int i = 0; i < 3; i++) {
+            Transaction decoded = Transaction.fromEncoded(result.getSigns().get(i).getTxSign());
+            assertEquals(BigInteger.TEN.add(BigInteger.valueOf(i)), decoded.getNonce());
+            assertEquals(UNIT_ADDRESS, decoded.recoverSender());
+            for (TxSendCoin item : decoded.<TxMultisend>getData().getItems()) {
+                if (item.getCoinId().equals(DEFAULT_COIN_ID)) {
+                    assertEquals(0, BigDecimal.ONE.compareTo(item.getValue()));
+                } else {
+                    assertEquals(address(0), item.getTo());
+                    assertEquals(BigInteger.TEN, item.getValueBigInteger());
+                }
+                items++;
+            }
+        }
+        assertEquals(251, items);
+    }
+
+    @Test
+    public void testMaxItems() throws OperationInvalidDataException {
+        MultisendPlanner planner = new MultisendPlanner().setMaxItems(10);
+        for (int i = 0; i < 25; i++) {
+            planner.add(DEFAULT_COIN_ID, address(i), BigInteger.ONE);
+        }
+        assertEquals(3, planner.getTransactionsCount());
+        assertEquals(9, planner.build(BigInteger.ONE).get(0).<TxMultisend>getData().getItems().size());
+    }
+
+    private static MinterAddress address(int i) {
+        return new MinterAddress(String.format("Mx%040x", i + 1));
+    }
+}
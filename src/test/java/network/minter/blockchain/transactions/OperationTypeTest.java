@@ -29,14 +29,19 @@ package network.minter.blockchain.transactions;
 import org.junit.Test;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.util.HashMap;
 import java.util.Map;
 
+import network.minter.blockchain.models.operational.Operation;
 import network.minter.blockchain.models.operational.OperationType;
+import network.minter.blockchain.models.operational.Transaction;
 import network.minter.blockchain.models.operational.TxCoinCreate;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 
 /**
  * Example local unit test, which will execute on the development machine (host).
@@ -77,4 +82,33 @@ public class OperationTypeTest {
             assertEquals(res.setScale(4, BigDecimal.ROUND_DOWN), result.setScale(4, BigDecimal.ROUND_DOWN));
         }
     }
+
+    @Test
+    public void testLookup() {
+        for (OperationType type : OperationType.values()) {
+            assertSame(type, OperationType.findByValue(type.getValue()));
+            assertSame(type, OperationType.findByValue(type.getValueInt()));
+            assertSame(type, OperationType.findByOpClass(type.getOpClass()));
+        }
+
+        assertNull(OperationType.findByValue(BigInteger.ZERO));
+        assertNull(OperationType.findByValue(BigInteger.valueOf(0xFF)));
+        assertNull(OperationType.findByValue(new BigInteger("10000000000000000000")));
+        assertNull(OperationType.findByValue((BigInteger) null));
+        assertNull(OperationType.findByValue(-1));
+
+        assertSame(Transaction.SignatureType.Single, Transaction.SignatureType.findByValue(BigInteger.ONE));
+        assertSame(Transaction.SignatureType.Multi, Transaction.SignatureType.findByValue(BigInteger.valueOf(2)));
+        assertNull(Transaction.SignatureType.findByValue(BigInteger.valueOf(3)));
+    }
+
+    @Test
+    public void testBuilderCreate() {
+        final Transaction.Builder builder = new Transaction.Builder(BigInteger.ONE);
+        for (OperationType type : OperationType.values()) {
+            final Operation operation = builder.create(type.getOpClass());
+            assertEquals(type.getOpClass(), operation.getClass());
+            assertSame(type, operation.getType());
+        }
+    }
 }
@@ -0,0 +1,114 @@
+/*
+ * Copyright (C) by MinterTeam. 2021
+ * @link <a href="https://github.com/MinterTeam">Org Github</a>
+ * @link <a href="https://github.com/edwardstock">Maintainer Github</a>
+ *
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package network.minter.blockchain.transactions;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Random;
+
+import network.minter.blockchain.models.operational.PipAmount;
+import network.minter.blockchain.models.operational.Transaction;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * minter-android-blockchain. 2021
+ *
+ * @author Eduard Maximovich (edward.vstock@gmail.com)
+ */
+public class PipAmountTest {
+
+    @Test
+    public void testParseAndFormat() {
+        String[] values = {"0", "1", "-1", "0.5", "-0.5", "12.345", "-12.345", "0.000000000000000001",
+                "-0.000000000000000001", "1000000000000000", "123456789.123456789123456789"};
+        for (String value : values) {
+            PipAmount amount = PipAmount.parse(value);
+            BigInteger pips = Transaction.normalizeValue(value);
+            assertEquals(value, pips, amount.toPips());
+            assertEquals(value, Transaction.humanizeValue(pips), amount.toBigDecimal());
+            assertEquals(value, Transaction.humanizeValue(pips).toPlainString(), amount.toString());
+            assertEquals(amount, PipAmount.ofPips(pips));
+        }
+
+        // extra digits are dropped, as by normalizeValue
+        assertEquals("0.123456789012345678", PipAmount.parse("0.1234567890123456789").toString());
+        assertEquals("1.5", PipAmount.parse("+1.50").toString());
+        assertEquals("2", PipAmount.parse("2.").toString());
+        assertEquals("0.25", PipAmount.parse(".25").toString());
+    }
+
+    @Test
+    public void testArithmetic() {
+        Random random = new Random(42);
+        BigInteger range = new BigInteger("1000000000000000000000000000000");
+        for (int i = 0; i < 1000; i++) {
+            BigInteger a = new BigInteger(100, random).mod(range).subtract(range.shiftRight(1));
+            BigInteger b = new BigInteger(70, random).subtract(BigInteger.ONE.shiftLeft(69));
+            long factor = random.nextInt(1 << 21) - (1 << 20);
+
+            PipAmount pa = PipAmount.ofPips(a);
+            PipAmount pb = PipAmount.ofPips(b);
+            assertEquals(a.add(b), pa.add(pb).toPips());
+            assertEquals(a.subtract(b), pa.subtract(pb).toPips());
+            assertEquals(a.negate(), pa.negate().toPips());
+            assertEquals(b.multiply(BigInteger.valueOf(factor)), pb.multiply(factor).toPips());
+            assertEquals(a.multiply(BigInteger.valueOf(factor)), pa.multiply(factor).toPips());
+            assertEquals(a.compareTo(b), pa.compareTo(pb));
+            assertEquals(a.signum(), pa.signum());
+            assertEquals(Transaction.humanizeValue(a).toPlainString(), pa.toString());
+            assertEquals(pa, PipAmount.parse(pa.toString()));
+            assertEquals(pa, PipAmount.of(Transaction.humanizeValue(a)));
+        }
+    }
+
+    @Test
+    public void testCoins() {
+        assertEquals(Transaction.VALUE_MUL.multiply(BigInteger.TEN), PipAmount.ofCoins(10).toPips());
+        assertEquals(new BigDecimal("10"), PipAmount.ofCoins(10).toBigDecimal());
+        assertTrue(PipAmount.ZERO.isZero());
+        assertEquals(PipAmount.ONE, PipAmount.ofPips(Transaction.VALUE_MUL));
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void testParseInvalid() {
+        PipAmount.parse("1.2.3");
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void testParseExponent() {
+        PipAmount.parse("1e5");
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void testOverflow() {
+        PipAmount.ofCoins(Long.MAX_VALUE).add(PipAmount.ONE);
+    }
+}
@@ -0,0 +1,307 @@
+/*
+ * Copyright (C) by MinterTeam. 2021
+ * @link <a href="https://github.com/MinterTeam">Org Github</a>
+ * @link <a href="https://github.com/edwardstock">Maintainer Github</a>
+ *
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package network.minter.blockchain.transactions;
+
+import org.junit.Test;
+
+import java.math.BigInteger;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import javax.annotation.Nonnull;
+
+import network.minter.blockchain.models.operational.BlockchainID;
+import network.minter.blockchain.models.operational.ExternalTransaction;
+import network.minter.blockchain.models.operational.InvalidEncodedTransactionException;
+import network.minter.blockchain.models.operational.OperationInvalidDataException;
+import network.minter.blockchain.models.operational.RLPReader;
+import network.minter.blockchain.models.operational.RLPSerializable;
+import network.minter.blockchain.models.operational.RLPWriter;
+import network.minter.blockchain.models.operational.Transaction;
+import network.minter.blockchain.models.operational.TransactionSign;
+import network.minter.blockchain.models.operational.TxMultisend;
+import network.minter.blockchain.models.operational.TxSendCoin;
+import network.minter.core.crypto.BytesData;
+import network.minter.core.util.RLPBoxed;
+
+import static network.minter.core.MinterSDK.DEFAULT_COIN_ID;
+import static network.minter.core.internal.helpers.BytesHelper.fixBigintSignedByte;
+import static network.minter.core.internal.helpers.StringHelper.charsToString;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
+
+/**
+ * minter-android-blockchain. 2021
+ *
+ * @author Eduard Maximovich (edward.vstock@gmail.com)
+ */
+public class RLPCodecTest extends BaseTxTest {
+
+    @Test
+    public void testWriteScalars() {
+        assertEquals("80", hex(new RLPWriter().writeBigInt(BigInteger.ZERO)));
+        assertEquals("7f", hex(new RLPWriter().writeLong(0x7F)));
+        assertEquals("8180", hex(new RLPWriter().writeBigInt(BigInteger.valueOf(128))));
+        assertEquals("820400", hex(new RLPWriter().writeLong(1024)));
+        assertEquals("83646f67", hex(new RLPWriter().writeString("dog")));
+        assertEquals("c0", hex(new RLPWriter().startList().endList()));
+        assertEquals("c88363617483646f67", hex(new RLPWriter().startList().writeString("cat").writeString("dog").endList()));
+        assertEquals("89010000000000000000", hex(new RLPWriter().writeBigInt(BigInteger.ONE.shiftLeft(64))));
+    }
+
+    @Test
+    public void testLongListRoundTrip() {
+        byte[] blob = new byte[1024];
+        Arrays.fill(blob, (byte) 0xAB);
+
+        RLPWriter writer = new RLPWriter(16);
+        writer.startList()
+                .writeBytes(blob)
+                .startEmbedded()
+                .startList().writeLong(5).writeString("nested").endList()
+                .endEmbedded()
+                .writeBigInt(new BigInteger("1000000000000000000000"))
+                .endList();
+
+        byte[] encoded = writer.toByteArray();
+        assertEquals(0xF9, encoded[0] & 0xFF);
+
+        RLPReader reader = RLPReader.fromList(encoded);
+        assertEquals(3, reader.remaining());
+        assertArrayEquals(blob, reader.readBytes());
+        RLPReader nested = reader.readEmbeddedList();
+        assertEquals(5, nested.readInt());
+        assertEquals("nested", nested.readString());
+        assertEquals(new BigInteger("1000000000000000000000"), reader.readBigInt());
+        assertFalse(reader.hasNext());
+    }
+
+    @Test(expected = InvalidEncodedTransactionException.class)
+    public void testTruncatedData() {
+        RLPReader.fromList(new BytesData("f86f0101").getBytes());
+    }
+
+    @Test
+    public void testMalformedData() {
+        final String[] malformed = {
+                // long string with length Integer.MAX_VALUE
+                "c5bb7fffffff",
+                // long list with length Integer.MAX_VALUE
+                "fb7fffffff",
+                // nested long list with length Integer.MAX_VALUE
+                "c5fb7fffffff",
+                // length of length more than 4 bytes
+                "c6bc0100000000",
+                // trailing bytes after list
+                "c20102ff",
+                // not a list
+                "8401020304",
+                "",
+        };
+        for (String hex : malformed) {
+            try {
+                final RLPReader reader = RLPReader.fromList(new BytesData(hex).getBytes());
+                while (reader.hasNext()) {
+                    reader.readList();
+                }
+                fail("Malformed rlp is accepted: " + hex);
+            } catch (InvalidEncodedTransactionException ignore) {
+            }
+        }
+
+        // embedded list with trailing bytes
+        try {
+            RLPReader.fromList(new BytesData("c584c20102ff").getBytes()).readEmbeddedList();
+            fail("Embedded list with trailing bytes is accepted");
+        } catch (InvalidEncodedTransactionException ignore) {
+        }
+
+        final byte[] data = new BytesData("c20102").getBytes();
+        final int[][] bounds = {{1, Integer.MAX_VALUE}, {Integer.MAX_VALUE, 2}, {-1, 3}, {0, -1}, {0, 4}};
+        for (int[] bound : bounds) {
+            try {
+                RLPReader.fromList(data, bound[0], bound[1]);
+                fail(String.format("Invalid bounds are accepted: %d, %d", bound[0], bound[1]));
+            } catch (InvalidEncodedTransactionException ignore) {
+            }
+        }
+        assertEquals(2, RLPReader.fromList(data, 0, 3).remaining());
+    }
+
+    @Test(expected = InvalidEncodedTransactionException.class)
+    public void testTransactionWithTrailingBytes() {
+        Transaction.fromEncoded("f86f01010180019fde809467691076548b20234461ff6fd2bc9c64393eb8fc872bdbb64bc09000808001b845f8431ca08be3f0c3aecc80ec97332e8aa39f20cd9e735092c0de37eb726d8d3d0a255a66a02040a1001d1a9116317eb24aa7ee4730ed980bd08a1fc0adb4e7598425178d3a00");
+    }
+
+    @Test
+    public void testLargeMultisendRoundTrip() throws OperationInvalidDataException {
+        TxMultisend multisend = new Transaction.Builder(new BigInteger("1"))
+                .setBlockchainId(BlockchainID.MainNet)
+                .setGasCoinId(DEFAULT_COIN_ID)
+                .multiSend();
+        for (int i = 0; i < 100; i++) {
+            multisend.addItem(DEFAULT_COIN_ID, "Mx67691076548b20234461ff6fd2bc9c64393eb8fc", String.valueOf(i + 1));
+        }
+        Transaction tx = multisend.build();
+        TransactionSign sign = tx.signSingle(UNIT_KEY);
+
+        Transaction decoded = Transaction.fromEncoded(sign.getTxSign());
+        TxMultisend data = decoded.getData();
+        assertEquals(100, data.getItems().size());
+        assertEquals(new BigInteger("100").multiply(Transaction.VALUE_MUL), data.getItems().get(99).getValueBigInteger());
+        assertEquals(sign.getTxSign(), decoded.signSingle(UNIT_KEY).getTxSign());
+        assertEquals(UNIT_ADDRESS, decoded.recoverSender());
+    }
+
+    @Test
+    public void testEncodeTo() throws OperationInvalidDataException {
+        final String validTx = "f86f01010180019fde809467691076548b20234461ff6fd2bc9c64393eb8fc872bdbb64bc09000808001b845f8431ca08be3f0c3aecc80ec97332e8aa39f20cd9e735092c0de37eb726d8d3d0a255a66a02040a1001d1a9116317eb24aa7ee4730ed980bd08a1fc0adb4e7598425178d3a";
+        final byte[] expected = new BytesData(validTx).getBytes();
+        Transaction tx = Transaction.fromEncoded(validTx);
+        assertEquals(expected.length, tx.encodedSize());
+
+        final byte[] dest = new byte[expected.length + 4];
+        assertEquals(expected.length, tx.encodeTo(dest, 4));
+        assertArrayEquals(expected, Arrays.copyOfRange(dest, 4, dest.length));
+
+        final ByteBuffer direct = ByteBuffer.allocateDirect(expected.length);
+        assertEquals(expected.length, tx.encodeTo(direct));
+        assertFalse(direct.hasRemaining());
+        direct.flip();
+        final byte[] fromBuffer = new byte[direct.remaining()];
+        direct.get(fromBuffer);
+        assertArrayEquals(expected, fromBuffer);
+
+        TxSendCoin data = tx.getData();
+        final byte[] dataDest = new byte[data.encodedSize()];
+        assertEquals(dataDest.length, data.encodeTo(dataDest, 0));
+        assertEquals("de809467691076548b20234461ff6fd2bc9c64393eb8fc872bdbb64bc09000", new BytesData(dataDest).toHexString());
+
+        ExternalTransaction external = new ExternalTransaction(tx);
+        final byte[] externalExpected = external.encode().getBytes();
+        final ByteBuffer heap = ByteBuffer.allocate(external.encodedSize());
+        external.encodeTo(heap);
+        assertArrayEquals(externalExpected, heap.array());
+    }
+
+    @Test
+    public void testEncodeToWithoutSize() {
+        final String validTx = "f86f01010180019fde809467691076548b20234461ff6fd2bc9c64393eb8fc872bdbb64bc09000808001b845f8431ca08be3f0c3aecc80ec97332e8aa39f20cd9e735092c0de37eb726d8d3d0a255a66a02040a1001d1a9116317eb24aa7ee4730ed980bd08a1fc0adb4e7598425178d3a";
+        final byte[] expected = new BytesData(validTx).getBytes();
+        Transaction tx = Transaction.fromEncoded(validTx);
+
+        // one call into big reusable buffer, without encodedSize()
+        final byte[] dest = new byte[4096];
+        final int written = tx.encodeTo(dest, 10);
+        assertEquals(expected.length, written);
+        assertArrayEquals(expected, Arrays.copyOfRange(dest, 10, 10 + written));
+
+        final ByteBuffer small = ByteBuffer.allocate(expected.length - 1);
+        try {
+            tx.encodeTo(small);
+            fail("Transaction must not fit into buffer");
+        } catch (BufferOverflowException e) {
+            assertEquals(0, small.position());
+        }
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testEncodeToSmallArray() {
+        Transaction tx = Transaction.fromEncoded("f86f01010180019fde809467691076548b20234461ff6fd2bc9c64393eb8fc872bdbb64bc09000808001b845f8431ca08be3f0c3aecc80ec97332e8aa39f20cd9e735092c0de37eb726d8d3d0a255a66a02040a1001d1a9116317eb24aa7ee4730ed980bd08a1fc0adb4e7598425178d3a");
+        tx.encodeTo(new byte[tx.encodedSize() - 1], 0);
+    }
+
+    @Test
+    public void testLegacySerializable() {
+        LegacyValue value = new LegacyValue();
+        value.number = BigInteger.valueOf(1024);
+        value.text = "dog";
+
+        final byte[] expected = new BytesData(RLPBoxed.encode(new Object[]{value.number, value.text})).getBytes();
+        assertEquals("c782040083646f67", new BytesData(expected).toHexString());
+        assertEquals(expected.length, value.encodedSize());
+        final byte[] dest = new byte[expected.length];
+        value.encodeTo(dest, 0);
+        assertArrayEquals(expected, dest);
+
+        LegacyValue decoded = new LegacyValue();
+        decoded.read(expected);
+        assertEquals(value.number, decoded.number);
+        assertEquals(value.text, decoded.text);
+    }
+
+    @Test
+    public void testNotOverriddenSerializable() {
+        NotOverridden value = new NotOverridden();
+        try {
+            value.encodedSize();
+            fail("Serializable without rlp methods must not be encoded");
+        } catch (IllegalStateException expected) {
+        }
+        try {
+            value.read(new BytesData("c0").getBytes());
+            fail("Serializable without rlp methods must not be decoded");
+        } catch (IllegalStateException expected) {
+        }
+    }
+
+    private static String hex(RLPWriter writer) {
+        return new BytesData(writer.toByteArray()).toHexString();
+    }
+
+    // serializable written against old api: overrides only encodeRLP() and decodeRLP(char[])
+    private static class LegacyValue extends RLPSerializable {
+        BigInteger number;
+        String text;
+
+        void read(byte[] data) {
+            decodeRLP(data);
+        }
+
+        @Override
+        protected void decodeRLP(@Nonnull char[] rlpEncodedData) {
+            final Object[] raw = (Object[]) RLPBoxed.decode(rlpEncodedData, 0).getDecoded();
+            number = fixBigintSignedByte(fromRawRlp(0, raw));
+            text = charsToString(fromRawRlp(1, raw));
+        }
+
+        @Nonnull
+        @Override
+        protected char[] encodeRLP() {
+            return RLPBoxed.encode(new Object[]{number, text});
+        }
+    }
+
+    // overrides neither new nor old rlp methods
+    private static class NotOverridden extends RLPSerializable {
+        void read(byte[] data) {
+            decodeRLP(data);
+        }
+    }
+}
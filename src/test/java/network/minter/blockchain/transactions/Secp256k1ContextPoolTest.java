@@ -0,0 +1,141 @@
+/*
+ * Copyright (C) by MinterTeam. 2021
+ * @link <a href="https://github.com/MinterTeam">Org Github</a>
+ * @link <a href="https://github.com/edwardstock">Maintainer Github</a>
+ *
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package network.minter.blockchain.transactions;
+
+import org.junit.Test;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import network.minter.blockchain.models.operational.BlockchainID;
+import network.minter.blockchain.models.operational.OperationInvalidDataException;
+import network.minter.blockchain.models.operational.Secp256k1ContextPool;
+import network.minter.blockchain.models.operational.Transaction;
+import network.minter.blockchain.models.operational.TransactionSign;
+import network.minter.core.crypto.MinterAddress;
+
+import static network.minter.core.MinterSDK.DEFAULT_COIN_ID;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * minter-android-blockchain. 2021
+ *
+ * @author Eduard Maximovich (edward.vstock@gmail.com)
+ */
+public class Secp256k1ContextPoolTest extends BaseTxTest {
+    private final static String VALID_TX = "f86f01010180019fde809467691076548b20234461ff6fd2bc9c64393eb8fc872bdbb64bc09000808001b845f8431ca08be3f0c3aecc80ec97332e8aa39f20cd9e735092c0de37eb726d8d3d0a255a66a02040a1001d1a9116317eb24aa7ee4730ed980bd08a1fc0adb4e7598425178d3a";
+
+    private static Transaction createTx() throws OperationInvalidDataException {
+        return new Transaction.Builder(new BigInteger("1"))
+                .setBlockchainId(BlockchainID.MainNet)
+                .setGasCoinId(DEFAULT_COIN_ID)
+                .sendCoin()
+                .setCoinId(DEFAULT_COIN_ID)
+                .setValue("0.012345")
+                .setTo(new MinterAddress("Mx67691076548b20234461ff6fd2bc9c64393eb8fc"))
+                .build();
+    }
+
+    @Test
+    public void testConcurrentSign() throws Exception {
+        final Secp256k1ContextPool pool = Secp256k1ContextPool.getDefault();
+        final int threads = pool.getMaxSize() * 2;
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < threads * 4; i++) {
+                results.add(executor.submit(new Callable<String>() {
+                    @Override
+                    public String call() throws Exception {
+                        TransactionSign sign = createTx().signSingle(UNIT_KEY);
+                        assertNotNull(sign);
+                        return sign.getTxSign();
+                    }
+                }));
+            }
+
+            for (Future<String> res : results) {
+                assertEquals(VALID_TX, res.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertTrue(pool.getCreatedCount() <= pool.getMaxSize());
+    }
+
+    @Test
+    public void testCustomPool() throws OperationInvalidDataException {
+        final Secp256k1ContextPool pool = new Secp256k1ContextPool(1);
+        final byte[] hash = createTx().getUnsignedTxHash().getBytes();
+
+        assertNotNull(pool.signRecoverable(hash, UNIT_KEY.getBytes()));
+        assertNotNull(pool.signRecoverable(hash, UNIT_KEY.getBytes()));
+        assertEquals(1, pool.getCreatedCount());
+
+        pool.close();
+        assertTrue(pool.isClosed());
+        assertEquals(0, pool.getCreatedCount());
+    }
+
+    @Test
+    public void testSetDefaultKeepsPreviousOpen() throws OperationInvalidDataException {
+        final Secp256k1ContextPool initial = Secp256k1ContextPool.getDefault();
+        final Secp256k1ContextPool custom = new Secp256k1ContextPool(1);
+        final byte[] hash = createTx().getUnsignedTxHash().getBytes();
+
+        assertSame(initial, Secp256k1ContextPool.setDefault(custom));
+        try {
+            assertSame(custom, Secp256k1ContextPool.getDefault());
+            assertFalse(initial.isClosed());
+            // code that captured previous pool still can sign with it
+            assertNotNull(initial.signRecoverable(hash, UNIT_KEY.getBytes()));
+            assertEquals(VALID_TX, createTx().signSingle(UNIT_KEY).getTxSign());
+            assertEquals(1, custom.getCreatedCount());
+        } finally {
+            assertSame(custom, Secp256k1ContextPool.setDefault(initial));
+        }
+        assertFalse(custom.isClosed());
+        custom.close();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testClosedPool() throws OperationInvalidDataException {
+        final Secp256k1ContextPool pool = new Secp256k1ContextPool(1);
+        pool.close();
+        pool.signRecoverable(createTx().getUnsignedTxHash().getBytes(), UNIT_KEY.getBytes());
+    }
+}
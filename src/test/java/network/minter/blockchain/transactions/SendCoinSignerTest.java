@@ -0,0 +1,93 @@
+/*
+ * Copyright (C) by MinterTeam. 2021
+ * @link <a href="https://github.com/MinterTeam">Org Github</a>
+ * @link <a href="https://github.com/edwardstock">Maintainer Github</a>
+ *
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package network.minter.blockchain.transactions;
+
+import org.junit.Test;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import network.minter.blockchain.models.operational.BlockchainID;
+import network.minter.blockchain.models.operational.OperationInvalidDataException;
+import network.minter.blockchain.models.operational.SendCoinSigner;
+import network.minter.blockchain.models.operational.Transaction;
+import network.minter.blockchain.models.operational.TransactionSign;
+import network.minter.core.crypto.MinterAddress;
+
+import static network.minter.core.MinterSDK.DEFAULT_COIN_ID;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * minter-android-blockchain. 2021
+ *
+ * @author Eduard Maximovich (edward.vstock@gmail.com)
+ */
+public class SendCoinSignerTest extends BaseTxTest {
+
+    @Test
+    public void testKnownTransaction() {
+        final String validTx = "f86f01010180019fde809467691076548b20234461ff6fd2bc9c64393eb8fc872bdbb64bc09000808001b845f8431ca08be3f0c3aecc80ec97332e8aa39f20cd9e735092c0de37eb726d8d3d0a255a66a02040a1001d1a9116317eb24aa7ee4730ed980bd08a1fc0adb4e7598425178d3a";
+        TransactionSign sign = new SendCoinSigner(BlockchainID.MainNet)
+                .sign(1, DEFAULT_COIN_ID, new MinterAddress("Mx67691076548b20234461ff6fd2bc9c64393eb8fc"), Transaction.normalizeValue("0.012345"), null, UNIT_KEY);
+        assertEquals(validTx, sign.getTxSign());
+    }
+
+    @Test
+    public void testSameAsGenericPath() throws OperationInvalidDataException {
+        final Random random = new Random(42);
+        final SendCoinSigner signer = new SendCoinSigner(BlockchainID.TestNet, BigInteger.valueOf(3), BigInteger.valueOf(2));
+        for (int i = 0; i < 200; i++) {
+            final long nonce = i < 3 ? i : Math.abs(random.nextLong());
+            final BigInteger coinId = BigInteger.valueOf(random.nextInt(3) == 0 ? 0 : random.nextInt(100_000));
+            final BigInteger value = new BigInteger(random.nextInt(100), random);
+            final int payloadKind = random.nextInt(4);
+            final byte[] payload = payloadKind == 0 ? null : new byte[payloadKind == 1 ? 0 : random.nextInt(300)];
+            if (payload != null) {
+                random.nextBytes(payload);
+            }
+            final byte[] address = new byte[20];
+            random.nextBytes(address);
+            final MinterAddress to = new MinterAddress(address);
+
+            final TransactionSign fast = signer.sign(nonce, coinId, to, value, payload, UNIT_KEY);
+
+            final Transaction tx = new Transaction.Builder(BigInteger.valueOf(nonce))
+                    .setBlockchainId(BlockchainID.TestNet)
+                    .setGasCoinId(BigInteger.valueOf(3))
+                    .setGasPrice(BigInteger.valueOf(2))
+                    .setPayload(payload)
+                    .sendCoin()
+                    .setCoinId(coinId)
+                    .setTo(to)
+                    .setValue(Transaction.humanizeValue(value))
+                    .build();
+            // body layout is shared with Transaction#writeBody(), results must be equal byte to byte
+            assertArrayEquals(tx.signSingle(UNIT_KEY).getBytes(), fast.getBytes());
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (C) by MinterTeam. 2021
+ * @link <a href="https://github.com/MinterTeam">Org Github</a>
+ * @link <a href="https://github.com/edwardstock">Maintainer Github</a>
+ *
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package network.minter.blockchain.transactions;
+
+import org.junit.Test;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import network.minter.blockchain.models.operational.BlockchainID;
+import network.minter.blockchain.models.operational.OperationInvalidDataException;
+import network.minter.blockchain.models.operational.Transaction;
+import network.minter.blockchain.models.operational.TransactionBatchDecoder;
+import network.minter.blockchain.models.operational.TxSendCoin;
+import network.minter.core.crypto.BytesData;
+
+import static network.minter.core.MinterSDK.DEFAULT_COIN_ID;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * minter-android-blockchain. 2021
+ *
+ * @author Eduard Maximovich (edward.vstock@gmail.com)
+ */
+public class TransactionBatchDecoderTest extends BaseTxTest {
+    private final static String RECIPIENT = "Mx67691076548b20234461ff6fd2bc9c64393eb8fc";
+    private final static int COUNT = 64;
+
+    @Test
+    public void testDecodeWithErrors() throws OperationInvalidDataException {
+        List<String> raw = createSigned();
+        raw.set(3, null);
+        raw.set(10, "not a transaction");
+        raw.set(20, raw.get(20).substring(0, 40));
+
+        List<TransactionBatchDecoder.Result> results = new TransactionBatchDecoder().decode(raw);
+        assertEquals(COUNT, results.size());
+        for (int i = 0; i < COUNT; i++) {
+            TransactionBatchDecoder.Result result = results.get(i);
+            assertEquals(i, result.getIndex());
+            if (i == 3 || i == 10 || i == 20) {
+                assertFalse(result.isSuccess());
+                assertNull(result.getTransaction());
+                assertNotNull(result.getError());
+                continue;
+            }
+            assertTrue(result.isSuccess());
+            Transaction tx = result.getTransaction();
+            assertEquals(BigInteger.valueOf(i + 1), tx.getNonce());
+            assertEquals(new BigInteger("1000000000000000000").multiply(BigInteger.valueOf(i + 1)), tx.<TxSendCoin>getData().getValueBigInteger());
+            assertEquals(raw.get(i), tx.signSingle(UNIT_KEY).getTxSign());
+        }
+    }
+
+    @Test
+    public void testDecodeLazy() throws OperationInvalidDataException {
+        List<String> raw = createSigned();
+        List<BytesData> data = new ArrayList<>(raw.size());
+        for (String item : raw) {
+            data.add(new BytesData(item));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            List<TransactionBatchDecoder.Result> results = new TransactionBatchDecoder(executor, true).decodeData(data);
+            for (int i = 0; i < COUNT; i++) {
+                Transaction tx = results.get(i).getTransaction();
+                assertEquals(BigInteger.valueOf(i + 1), tx.getNonce());
+                assertEquals(RECIPIENT, tx.<TxSendCoin>getData().getTo().toString());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static List<String> createSigned() throws OperationInvalidDataException {
+        List<String> raw = new ArrayList<>(COUNT);
+        for (int i = 1; i <= COUNT; i++) {
+            raw.add(new Transaction.Builder(BigInteger.valueOf(i))
+                    .setBlockchainId(BlockchainID.TestNet)
+                    .sendCoin()
+                    .setCoinId(DEFAULT_COIN_ID)
+                    .setTo(RECIPIENT)
+                    .setValue(String.valueOf(i))
+                    .build()
+                    .signSingle(UNIT_KEY)
+                    .getTxSign());
+        }
+        return raw;
+    }
+}
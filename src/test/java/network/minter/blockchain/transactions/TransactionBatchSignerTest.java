@@ -0,0 +1,117 @@
+/*
+ * Copyright (C) by MinterTeam. 2021
+ * @link <a href="https://github.com/MinterTeam">Org Github</a>
+ * @link <a href="https://github.com/edwardstock">Maintainer Github</a>
+ *
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package network.minter.blockchain.transactions;
+
+import org.junit.Test;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import network.minter.blockchain.models.operational.BlockchainID;
+import network.minter.blockchain.models.operational.OperationInvalidDataException;
+import network.minter.blockchain.models.operational.Transaction;
+import network.minter.blockchain.models.operational.TransactionBatchSigner;
+import network.minter.core.crypto.MinterAddress;
+import network.minter.core.crypto.PrivateKey;
+
+import static network.minter.core.MinterSDK.DEFAULT_COIN_ID;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * minter-android-blockchain. 2021
+ *
+ * @author Eduard Maximovich (edward.vstock@gmail.com)
+ */
+public class TransactionBatchSignerTest extends BaseTxTest {
+
+    private static Transaction createTx(long nonce) throws OperationInvalidDataException {
+        return new Transaction.Builder(BigInteger.valueOf(nonce))
+                .setBlockchainId(BlockchainID.MainNet)
+                .setGasCoinId(DEFAULT_COIN_ID)
+                .sendCoin()
+                .setCoinId(DEFAULT_COIN_ID)
+                .setValue("0.012345")
+                .setTo(new MinterAddress("Mx67691076548b20234461ff6fd2bc9c64393eb8fc"))
+                .build();
+    }
+
+    private static List<Transaction> createTxs(int count) throws OperationInvalidDataException {
+        List<Transaction> out = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            out.add(createTx(i));
+        }
+        return out;
+    }
+
+    @Test
+    public void testSignOneKey() throws OperationInvalidDataException {
+        final int count = 100;
+        TransactionBatchSigner.Result result = new TransactionBatchSigner().signSingle(createTxs(count), UNIT_KEY);
+
+        assertEquals(count, result.getCount());
+        assertEquals(0, result.getFailedCount());
+        assertTrue(result.getElapsedNanos() > 0);
+        assertTrue(result.getThroughput() > 0);
+
+        // first one is a well-known transaction
+        assertEquals("f86f01010180019fde809467691076548b20234461ff6fd2bc9c64393eb8fc872bdbb64bc09000808001b845f8431ca08be3f0c3aecc80ec97332e8aa39f20cd9e735092c0de37eb726d8d3d0a255a66a02040a1001d1a9116317eb24aa7ee4730ed980bd08a1fc0adb4e7598425178d3a",
+                result.getSigns().get(0).getTxSign());
+
+        for (int i = 0; i < count; i++) {
+            assertEquals(createTx(i + 1).signSingle(UNIT_KEY), result.getSigns().get(i));
+        }
+    }
+
+    @Test
+    public void testSignManyKeysCustomExecutor() throws OperationInvalidDataException {
+        final int count = 20;
+        final List<PrivateKey> keys = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            keys.add(i % 2 == 0 ? UNIT_KEY : new PrivateKey("33671c8f2363dffb45e166f1cadced9aa5f86ad32509e5c4f0b39257c30b4110"));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            TransactionBatchSigner.Result result = new TransactionBatchSigner(executor).signSingle(createTxs(count), keys);
+            assertEquals(count, result.getCount());
+            for (int i = 0; i < count; i++) {
+                assertEquals(createTx(i + 1).signSingle(keys.get(i)), result.getSigns().get(i));
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testKeysCountMismatch() throws OperationInvalidDataException {
+        new TransactionBatchSigner().signSingle(createTxs(2), new ArrayList<PrivateKey>());
+    }
+}
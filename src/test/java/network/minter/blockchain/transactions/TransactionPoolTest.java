@@ -0,0 +1,220 @@
+/*
+ * Copyright (C) by MinterTeam. 2021
+ * @link <a href="https://github.com/MinterTeam">Org Github</a>
+ * @link <a href="https://github.com/edwardstock">Maintainer Github</a>
+ *
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package network.minter.blockchain.transactions;
+
+import org.junit.Test;
+
+import java.math.BigInteger;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import network.minter.blockchain.models.operational.BlockchainID;
+import network.minter.blockchain.models.operational.ExternalTransaction;
+import network.minter.blockchain.models.operational.OperationInvalidDataException;
+import network.minter.blockchain.models.operational.SignatureMultiData;
+import network.minter.blockchain.models.operational.SignatureSingleData;
+import network.minter.blockchain.models.operational.Transaction;
+import network.minter.blockchain.models.operational.TransactionPool;
+import network.minter.blockchain.models.operational.TxMultisend;
+import network.minter.blockchain.models.operational.TxSendCoin;
+import network.minter.core.crypto.BytesData;
+import network.minter.core.crypto.MinterAddress;
+
+import static network.minter.core.MinterSDK.DEFAULT_COIN_ID;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * minter-android-blockchain. 2021
+ *
+ * @author Eduard Maximovich (edward.vstock@gmail.com)
+ */
+public class TransactionPoolTest extends BaseTxTest {
+    private final static String RECIPIENT = "Mx67691076548b20234461ff6fd2bc9c64393eb8fc";
+
+    @Test
+    public void testReuse() throws OperationInvalidDataException {
+        TransactionPool pool = new TransactionPool(2);
+
+        Transaction.Builder builder = pool.obtain(BigInteger.ONE);
+        TxSendCoin data = builder.sendCoin();
+        Transaction tx = data.setCoinId(DEFAULT_COIN_ID).setTo(RECIPIENT).setValue("1").build();
+        tx.signSingle(UNIT_KEY);
+        tx.recycle();
+        assertEquals(1, pool.getIdleCount());
+
+        for (int nonce = 2; nonce < 10; nonce++) {
+            Transaction.Builder next = pool.obtain(BigInteger.valueOf(nonce));
+            assertSame(builder, next);
+            TxSendCoin nextData = next.setPayloadString("payment " + nonce).sendCoin();
+            assertSame(data, nextData);
+
+            Transaction pooled = nextData.setTo(RECIPIENT).setValue("1.5").build();
+            Transaction expected = new Transaction.Builder(BigInteger.valueOf(nonce))
+                    .setPayloadString("payment " + nonce)
+                    .sendCoin()
+                    .setCoinId(DEFAULT_COIN_ID)
+                    .setTo(RECIPIENT)
+                    .setValue("1.5")
+                    .build();
+            assertEquals(expected.signSingle(UNIT_KEY), pooled.signSingle(UNIT_KEY));
+            pool.release(pooled);
+        }
+
+        assertEquals(1, pool.getCreatedCount());
+        assertEquals(8, pool.getReusedCount());
+    }
+
+    @Test
+    public void testMultisendReuse() throws OperationInvalidDataException {
+        TransactionPool pool = new TransactionPool(1);
+        MinterAddress first = new MinterAddress(RECIPIENT);
+        MinterAddress second = new MinterAddress("Mxd82558ea00eb81d35f2654953598f5d51737d31d");
+
+        TxMultisend data = pool.obtain(BigInteger.ONE).multiSend();
+        data.addItem(DEFAULT_COIN_ID, first, BigInteger.TEN)
+                .addItem(DEFAULT_COIN_ID, second, BigInteger.ONE)
+                .build()
+                .recycle();
+
+        TxMultisend reused = pool.obtain(BigInteger.ONE).setBlockchainId(BlockchainID.TestNet).multiSend();
+        assertSame(data, reused);
+        assertEquals(0, reused.getItemsCount());
+
+        Transaction pooled = reused.addItem(DEFAULT_COIN_ID, second, BigInteger.ONE).build();
+        Transaction expected = new Transaction.Builder(BigInteger.ONE)
+                .setBlockchainId(BlockchainID.TestNet)
+                .multiSend()
+                .addItem(DEFAULT_COIN_ID, second, BigInteger.ONE)
+                .build();
+        assertEquals(expected.signSingle(UNIT_KEY), pooled.signSingle(UNIT_KEY));
+    }
+
+    @Test
+    public void testReleaseWipesData() throws OperationInvalidDataException {
+        TransactionPool pool = new TransactionPool(1);
+        Transaction tx = pool.obtain(BigInteger.ONE)
+                .setPayloadString("secret")
+                .sendCoin()
+                .setTo(RECIPIENT)
+                .setValue("1")
+                .build();
+        tx.signSingle(UNIT_KEY);
+
+        BytesData payload = tx.getPayload();
+        SignatureSingleData signature = tx.getSignatureData();
+        tx.recycle();
+
+        assertZeroes(payload);
+        assertZeroes(signature.getR());
+        assertZeroes(signature.getS());
+        assertZeroes(signature.getV());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testDoubleRelease() throws OperationInvalidDataException {
+        TransactionPool pool = new TransactionPool(1);
+        Transaction tx = pool.obtain(BigInteger.ONE).sendCoin().setTo(RECIPIENT).setValue("1").build();
+        pool.release(tx);
+        pool.release(tx);
+    }
+
+    @Test
+    public void testReleaseKeepsExternalData() throws OperationInvalidDataException {
+        TransactionPool pool = new TransactionPool(1);
+        Transaction source = new Transaction.Builder(BigInteger.ONE)
+                .setPayloadString("external")
+                .sendCoin()
+                .setTo(RECIPIENT)
+                .setValue("1")
+                .build();
+        source.signSingle(UNIT_KEY);
+        SignatureSingleData single = source.getSignatureData();
+        final String singleHex = single.toString();
+
+        Transaction tx = pool.obtain(BigInteger.ONE).sendCoin().setTo(RECIPIENT).setValue("1").build();
+        tx.signExternal(single);
+        tx.recycle();
+        assertEquals(singleHex, single.toString());
+
+        SignatureMultiData multi = new SignatureMultiData(new MinterAddress(RECIPIENT), Collections.singletonList(single));
+        tx = pool.obtain(BigInteger.ONE).sendCoin().setTo(RECIPIENT).setValue("1").build();
+        tx.signMultiExternal(multi);
+        tx.recycle();
+        assertEquals(singleHex, multi.getSignatures().get(0).toString());
+
+        ExternalTransaction external = new ExternalTransaction(source);
+        Transaction fromExternal = new Transaction.Builder(BigInteger.ONE, external).buildFromExternal();
+        fromExternal.recycle();
+        assertEquals("external", new String(external.getPayload().getBytes()));
+    }
+
+    @Test
+    public void testConcurrentRelease() throws Exception {
+        final TransactionPool pool = new TransactionPool(2);
+        for (int i = 0; i < 100; i++) {
+            final Transaction tx = pool.obtain(BigInteger.ONE).sendCoin().setTo(RECIPIENT).setValue("1").build();
+            final CountDownLatch start = new CountDownLatch(1);
+            final AtomicInteger failed = new AtomicInteger(0);
+            final Thread[] threads = new Thread[2];
+            for (int t = 0; t < threads.length; t++) {
+                threads[t] = new Thread(new Runnable() {
+                    @Override
+                    public void run() {
+                        try {
+                            start.await();
+                            pool.release(tx);
+                        } catch (IllegalStateException e) {
+                            failed.incrementAndGet();
+                        } catch (InterruptedException ignored) {
+                        }
+                    }
+                });
+                threads[t].start();
+            }
+            start.countDown();
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            assertEquals(1, failed.get());
+            assertEquals(1, pool.getIdleCount());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testReleaseForeign() throws OperationInvalidDataException {
+        Transaction tx = new Transaction.Builder(BigInteger.ONE).sendCoin().setTo(RECIPIENT).setValue("1").build();
+        new TransactionPool(1).release(tx);
+    }
+
+    private static void assertZeroes(BytesData data) {
+        for (char c : data.getData()) {
+            assertEquals(0, c);
+        }
+    }
+}
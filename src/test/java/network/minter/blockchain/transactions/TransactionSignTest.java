@@ -0,0 +1,134 @@
+/*
+ * Copyright (C) by MinterTeam. 2021
+ * @link <a href="https://github.com/MinterTeam">Org Github</a>
+ * @link <a href="https://github.com/edwardstock">Maintainer Github</a>
+ *
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package network.minter.blockchain.transactions;
+
+import org.junit.Test;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+import network.minter.blockchain.models.operational.BlockchainID;
+import network.minter.blockchain.models.operational.OperationInvalidDataException;
+import network.minter.blockchain.models.operational.Transaction;
+import network.minter.blockchain.models.operational.TransactionBatchHasher;
+import network.minter.blockchain.models.operational.TransactionSign;
+import network.minter.core.crypto.BytesData;
+import network.minter.core.crypto.MinterHash;
+
+import static network.minter.core.MinterSDK.DEFAULT_COIN_ID;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * minter-android-blockchain. 2021
+ *
+ * @author Eduard Maximovich (edward.vstock@gmail.com)
+ */
+public class TransactionSignTest extends BaseTxTest {
+    private final static String VALID_TX = "f86f01010180019fde809467691076548b20234461ff6fd2bc9c64393eb8fc872bdbb64bc09000808001b845f8431ca08be3f0c3aecc80ec97332e8aa39f20cd9e735092c0de37eb726d8d3d0a255a66a02040a1001d1a9116317eb24aa7ee4730ed980bd08a1fc0adb4e7598425178d3a";
+
+    @Test
+    public void testBinaryBacked() throws OperationInvalidDataException {
+        TransactionSign sign = new Transaction.Builder(new BigInteger("1"))
+                .setBlockchainId(BlockchainID.MainNet)
+                .setGasCoinId(DEFAULT_COIN_ID)
+                .sendCoin()
+                .setCoinId(DEFAULT_COIN_ID)
+                .setValue("0.012345")
+                .setTo("Mx67691076548b20234461ff6fd2bc9c64393eb8fc")
+                .build()
+                .signSingle(UNIT_KEY);
+
+        assertEquals(VALID_TX, sign.getTxSign());
+        assertEquals("0x" + VALID_TX, sign.getTxSign("0x"));
+        assertEquals(VALID_TX.length() / 2, sign.size());
+        assertArrayEquals(new BytesData(VALID_TX).getBytes(), sign.getBytes());
+        assertEquals(new TransactionSign(VALID_TX), sign);
+        assertEquals(new TransactionSign(VALID_TX).hashCode(), sign.hashCode());
+        assertEquals(new BytesData(VALID_TX).sha256Data().toHexString("Mt"), sign.getTxHash());
+
+        sign.clear();
+        assertNull(sign.getTxSign());
+        assertNull(sign.getTxHash());
+    }
+
+    @Test
+    public void testHash() throws OperationInvalidDataException {
+        final String expected = new BytesData(VALID_TX).sha256Data().toHexString();
+        Transaction tx = Transaction.fromEncoded(VALID_TX);
+        assertEquals(expected, tx.getHash().toHexString());
+        assertEquals(expected, new TransactionSign(VALID_TX).getHash().toHexString());
+
+        List<TransactionSign> signs = new ArrayList<>();
+        List<String> raw = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            TransactionSign sign = new Transaction.Builder(BigInteger.valueOf(i + 1))
+                    .sendCoin()
+                    .setCoinId(DEFAULT_COIN_ID)
+                    .setValue("1")
+                    .setTo("Mx67691076548b20234461ff6fd2bc9c64393eb8fc")
+                    .build()
+                    .signSingle(UNIT_KEY);
+            signs.add(sign);
+            raw.add(sign.getTxSign("0x"));
+        }
+        signs.add(null);
+        raw.add("not a hex");
+
+        final TransactionBatchHasher hasher = new TransactionBatchHasher();
+        final List<MinterHash> hashes = hasher.hash(signs);
+        final List<MinterHash> rawHashes = hasher.hashEncoded(raw);
+        assertEquals(51, hashes.size());
+        for (int i = 0; i < 50; i++) {
+            final String hash = new BytesData(signs.get(i).getBytes()).sha256Data().toHexString();
+            assertEquals(hash, hashes.get(i).toHexString());
+            assertEquals(hash, rawHashes.get(i).toHexString());
+        }
+        assertNull(hashes.get(50));
+        assertNull(rawHashes.get(50));
+    }
+
+    @Test
+    public void testFromString() {
+        TransactionSign prefixed = new TransactionSign("0x" + VALID_TX);
+        assertEquals("0x" + VALID_TX, prefixed.getTxSign());
+        assertEquals("0x" + VALID_TX, prefixed.getTxSign("0x"));
+        assertEquals(VALID_TX.length() / 2, prefixed.size());
+
+        TransactionSign check = new TransactionSign("Mcf8ab");
+        assertEquals("Mcf8ab", check.getTxSign());
+        assertEquals(2, check.size());
+
+        // not a lowercase hex: kept as is
+        TransactionSign upper = new TransactionSign(VALID_TX.toUpperCase());
+        assertEquals(VALID_TX.toUpperCase(), upper.getTxSign());
+        assertEquals("0x" + VALID_TX.toUpperCase(), upper.getTxSign("0x"));
+        assertNull(upper.getBytes());
+    }
+}
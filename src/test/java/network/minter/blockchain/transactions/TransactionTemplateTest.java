@@ -0,0 +1,132 @@
+/*
+ * Copyright (C) by MinterTeam. 2021
+ * @link <a href="https://github.com/MinterTeam">Org Github</a>
+ * @link <a href="https://github.com/edwardstock">Maintainer Github</a>
+ *
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package network.minter.blockchain.transactions;
+
+import org.junit.Test;
+
+import java.math.BigInteger;
+
+import network.minter.blockchain.models.operational.BlockchainID;
+import network.minter.blockchain.models.operational.OperationInvalidDataException;
+import network.minter.blockchain.models.operational.Transaction;
+import network.minter.blockchain.models.operational.TransactionTemplate;
+import network.minter.blockchain.models.operational.TxCoinSell;
+import network.minter.blockchain.models.operational.TxSendCoin;
+
+import static network.minter.core.MinterSDK.DEFAULT_COIN_ID;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * minter-android-blockchain. 2021
+ *
+ * @author Eduard Maximovich (edward.vstock@gmail.com)
+ */
+public class TransactionTemplateTest extends BaseTxTest {
+    private final static String RECIPIENT = "Mx67691076548b20234461ff6fd2bc9c64393eb8fc";
+    private final static String OTHER_RECIPIENT = "Mxd82558ea00eb81d35f2654953598f5d51737d31d";
+
+    @Test
+    public void testSignWithNonce() throws OperationInvalidDataException {
+        TransactionTemplate template = createBuilder(BigInteger.ZERO)
+                .sendCoin()
+                .setCoinId(DEFAULT_COIN_ID)
+                .setTo(RECIPIENT)
+                .setValue("0.5")
+                .build()
+                .toTemplate();
+
+        for (long nonce = 1; nonce < 300; nonce += 37) {
+            Transaction expected = createBuilder(BigInteger.valueOf(nonce))
+                    .sendCoin()
+                    .setCoinId(DEFAULT_COIN_ID)
+                    .setTo(RECIPIENT)
+                    .setValue("0.5")
+                    .build();
+            assertEquals(expected.signSingle(UNIT_KEY).getTxSign(), template.sign(nonce, UNIT_KEY).getTxSign());
+        }
+    }
+
+    @Test
+    public void testSignWithData() throws OperationInvalidDataException {
+        TransactionTemplate template = createBuilder(BigInteger.ZERO)
+                .sendCoin()
+                .setCoinId(DEFAULT_COIN_ID)
+                .setTo(RECIPIENT)
+                .setValue("0.5")
+                .build()
+                .toTemplate();
+
+        // one operation object is reused for all variants
+        TxSendCoin variant = new TxSendCoin().setCoinId(DEFAULT_COIN_ID);
+        for (int i = 1; i <= 5; i++) {
+            variant.setTo(i % 2 == 0 ? RECIPIENT : OTHER_RECIPIENT).setValue(String.valueOf(i));
+            Transaction expected = createBuilder(BigInteger.valueOf(i))
+                    .sendCoin()
+                    .setCoinId(DEFAULT_COIN_ID)
+                    .setTo(i % 2 == 0 ? RECIPIENT : OTHER_RECIPIENT)
+                    .setValue(String.valueOf(i))
+                    .build();
+            assertEquals(expected.signSingle(UNIT_KEY).getTxSign(), template.sign(i, variant, UNIT_KEY).getTxSign());
+        }
+
+        Transaction decoded = Transaction.fromEncoded(template.sign(7, variant, UNIT_KEY).getTxSign());
+        assertEquals("payout", decoded.getPayloadString());
+        assertEquals(UNIT_ADDRESS, decoded.recoverSender());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testOtherTypeData() throws OperationInvalidDataException {
+        TransactionTemplate template = createBuilder(BigInteger.ZERO)
+                .sendCoin()
+                .setCoinId(DEFAULT_COIN_ID)
+                .setTo(RECIPIENT)
+                .setValue("0.5")
+                .build()
+                .toTemplate();
+        template.sign(1, new TxCoinSell(), UNIT_KEY);
+    }
+
+    @Test(expected = OperationInvalidDataException.class)
+    public void testInvalidData() throws OperationInvalidDataException {
+        TransactionTemplate template = createBuilder(BigInteger.ZERO)
+                .sendCoin()
+                .setCoinId(DEFAULT_COIN_ID)
+                .setTo(RECIPIENT)
+                .setValue("0.5")
+                .build()
+                .toTemplate();
+        template.sign(1, new TxSendCoin().setCoinId(DEFAULT_COIN_ID), UNIT_KEY);
+    }
+
+    private static Transaction.Builder createBuilder(BigInteger nonce) {
+        return new Transaction.Builder(nonce)
+                .setBlockchainId(BlockchainID.TestNet)
+                .setGasCoinId(BigInteger.ONE)
+                .setGasPrice(BigInteger.valueOf(3))
+                .setPayloadString("payout");
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright (C) by MinterTeam. 2021
+ * @link <a href="https://github.com/MinterTeam">Org Github</a>
+ * @link <a href="https://github.com/edwardstock">Maintainer Github</a>
+ *
+ * The MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package network.minter.blockchain.transactions;
+
+import org.junit.Test;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import network.minter.blockchain.models.operational.BlockchainID;
+import network.minter.blockchain.models.operational.CheckTransaction;
+import network.minter.blockchain.models.operational.OperationInvalidDataException;
+import network.minter.blockchain.models.operational.Transaction;
+import network.minter.blockchain.models.operational.TransactionBatchVerifier;
+import network.minter.blockchain.models.operational.TransactionSign;
+import network.minter.core.crypto.MinterAddress;
+import network.minter.core.crypto.MinterCheck;
+import network.minter.core.crypto.PrivateKey;
+
+import static network.minter.core.MinterSDK.DEFAULT_COIN_ID;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * minter-android-blockchain. 2021
+ *
+ * @author Eduard Maximovich (edward.vstock@gmail.com)
+ */
+public class TransactionVerifyTest extends BaseTxTest {
+    private final static String VALID_TX = "f86f01010180019fde809467691076548b20234461ff6fd2bc9c64393eb8fc872bdbb64bc09000808001b845f8431ca08be3f0c3aecc80ec97332e8aa39f20cd9e735092c0de37eb726d8d3d0a255a66a02040a1001d1a9116317eb24aa7ee4730ed980bd08a1fc0adb4e7598425178d3a";
+    private final static String VALID_MULTISIG_TX = "f901130102018001a0df8094d82558ea00eb81d35f2654953598f5d51737d31d880de0b6b3a7640000808002b8e8f8e694db4f4b6942cb927e8d7e3a1f602d0f1fb43b5bd2f8cff8431ba0d6e0e254e778d7561a8b04e08aafce2e7386df43f0f8ae018ee0364ba1690dfda037ce1cea1d2a41c1d6825fa15c71669a43142bb5eb7ba52ac6d2322dd1de2971f8431ba012b389e3dd031e3c7627c9ab8b808a0a657b03f14e7f18a65f49ba8f9a81c001a077d24311c974caf7a1fdf2c0c8c3a397734169dfd791074ffda220fbbd2b93aff8431ca0b6c8aedf7dfb6dfbd2808624a4c2f92e5895a60a93efc9806c2396c786de0daaa00a69ef06f735eb7e29c4bfc788be3ecb4f4f94d749756f692faa2c24fd303544";
+
+    private static Transaction createTx(BigInteger nonce) throws OperationInvalidDataException {
+        return new Transaction.Builder(nonce)
+                .setBlockchainId(BlockchainID.MainNet)
+                .setGasCoinId(DEFAULT_COIN_ID)
+                .sendCoin()
+                .setCoinId(DEFAULT_COIN_ID)
+                .setValue("0.012345")
+                .setTo(new MinterAddress("Mx67691076548b20234461ff6fd2bc9c64393eb8fc"))
+                .build();
+    }
+
+    @Test
+    public void testRecoverSingle() throws OperationInvalidDataException {
+        Transaction tx = createTx(BigInteger.ONE);
+        assertNull(tx.recoverSender());
+
+        tx.signSingle(UNIT_KEY);
+        assertEquals(UNIT_ADDRESS, tx.recoverSender());
+        assertTrue(tx.verify(UNIT_ADDRESS));
+        assertFalse(tx.verify(new MinterAddress("Mxd82558ea00eb81d35f2654953598f5d51737d31d")));
+
+        Transaction decoded = Transaction.fromEncoded(VALID_TX);
+        assertEquals(UNIT_ADDRESS, decoded.recoverSender());
+        assertEquals(Arrays.asList(UNIT_ADDRESS), decoded.recoverSigners());
+    }
+
+    @Test
+    public void testRecoverTampered() {
+        // value changed from 0x2bdbb64bc09000 to 0x2bdbb64bc09001
+        Transaction decoded = Transaction.fromEncoded(VALID_TX.replace("872bdbb64bc09000", "872bdbb64bc09001"));
+        assertFalse(decoded.verify(UNIT_ADDRESS));
+    }
+
+    @Test
+    public void testRecoverMultisig() {
+        PrivateKey pk1 = new PrivateKey("b354c3d1d456d5a1ddd65ca05fd710117701ec69d82dac1858986049a0385af9");
+        PrivateKey pk2 = new PrivateKey("38b7dfb77426247aed6081f769ed8f62aaec2ee2b38336110ac4f7484478dccb");
+        PrivateKey pk3 = new PrivateKey("94c0915734f92dd66acfdc48f82b1d0b208efd544fe763386160ec30c968b4af");
+        MinterAddress multisigAddress = new MinterAddress("Mxdb4f4b6942cb927e8d7e3a1f602d0f1fb43b5bd2");
+
+        Transaction decoded = Transaction.fromEncoded(VALID_MULTISIG_TX);
+        // multisig address is only named by transaction, it can't be recovered
+        assertNull(decoded.recoverSender());
+        assertFalse(decoded.verify(multisigAddress));
+        assertEquals(Arrays.asList(
+                pk1.getPublicKey().toMinter(),
+                pk2.getPublicKey().toMinter(),
+                pk3.getPublicKey().toMinter()
+        ), decoded.recoverSigners());
+
+        Map<MinterAddress, Integer> weights = new HashMap<>();
+        weights.put(pk1.getPublicKey().toMinter(), 1);
+        weights.put(pk2.getPublicKey().toMinter(), 1);
+        weights.put(pk3.getPublicKey().toMinter(), 2);
+        assertTrue(decoded.verify(multisigAddress, weights, 4));
+        assertFalse(decoded.verify(multisigAddress, weights, 5));
+        assertFalse(decoded.verify(UNIT_ADDRESS, weights, 1));
+    }
+
+    @Test
+    public void testForgedMultisig() throws OperationInvalidDataException {
+        PrivateKey pk1 = new PrivateKey("b354c3d1d456d5a1ddd65ca05fd710117701ec69d82dac1858986049a0385af9");
+        MinterAddress multisigAddress = new MinterAddress("Mxdb4f4b6942cb927e8d7e3a1f602d0f1fb43b5bd2");
+        Map<MinterAddress, Integer> weights = new HashMap<>();
+        weights.put(pk1.getPublicKey().toMinter(), 1);
+
+        // foreign key signs transaction which claims somebody's multisig address
+        Transaction forged = createTx(BigInteger.ONE);
+        TransactionSign sign = forged.signMulti(multisigAddress, Collections.singletonList(UNIT_KEY));
+        Transaction decoded = Transaction.fromEncoded(sign.getTxSign());
+
+        assertEquals(Collections.singletonList(UNIT_ADDRESS), decoded.recoverSigners());
+        assertNull(decoded.recoverSender());
+        assertFalse(decoded.verify(multisigAddress));
+        assertFalse(decoded.verify(multisigAddress, weights, 1));
+        assertFalse(new TransactionBatchVerifier().verify(Collections.singletonList(decoded), Collections.singletonList(multisigAddress))[0]);
+
+        // the same transaction signed by owner passes
+        Transaction owned = createTx(BigInteger.ONE);
+        owned.signMulti(multisigAddress, Collections.singletonList(pk1));
+        assertTrue(owned.verify(multisigAddress, weights, 1));
+    }
+
+    @Test
+    public void testRecoverCheckIssuer() {
+        CheckTransaction check = new CheckTransaction.Builder(new BigInteger("480"), "pass")
+                .setChainId(BlockchainID.MainNet)
+                .setGasCoinId(DEFAULT_COIN_ID)
+                .setCoinId(DEFAULT_COIN_ID)
+                .setDueBlock(new BigInteger("999999"))
+                .setValue("10")
+                .build();
+
+        MinterCheck sign = check.sign(UNIT_KEY);
+        assertEquals(UNIT_ADDRESS, check.recoverIssuer());
+
+        CheckTransaction decoded = CheckTransaction.fromEncoded(sign);
+        assertEquals(UNIT_ADDRESS, decoded.recoverIssuer());
+        assertTrue(decoded.verify(UNIT_ADDRESS));
+    }
+
+    @Test
+    public void testBatchRecover() throws OperationInvalidDataException {
+        List<Transaction> txs = new ArrayList<>();
+        List<String> raw = new ArrayList<>();
+        List<MinterAddress> senders = new ArrayList<>();
+        for (int i = 1; i <= 32; i++) {
+            Transaction tx = createTx(BigInteger.valueOf(i));
+            TransactionSign sign = tx.signSingle(UNIT_KEY);
+            txs.add(tx);
+            raw.add(sign.getTxSign());
+            senders.add(UNIT_ADDRESS);
+        }
+        raw.add("not a transaction");
+
+        TransactionBatchVerifier verifier = new TransactionBatchVerifier();
+        List<MinterAddress> recovered = verifier.recoverSendersEncoded(raw);
+        assertEquals(33, recovered.size());
+        assertEquals(senders, recovered.subList(0, 32));
+        assertNull(recovered.get(32));
+
+        boolean[] expected = new boolean[32];
+        Arrays.fill(expected, true);
+        assertArrayEquals(expected, verifier.verify(txs, senders));
+    }
+}
@@ -30,6 +30,10 @@ import org.junit.Test;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
 
 import network.minter.blockchain.models.operational.BlockchainID;
 import network.minter.blockchain.models.operational.OperationInvalidDataException;
@@ -40,6 +44,9 @@ import network.minter.blockchain.models.operational.TxSendCoin;
 
 import static junit.framework.Assert.assertEquals;
 import static junit.framework.Assert.assertNotNull;
+import static junit.framework.Assert.assertNull;
+import static junit.framework.Assert.assertTrue;
+import static junit.framework.Assert.fail;
 import static network.minter.core.MinterSDK.DEFAULT_COIN_ID;
 
 /**
@@ -98,4 +105,85 @@ public class TxMultisendTest extends BaseTxTest {
         assertEquals("Mxd82558ea00eb81d35f2654953598f5d51737d31d", item2.getTo().toString());
     }
 
+    @Test
+    public void testIndexedAccess() {
+        final String validTx = "f895060101800db844f842f840df809467691076548b20234461ff6fd2bc9c64393eb8fc8801b4fbd92b5f8000df8094d82558ea00eb81d35f2654953598f5d51737d31d8804746bcc9ce68000808001b845f8431ba0a936ac922d8d67f06efc996f50f3d2af55a77453f521bc96d73158de16b530baa0192f5d1f2feb520b38d92513ed89fc1ede26353ce3660502f61721ea6232b261";
+        TxMultisend data = Transaction.fromEncoded(validTx).getData();
+
+        assertEquals(2, data.getItemsCount());
+        assertEquals(DEFAULT_COIN_ID, data.getCoinId(1));
+        assertEquals("Mxd82558ea00eb81d35f2654953598f5d51737d31d", data.getRecipient(1).toString());
+        assertEquals(new BigDecimal("0.321"), data.getValue(1));
+        assertNull(data.getItem(2));
+
+        data.getItems().add(new TxSendCoin()
+                .setCoinId(BigInteger.ONE)
+                .setTo("Mx67691076548b20234461ff6fd2bc9c64393eb8fc")
+                .setValue("1"));
+        assertEquals(3, data.getItemsCount());
+        assertEquals(BigInteger.ONE, data.getItem(2).getCoinId());
+        assertEquals(new BigDecimal("1"), data.getValue(2));
+    }
+
+    @Test
+    public void testItemsViewModification() {
+        final String first = "Mx67691076548b20234461ff6fd2bc9c64393eb8fc";
+        final String second = "Mxd82558ea00eb81d35f2654953598f5d51737d31d";
+        TxMultisend data = new TxMultisend()
+                .addItem(DEFAULT_COIN_ID, first, "1")
+                .addItem(DEFAULT_COIN_ID, second, "2");
+        List<TxSendCoin> items = data.getItems();
+
+        // items are views, setters write back to multisend
+        items.get(0).setValue("100");
+        assertEquals(new BigDecimal("100"), data.getValue(0));
+        data.getItem(1).setCoinId(BigInteger.TEN).setTo(first);
+        assertEquals(BigInteger.TEN, data.getCoinId(1));
+        assertEquals(first, data.getRecipient(1).toString());
+        data.getItem(1).setCoinId(DEFAULT_COIN_ID).setTo(second);
+        items.get(0).setValue("1");
+
+        TxSendCoin prev = items.set(0, new TxSendCoin().setCoinId(BigInteger.ONE).setTo(second).setValue("3"));
+        assertEquals(first, prev.getTo().toString());
+        assertEquals(BigInteger.ONE, data.getCoinId(0));
+        assertEquals(second, data.getRecipient(0).toString());
+        assertEquals(new BigDecimal("3"), data.getValue(0));
+
+        items.add(1, new TxSendCoin().setCoinId(BigInteger.TEN).setTo(first).setValue("4"));
+        assertEquals(3, data.getItemsCount());
+        assertEquals(first, data.getRecipient(1).toString());
+        assertEquals(second, data.getRecipient(2).toString());
+        assertEquals(new BigDecimal("2"), data.getValue(2));
+
+        TxSendCoin stale = items.get(0);
+        TxSendCoin removed = items.remove(0);
+        try {
+            stale.setValue("5");
+            fail("View must not write to shifted item");
+        } catch (ConcurrentModificationException e) {
+            assertEquals(BigInteger.TEN, data.getCoinId(0));
+        }
+        assertEquals(new BigDecimal("3"), removed.getValue());
+        // removed item is a detached copy
+        removed.setValue("6");
+        assertEquals(new BigDecimal("4"), data.getValue(0));
+        assertEquals(2, data.getItemsCount());
+        assertEquals(BigInteger.TEN, data.getCoinId(0));
+        assertEquals(second, data.getRecipient(1).toString());
+
+        Iterator<TxSendCoin> it = items.iterator();
+        it.next();
+        it.remove();
+        assertEquals(1, data.getItemsCount());
+        assertEquals(second, data.getRecipient(0).toString());
+        assertEquals(new BigDecimal("2"), data.getValue(0));
+
+        TxMultisend expected = new TxMultisend().addItem(DEFAULT_COIN_ID, second, "2");
+        final byte[] expectedRlp = new byte[expected.encodedSize()];
+        expected.encodeTo(expectedRlp, 0);
+        final byte[] actualRlp = new byte[data.encodedSize()];
+        data.encodeTo(actualRlp, 0);
+        assertTrue(Arrays.equals(expectedRlp, actualRlp));
+    }
+
 }
@@ -30,9 +30,13 @@ import org.junit.Test;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 import network.minter.blockchain.models.operational.BlockchainID;
+import network.minter.blockchain.models.operational.InvalidEncodedTransactionException;
 import network.minter.blockchain.models.operational.OperationInvalidDataException;
 import network.minter.blockchain.models.operational.OperationType;
 import network.minter.blockchain.models.operational.SignatureData;
@@ -47,7 +51,10 @@ import network.minter.core.crypto.PrivateKey;
 
 import static junit.framework.Assert.assertEquals;
 import static junit.framework.Assert.assertNotNull;
+import static junit.framework.Assert.assertTrue;
+import static junit.framework.Assert.fail;
 import static network.minter.core.MinterSDK.DEFAULT_COIN_ID;
+import static org.junit.Assert.assertNotEquals;
 
 /**
  * MinterWallet. 2018
@@ -75,6 +82,73 @@ public class TxSendCoinTest extends BaseTxTest {
         assertEquals(validTx, sign.getTxSign());
     }
 
+    @Test
+    public void testEncodeReusesBody() throws OperationInvalidDataException {
+        MinterAddress toAddress = new MinterAddress("Mx67691076548b20234461ff6fd2bc9c64393eb8fc");
+        final String validTx = "f86f01010180019fde809467691076548b20234461ff6fd2bc9c64393eb8fc872bdbb64bc09000808001b845f8431ca08be3f0c3aecc80ec97332e8aa39f20cd9e735092c0de37eb726d8d3d0a255a66a02040a1001d1a9116317eb24aa7ee4730ed980bd08a1fc0adb4e7598425178d3a";
+
+        Transaction.Builder builder = new Transaction.Builder(new BigInteger("1"))
+                .setBlockchainId(BlockchainID.MainNet)
+                .setGasCoinId(DEFAULT_COIN_ID);
+        TxSendCoin op = builder.sendCoin()
+                .setCoinId(DEFAULT_COIN_ID)
+                .setValue("0.012345")
+                .setTo(toAddress);
+        Transaction tx = op.build();
+
+        SignatureSingleData signature = tx.signOnlySingle(UNIT_KEY);
+        assertNotNull(signature);
+        tx.getUnsignedTxHash();
+        assertEquals(validTx, tx.signExternal(signature).getTxSign());
+        assertEquals(validTx, tx.signSingle(UNIT_KEY).getTxSign());
+
+        // rebuilt transaction must not reuse stale body
+        builder.setNonce(new BigInteger("2"));
+        Transaction rebuilt = op.build();
+        assertEquals(new BigInteger("2"), Transaction.fromEncoded(rebuilt.signSingle(UNIT_KEY).getTxSign()).getNonce());
+    }
+
+    @Test
+    public void testResignAfterChange() throws OperationInvalidDataException {
+        MinterAddress toAddress = new MinterAddress("Mx67691076548b20234461ff6fd2bc9c64393eb8fc");
+        Transaction.Builder builder = new Transaction.Builder(new BigInteger("1"))
+                .setBlockchainId(BlockchainID.MainNet)
+                .setGasCoinId(DEFAULT_COIN_ID);
+        Transaction tx = builder.sendCoin()
+                .setCoinId(DEFAULT_COIN_ID)
+                .setValue("0.012345")
+                .setTo(toAddress)
+                .build();
+        final String first = tx.signSingle(UNIT_KEY).getTxSign();
+
+        // change already built transaction without rebuilding it
+        builder.setNonce(new BigInteger("2"))
+                .setGasPrice(new BigInteger("3"))
+                .setBlockchainId(BlockchainID.TestNet)
+                .setPayload("ff00");
+        tx.<TxSendCoin>getData().setValue("1");
+        final String second = tx.signSingle(UNIT_KEY).getTxSign();
+        assertNotEquals(first, second);
+
+        Transaction expected = new Transaction.Builder(new BigInteger("2"))
+                .setBlockchainId(BlockchainID.TestNet)
+                .setGasCoinId(DEFAULT_COIN_ID)
+                .setGasPrice(new BigInteger("3"))
+                .setPayload("ff00")
+                .sendCoin()
+                .setCoinId(DEFAULT_COIN_ID)
+                .setValue("1")
+                .setTo(toAddress)
+                .build();
+        assertEquals(expected.signSingle(UNIT_KEY).getTxSign(), second);
+        assertEquals(expected.getUnsignedTxHash(), tx.getUnsignedTxHash());
+
+        Transaction decoded = Transaction.fromEncoded(second);
+        assertEquals(new BigInteger("2"), decoded.getNonce());
+        assertEquals(new BigInteger("3"), decoded.getGasPrice());
+        assertEquals(new BigDecimal("1"), decoded.<TxSendCoin>getData().getValue());
+    }
+
     @Test
     public void testDecodeSingle() {
         MinterAddress toAddress = new MinterAddress("Mx67691076548b20234461ff6fd2bc9c64393eb8fc");
@@ -93,6 +167,56 @@ public class TxSendCoinTest extends BaseTxTest {
         assertEquals(validTx, sign.getTxSign());
     }
 
+    @Test
+    public void testDecodeSingleFromBytes() {
+        MinterAddress toAddress = new MinterAddress("Mx67691076548b20234461ff6fd2bc9c64393eb8fc");
+        final String validTx = "f86f01010180019fde809467691076548b20234461ff6fd2bc9c64393eb8fc872bdbb64bc09000808001b845f8431ca08be3f0c3aecc80ec97332e8aa39f20cd9e735092c0de37eb726d8d3d0a255a66a02040a1001d1a9116317eb24aa7ee4730ed980bd08a1fc0adb4e7598425178d3a";
+        final byte[] raw = new BytesData(validTx).getBytes();
+
+        // transaction in the middle of bigger array
+        final byte[] block = new byte[raw.length + 10];
+        System.arraycopy(raw, 0, block, 5, raw.length);
+
+        Transaction fromRegion = Transaction.fromEncoded(block, 5, raw.length);
+        assertEquals(toAddress, fromRegion.<TxSendCoin>getData().getTo());
+        assertEquals(new BigDecimal("0.012345"), fromRegion.<TxSendCoin>getData().getValue());
+
+        ByteBuffer heap = ByteBuffer.wrap(block, 5, raw.length);
+        assertEquals(validTx, Transaction.fromEncoded(heap).signSingle(UNIT_KEY).getTxSign());
+        assertEquals(5, heap.position());
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(raw.length);
+        direct.put(raw).flip();
+        assertEquals(validTx, Transaction.fromEncoded(direct).signSingle(UNIT_KEY).getTxSign());
+        assertEquals(0, direct.position());
+    }
+
+    @Test
+    public void testDecodeSingleLazy() {
+        MinterAddress toAddress = new MinterAddress("Mx67691076548b20234461ff6fd2bc9c64393eb8fc");
+        final String validTx = "f86f01010180019fde809467691076548b20234461ff6fd2bc9c64393eb8fc872bdbb64bc09000808001b845f8431ca08be3f0c3aecc80ec97332e8aa39f20cd9e735092c0de37eb726d8d3d0a255a66a02040a1001d1a9116317eb24aa7ee4730ed980bd08a1fc0adb4e7598425178d3a";
+
+        Transaction lazy = Transaction.fromEncodedLazy(validTx);
+        assertEquals(new BigInteger("1"), lazy.getNonce());
+        assertEquals(OperationType.SendCoin, lazy.getType());
+        assertEquals(Transaction.SignatureType.Single, lazy.getSignatureType());
+        assertEquals(toAddress, lazy.<TxSendCoin>getData().getTo());
+        assertEquals(UNIT_ADDRESS, lazy.recoverSender());
+        assertEquals(validTx, lazy.signSingle(UNIT_KEY).getTxSign());
+
+        // invalid address length in data field: envelope is still readable
+        final String brokenData = validTx.replace("de8094", "de8096");
+        Transaction broken = Transaction.fromEncodedLazy(brokenData);
+        assertEquals(OperationType.SendCoin, broken.getType());
+        assertNotNull(broken.getSignatureData());
+        try {
+            broken.getData();
+            fail("Data field must be decoded on first access");
+        } catch (InvalidEncodedTransactionException e) {
+            assertTrue(e.getMessage().contains("data field"));
+        }
+    }
+
     @Test
     public void testEncodeSingleExternal() throws OperationInvalidDataException {
         MinterAddress toAddress = new MinterAddress("Mxbf5c2fec34cfe73e7178b3ab96deaf9ca6d9a592");
@@ -227,6 +351,64 @@ public class TxSendCoinTest extends BaseTxTest {
     }
 
 
+    @Test
+    public void testMultiSigMergePartialSignatures() throws OperationInvalidDataException {
+        String validTx = "f901130102018001a0df8094d82558ea00eb81d35f2654953598f5d51737d31d880de0b6b3a7640000808002b8e8f8e694db4f4b6942cb927e8d7e3a1f602d0f1fb43b5bd2f8cff8431ba0d6e0e254e778d7561a8b04e08aafce2e7386df43f0f8ae018ee0364ba1690dfda037ce1cea1d2a41c1d6825fa15c71669a43142bb5eb7ba52ac6d2322dd1de2971f8431ba012b389e3dd031e3c7627c9ab8b808a0a657b03f14e7f18a65f49ba8f9a81c001a077d24311c974caf7a1fdf2c0c8c3a397734169dfd791074ffda220fbbd2b93aff8431ca0b6c8aedf7dfb6dfbd2808624a4c2f92e5895a60a93efc9806c2396c786de0daaa00a69ef06f735eb7e29c4bfc788be3ecb4f4f94d749756f692faa2c24fd303544";
+        MinterAddress multisigAddress = new MinterAddress("Mxdb4f4b6942cb927e8d7e3a1f602d0f1fb43b5bd2");
+        PrivateKey pk1 = new PrivateKey("b354c3d1d456d5a1ddd65ca05fd710117701ec69d82dac1858986049a0385af9");
+        PrivateKey pk2 = new PrivateKey("38b7dfb77426247aed6081f769ed8f62aaec2ee2b38336110ac4f7484478dccb");
+        PrivateKey pk3 = new PrivateKey("94c0915734f92dd66acfdc48f82b1d0b208efd544fe763386160ec30c968b4af");
+
+        Transaction tx = new Transaction.Builder(new BigInteger("1"))
+                .setGasCoinId(DEFAULT_COIN_ID)
+                .setBlockchainId(BlockchainID.TestNet)
+                .setGasPrice(BigInteger.ONE)
+                .sendCoin()
+                .setTo("Mxd82558ea00eb81d35f2654953598f5d51737d31d")
+                .setCoinId(DEFAULT_COIN_ID)
+                .setValue("1")
+                .build();
+
+        // first machine signed with pk1 and pk2, second one - with pk2 and pk3
+        List<SignatureSingleData> first = Arrays.asList(tx.signOnlyMulti(pk1), tx.signOnlyMulti(pk2));
+        List<SignatureSingleData> second = Arrays.asList(tx.signOnlyMulti(pk2), tx.signOnlyMulti(pk3));
+
+        SignatureMultiData merged = SignatureMultiData.merge(multisigAddress, Arrays.asList(first, second));
+        assertEquals(3, merged.getSignatures().size());
+        assertEquals(merged, new SignatureMultiData(multisigAddress, first).merge(new SignatureMultiData(multisigAddress, second)));
+
+        TransactionSign sign = tx.signMultiExternal(merged);
+        assertEquals(validTx, sign.getTxSign());
+    }
+
+    @Test
+    public void testMultiSigParallel() throws OperationInvalidDataException {
+        MinterAddress multisigAddress = new MinterAddress("Mxdb4f4b6942cb927e8d7e3a1f602d0f1fb43b5bd2");
+        List<PrivateKey> keys = new ArrayList<>();
+        for (int i = 1; i <= 16; i++) {
+            keys.add(new PrivateKey(String.format("%064x", i)));
+        }
+
+        Transaction tx = new Transaction.Builder(new BigInteger("1"))
+                .setGasCoinId(DEFAULT_COIN_ID)
+                .setBlockchainId(BlockchainID.TestNet)
+                .sendCoin()
+                .setTo("Mxd82558ea00eb81d35f2654953598f5d51737d31d")
+                .setCoinId(DEFAULT_COIN_ID)
+                .setValue("1")
+                .build();
+
+        List<SignatureSingleData> sequential = new ArrayList<>();
+        for (PrivateKey pk : keys) {
+            sequential.add(tx.signOnlyMulti(pk));
+        }
+        TransactionSign expected = tx.signMultiExternal(multisigAddress, sequential);
+
+        TransactionSign sign = tx.signMulti(multisigAddress, keys);
+        assertEquals(expected, sign);
+        assertEquals(sequential, tx.<SignatureMultiData>getSignatureData().getSignatures());
+    }
+
     @Test
     public void testMultisigSendZeroBytes() throws OperationInvalidDataException {
         String validTx = "f8c6010201800198d78094000000000000000000000000000000000000000080808002b8a3f8a19400105df705144b7095e9d680fc0780b78f87b3aef88af8431ba010ffe4c48b32353eb1cc7be97f29f02986a56b2ae68955cc47ce96e7a08c8e06a04c664b4d103ebb9246d999b9487b35febcd3eda968aaec776cd1661ef33eb94ff8431ba06991614d100f32fb9879c63f9a35b72fa6d46d15ccb5844e211c64966987e775a04878651dbfd66fe423c8b2775d6e9b866f70162c28a9aaed77200f9f379008de";